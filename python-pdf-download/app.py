@@ -2,8 +2,11 @@
 # uvicorn app:app --host 0.0.0.0 --port 8001 --reload
 
 from fastapi import FastAPI, Response, HTTPException
+from fastapi.responses import JSONResponse
 from pydantic import BaseModel, Field
 from typing import List, Dict, Any, Optional
+import gzip
+import json
 import logging
 
 from component import kpi_analytics, order_analytics, time_day_report, menu_analytics, material_analytics
@@ -11,6 +14,82 @@ from component import kpi_analytics, order_analytics, time_day_report, menu_anal
 app = FastAPI(title="PDF Generation Service")
 logger = logging.getLogger("pdf-service")
 
+
+# =====================================================
+#        요청 본문 디코딩 (gzip / 컬럼 형식 테이블)
+# =====================================================
+
+def expand_columns(node):
+    """{"size": n, "columns": {name: [...]}} 형태의 테이블을 행 dict 목록으로 펼친다."""
+    if isinstance(node, dict):
+        if set(node.keys()) == {"size", "columns"} and isinstance(node["columns"], dict):
+            names = list(node["columns"].keys())
+            cols = [node["columns"][n] for n in names]
+            return [dict(zip(names, values)) for values in zip(*cols)] if cols else [{} for _ in range(node["size"])]
+        return {k: expand_columns(v) for k, v in node.items()}
+    if isinstance(node, list):
+        return [expand_columns(v) for v in node]
+    return node
+
+
+class PayloadDecodeMiddleware:
+    """
+    Content-Encoding: gzip 본문 해제 + X-Payload-Format: columnar 테이블 펼치기.
+    아래 엔드포인트들은 기존 행(row) 형식 JSON 그대로 받는다.
+    """
+
+    def __init__(self, app):
+        self.app = app
+
+    async def __call__(self, scope, receive, send):
+        if scope["type"] != "http" or scope["method"] != "POST":
+            return await self.app(scope, receive, send)
+        headers = dict(scope["headers"])
+        gzipped = headers.get(b"content-encoding", b"").lower() == b"gzip"
+        columnar = headers.get(b"x-payload-format", b"").lower() == b"columnar"
+        if not gzipped and not columnar:
+            return await self.app(scope, receive, send)
+
+        chunks = []
+        more = True
+        while more:
+            message = await receive()
+            chunks.append(message.get("body", b""))
+            more = message.get("more_body", False)
+        body = b"".join(chunks)
+        try:
+            if gzipped:
+                body = gzip.decompress(body)
+            if columnar:
+                body = json.dumps(expand_columns(json.loads(body)), ensure_ascii=False).encode("utf-8")
+        except (OSError, ValueError) as e:
+            logger.warning("payload decode failed: %s", e)
+            return await JSONResponse({"detail": "Invalid request body"}, status_code=400)(scope, receive, send)
+
+        skip = (b"content-encoding", b"content-length", b"x-payload-format")
+        scope = dict(scope)
+        scope["headers"] = [(k, v) for k, v in scope["headers"] if k not in skip] \
+            + [(b"content-length", str(len(body)).encode())]
+
+        replayed = False
+
+        async def replay():
+            nonlocal replayed
+            if replayed:
+                return await receive()
+            replayed = True
+            return {"type": "http.request", "body": body, "more_body": False}
+
+        await self.app(scope, replay, send)
+
+
+app.add_middleware(PayloadDecodeMiddleware)
+
+
+@app.get("/pdf/capabilities", summary="지원하는 요청 본문 형식")
+def capabilities():
+    return {"payloadFormats": ["rows", "columnar"], "contentEncodings": ["gzip"]}
+
 # =====================================================
 #                   KPI (본사/가맹점 공통)
 # =====================================================
@@ -1,6 +1,9 @@
 package com.boot.ict05_final_user.config;
 
 import com.boot.ict05_final_user.domain.analytics.dto.*;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayload;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayloadEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
@@ -10,6 +13,8 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.time.Duration;
+
 /**
  * Python FastAPI 기반 PDF 서버와 동기(Blocking)로 통신하는 클라이언트.
  *
@@ -22,15 +27,25 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
  *
  * <p><b>경계/입출력</b>:
  * <ul>
- *   <li>입력: 각 리포트별 <code>*Payload</code> DTO(JSON 직렬화 가능)</li>
+ *   <li>입력: 각 리포트별 <code>*Payload</code> DTO({@link PdfPayload}, 스트리밍 JSON 직렬화)</li>
  *   <li>출력: PDF 바이트 배열(<code>byte[]</code>)</li>
- *   <li>전송 헤더: <code>Content-Type: application/json</code>, <code>Accept: application/pdf</code></li>
+ *   <li>전송 헤더: <code>Content-Type: application/json</code>, <code>Accept: application/pdf</code>,
+ *       <code>X-Payload-Format: columnar|rows</code>, 압축 시 <code>Content-Encoding: gzip</code></li>
+ * </ul>
+ * </p>
+ *
+ * <p><b>페이로드 형식 협상</b>:
+ * <ul>
+ *   <li>PDF 서버의 <code>GET /pdf/capabilities</code>를 처음 호출 시 조회해 10분간 캐시</li>
+ *   <li>서버가 지원하면 행 테이블을 컬럼 배열(columnar)로, 본문을 gzip 으로 보낸다</li>
+ *   <li>조회 실패(구버전 서버 404 등)면 기존 형식(행 객체 배열, 무압축)으로 보낸다</li>
  * </ul>
  * </p>
  *
  * <p><b>설정</b>:
  * <ul>
  *   <li><code>pdf.python.base-url</code> (예: <code>http://localhost:8001</code>)</li>
+ *   <li><code>pdf.python.compress</code> / <code>pdf.python.columnar</code>: 서버가 지원할 때 gzip·컬럼 형식 사용 여부 (기본 true)</li>
  *   <li>엔드포인트:
  *     <ul>
  *       <li>KPI:         <code>POST /pdf/kpi-report</code></li>
@@ -65,23 +80,54 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 @Slf4j
 public class PythonPdfClient {
 
+    /** 서버 지원 형식 재조회 주기 */
+    private static final Duration CAPABILITY_TTL = Duration.ofMinutes(10);
+
     /** Base URL이 주입된 WebClient. 엔드포인트 경로는 각 메서드에서 지정. */
     private final WebClient webClient;
+    private final PdfPayloadEncoder encoder;
+    private final boolean compress;
+    private final boolean columnar;
+
+    /** 마지막으로 확인한 서버 지원 형식 (null 이면 미확인) */
+    private volatile Capabilities capabilities;
+
+    /** PDF 서버 지원 형식 */
+    private record Capabilities(boolean columnar, boolean gzip, long checkedAt) {
+        static final Capabilities LEGACY = new Capabilities(false, false, 0L);
+
+        Capabilities checkedNow() {
+            return new Capabilities(columnar, gzip, System.currentTimeMillis());
+        }
+
+        boolean expired() {
+            return System.currentTimeMillis() - checkedAt > CAPABILITY_TTL.toMillis();
+        }
+    }
 
     /**
      * 생성자.
      *
      * @param baseUrl   PDF 서버 베이스 URL (예: http://localhost:8001)
+     * @param compress  서버가 지원할 때 gzip 본문 사용 여부
+     * @param columnar  서버가 지원할 때 컬럼 형식 테이블 사용 여부
      * @param builder   Spring WebClient 빌더
+     * @param encoder   페이로드 JSON 인코더
      */
     public PythonPdfClient(
             @Value("${pdf.python.base-url}") String baseUrl,
-            WebClient.Builder builder
+            @Value("${pdf.python.compress:true}") boolean compress,
+            @Value("${pdf.python.columnar:true}") boolean columnar,
+            WebClient.Builder builder,
+            PdfPayloadEncoder encoder
     ) {
         this.webClient = builder
                 .baseUrl(baseUrl)
                 .build();
-        log.info("[PythonPdfClient] baseUrl={}", baseUrl);
+        this.encoder = encoder;
+        this.compress = compress;
+        this.columnar = columnar;
+        log.info("[PythonPdfClient] baseUrl={} compress={} columnar={}", baseUrl, compress, columnar);
     }
 
 
@@ -93,24 +139,7 @@ public class PythonPdfClient {
      * @throws IllegalStateException FastAPI 오류 또는 통신 예외 시
      */
     public byte[] requestTimeDayReport(TimeDayReportPayload payload) {
-        try {
-            return webClient.post()
-                    .uri("/pdf/time-day") // FastAPI 라우트
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .accept(MediaType.APPLICATION_PDF)
-                    .body(BodyInserters.fromValue(payload))
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block(); // 동기 처리
-        } catch (WebClientResponseException e) {
-            // 상태코드/응답바디를 함께 남겨 원인 분석 용이
-            log.error("[PythonPdfClient] time-day report 실패 status={} body={}",
-                    e.getRawStatusCode(), e.getResponseBodyAsString(), e);
-            throw new IllegalStateException("시간/요일 분석 PDF 생성 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("[PythonPdfClient] time-day report 호출 중 예외", e);
-            throw new IllegalStateException("시간/요일 분석 PDF 호출 중 예외 발생", e);
-        }
+        return post("/pdf/time-day", payload, "time-day", "시간/요일 분석");
     }
 
 
@@ -122,23 +151,7 @@ public class PythonPdfClient {
      * @throws IllegalStateException FastAPI 오류 또는 통신 예외 시
      */
     public byte[] requestKpiReport(KpiPdfPayload payload) {
-        try {
-            return webClient.post()
-                    .uri("/pdf/kpi-report")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .accept(MediaType.APPLICATION_PDF)
-                    .body(BodyInserters.fromValue(payload))
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("[PythonPdfClient] kpi report 실패 status={} body={}",
-                    e.getRawStatusCode(), e.getResponseBodyAsString(), e);
-            throw new IllegalStateException("KPI PDF 생성 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("[PythonPdfClient] kpi report 호출 중 예외", e);
-            throw new IllegalStateException("KPI PDF 호출 중 예외 발생", e);
-        }
+        return post("/pdf/kpi-report", payload, "kpi", "KPI");
     }
 
 
@@ -150,23 +163,7 @@ public class PythonPdfClient {
      * @throws IllegalStateException FastAPI 오류 또는 통신 예외 시
      */
     public byte[] requestOrdersReport(OrdersPdfPayload payload) {
-        try {
-            return webClient.post()
-                    .uri("/pdf/orders")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .accept(MediaType.APPLICATION_PDF)
-                    .body(BodyInserters.fromValue(payload))
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("[PythonPdfClient] orders report 실패 status={} body={}",
-                    e.getRawStatusCode(), e.getResponseBodyAsString(), e);
-            throw new IllegalStateException("주문 분석 PDF 생성 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("[PythonPdfClient] orders report 호출 중 예외", e);
-            throw new IllegalStateException("주문 분석 PDF 호출 중 예외 발생", e);
-        }
+        return post("/pdf/orders", payload, "orders", "주문 분석");
     }
 
 
@@ -178,23 +175,7 @@ public class PythonPdfClient {
      * @throws IllegalStateException FastAPI 오류 또는 통신 예외 시
      */
     public byte[] requestMenusReport(MenuPdfPayload payload) {
-        try {
-            return webClient.post()
-                    .uri("/pdf/menus")
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .accept(MediaType.APPLICATION_PDF)
-                    .body(BodyInserters.fromValue(payload))
-                    .retrieve()
-                    .bodyToMono(byte[].class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            log.error("[PythonPdfClient] menus report 실패 status={} body={}",
-                    e.getRawStatusCode(), e.getResponseBodyAsString(), e);
-            throw new IllegalStateException("메뉴 분석 PDF 생성 실패: " + e.getMessage(), e);
-        } catch (Exception e) {
-            log.error("[PythonPdfClient] menus report 호출 중 예외", e);
-            throw new IllegalStateException("메뉴 분석 PDF 호출 중 예외 발생", e);
-        }
+        return post("/pdf/menus", payload, "menus", "메뉴 분석");
     }
 
 
@@ -208,22 +189,82 @@ public class PythonPdfClient {
      * @throws IllegalStateException FastAPI 오류 또는 통신 예외 시
      */
     public byte[] requestMaterialReport(MaterialReportPayload payload) {
+        return post("/pdf/material", payload, "material", "재료 분석");  // ⚠️ "/api/pdf/material" 아님!
+    }
+
+    /**
+     * 페이로드를 인코딩해 PDF 서버로 전송한다.
+     *
+     * @param uri     FastAPI 라우트
+     * @param payload 리포트 페이로드
+     * @param label   로그용 리포트 이름
+     * @param title   예외 메시지용 리포트 이름
+     */
+    private byte[] post(String uri, PdfPayload payload, String label, String title) {
         try {
+            Capabilities caps = capabilities();
+            boolean useColumnar = columnar && caps.columnar();
+            boolean useGzip = compress && caps.gzip();
+            byte[] body = encoder.encode(payload, useColumnar, useGzip);
+
             return webClient.post()
-                    .uri("/pdf/material")  // ⚠️ "/api/pdf/material" 아님!
-                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .uri(uri)
+                    .headers(h -> {
+                        h.setContentType(MediaType.APPLICATION_JSON);
+                        h.set(PdfPayloadEncoder.FORMAT_HEADER, useColumnar ? "columnar" : "rows");
+                        if (useGzip) h.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    })
                     .accept(MediaType.APPLICATION_PDF)
-                    .body(BodyInserters.fromValue(payload))
+                    .body(BodyInserters.fromValue(body))
                     .retrieve()
                     .bodyToMono(byte[].class)
-                    .block();
+                    .block(); // 동기 처리
         } catch (WebClientResponseException e) {
-            log.error("[PythonPdfClient] material report 실패 status={} body={}",
-                    e.getRawStatusCode(), e.getResponseBodyAsString(), e);
-            throw new IllegalStateException("재료 분석 PDF 생성 실패: " + e.getMessage(), e);
+            // 상태코드/응답바디를 함께 남겨 원인 분석 용이
+            log.error("[PythonPdfClient] {} report 실패 status={} body={}",
+                    label, e.getRawStatusCode(), e.getResponseBodyAsString(), e);
+            throw new IllegalStateException(title + " PDF 생성 실패: " + e.getMessage(), e);
         } catch (Exception e) {
-            log.error("[PythonPdfClient] material report 호출 중 예외", e);
-            throw new IllegalStateException("재료 분석 PDF 호출 중 예외 발생", e);
+            log.error("[PythonPdfClient] {} report 호출 중 예외", label, e);
+            throw new IllegalStateException(title + " PDF 호출 중 예외 발생", e);
+        }
+    }
+
+    /**
+     * PDF 서버 지원 형식. 확인 후 {@link #CAPABILITY_TTL} 동안 재사용한다.
+     * 조회 실패는 기존 형식으로 간주한다(구버전 서버 호환).
+     */
+    private Capabilities capabilities() {
+        Capabilities caps = capabilities;
+        if (caps != null && !caps.expired()) return caps;
+        if (!compress && !columnar) {
+            caps = Capabilities.LEGACY.checkedNow();
+        } else {
+            try {
+                JsonNode node = webClient.get()
+                        .uri("/pdf/capabilities")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .bodyToMono(JsonNode.class)
+                        .block(Duration.ofSeconds(3));
+                caps = new Capabilities(
+                        contains(node, "payloadFormats", "columnar"),
+                        contains(node, "contentEncodings", "gzip"),
+                        System.currentTimeMillis());
+            } catch (Exception e) {
+                log.info("[PythonPdfClient] capabilities unavailable, using legacy payload format: {}", e.getMessage());
+                caps = Capabilities.LEGACY.checkedNow();
+            }
+        }
+        capabilities = caps;
+        return caps;
+    }
+
+    private static boolean contains(JsonNode node, String field, String value) {
+        if (node == null || !node.path(field).isArray()) return false;
+        for (JsonNode v : node.path(field)) {
+            if (value.equalsIgnoreCase(v.asText())) return true;
         }
+        return false;
     }
 }
@@ -0,0 +1,33 @@
+package com.boot.ict05_final_user.domain.analytics.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 테이블/차트 결과 캐시 설정.
+ *
+ * <p>prefix "analytics.cache" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * analytics.cache.enabled=true
+ * analytics.cache.max-entries=5000
+ * analytics.cache.open-ttl-seconds=60
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "analytics.cache")
+@Getter
+@Setter
+public class AnalyticsCacheProperties {
+
+    /** 결과 캐시 사용 여부 (false 면 매 요청 DB 집계) */
+    private boolean enabled = true;
+
+    /** 최대 보관 항목 수. 넘으면 가장 오래 안 쓴 항목부터 제거 */
+    private int maxEntries = 5000;
+
+    /** 오늘을 포함하는(닫히지 않은) 구간 결과의 보관 시간(초) */
+    private long openTtlSeconds = 60;
+}
@@ -0,0 +1,37 @@
+package com.boot.ict05_final_user.domain.analytics.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간대 큐브(가맹점별 일자 × 시간 × 주문 유형 배열) 설정.
+ *
+ * <p>prefix "analytics.cube" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * analytics.cube.enabled=true
+ * analytics.cube.max-bytes=67108864
+ * analytics.cube.max-days=1096
+ * analytics.cube.open-ttl-seconds=60
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "analytics.cube")
+@Getter
+@Setter
+public class AnalyticsCubeProperties {
+
+    /** 큐브 사용 여부 (false 면 시간/요일 차트·테이블을 DB 집계로 조회) */
+    private boolean enabled = true;
+
+    /** 전체 큐브 메모리 상한(바이트). 넘으면 가장 오래 안 쓴 가맹점부터 제거 */
+    private long maxBytes = 64L * 1024 * 1024;
+
+    /** 가맹점 하나가 보관할 최대 일수. 이보다 긴 조회 기간은 DB 집계로 처리 */
+    private int maxDays = 1096;
+
+    /** 오늘(닫히지 않은 날짜) 구간을 다시 읽기 전까지의 시간(초) */
+    private long openTtlSeconds = 60;
+}
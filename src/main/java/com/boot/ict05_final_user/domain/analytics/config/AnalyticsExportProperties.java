@@ -0,0 +1,29 @@
+package com.boot.ict05_final_user.domain.analytics.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 테이블 내보내기(CSV/XLSX) 설정.
+ *
+ * <p>prefix "analytics.export" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * analytics.export.fetch-size=1000
+ * analytics.export.query-timeout-seconds=300
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "analytics.export")
+@Getter
+@Setter
+public class AnalyticsExportProperties {
+
+    /** JDBC 커서 fetch 크기 (한 번에 드라이버가 받아 두는 행 수 = 메모리 상한) */
+    private int fetchSize = 1000;
+
+    /** 내보내기 쿼리 타임아웃(초) */
+    private int queryTimeoutSeconds = 300;
+}
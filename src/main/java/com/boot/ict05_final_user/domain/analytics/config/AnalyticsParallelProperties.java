@@ -0,0 +1,39 @@
+package com.boot.ict05_final_user.domain.analytics.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분석 요약 카드 하위 쿼리 병렬 실행 설정.
+ *
+ * <p>prefix "analytics.parallel" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * analytics.parallel.enabled=true
+ * analytics.parallel.pool-size=4
+ * analytics.parallel.queue-capacity=64
+ * analytics.parallel.deadline-ms=5000
+ * </pre>
+ *
+ * <p>작업 스레드마다 DB 커넥션을 하나씩 쓰므로 {@code pool-size}는 커넥션 풀 크기보다 충분히 작게 둔다.</p>
+ */
+@Component
+@ConfigurationProperties(prefix = "analytics.parallel")
+@Getter
+@Setter
+public class AnalyticsParallelProperties {
+
+    /** 병렬 실행 여부 (false 면 호출 스레드에서 순차 실행) */
+    private boolean enabled = true;
+
+    /** 작업 스레드 수 (= 동시에 사용하는 최대 커넥션 수) */
+    private int poolSize = 4;
+
+    /** 대기열 크기. 가득 차면 넘친 하위 쿼리는 실행하지 않고 기본값으로 채운다 */
+    private int queueCapacity = 64;
+
+    /** 요약 1건 전체 대기 한도(ms). 넘긴 하위 쿼리는 취소하고 기본값으로 채운다 (쿼리 타임아웃도 이 값 이하) */
+    private long deadlineMs = 5000;
+}
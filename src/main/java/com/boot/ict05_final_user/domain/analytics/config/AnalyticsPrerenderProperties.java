@@ -0,0 +1,53 @@
+package com.boot.ict05_final_user.domain.analytics.config;
+
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 월 마감 PDF 리포트 사전 생성 설정.
+ *
+ * <p>prefix "analytics.prerender" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * analytics.prerender.enabled=true
+ * analytics.prerender.cron=0 30 2 1 * *
+ * analytics.prerender.dir=./reports/prerender
+ * analytics.prerender.concurrency=2
+ * analytics.prerender.task-timeout-seconds=120
+ * analytics.prerender.view-by=DAY
+ * analytics.prerender.keep-months=3
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "analytics.prerender")
+@Getter
+@Setter
+public class AnalyticsPrerenderProperties {
+
+    /** 사전 생성 스케줄러 사용 여부 */
+    private boolean enabled = true;
+
+    /** 실행 주기 (기본: 매월 1일 02:30, 전월 마감 이후) */
+    private String cron = "0 30 2 1 * *";
+
+    /** 생성된 PDF 보관 디렉터리 */
+    private String dir = "./reports/prerender";
+
+    /** PDF 서버 동시 요청 수 상한 */
+    private int concurrency = 2;
+
+    /** PDF 서버 응답 대기 상한(초). 빈 슬롯을 이만큼 기다려도 안 나면 이번 실행을 멈춘다 */
+    private long taskTimeoutSeconds = 120;
+
+    /** 미리 만들 집계 단위 */
+    private List<AnalyticsSearchDto.ViewBy> viewBy = new ArrayList<>(List.of(AnalyticsSearchDto.ViewBy.DAY));
+
+    /** 보관 개월 수. 이보다 오래된 월 파일은 실행 시 삭제 */
+    private int keepMonths = 3;
+}
@@ -0,0 +1,55 @@
+package com.boot.ict05_final_user.domain.analytics.config;
+
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportStore.ReportType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * PDF 리포트 렌더러 선택 설정.
+ *
+ * <p>prefix "analytics.renderer" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * analytics.renderer.default-engine=python
+ * analytics.renderer.engines.kpi=java
+ * analytics.renderer.engines.time-day=java
+ * analytics.renderer.fallback-to-python=true
+ * analytics.renderer.font=HYGoThic-Medium
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "analytics.renderer")
+@Getter
+@Setter
+public class AnalyticsRendererProperties {
+
+    /** 렌더러 종류 */
+    public enum Engine {
+        /** python-pdf-download (FastAPI) 서비스 */
+        PYTHON,
+        /** 애플리케이션 내부 렌더링 */
+        JAVA
+    }
+
+    /** 리포트 종류별 지정이 없을 때 쓰는 렌더러 */
+    private Engine defaultEngine = Engine.PYTHON;
+
+    /** 리포트 종류별 렌더러 */
+    private Map<ReportType, Engine> engines = new EnumMap<>(ReportType.class);
+
+    /** 내부 렌더링 실패 시 Python 서비스로 다시 시도할지 */
+    private boolean fallbackToPython = true;
+
+    /** 내부 렌더링 한글 글꼴 (Adobe-Korea1 CID 글꼴 이름, 미내장) */
+    private String font = "HYGoThic-Medium";
+
+    /** 리포트 종류에 적용할 렌더러 */
+    public Engine engineFor(ReportType type) {
+        return engines.getOrDefault(type, defaultEngine);
+    }
+}
@@ -2,6 +2,9 @@ package com.boot.ict05_final_user.domain.analytics.controller;
 
 import com.boot.ict05_final_user.config.security.principal.AppUser;
 import com.boot.ict05_final_user.domain.analytics.dto.*;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsExportService;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsExportService.ExportFormat;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsExportService.ExportTable;
 import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportService;
 import com.boot.ict05_final_user.domain.analytics.service.AnalyticsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +13,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -25,6 +30,7 @@ import java.time.LocalDate;
  *   <li>KPI 요약 및 테이블 조회</li>
  *   <li>주문(일/월), 메뉴(일/월), 재료(일/월), 시간/요일 분석 API</li>
  *   <li>PDF 리포트 다운로드 (KPI / Orders / Menus / Materials / Time-Day)</li>
+ *   <li>테이블 전체 CSV / XLSX 스트리밍 내보내기</li>
  * </ul>
  *
  * @author 이경욱
@@ -37,6 +43,7 @@ public class AnalyticsRestController {
 
 	private final AnalyticsService service;
 	private final AnalyticsReportService analyticsReportService;
+	private final AnalyticsExportService analyticsExportService;
 
 
 	/**
@@ -674,4 +681,50 @@ public class AnalyticsRestController {
 		return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
 	}
 
+
+	/**
+	 * 분석 테이블 파일 내보내기 (CSV / XLSX).
+	 *
+	 * <p>기간 전체 행을 행 수 제한 없이 스트리밍으로 내려줍니다.</p>
+	 *
+	 * GET /api/analytics/orders/export?start=2025-01-01&end=2025-11-17&viewBy=DAY&format=CSV
+	 *
+	 * @param appUser 인증 사용자 정보
+	 * @param table 대상 테이블 (kpi, orders, menus, materials, time-day)
+	 * @param start 조회 시작일
+	 * @param end 조회 종료일
+	 * @param viewBy 조회 단위 (DAY or MONTH)
+	 * @param format 파일 형식 (CSV or XLSX)
+	 * @return 파일 스트리밍 응답
+	 */
+	@Operation(summary = "분석 테이블 내보내기", description = "KPI/주문/메뉴/재료/시간·요일 테이블의 일/월별 데이터를 CSV 또는 XLSX로 스트리밍 다운로드합니다.")
+	@GetMapping("/api/analytics/{table}/export")
+	public ResponseEntity<StreamingResponseBody> exportTable(
+			@AuthenticationPrincipal AppUser appUser,
+			@PathVariable String table,
+			@RequestParam String start,
+			@RequestParam String end,
+			@RequestParam(defaultValue = "DAY") AnalyticsSearchDto.ViewBy viewBy,
+			@RequestParam(defaultValue = "CSV") ExportFormat format
+	) {
+		Long storeId = appUser.getStoreId();
+		LocalDate startDate = LocalDate.parse(start);
+		LocalDate endDate = LocalDate.parse(end);
+		ExportTable exportTable = ExportTable.fromPath(table);
+
+		StreamingResponseBody body = analyticsExportService.export(
+				storeId, exportTable, startDate, endDate, viewBy, format
+		);
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.parseMediaType(format.contentType()));
+		headers.setContentDisposition(
+				ContentDisposition.attachment()
+						.filename(analyticsExportService.filename(exportTable, startDate, endDate, viewBy, format), StandardCharsets.UTF_8)
+						.build()
+		);
+
+		return new ResponseEntity<>(body, headers, HttpStatus.OK);
+	}
+
 }
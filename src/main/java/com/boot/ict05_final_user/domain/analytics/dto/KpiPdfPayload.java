@@ -1,24 +1,53 @@
 package com.boot.ict05_final_user.domain.analytics.dto;
 
-import java.util.List;
-import java.util.Map;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayload;
+import com.boot.ict05_final_user.domain.analytics.support.PdfTable;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * KPI PDF 생성을 위해 Python 서버로 전달하는 페이로드입니다.
  *
  * <p>FastAPI 측 KpiPayload 구조(criteria + data 목록)에 맞춰 전송합니다.</p>
  *
  * @param criteria PDF 생성에 사용되는 조회 조건 및 메타 정보.
- * @param data PDF에 포함할 행 데이터 목록 (Map 형태).
+ * @param rows PDF에 포함할 KPI 행 목록 ("data" 테이블로 직렬화).
  *
  * @author 이경욱
  * @since 2025-11-20
  */
 public record KpiPdfPayload(
-		@Schema(description = "PDF 생성용 기준(criteria) 맵.", example = "{\"start\":\"2025-11-01\",\"end\":\"2025-11-17\"}")
-		Map<String, Object> criteria,
+		@Schema(description = "PDF 생성용 기준(criteria).")
+		PdfCriteria criteria,
+
+		@Schema(description = "PDF에 포함될 KPI 행 목록.")
+		List<KpiRowDto> rows
+) implements PdfPayload {
+
+	/** Python KpiRow 컬럼 */
+	private static final PdfTable<KpiRowDto> DATA = PdfTable.<KpiRowDto>builder()
+			.text("date", KpiRowDto::label)
+			.integer("sales", KpiRowDto::sales)
+			.integer("transaction", KpiRowDto::tx)
+			.decimal("upt", KpiRowDto::upt)
+			.integer("ads", KpiRowDto::ads)
+			.integer("aur", KpiRowDto::aur)
+			.nullableDecimal("compMoM", KpiRowDto::compMoM)
+			.nullableDecimal("compYoY", KpiRowDto::compYoY)
+			.decimal("ratioVisit", KpiRowDto::ratioVisit)
+			.decimal("ratioTakeout", KpiRowDto::ratioTakeout)
+			.decimal("ratioDelivery", KpiRowDto::ratioDelivery)
+			.build();
 
-		@Schema(description = "PDF에 포함될 데이터 리스트. 각 요소는 컬럼명-값 맵 형태입니다.")
-		List<Map<String, Object>> data
-) { }
+	@Override
+	public void writeTo(JsonGenerator g, boolean columnar) throws IOException {
+		g.writeStartObject();
+		g.writeObjectField("criteria", criteria);
+		g.writeFieldName("data");
+		DATA.write(g, rows, columnar);
+		g.writeEndObject();
+	}
+}
@@ -13,6 +13,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
  * @param upt 판매수량 / 주문수로 계산된 UPT(단위/건).
  * @param ads 객단가(매출/주문수, 반올림).
  * @param aur 판매단가(매출/판매수량, 반올림).
+ * @param compMoM 전월 대비 매출 증감률(%). 일별은 전월 같은 날, 월별은 전월과 비교. 비교 매출이 0이면 null.
+ * @param compYoY 전년 대비 매출 증감률(%). 일별은 전년 같은 날, 월별은 전년 같은 달과 비교. 비교 매출이 0이면 null.
+ * @param ratioVisit 매장 주문 비율(%, 주문수 기준).
+ * @param ratioTakeout 포장 주문 비율(%, 주문수 기준).
+ * @param ratioDelivery 배달 주문 비율(%, 주문수 기준).
  *
  * @author 이경욱
  * @since 2025-11-20
@@ -34,5 +39,20 @@ public record KpiRowDto(
 		long ads,
 
 		@Schema(description = "AUR = 매출 / 판매수량 (반올림).", example = "2600")
-		long aur
+		long aur,
+
+		@Schema(description = "전월 대비 매출 증감률(%). 비교 매출이 0이면 null.", example = "12.5", nullable = true)
+		Double compMoM,
+
+		@Schema(description = "전년 대비 매출 증감률(%). 비교 매출이 0이면 null.", example = "-3.2", nullable = true)
+		Double compYoY,
+
+		@Schema(description = "매장 주문 비율(%, 주문수 기준).", example = "55.0")
+		double ratioVisit,
+
+		@Schema(description = "포장 주문 비율(%, 주문수 기준).", example = "25.0")
+		double ratioTakeout,
+
+		@Schema(description = "배달 주문 비율(%, 주문수 기준).", example = "20.0")
+		double ratioDelivery
 ) {}
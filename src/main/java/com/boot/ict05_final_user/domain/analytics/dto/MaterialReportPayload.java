@@ -1,8 +1,13 @@
 package com.boot.ict05_final_user.domain.analytics.dto;
 
-import java.util.List;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayload;
+import com.boot.ict05_final_user.domain.analytics.support.PdfTable;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * 재료 분석 PDF 페이로드.
  *
@@ -45,5 +50,42 @@ public record MaterialReportPayload(
 
 		@Schema(description = "리포트 생성 시각 (KST 기준 ISO-8601 문자열).", example = "2025-11-17T14:30:00+09:00")
 		String generatedAt
-) {
+) implements PdfPayload {
+
+	/** Python MaterialDailyRow 컬럼 */
+	private static final PdfTable<MaterialDailyRowDto> DAILY = PdfTable.<MaterialDailyRowDto>builder()
+			.text("useDate", MaterialDailyRowDto::useDate)
+			.text("materialName", MaterialDailyRowDto::materialName)
+			.decimal("usedQuantity", MaterialDailyRowDto::usedQuantity)
+			.text("unitName", MaterialDailyRowDto::unitName)
+			.integer("cost", MaterialDailyRowDto::cost)
+			.decimal("salesShare", MaterialDailyRowDto::salesShare)
+			.text("lastInboundDate", MaterialDailyRowDto::lastInboundDate)
+			.build();
+
+	/** Python MaterialMonthlyRow 컬럼 */
+	private static final PdfTable<MaterialMonthlyRowDto> MONTHLY = PdfTable.<MaterialMonthlyRowDto>builder()
+			.text("yearMonth", MaterialMonthlyRowDto::yearMonth)
+			.text("materialName", MaterialMonthlyRowDto::materialName)
+			.decimal("usedQuantity", MaterialMonthlyRowDto::usedQuantity)
+			.integer("cost", MaterialMonthlyRowDto::cost)
+			.decimal("costRate", MaterialMonthlyRowDto::costRate)
+			.text("lastInboundMonth", MaterialMonthlyRowDto::lastInboundMonth)
+			.build();
+
+	@Override
+	public void writeTo(JsonGenerator g, boolean columnar) throws IOException {
+		g.writeStartObject();
+		g.writeObjectField("storeId", storeId);
+		g.writeStringField("storeName", storeName);
+		g.writeStringField("periodLabel", periodLabel);
+		g.writeObjectField("summary", summary);
+		g.writeStringField("viewBy", viewBy);
+		g.writeFieldName("dailyRows");
+		DAILY.write(g, dailyRows, columnar);
+		g.writeFieldName("monthlyRows");
+		MONTHLY.write(g, monthlyRows, columnar);
+		g.writeStringField("generatedAt", generatedAt);
+		g.writeEndObject();
+	}
 }
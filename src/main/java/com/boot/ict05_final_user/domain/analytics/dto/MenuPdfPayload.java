@@ -1,24 +1,67 @@
 package com.boot.ict05_final_user.domain.analytics.dto;
 
-import java.util.List;
-import java.util.Map;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayload;
+import com.boot.ict05_final_user.domain.analytics.support.PdfTable;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
- * 메뉴 분석 PDF 페이로드입니다.
+ * 메뉴 분석 PDF 생성을 위해 Python 서버로 전달하는 페이로드입니다.
  *
- * <p>FastAPI의 MenuPayload(criteria + data[MenuRow]) 구조와 호환되는 형태로 Python PDF 서비스에 전송합니다.</p>
+ * <p>FastAPI 측 MenuPayload 구조(criteria + data 목록)에 맞춰 전송합니다.
+ * criteria.viewBy 가 DAY 면 dailyRows, MONTH 면 monthlyRows 가 "data" 테이블이 됩니다.</p>
  *
- * @param criteria PDF 생성에 필요한 조회 조건 및 메타 정보.
- * @param data PDF에 포함할 행 데이터 목록 (컬럼명-값 맵).
+ * @param criteria PDF 생성 기준.
+ * @param dailyRows 일별 메뉴 행.
+ * @param monthlyRows 월별 메뉴 행.
  *
  * @author 이경욱
  * @since 2025-11-20
  */
 public record MenuPdfPayload(
-		@Schema(description = "PDF 생성용 기준(criteria) 맵.", example = "{\"start\":\"2025-11-01\",\"end\":\"2025-11-17\"}")
-		Map<String, Object> criteria,
+		@Schema(description = "PDF 생성용 기준(criteria).")
+		PdfCriteria criteria,
+
+		@Schema(description = "일별 메뉴 행 목록.")
+		List<MenuDailyRowDto> dailyRows,
+
+		@Schema(description = "월별 메뉴 행 목록.")
+		List<MenuMonthlyRowDto> monthlyRows
+) implements PdfPayload {
+
+	/** Python MenuRow 컬럼 (DAY) */
+	private static final PdfTable<MenuDailyRowDto> DAILY = PdfTable.<MenuDailyRowDto>builder()
+			.text("date", MenuDailyRowDto::orderDate)
+			.text("category", MenuDailyRowDto::categoryName)
+			.text("menu", MenuDailyRowDto::menuName)
+			.integer("quantity", MenuDailyRowDto::quantity)
+			.integer("sales", MenuDailyRowDto::sales)
+			.integer("orderCount", MenuDailyRowDto::orderCount)
+			.build();
+
+	/** Python MenuRow 컬럼 (MONTH) */
+	private static final PdfTable<MenuMonthlyRowDto> MONTHLY = PdfTable.<MenuMonthlyRowDto>builder()
+			.text("date", MenuMonthlyRowDto::yearMonth)
+			.text("category", MenuMonthlyRowDto::categoryName)
+			.text("menu", MenuMonthlyRowDto::menuName)
+			.integer("quantity", MenuMonthlyRowDto::quantity)
+			.integer("sales", MenuMonthlyRowDto::sales)
+			.integer("orderCount", MenuMonthlyRowDto::orderCount)
+			.build();
 
-		@Schema(description = "PDF에 포함될 데이터 리스트. 각 요소는 컬럼명-값 맵 형태입니다.")
-		List<Map<String, Object>> data
-) { }
+	@Override
+	public void writeTo(JsonGenerator g, boolean columnar) throws IOException {
+		g.writeStartObject();
+		g.writeObjectField("criteria", criteria);
+		g.writeFieldName("data");
+		if (criteria.byDay()) {
+			DAILY.write(g, dailyRows, columnar);
+		} else {
+			MONTHLY.write(g, monthlyRows, columnar);
+		}
+		g.writeEndObject();
+	}
+}
@@ -1,24 +1,70 @@
 package com.boot.ict05_final_user.domain.analytics.dto;
 
-import java.util.List;
-import java.util.Map;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayload;
+import com.boot.ict05_final_user.domain.analytics.support.PdfTable;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
- * 주문 분석 PDF 페이로드.
+ * 주문 분석 PDF 생성을 위해 Python 서버로 전달하는 페이로드입니다.
  *
- * <p>FastAPI OrdersPayload(criteria + data[OrdersRow]) 와 호환되는 구조로 Python PDF 서비스에 전송합니다.</p>
+ * <p>FastAPI 측 OrdersPayload 구조(criteria + data 목록)에 맞춰 전송합니다.
+ * criteria.viewBy 가 DAY 면 dailyRows, MONTH 면 monthlyRows 가 "data" 테이블이 됩니다.</p>
  *
- * @param criteria PDF 생성에 필요한 조회 조건 및 메타 정보.
- * @param data PDF에 포함할 행 데이터 리스트 (각 요소는 컬럼명-값 맵).
+ * @param criteria PDF 생성 기준.
+ * @param dailyRows 일별(주문 단위) 행.
+ * @param monthlyRows 월별 집계 행.
  *
  * @author 이경욱
  * @since 2025-11-20
  */
 public record OrdersPdfPayload(
-		@Schema(description = "PDF 생성 기준(criteria) 맵.", example = "{\"start\":\"2025-11-01\",\"end\":\"2025-11-17\"}")
-		Map<String, Object> criteria,
+		@Schema(description = "PDF 생성 기준(criteria).")
+		PdfCriteria criteria,
+
+		@Schema(description = "일별(주문 단위) 행 목록.")
+		List<OrderDailyRowDto> dailyRows,
+
+		@Schema(description = "월별 집계 행 목록.")
+		List<OrderMonthlyRowDto> monthlyRows
+) implements PdfPayload {
+
+	/** Python OrdersRow 컬럼 (DAY, 주문 1건 = 1행) */
+	private static final PdfTable<OrderDailyRowDto> DAILY = PdfTable.<OrderDailyRowDto>builder()
+			.text("date", OrderDailyRowDto::orderDate)
+			.nullableInteger("orderId", OrderDailyRowDto::orderId)
+			.text("orderType", OrderDailyRowDto::orderType)
+			.integer("orderCount", r -> 1L)
+			.integer("totalPrice", OrderDailyRowDto::totalPrice)
+			.integer("menuCount", OrderDailyRowDto::menuCount)
+			.text("paymentType", OrderDailyRowDto::paymentType)
+			.text("channelMemo", OrderDailyRowDto::channelMemo)
+			.build();
+
+	/** Python OrdersRow 컬럼 (MONTH) */
+	private static final PdfTable<OrderMonthlyRowDto> MONTHLY = PdfTable.<OrderMonthlyRowDto>builder()
+			.text("date", OrderMonthlyRowDto::yearMonth)
+			.integer("orderCount", OrderMonthlyRowDto::orderCount)
+			.integer("totalSales", OrderMonthlyRowDto::totalSales)
+			.integer("avgOrderAmount", OrderMonthlyRowDto::avgOrderAmount)
+			.integer("deliverySales", OrderMonthlyRowDto::deliverySales)
+			.integer("takeoutSales", OrderMonthlyRowDto::takeoutSales)
+			.integer("visitSales", OrderMonthlyRowDto::visitSales)
+			.build();
 
-		@Schema(description = "PDF에 포함될 데이터 리스트. 각 항목은 컬럼명-값 맵입니다.")
-		List<Map<String, Object>> data
-) { }
+	@Override
+	public void writeTo(JsonGenerator g, boolean columnar) throws IOException {
+		g.writeStartObject();
+		g.writeObjectField("criteria", criteria);
+		g.writeFieldName("data");
+		if (criteria.byDay()) {
+			DAILY.write(g, dailyRows, columnar);
+		} else {
+			MONTHLY.write(g, monthlyRows, columnar);
+		}
+		g.writeEndObject();
+	}
+}
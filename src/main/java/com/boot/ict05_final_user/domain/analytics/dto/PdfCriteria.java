@@ -0,0 +1,37 @@
+package com.boot.ict05_final_user.domain.analytics.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * PDF 리포트 조회 조건(criteria). KPI / 주문 / 메뉴 리포트 공통.
+ *
+ * @param storeId 점포 ID.
+ * @param storeName 점포명.
+ * @param startDate 조회 시작일 (YYYY-MM-DD).
+ * @param endDate 조회 종료일 (YYYY-MM-DD).
+ * @param viewBy "DAY" 또는 "MONTH".
+ *
+ * @author 이경욱
+ * @since 2025-11-20
+ */
+public record PdfCriteria(
+		@Schema(description = "점포 ID.", example = "10")
+		Long storeId,
+
+		@Schema(description = "점포명.", example = "토스트랩 강남점")
+		String storeName,
+
+		@Schema(description = "조회 시작일.", example = "2025-11-01")
+		String startDate,
+
+		@Schema(description = "조회 종료일.", example = "2025-11-17")
+		String endDate,
+
+		@Schema(description = "조회 단위 (\"DAY\" 또는 \"MONTH\").", example = "DAY")
+		String viewBy
+) {
+	/** 일별 조회 여부 */
+	public boolean byDay() {
+		return !"MONTH".equals(viewBy);
+	}
+}
@@ -1,8 +1,13 @@
 package com.boot.ict05_final_user.domain.analytics.dto;
 
-import java.util.List;
+import com.boot.ict05_final_user.domain.analytics.support.PdfPayload;
+import com.boot.ict05_final_user.domain.analytics.support.PdfTable;
+import com.fasterxml.jackson.core.JsonGenerator;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * Python FastAPI PDF 서비스에 전달할 시간/요일 분석 보고서 페이로드.
  *
@@ -52,4 +57,53 @@ public record TimeDayReportPayload(
 
 		@Schema(description = "생성 시각 (KST 기준 문자열).", example = "2025-11-17T14:30:00+09:00")
 		String generatedAt
-) { }
+) implements PdfPayload {
+
+	/** Python TimeDayDailyRow 컬럼 */
+	private static final PdfTable<TimeDayDailyRowDto> DAILY = PdfTable.<TimeDayDailyRowDto>builder()
+			.text("orderDate", TimeDayDailyRowDto::orderDate)
+			.integer("weekday", TimeDayDailyRowDto::weekday)
+			.integer("hour", TimeDayDailyRowDto::hour)
+			.integer("orderCount", TimeDayDailyRowDto::orderCount)
+			.integer("sales", TimeDayDailyRowDto::sales)
+			.integer("visitCount", TimeDayDailyRowDto::visitCount)
+			.integer("takeoutCount", TimeDayDailyRowDto::takeoutCount)
+			.integer("deliveryCount", TimeDayDailyRowDto::deliveryCount)
+			.decimal("visitRate", TimeDayDailyRowDto::visitRate)
+			.decimal("takeoutRate", TimeDayDailyRowDto::takeoutRate)
+			.decimal("deliveryRate", TimeDayDailyRowDto::deliveryRate)
+			.build();
+
+	/** Python TimeDayMonthlyRow 컬럼 */
+	private static final PdfTable<TimeDayMonthlyRowDto> MONTHLY = PdfTable.<TimeDayMonthlyRowDto>builder()
+			.text("yearMonth", TimeDayMonthlyRowDto::yearMonth)
+			.integer("weekday", TimeDayMonthlyRowDto::weekday)
+			.integer("hour", TimeDayMonthlyRowDto::hour)
+			.integer("orderCount", TimeDayMonthlyRowDto::orderCount)
+			.integer("sales", TimeDayMonthlyRowDto::sales)
+			.integer("visitCount", TimeDayMonthlyRowDto::visitCount)
+			.integer("takeoutCount", TimeDayMonthlyRowDto::takeoutCount)
+			.integer("deliveryCount", TimeDayMonthlyRowDto::deliveryCount)
+			.decimal("visitRate", TimeDayMonthlyRowDto::visitRate)
+			.decimal("takeoutRate", TimeDayMonthlyRowDto::takeoutRate)
+			.decimal("deliveryRate", TimeDayMonthlyRowDto::deliveryRate)
+			.build();
+
+	@Override
+	public void writeTo(JsonGenerator g, boolean columnar) throws IOException {
+		g.writeStartObject();
+		g.writeObjectField("storeId", storeId);
+		g.writeStringField("storeName", storeName);
+		g.writeStringField("periodLabel", periodLabel);
+		g.writeObjectField("summary", summary);
+		g.writeObjectField("hourlyPoints", hourlyPoints);
+		g.writeObjectField("weekdayPoints", weekdayPoints);
+		g.writeStringField("viewBy", viewBy);
+		g.writeFieldName("dailyRows");
+		DAILY.write(g, dailyRows, columnar);
+		g.writeFieldName("monthlyRows");
+		MONTHLY.write(g, monthlyRows, columnar);
+		g.writeStringField("generatedAt", generatedAt);
+		g.writeEndObject();
+	}
+}
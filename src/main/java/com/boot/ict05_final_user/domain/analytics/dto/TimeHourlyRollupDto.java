@@ -0,0 +1,26 @@
+package com.boot.ict05_final_user.domain.analytics.dto;
+
+import com.boot.ict05_final_user.domain.order.entity.OrderType;
+
+/**
+ * 시간대 큐브 적재용 롤업 행 (일자 × 시간 × 주문 유형).
+ *
+ * <p>영업시간 필터 없이 0~23시 전체를 담는다. 화면 응답에는 쓰지 않는다.</p>
+ *
+ * @param orderDate 주문일 (YYYY-MM-DD).
+ * @param hour 시간 (0~23).
+ * @param orderType 주문 유형 (null 가능).
+ * @param sales 매출 합계(원).
+ * @param orders 주문수(건).
+ *
+ * @author 이경욱
+ * @since 2025-11-20
+ */
+public record TimeHourlyRollupDto(
+		String orderDate,
+		int hour,
+		OrderType orderType,
+		long sales,
+		long orders
+) {
+}
@@ -0,0 +1,355 @@
+package com.boot.ict05_final_user.domain.analytics.repository;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsExportProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.*;
+import com.boot.ict05_final_user.domain.order.entity.OrderStatus;
+import com.boot.ict05_final_user.domain.partition.support.ArchiveAwareStatementInspector;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 분석 테이블 내보내기(JDBC 스트리밍) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>화면용 커서 페이징 쿼리({@link AnalyticsRepositoryImpl})와 같은 집계를 기간 전체에 대해 한 번에 실행</li>
+ *   <li>전진 전용 커서 + fetch 크기로 행을 받아 즉시 콜백으로 넘긴다 → 기간 길이와 무관하게 메모리 일정</li>
+ *   <li>파생 값(매출 대비 원가, 최근 입고일 등)도 SQL 안에서 조인하여 자바 쪽 맵을 만들지 않는다</li>
+ *   <li>아카이브 폴백 컨텍스트가 켜진 스레드에서는 JPA 조회와 같은 규칙으로 테이블명을 치환한다</li>
+ * </ul>
+ *
+ * <p>정렬은 화면 테이블과 동일(최근 라벨 먼저). 주문 상태는 COMPLETED 만 포함한다.</p>
+ */
+@Repository
+public class AnalyticsExportJdbcRepository {
+
+    private static final String COMPLETED = OrderStatus.COMPLETED.name();
+    private static final String DAY_FMT = "%Y-%m-%d";
+    private static final String MONTH_FMT = "%Y-%m";
+    private static final DateTimeFormatter YM = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final ArchiveAwareStatementInspector archive = new ArchiveAwareStatementInspector();
+
+    public AnalyticsExportJdbcRepository(DataSource dataSource, AnalyticsExportProperties props) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(Math.max(1, props.getFetchSize()));
+        streaming.setQueryTimeout(props.getQueryTimeoutSeconds());
+        this.jdbc = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    /**
+     * KPI 행 (일/월). 수량은 주문별로 먼저 합산하여 매출 중복 합계를 막는다.
+     * 채널 비율은 같은 집계의 조건부 합계, MoM/YoY 는 이동 구간 라벨별 매출(라벨 수만큼의 작은 맵)과 매칭한다.
+     */
+    public void streamKpiRows(Long storeId, LocalDate start, LocalDate end, boolean byMonth, Consumer<KpiRowDto> sink) {
+        String fmt = byMonth ? MONTH_FMT : DAY_FMT;
+        Map<String, Long> compare = fetchCompareSales(storeId, start, end, fmt);
+
+        String sql = """
+            SELECT x.label, SUM(x.total) AS sales, COUNT(*) AS tx, SUM(x.units) AS units,
+                   SUM(CASE WHEN x.order_type = 'VISIT' THEN 1 ELSE 0 END) AS visit_count,
+                   SUM(CASE WHEN x.order_type = 'TAKEOUT' THEN 1 ELSE 0 END) AS takeout_count,
+                   SUM(CASE WHEN x.order_type = 'DELIVERY' THEN 1 ELSE 0 END) AS delivery_count
+              FROM (SELECT co.customer_order_id,
+                           DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                           co.customer_order_total_price AS total,
+                           co.customer_order_type AS order_type,
+                           COALESCE(SUM(d.customer_order_detail_quantity), 0) AS units
+                      FROM customer_order co
+                      LEFT JOIN customer_order_detail d ON d.customer_order_id_fk = co.customer_order_id
+                     WHERE co.customer_order_status = :status
+                       AND co.store_id_fk = :storeId
+                       AND co.customer_order_date >= :startAt
+                       AND co.customer_order_date < :endEx
+                     GROUP BY co.customer_order_id, label, co.customer_order_total_price, co.customer_order_type) x
+             GROUP BY x.label
+             ORDER BY x.label DESC
+        """;
+        stream(sql, params(storeId, start, end).addValue("fmt", fmt), rs -> {
+            String label = rs.getString("label");
+            long sales = longOf(rs, "sales");
+            long tx = rs.getLong("tx");
+            long units = rs.getLong("units");
+            sink.accept(new KpiRowDto(label, sales, tx,
+                    safeDiv(units, tx), Math.round(safeDiv(sales, tx)), Math.round(safeDiv(sales, units)),
+                    AnalyticsRepositoryImpl.growthRate(sales, compare.get(AnalyticsRepositoryImpl.shiftLabel(label, byMonth, 1, 0))),
+                    AnalyticsRepositoryImpl.growthRate(sales, compare.get(AnalyticsRepositoryImpl.shiftLabel(label, byMonth, 0, 1))),
+                    round1(safeDiv(rs.getLong("visit_count"), tx) * 100.0),
+                    round1(safeDiv(rs.getLong("takeout_count"), tx) * 100.0),
+                    round1(safeDiv(rs.getLong("delivery_count"), tx) * 100.0)));
+        });
+    }
+
+    /** 전월/전년 이동 구간의 라벨별 매출 (한 번의 쿼리) */
+    private Map<String, Long> fetchCompareSales(Long storeId, LocalDate start, LocalDate end, String fmt) {
+        boolean byMonth = MONTH_FMT.equals(fmt);
+        LocalDate first = byMonth ? start.withDayOfMonth(1) : start;
+        LocalDate lastEx = byMonth ? end.withDayOfMonth(1).plusMonths(1) : end.plusDays(1);
+        String sql = """
+            SELECT DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                   SUM(co.customer_order_total_price) AS sales
+              FROM customer_order co
+             WHERE co.customer_order_status = :status
+               AND co.store_id_fk = :storeId
+               AND ((co.customer_order_date >= :momStart AND co.customer_order_date < :momEndEx)
+                 OR (co.customer_order_date >= :yoyStart AND co.customer_order_date < :yoyEndEx))
+             GROUP BY label
+        """;
+        MapSqlParameterSource p = new MapSqlParameterSource()
+                .addValue("fmt", fmt)
+                .addValue("status", COMPLETED)
+                .addValue("storeId", storeId)
+                .addValue("momStart", first.minusMonths(1).atStartOfDay())
+                .addValue("momEndEx", lastEx.minusMonths(1).atStartOfDay())
+                .addValue("yoyStart", first.minusYears(1).atStartOfDay())
+                .addValue("yoyEndEx", lastEx.minusYears(1).atStartOfDay());
+        Map<String, Long> map = new HashMap<>();
+        stream(sql, p, rs -> map.put(rs.getString("label"), longOf(rs, "sales")));
+        return map;
+    }
+
+    /** 주문 일별(주문 단위) 행. 메뉴 수량은 주문별 상관 서브쿼리로 구해 GROUP BY 임시 테이블을 피한다 */
+    public void streamOrderDailyRows(Long storeId, LocalDate start, LocalDate end, Consumer<OrderDailyRowDto> sink) {
+        String sql = """
+            SELECT co.customer_order_date, co.customer_order_id, co.customer_order_code, co.customer_order_type,
+                   co.customer_order_total_price, co.customer_order_payment_type, co.customer_order_memo,
+                   (SELECT COALESCE(SUM(d.customer_order_detail_quantity), 0)
+                      FROM customer_order_detail d
+                     WHERE d.customer_order_id_fk = co.customer_order_id) AS menu_count
+              FROM customer_order co
+             WHERE co.customer_order_status = :status
+               AND co.store_id_fk = :storeId
+               AND co.customer_order_date >= :startAt
+               AND co.customer_order_date < :endEx
+             ORDER BY co.customer_order_date DESC, co.customer_order_id DESC
+        """;
+        stream(sql, params(storeId, start, end), rs -> {
+            Timestamp at = rs.getTimestamp("customer_order_date");
+            sink.accept(new OrderDailyRowDto(
+                    at == null ? null : at.toLocalDateTime().toLocalDate().toString(),
+                    rs.getLong("customer_order_id"),
+                    rs.getString("customer_order_code"),
+                    rs.getString("customer_order_type"),
+                    longOf(rs, "customer_order_total_price"),
+                    rs.getLong("menu_count"),
+                    rs.getString("customer_order_payment_type"),
+                    rs.getString("customer_order_memo")));
+        });
+    }
+
+    /** 주문 월별 집계 행 */
+    public void streamOrderMonthlyRows(Long storeId, LocalDate start, LocalDate end, Consumer<OrderMonthlyRowDto> sink) {
+        String sql = """
+            SELECT DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                   SUM(co.customer_order_total_price) AS total_sales,
+                   COUNT(*) AS order_count,
+                   SUM(CASE WHEN co.customer_order_type = 'DELIVERY' THEN co.customer_order_total_price ELSE 0 END) AS delivery_sales,
+                   SUM(CASE WHEN co.customer_order_type = 'TAKEOUT' THEN co.customer_order_total_price ELSE 0 END) AS takeout_sales,
+                   SUM(CASE WHEN co.customer_order_type = 'VISIT' THEN co.customer_order_total_price ELSE 0 END) AS visit_sales
+              FROM customer_order co
+             WHERE co.customer_order_status = :status
+               AND co.store_id_fk = :storeId
+               AND co.customer_order_date >= :startAt
+               AND co.customer_order_date < :endEx
+             GROUP BY label
+             ORDER BY label DESC
+        """;
+        stream(sql, params(storeId, start, end).addValue("fmt", MONTH_FMT), rs -> {
+            long total = longOf(rs, "total_sales");
+            long count = rs.getLong("order_count");
+            sink.accept(new OrderMonthlyRowDto(rs.getString("label"), total, count,
+                    Math.round(safeDiv(total, count)),
+                    longOf(rs, "delivery_sales"), longOf(rs, "takeout_sales"), longOf(rs, "visit_sales")));
+        });
+    }
+
+    /** 메뉴 일별 행 */
+    public void streamMenuDailyRows(Long storeId, LocalDate start, LocalDate end, Consumer<MenuDailyRowDto> sink) {
+        streamMenuRows(storeId, start, end, DAY_FMT, rs -> sink.accept(new MenuDailyRowDto(
+                rs.getString("label"), rs.getString("menu_category_name"), rs.getString("menu_name"),
+                rs.getLong("qty"), longOf(rs, "sales"), rs.getLong("order_count"))));
+    }
+
+    /** 메뉴 월별 행 */
+    public void streamMenuMonthlyRows(Long storeId, LocalDate start, LocalDate end, Consumer<MenuMonthlyRowDto> sink) {
+        streamMenuRows(storeId, start, end, MONTH_FMT, rs -> sink.accept(new MenuMonthlyRowDto(
+                rs.getString("label"), rs.getString("menu_name"), rs.getString("menu_category_name"),
+                rs.getLong("qty"), longOf(rs, "sales"), rs.getLong("order_count"))));
+    }
+
+    /** 재료 일별 행 (일 매출 대비 원가 비중, 최근 입고일 포함) */
+    public void streamMaterialDailyRows(Long storeId, LocalDate start, LocalDate end, Consumer<MaterialDailyRowDto> sink) {
+        streamMaterialRows(storeId, start, end, DAY_FMT, rs -> {
+            long cost = longOf(rs, "cost");
+            long sales = longOf(rs, "sales");
+            Timestamp lastIn = rs.getTimestamp("last_in");
+            sink.accept(new MaterialDailyRowDto(
+                    rs.getString("label"), rs.getString("material_name"), doubleOf(rs, "used_qty"),
+                    rs.getString("unit"), cost,
+                    (sales > 0L && cost > 0L) ? round1(safeDiv(cost, sales) * 100.0) : 0.0,
+                    lastIn == null ? null : lastIn.toLocalDateTime().toString()));
+        });
+    }
+
+    /** 재료 월별 행 (월 매출 대비 원가율, 최근 입고월 포함) */
+    public void streamMaterialMonthlyRows(Long storeId, LocalDate start, LocalDate end, Consumer<MaterialMonthlyRowDto> sink) {
+        streamMaterialRows(storeId, start, end, MONTH_FMT, rs -> {
+            long cost = longOf(rs, "cost");
+            long sales = longOf(rs, "sales");
+            Timestamp lastIn = rs.getTimestamp("last_in");
+            sink.accept(new MaterialMonthlyRowDto(
+                    rs.getString("label"), rs.getString("material_name"), doubleOf(rs, "used_qty"), cost,
+                    (sales > 0L && cost > 0L) ? round1(safeDiv(cost, sales) * 100.0) : 0.0,
+                    lastIn == null ? null : lastIn.toLocalDateTime().format(YM)));
+        });
+    }
+
+    /** 시간·요일 일별 행 (영업시간 07~20시) */
+    public void streamTimeDayDailyRows(Long storeId, LocalDate start, LocalDate end, Consumer<TimeDayDailyRowDto> sink) {
+        streamTimeDayRows(storeId, start, end, DAY_FMT, rs -> {
+            long orders = rs.getLong("order_count");
+            long visit = rs.getLong("visit_count"), takeout = rs.getLong("takeout_count"), delivery = rs.getLong("delivery_count");
+            sink.accept(new TimeDayDailyRowDto(rs.getString("label"), rs.getInt("wd"), rs.getInt("hr"),
+                    orders, longOf(rs, "sales"), visit, takeout, delivery,
+                    safeDiv(visit, orders), safeDiv(takeout, orders), safeDiv(delivery, orders)));
+        });
+    }
+
+    /** 시간·요일 월별 행 (영업시간 07~20시) */
+    public void streamTimeDayMonthlyRows(Long storeId, LocalDate start, LocalDate end, Consumer<TimeDayMonthlyRowDto> sink) {
+        streamTimeDayRows(storeId, start, end, MONTH_FMT, rs -> {
+            long orders = rs.getLong("order_count");
+            long visit = rs.getLong("visit_count"), takeout = rs.getLong("takeout_count"), delivery = rs.getLong("delivery_count");
+            sink.accept(new TimeDayMonthlyRowDto(rs.getString("label"), rs.getInt("wd"), rs.getInt("hr"),
+                    orders, longOf(rs, "sales"), visit, takeout, delivery,
+                    safeDiv(visit, orders), safeDiv(takeout, orders), safeDiv(delivery, orders)));
+        });
+    }
+
+    private void streamMenuRows(Long storeId, LocalDate start, LocalDate end, String fmt, RowCallbackHandler handler) {
+        String sql = """
+            SELECT DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                   m.menu_id, m.menu_name, mc.menu_category_name,
+                   SUM(d.customer_order_detail_quantity) AS qty,
+                   SUM(d.customer_order_detail_total) AS sales,
+                   COUNT(DISTINCT co.customer_order_id) AS order_count
+              FROM customer_order_detail d
+              JOIN customer_order co ON co.customer_order_id = d.customer_order_id_fk
+              JOIN menu m ON m.menu_id = d.menu_id_fk
+              JOIN menu_category mc ON mc.menu_category_id = m.menu_category_id_fk
+             WHERE co.customer_order_status = :status
+               AND co.store_id_fk = :storeId
+               AND co.customer_order_date >= :startAt
+               AND co.customer_order_date < :endEx
+             GROUP BY label, m.menu_id, m.menu_name, mc.menu_category_name
+             ORDER BY label DESC, sales DESC, m.menu_id DESC
+        """;
+        stream(sql, params(storeId, start, end).addValue("fmt", fmt), handler);
+    }
+
+    private void streamMaterialRows(Long storeId, LocalDate start, LocalDate end, String fmt, RowCallbackHandler handler) {
+        String sql = """
+            SELECT x.label, x.sm_id, x.material_name, x.unit, x.used_qty, x.cost,
+                   COALESCE(sl.sales, 0) AS sales, li.last_in
+              FROM (SELECT DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                           sm.store_material_id AS sm_id,
+                           IFNULL(sm.store_material_name, mt.material_name) AS material_name,
+                           sm.store_material_base_unit AS unit,
+                           SUM(l.menu_usage_material_log_count) AS used_qty,
+                           SUM(l.menu_usage_material_log_cost) AS cost
+                      FROM menu_usage_material_log l
+                      JOIN customer_order co ON co.customer_order_id = l.customer_order_id_fk
+                      JOIN store_material sm ON sm.store_material_id = l.store_material_id_fk
+                      LEFT JOIN material mt ON mt.material_id = sm.material_id_fk
+                     WHERE co.customer_order_status = :status
+                       AND co.store_id_fk = :storeId
+                       AND co.customer_order_date >= :startAt
+                       AND co.customer_order_date < :endEx
+                     GROUP BY label, sm.store_material_id, sm.store_material_name, mt.material_name,
+                              sm.store_material_base_unit) x
+              LEFT JOIN (SELECT DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                                SUM(co.customer_order_total_price) AS sales
+                           FROM customer_order co
+                          WHERE co.customer_order_status = :status
+                            AND co.store_id_fk = :storeId
+                            AND co.customer_order_date >= :startAt
+                            AND co.customer_order_date < :endEx
+                          GROUP BY label) sl ON sl.label = x.label
+              LEFT JOIN (SELECT si.store_material_id_fk AS sm_id,
+                                MAX(b.store_inventory_batch_received_date) AS last_in
+                           FROM store_inventory_batch b
+                           JOIN store_inventory si ON si.store_inventory_id = b.store_inventory_id_fk
+                          WHERE si.store_id_fk = :storeId
+                          GROUP BY si.store_material_id_fk) li ON li.sm_id = x.sm_id
+             ORDER BY x.label DESC, x.sm_id DESC
+        """;
+        stream(sql, params(storeId, start, end).addValue("fmt", fmt), handler);
+    }
+
+    private void streamTimeDayRows(Long storeId, LocalDate start, LocalDate end, String fmt, RowCallbackHandler handler) {
+        String sql = """
+            SELECT DATE_FORMAT(co.customer_order_date, :fmt) AS label,
+                   ((DAYOFWEEK(co.customer_order_date) + 5) % 7) + 1 AS wd,
+                   HOUR(co.customer_order_date) AS hr,
+                   SUM(co.customer_order_total_price) AS sales,
+                   COUNT(*) AS order_count,
+                   SUM(CASE WHEN co.customer_order_type = 'VISIT' THEN 1 ELSE 0 END) AS visit_count,
+                   SUM(CASE WHEN co.customer_order_type = 'TAKEOUT' THEN 1 ELSE 0 END) AS takeout_count,
+                   SUM(CASE WHEN co.customer_order_type = 'DELIVERY' THEN 1 ELSE 0 END) AS delivery_count
+              FROM customer_order co
+             WHERE co.customer_order_status = :status
+               AND co.store_id_fk = :storeId
+               AND co.customer_order_date >= :startAt
+               AND co.customer_order_date < :endEx
+               AND HOUR(co.customer_order_date) BETWEEN 7 AND 20
+             GROUP BY label, wd, hr
+             ORDER BY label DESC, wd ASC, hr ASC
+        """;
+        stream(sql, params(storeId, start, end).addValue("fmt", fmt), handler);
+    }
+
+    private void stream(String sql, MapSqlParameterSource params, RowCallbackHandler handler) {
+        jdbc.query(archive.inspect(sql), params, handler);
+    }
+
+    private static MapSqlParameterSource params(Long storeId, LocalDate start, LocalDate end) {
+        return new MapSqlParameterSource()
+                .addValue("status", COMPLETED)
+                .addValue("storeId", storeId)
+                .addValue("startAt", start.atStartOfDay())
+                .addValue("endEx", end.plusDays(1).atStartOfDay());
+    }
+
+    private static long longOf(ResultSet rs, String col) throws SQLException {
+        BigDecimal v = rs.getBigDecimal(col);
+        return v == null ? 0L : v.longValue();
+    }
+
+    private static double doubleOf(ResultSet rs, String col) throws SQLException {
+        BigDecimal v = rs.getBigDecimal(col);
+        return v == null ? 0.0 : v.doubleValue();
+    }
+
+    private static double safeDiv(long num, long den) {
+        return den == 0L ? 0.0 : (double) num / (double) den;
+    }
+
+    private static double round1(double v) {
+        return Math.round(v * 10.0) / 10.0;
+    }
+}
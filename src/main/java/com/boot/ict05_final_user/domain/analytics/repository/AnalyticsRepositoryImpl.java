@@ -2,11 +2,13 @@ package com.boot.ict05_final_user.domain.analytics.repository;
 
 import com.boot.ict05_final_user.domain.analytics.dto.*;
 import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto.ViewBy;
+import com.boot.ict05_final_user.domain.analytics.support.AnalyticsParallelExecutor;
 import com.boot.ict05_final_user.domain.inventory.entity.*;
 import com.boot.ict05_final_user.domain.menu.entity.QMenu;
 import com.boot.ict05_final_user.domain.menu.entity.QMenuCategory;
 import com.boot.ict05_final_user.domain.menu.entity.QMenuUsageMaterialLog;
 import com.boot.ict05_final_user.domain.order.entity.*;
+import com.boot.ict05_final_user.domain.partition.service.ArchiveReadRouter;
 import com.boot.ict05_final_user.domain.store.entity.QStore;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ConstantImpl;
@@ -20,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -45,7 +48,7 @@ import java.util.*;
  * <ul>
  *   <li>핵심 인덱스 권장: {@code customer_order(store_id, status, ordered_at)},
  *       {@code customer_order_detail(order_id)},
- *       {@code menu_usage_material_log(order_id, store_material_id)},
+ *       {@code menu_usage_material_log(order_id, store_material_id, count, cost)} (재료 집계 커버링),
  *       {@code store_inventory_batch(store_id, expiration_date)}</li>
  *   <li>모든 메인 조회는 {@code readOnly}, {@code flushMode=COMMIT}, 타임아웃 힌트를 사용</li>
  *   <li>가능한 한 단일 스캔 + GROUP BY로 계산(파생 KPI는 Java에서)</li>
@@ -66,6 +69,9 @@ import java.util.*;
  *
  * <p><b>트랜잭션</b>: 모든 조회는 {@code @Transactional(readOnly = true)}. 변경 작업 없음.</p>
  *
+ * <p><b>병렬</b>: 요약 카드(메뉴/재료/시간·요일)의 독립 하위 쿼리는 {@link AnalyticsParallelExecutor}로
+ * 병렬 실행한다. 작업마다 별도 읽기 전용 커넥션을 쓰며, 마감 시각을 넘긴 하위 쿼리는 기본값(0/빈 목록)으로 대체한다.</p>
+ *
  * <p>작성자: 이경욱 / 작성일: 2025-11-20</p>
  */
 @RequiredArgsConstructor
@@ -75,6 +81,12 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	/** QueryDSL 엔진. 스레드-세이프하게 싱글턴 주입 사용. */
 	private final JPAQueryFactory query;
 
+	/** 요약 카드 하위 쿼리 병렬 실행기 (작업마다 별도 읽기 전용 커넥션, 전체 마감 시각) */
+	private final AnalyticsParallelExecutor parallel;
+
+	/** 비교 구간(전년 등)이 아카이브 경계 이전일 때 해당 쿼리만 아카이브까지 함께 조회 */
+	private final ArchiveReadRouter archiveReadRouter;
+
 	// =========================
 	//         Q-Types
 	// =========================
@@ -89,7 +101,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	private final QMenuCategory mc = QMenuCategory.menuCategory;
 	/** 점포-재료(마스터): 단가/단위/환산비율 기준. */
 	private final QStoreMaterial sm = QStoreMaterial.storeMaterial;
-	/** 메뉴-재료 사용 로그: 재료 사용량/원가 계산의 메인 소스. */
+	/** 메뉴-재료 사용 로그: 재료 사용량/원가(기록 시점 확정값) 계산의 메인 소스. */
 	private final QMenuUsageMaterialLog log = QMenuUsageMaterialLog.menuUsageMaterialLog;
 	/** 공통 재료(옵셔널): 점포-재료명 누락 시 대체 표시용. */
 	private final QMaterial material = QMaterial.material;
@@ -245,6 +257,9 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	 *   <li>매출/주문수: 주문 헤더(co) 기준 집계(중복 합계 방지).</li>
 	 *   <li>판매수량(units): 주문 상세(cod) 기준 집계 후 라벨별 매핑.</li>
 	 *   <li>파생지표: {@code UPT=units/tx}, {@code ADS=sales/tx}, {@code AUR=sales/units}.</li>
+	 *   <li>채널 비율: 같은 집계에서 주문 유형별 조건부 합계로 구한다(추가 쿼리 없음).</li>
+	 *   <li>MoM/YoY: 현재 페이지 라벨을 1개월/1년 이동한 라벨의 매출을 한 번의 쿼리로 모아 메모리에서 매칭한다.
+	 *       비교 구간이 아카이브 경계 이전이면 그 쿼리만 아카이브까지 함께 읽는다.</li>
 	 * </ul>
 	 *
 	 * @param storeId 점포 ID.
@@ -279,9 +294,12 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		// 1) 매출/주문수 기본 집계 (co만 스캔 → 중복 합계 방지)
 		NumberExpression<BigDecimal> salesSum = co.totalPrice.sum();     // BigDecimal
 		NumberExpression<Long> txCount = co.id.countDistinct();          // Long
+		NumberExpression<Long> visitCnt = channelCount(OrderType.VISIT);
+		NumberExpression<Long> takeoutCnt = channelCount(OrderType.TAKEOUT);
+		NumberExpression<Long> deliveryCnt = channelCount(OrderType.DELIVERY);
 
 		List<Tuple> rows = query
-				.select(labelExpr, salesSum, txCount)
+				.select(labelExpr, salesSum, txCount, visitCnt, takeoutCnt, deliveryCnt)
 				.from(co)
 				.join(co.store, s)
 				.where(filter)
@@ -335,7 +353,10 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 			}
 		}
 
-		// 3) DTO 변환 + 파생 KPI 계산
+		// 3) 비교 구간(전월/전년) 매출: 한 번에 조회 후 라벨로 매칭
+		Map<String, Long> compareSales = fetchKpiCompareSales(storeId, labels, byMonth, labelExpr);
+
+		// 4) DTO 변환 + 파생 KPI 계산
 		for (Tuple t : pageRows) {
 			String label = t.get(labelExpr);
 			BigDecimal salesBD = nvlBD(t.get(salesSum));
@@ -347,7 +368,13 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 			long ads = Math.round(safeDiv(sales, tx));    // 객단가
 			long aur = Math.round(safeDiv(sales, units)); // 단가
 
-			items.add(new KpiRowDto(label, sales, tx, upt, ads, aur));
+			Double mom = growthRate(sales, compareSales.get(shiftLabel(label, byMonth, 1, 0)));
+			Double yoy = growthRate(sales, compareSales.get(shiftLabel(label, byMonth, 0, 1)));
+
+			items.add(new KpiRowDto(label, sales, tx, upt, ads, aur, mom, yoy,
+					round1(safeDiv(nvlLong(t.get(visitCnt)), tx) * 100.0),
+					round1(safeDiv(nvlLong(t.get(takeoutCnt)), tx) * 100.0),
+					round1(safeDiv(nvlLong(t.get(deliveryCnt)), tx) * 100.0)));
 		}
 
 		String nextCursor = null;
@@ -359,6 +386,90 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		return new CursorPage<>(items, nextCursor);
 	}
 
+	/**
+	 * KPI 비교 구간(전월/전년) 라벨별 매출을 한 번에 조회한다.
+	 *
+	 * <p>현재 페이지 라벨을 1개월/1년 이동한 라벨 집합으로 조회하며,
+	 * 두 이동 구간을 OR 로 묶은 기간 조건으로 인덱스 범위를 좁힌다.</p>
+	 *
+	 * @param storeId   점포 ID
+	 * @param labels    현재 페이지 라벨 (YYYY-MM-DD 또는 YYYY-MM)
+	 * @param byMonth   월별 여부
+	 * @param labelExpr 라벨 식
+	 * @return 이동 라벨 → 매출
+	 */
+	private Map<String, Long> fetchKpiCompareSales(Long storeId, List<String> labels, boolean byMonth,
+												   StringExpression labelExpr) {
+		if (labels.isEmpty()) return Map.of();
+
+		Set<String> shifted = new HashSet<>();
+		LocalDate first = null, last = null;
+		for (String label : labels) {
+			shifted.add(shiftLabel(label, byMonth, 1, 0));
+			shifted.add(shiftLabel(label, byMonth, 0, 1));
+			LocalDate d = labelStart(label, byMonth);
+			if (first == null || d.isBefore(first)) first = d;
+			if (last == null || d.isAfter(last)) last = d;
+		}
+		LocalDate lastEx = byMonth ? last.plusMonths(1) : last.plusDays(1);
+
+		LocalDateTime momStart = first.minusMonths(1).atStartOfDay();
+		LocalDateTime momEndEx = lastEx.minusMonths(1).atStartOfDay();
+		LocalDateTime yoyStart = first.minusYears(1).atStartOfDay();
+		LocalDateTime yoyEndEx = lastEx.minusYears(1).atStartOfDay();
+
+		List<Tuple> rows = archiveReadRouter.read(yoyStart.toLocalDate(), () -> query
+				.select(labelExpr, co.totalPrice.sum())
+				.from(co)
+				.join(co.store, s)
+				.where(
+						statusCompleted(),
+						eqStore(storeId),
+						betweenClosedOpen(co.orderedAt, momStart, momEndEx)
+								.or(betweenClosedOpen(co.orderedAt, yoyStart, yoyEndEx)),
+						labelExpr.in(shifted)
+				)
+				.groupBy(labelExpr)
+				.setHint("org.hibernate.readOnly", true)
+				.setHint("org.hibernate.flushMode", "COMMIT")
+				.setHint("jakarta.persistence.query.timeout", 3000)
+				.fetch());
+
+		Map<String, Long> map = new HashMap<>(rows.size());
+		for (Tuple t : rows) {
+			map.put(t.get(labelExpr), nvlBD(t.get(1, BigDecimal.class)).longValue());
+		}
+		return map;
+	}
+
+	/** 주문 유형별 주문 건수 (조건부 합계) */
+	private NumberExpression<Long> channelCount(OrderType type) {
+		return new CaseBuilder()
+				.when(co.orderType.eq(type))
+				.then(1L).otherwise(0L).sum();
+	}
+
+	/** 라벨의 시작일 (YYYY-MM-DD → 그 날, YYYY-MM → 1일) */
+	private static LocalDate labelStart(String label, boolean byMonth) {
+		return byMonth ? YearMonth.parse(label).atDay(1) : LocalDate.parse(label);
+	}
+
+	/**
+	 * 라벨을 과거로 이동한다. 일별 라벨의 월 이동은 말일 보정(3/31 → 2/28)을 따른다.
+	 *
+	 * @param months 이전 개월 수
+	 * @param years  이전 연 수
+	 */
+	static String shiftLabel(String label, boolean byMonth, int months, int years) {
+		if (byMonth) return YearMonth.parse(label).minusMonths(months).minusYears(years).toString();
+		return LocalDate.parse(label).minusMonths(months).minusYears(years).toString();
+	}
+
+	/** 증감률(%) = (cur - prev) / prev × 100, 소수 1자리. 비교값이 없거나 0이면 null */
+	static Double growthRate(long cur, Long prev) {
+		if (prev == null || prev == 0L) return null;
+		return round1(((cur - prev) * 100.0) / prev);
+	}
 
 	@Override
 	@Transactional(readOnly = true)
@@ -717,7 +828,11 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		NumberExpression<Integer> qtySumExpr = cod.quantity.sum();
 		NumberExpression<BigDecimal> salesSumExpr = cod.lineTotal.sum();
 
-		List<Tuple> menuRows = query
+		NumberExpression<BigDecimal> catSalesExpr = cod.lineTotal.sum();
+
+		// 메뉴별 집계와 카테고리 Top3 는 서로 독립 → 병렬 실행
+		AnalyticsParallelExecutor.Scope scope = parallel.open("menu-summary");
+		AnalyticsParallelExecutor.Subtask<List<Tuple>> menuTask = scope.fork("menu-rows", () -> query
 				.select(
 						m.menuId,
 						m.menuName,
@@ -730,7 +845,26 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 				.join(cod.menuIdFk, m)
 				.where(base)
 				.groupBy(m.menuId, m.menuName)
-				.fetch();
+				.fetch(), List.of());
+		AnalyticsParallelExecutor.Subtask<List<Tuple>> catTask = scope.fork("category-rows", () -> query
+				.select(
+						mc.menuCategoryId,
+						mc.menuCategoryName,
+						catSalesExpr
+				)
+				.from(cod)
+				.join(cod.order, co)
+				.join(co.store, s)
+				.join(cod.menuIdFk, m)
+				.join(m.menuCategory, mc)
+				.where(base)
+				.groupBy(mc.menuCategoryId, mc.menuCategoryName)
+				.orderBy(catSalesExpr.desc())
+				.limit(3)
+				.fetch(), List.of());
+		scope.join();
+
+		List<Tuple> menuRows = menuTask.get();
 
 		// 전체 메뉴 매출 합계 (매출 기여도 계산용)
 		BigDecimal totalSalesBD = BigDecimal.ZERO;
@@ -771,24 +905,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 				.toList();
 
 		// -------- 2) 매출 Top3 카테고리 --------
-		NumberExpression<BigDecimal> catSalesExpr = cod.lineTotal.sum();
-
-		List<Tuple> catRows = query
-				.select(
-						mc.menuCategoryId,
-						mc.menuCategoryName,
-						catSalesExpr
-				)
-				.from(cod)
-				.join(cod.order, co)
-				.join(co.store, s)
-				.join(cod.menuIdFk, m)
-				.join(m.menuCategory, mc)
-				.where(base)
-				.groupBy(mc.menuCategoryId, mc.menuCategoryName)
-				.orderBy(catSalesExpr.desc())
-				.limit(3)
-				.fetch();
+		List<Tuple> catRows = catTask.get();
 
 		List<MenuCategoryRankDto> topCategoriesBySales = catRows.stream()
 				.map(t -> {
@@ -1128,31 +1245,53 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		LocalDateTime prevStartDt    = prevMonthStart.atStartOfDay();
 		LocalDateTime prevEndExDt    = prevEndDate.plusDays(1).atStartOfDay();
 
+		// 하위 쿼리 8개는 서로 독립 → 병렬 실행 (MTD 없으면 기간 쿼리 생략)
+		AnalyticsParallelExecutor.Scope scope = parallel.open("material-summary");
+
 		// Top5(사용량/원가)
-		List<MaterialTopItemDto> topByUsage = hasMtd
-				? findMaterialTopByUsage(storeId, currentStartDt, currentEndExDt, 5)
-				: List.of();
-		List<MaterialTopItemDto> topByCost = hasMtd
-				? findMaterialTopByCost(storeId, currentStartDt, currentEndExDt, 5)
-				: List.of();
+		AnalyticsParallelExecutor.Subtask<List<MaterialTopItemDto>> topUsageTask = hasMtd
+				? scope.fork("top-usage", () -> findMaterialTopByUsage(storeId, currentStartDt, currentEndExDt, 5), List.of())
+				: scope.done(List.of());
+		AnalyticsParallelExecutor.Subtask<List<MaterialTopItemDto>> topCostTask = hasMtd
+				? scope.fork("top-cost", () -> findMaterialTopByCost(storeId, currentStartDt, currentEndExDt, 5), List.of())
+				: scope.done(List.of());
 
 		// 원가율(현재/전월동기간)
+		AnalyticsParallelExecutor.Subtask<BigDecimal> curCostTask = hasMtd
+				? scope.fork("cur-cost", () -> fetchMaterialCostTotal(storeId, currentStartDt, currentEndExDt), BigDecimal.ZERO)
+				: scope.done(BigDecimal.ZERO);
+		AnalyticsParallelExecutor.Subtask<Long> curSalesTask = hasMtd
+				? scope.fork("cur-sales", () -> fetchSalesTotal(storeId, currentStartDt, currentEndExDt), 0L)
+				: scope.done(0L);
+		AnalyticsParallelExecutor.Subtask<BigDecimal> prvCostTask = hasMtd
+				? scope.fork("prev-cost", () -> fetchMaterialCostTotal(storeId, prevStartDt, prevEndExDt), BigDecimal.ZERO)
+				: scope.done(BigDecimal.ZERO);
+		AnalyticsParallelExecutor.Subtask<Long> prvSalesTask = hasMtd
+				? scope.fork("prev-sales", () -> fetchSalesTotal(storeId, prevStartDt, prevEndExDt), 0L)
+				: scope.done(0L);
+
+		// 재고 위험
+		AnalyticsParallelExecutor.Subtask<Long> lowStockTask = scope.fork("low-stock", () -> fetchLowStockCount(storeId), 0L);
+		AnalyticsParallelExecutor.Subtask<Long> expireSoonTask = scope.fork("expire-soon", () -> fetchExpireSoonCount(storeId, today), 0L);
+
+		scope.join();
+
+		List<MaterialTopItemDto> topByUsage = topUsageTask.get();
+		List<MaterialTopItemDto> topByCost = topCostTask.get();
+
 		double currentCostRate = 0.0, prevCostRate = 0.0, diff = 0.0;
 		if (hasMtd) {
-			BigDecimal curCost = fetchMaterialCostTotal(storeId, currentStartDt, currentEndExDt);
-			long curSales = fetchSalesTotal(storeId, currentStartDt, currentEndExDt);
-			if (curSales > 0L) currentCostRate = round1(safeDiv(curCost.longValue(), curSales) * 100.0);
+			long curSales = curSalesTask.get();
+			if (curSales > 0L) currentCostRate = round1(safeDiv(curCostTask.get().longValue(), curSales) * 100.0);
 
-			BigDecimal prvCost = fetchMaterialCostTotal(storeId, prevStartDt, prevEndExDt);
-			long prvSales = fetchSalesTotal(storeId, prevStartDt, prevEndExDt);
-			if (prvSales > 0L) prevCostRate = round1(safeDiv(prvCost.longValue(), prvSales) * 100.0);
+			long prvSales = prvSalesTask.get();
+			if (prvSales > 0L) prevCostRate = round1(safeDiv(prvCostTask.get().longValue(), prvSales) * 100.0);
 
 			diff = round1(currentCostRate - prevCostRate);
 		}
 
-		// 재고 위험
-		long lowStockCount   = fetchLowStockCount(storeId);
-		long expireSoonCount = fetchExpireSoonCount(storeId, today);
+		long lowStockCount   = lowStockTask.get();
+		long expireSoonCount = expireSoonTask.get();
 
 		return new MaterialSummaryDto(
 				topByUsage,
@@ -1194,9 +1333,9 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		// 라벨(일)
 		StringExpression dayExpr = Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m-%d')", co.orderedAt);
 
-		// 집계식
+		// 집계식 (원가는 기록 시점에 확정된 log.cost 합)
 		NumberExpression<BigDecimal> usedQtyExpr = log.count.sum();     // baseUnit 수량 합
-		NumberExpression<BigDecimal> costExpr    = materialCostSumExpr(); // SUM( (count / conv) * price )
+		NumberExpression<BigDecimal> costExpr = log.cost.sum();
 
 		// 이름/단위
 		StringExpression materialNameExpr = Expressions.stringTemplate("IFNULL({0}, {1})", sm.name, material.name);
@@ -1303,7 +1442,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 
 		StringExpression ymExpr = Expressions.stringTemplate("DATE_FORMAT({0}, '%Y-%m')", co.orderedAt);
 		NumberExpression<BigDecimal> usedQtyExpr = log.count.sum();
-		NumberExpression<BigDecimal> costExpr    = materialCostSumExpr();
+		NumberExpression<BigDecimal> costExpr = log.cost.sum();
 		StringExpression materialNameExpr = Expressions.stringTemplate("IFNULL({0}, {1})", sm.name, material.name);
 
 		BooleanExpression cursorFilter = null;
@@ -1389,66 +1528,24 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	 * <p><b>집계</b>:
 	 * <ul>
 	 *   <li>사용량: {@code log.count.sum()}</li>
-	 *   <li>원가: {@code materialCostSumExpr()} ( (count / conversionRate) * purchasePrice )</li>
+	 *   <li>원가: {@code log.cost.sum()} (기록 시점 유효 단가로 확정된 원가)</li>
 	 *   <li>재료명: {@code IFNULL(sm.name, material.name)}</li>
 	 * </ul>
 	 * </p>
 	 * <p><b>정렬/한도</b>: 사용량 DESC, 동률 시 sm.id ASC, {@code limit} 개.</p>
 	 *
-	 * @param storeId 점포 ID
-	 * @param startDt 조회 시작 (포함)
-	 * @param endExDt 조회 종료 (배타)
-	 * @param limit   최대 반환 개수
+	 * @param storeId   점포 ID
+	 * @param startDt   조회 시작 (포함)
+	 * @param endExDt   조회 종료 (배타)
+	 * @param limit     최대 반환 개수
 	 * @return 사용량 기준 상위 재료 리스트
 	 *
 	 * <p>작성자: 이경욱 / 작성일: 2025-11-20</p>
 	 */
 	private List<MaterialTopItemDto> findMaterialTopByUsage(
 			Long storeId, LocalDateTime startDt, LocalDateTime endExDt, int limit) {
-
 		NumberExpression<BigDecimal> usedQtyExpr = log.count.sum();
-		NumberExpression<BigDecimal> costExpr = materialCostSumExpr();
-		StringExpression materialNameExpr = Expressions.stringTemplate(
-				"IFNULL({0}, {1})", sm.name, material.name
-		);
-
-		List<Tuple> tuples = query
-				.select(
-						sm.id,
-						materialNameExpr,
-						sm.baseUnit,
-						usedQtyExpr,
-						costExpr
-				)
-				.from(log)
-				.join(log.customerOrderFk, co)
-				.join(co.store, s)
-				.join(log.storeMaterialFk, sm)
-				.leftJoin(sm.material, material)
-				.where(
-						statusCompleted(),
-						eqStore(storeId),
-						betweenClosedOpen(co.orderedAt, startDt, endExDt)
-				)
-				.groupBy(sm.id, sm.name, material.name, sm.baseUnit)
-				.orderBy(usedQtyExpr.desc(), sm.id.asc())
-				.limit(limit)
-				.setHint("org.hibernate.readOnly", true)
-				.setHint("org.hibernate.flushMode", "COMMIT")
-				.setHint("jakarta.persistence.query.timeout", 3000)
-				.fetch();
-
-		List<MaterialTopItemDto> result = new ArrayList<>(tuples.size());
-		for (Tuple t : tuples) {
-			Long smId = t.get(sm.id);
-			String matName = t.get(materialNameExpr);
-			String unit = t.get(sm.baseUnit);
-			double qty = nvlBD(t.get(usedQtyExpr)).doubleValue();
-			long costLong = nvlBD(t.get(costExpr)).longValue();
-
-			result.add(new MaterialTopItemDto(smId, matName, unit, qty, costLong));
-		}
-		return result;
+		return findMaterialTop(storeId, startDt, endExDt, limit, usedQtyExpr, log.cost.sum());
 	}
 
 	/**
@@ -1457,26 +1554,32 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	 * <p><b>대상/기간</b>: 단일 점포({@code storeId}), COMPLETED 주문, {@code [startDt, endExDt)}.</p>
 	 * <p><b>집계</b>:
 	 * <ul>
-	 *   <li>사용량: {@code log.count.sum()} (정보 제공용으로 함께 반환)</li>
-	 *   <li>원가: {@code materialCostSumExpr()} (정렬 key)</li>
-	 *   <li>재료명: {@code IFNULL(sm.name, material.name)}</li>
+	 *   <li>원가: {@code log.cost.sum()} (정렬 key)</li>
+	 *   <li>사용량/재료명/단위: 정보 제공용</li>
 	 * </ul>
 	 * </p>
 	 * <p><b>정렬/한도</b>: 원가 DESC, 동률 시 sm.id ASC, {@code limit} 개.</p>
 	 *
-	 * @param storeId 점포 ID
-	 * @param startDt 조회 시작 (포함)
-	 * @param endExDt 조회 종료 (배타)
-	 * @param limit   최대 반환 개수
+	 * @param storeId   점포 ID
+	 * @param startDt   조회 시작 (포함)
+	 * @param endExDt   조회 종료 (배타)
+	 * @param limit     최대 반환 개수
 	 * @return 원가 기준 상위 재료 리스트
 	 *
 	 * <p>작성자: 이경욱 / 작성일: 2025-11-20</p>
 	 */
 	private List<MaterialTopItemDto> findMaterialTopByCost(
 			Long storeId, LocalDateTime startDt, LocalDateTime endExDt, int limit) {
+		NumberExpression<BigDecimal> costExpr = log.cost.sum();
+		return findMaterialTop(storeId, startDt, endExDt, limit, costExpr, costExpr);
+	}
+
+	/** 재료 Top 공통: {@code sortExpr} DESC, sm.id ASC 로 {@code limit} 개 (사용량/원가 동시 집계) */
+	private List<MaterialTopItemDto> findMaterialTop(
+			Long storeId, LocalDateTime startDt, LocalDateTime endExDt, int limit,
+			NumberExpression<BigDecimal> sortExpr, NumberExpression<BigDecimal> costExpr) {
 
 		NumberExpression<BigDecimal> usedQtyExpr = log.count.sum();
-		NumberExpression<BigDecimal> costExpr = materialCostSumExpr();
 		StringExpression materialNameExpr = Expressions.stringTemplate(
 				"IFNULL({0}, {1})", sm.name, material.name
 		);
@@ -1500,7 +1603,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 						betweenClosedOpen(co.orderedAt, startDt, endExDt)
 				)
 				.groupBy(sm.id, sm.name, material.name, sm.baseUnit)
-				.orderBy(costExpr.desc(), sm.id.asc())
+				.orderBy(sortExpr.desc(), sm.id.asc())
 				.limit(limit)
 				.setHint("org.hibernate.readOnly", true)
 				.setHint("org.hibernate.flushMode", "COMMIT")
@@ -1523,7 +1626,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	/**
 	 * 재료 원가 총합 조회.
 	 *
-	 * <p>식: {@code SUM( (log.count / conversionRate) * purchasePrice )}.</p>
+	 * <p>식: {@code SUM(log.cost)} — 사용 로그 기록 시점의 유효 단가로 확정된 원가.</p>
 	 * <p>대상 기간: {@code [startDt, endExDt)}, COMPLETED 주문, 단일 점포.</p>
 	 *
 	 * @param storeId 점포 ID
@@ -1534,15 +1637,11 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 	 * <p>작성자: 이경욱 / 작성일: 2025-11-20</p>
 	 */
 	private BigDecimal fetchMaterialCostTotal(Long storeId, LocalDateTime startDt, LocalDateTime endExDt) {
-		NumberExpression<BigDecimal> costExpr = materialCostSumExpr();
-
-		BigDecimal result = query
-				.select(costExpr)
+		BigDecimal total = query
+				.select(log.cost.sum())
 				.from(log)
 				.join(log.customerOrderFk, co)
 				.join(co.store, s)
-				.join(log.storeMaterialFk, sm)
-				.leftJoin(sm.material, material)
 				.where(
 						statusCompleted(),
 						eqStore(storeId),
@@ -1552,8 +1651,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 				.setHint("org.hibernate.flushMode", "COMMIT")
 				.setHint("jakarta.persistence.query.timeout", 3000)
 				.fetchOne();
-
-		return nvlBD(result);
+		return nvlBD(total);
 	}
 
 	/**
@@ -1768,51 +1866,6 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		return result != null ? result : 0L;
 	}
 
-	/**
-	 * 재료 원가 합계 식 생성.
-	 *
-	 * <p><b>정의</b>: {@code SUM( (log.count / conversionRate) * purchasePrice )}.</p>
-	 * <p><b>null/0 보호</b>:
-	 * <ul>
-	 *   <li>{@code conversionRate}: NULL 또는 0 → 1.0 대체</li>
-	 *   <li>{@code purchasePrice}: NULL → 0 대체</li>
-	 *   <li>{@code COALESCE / NULLIF}로 SQL 레벨에서 안전성 확보</li>
-	 * </ul>
-	 * </p>
-	 *
-	 * <p>재사용 가능한 QueryDSL {@code NumberExpression<BigDecimal>}을 반환하며,
-	 * SUM 까지를 포함한 누적 식으로 구성되어 그룹바이 문맥에서도 사용 가능합니다.</p>
-	 *
-	 * @return 원가 합계 식(BigDecimal)
-	 *
-	 * <p>작성자: 이경욱 / 작성일: 2025-11-20</p>
-	 */
-	private NumberExpression<BigDecimal> materialCostSumExpr() {
-		// conversionRate: NULL이면 1, 0이면 1로 대체
-		NumberExpression<BigDecimal> safeConvRate = Expressions.numberTemplate(
-				BigDecimal.class,
-				"COALESCE(NULLIF({0}, 0), 1.0)",
-				sm.conversionRate
-		);
-
-		// purchasePrice: NULL이면 0으로 대체
-		NumberExpression<BigDecimal> safePurchasePrice = Expressions.numberTemplate(
-				BigDecimal.class,
-				"COALESCE({0}, 0)",
-				sm.purchasePrice
-		);
-
-		// 최종 계산: SUM( (count / safeConvRate) * safePurchasePrice )
-		return Expressions.numberTemplate(
-				BigDecimal.class,
-				"SUM( ({0} / {1}) * {2} )",
-				log.count,
-				safeConvRate,
-				safePurchasePrice
-		);
-	}
-
-
 	/**
 	 * 주문 시각의 "시(hour)"를 추출하는 식 생성.
 	 *
@@ -1924,8 +1977,9 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 
 		NumberExpression<BigDecimal> salesSumExpr = co.totalPrice.sum();
 
-		// ---- 1) 시간대별 매출 ----
-		List<Tuple> hourlyRows = query
+		// 시간대별/요일별 집계는 서로 독립 → 병렬 실행
+		AnalyticsParallelExecutor.Scope scope = parallel.open("timeday-summary");
+		AnalyticsParallelExecutor.Subtask<List<Tuple>> hourlyTask = scope.fork("hourly", () -> query
 				.select(hourExpr, salesSumExpr)
 				.from(co)
 				.join(co.store, s)
@@ -1934,7 +1988,21 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 				.setHint("org.hibernate.readOnly", true)
 				.setHint("org.hibernate.flushMode", "COMMIT")
 				.setHint("jakarta.persistence.query.timeout", 3000)
-				.fetch();
+				.fetch(), List.of());
+		AnalyticsParallelExecutor.Subtask<List<Tuple>> weekdayTask = scope.fork("weekday", () -> query
+				.select(weekdayExpr, salesSumExpr)
+				.from(co)
+				.join(co.store, s)
+				.where(base, bizHours)
+				.groupBy(weekdayExpr)
+				.setHint("org.hibernate.readOnly", true)
+				.setHint("org.hibernate.flushMode", "COMMIT")
+				.setHint("jakarta.persistence.query.timeout", 3000)
+				.fetch(), List.of());
+		scope.join();
+
+		// ---- 1) 시간대별 매출 ----
+		List<Tuple> hourlyRows = hourlyTask.get();
 
 		Integer peakHour = null;
 		long peakSales = 0L;
@@ -1962,16 +2030,7 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		}
 
 		// ---- 2) 요일별 매출 + 주중/주말 ----
-		List<Tuple> weekdayRows = query
-				.select(weekdayExpr, salesSumExpr)
-				.from(co)
-				.join(co.store, s)
-				.where(base, bizHours)
-				.groupBy(weekdayExpr)
-				.setHint("org.hibernate.readOnly", true)
-				.setHint("org.hibernate.flushMode", "COMMIT")
-				.setHint("jakarta.persistence.query.timeout", 3000)
-				.fetch();
+		List<Tuple> weekdayRows = weekdayTask.get();
 
 		Integer topWeekday = null;
 		long topWeekdaySales = 0L;
@@ -2296,11 +2355,9 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 
 		for (Tuple t : rows) {
 			if (result.size() == size) {
-				String d = t.get(dayLabel);
-				Integer h = t.get(hourExpr);
-				if (d != null && h != null) {
-					nextCursor = d + "|" + h;
-				}
+				// 다음 페이지는 커서 "이후"부터이므로 현재 페이지 마지막 행을 커서로 쓴다
+				TimeDayDailyRowDto last = result.get(result.size() - 1);
+				nextCursor = last.orderDate() + "|" + last.hour();
 				break;
 			}
 
@@ -2467,12 +2524,9 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 
 		for (Tuple t : rows) {
 			if (result.size() == size) {
-				String ym = t.get(ymLabel);
-				Integer wd = t.get(weekdayExpr);
-				Integer h = t.get(hourExpr);
-				if (ym != null && wd != null && h != null) {
-					nextCursor = ym + "|" + wd + "|" + h;
-				}
+				// 다음 페이지는 커서 "이후"부터이므로 현재 페이지 마지막 행을 커서로 쓴다
+				TimeDayMonthlyRowDto last = result.get(result.size() - 1);
+				nextCursor = last.yearMonth() + "|" + last.weekday() + "|" + last.hour();
 				break;
 			}
 
@@ -2509,9 +2563,61 @@ public class AnalyticsRepositoryImpl implements AnalyticsRespositoryCustom {
 		return new CursorPage<>(result, nextCursor);
 	}
 
+	/**
+	 * 시간대 큐브 적재용 롤업을 조회한다 (1행 = {@code [날짜, 시간, 주문 유형]}).
+	 *
+	 * <p><b>기간 규칙</b>: {@code [startDate 00:00, endDate+1 00:00)}.</p>
+	 * <p>영업시간 필터를 걸지 않는다(필터는 큐브 조회 시 적용). 최대 행 수는 일수 × 24 × 주문 유형 수.</p>
+	 *
+	 * @param storeId   점포 ID
+	 * @param startDate 조회 시작일(포함)
+	 * @param endDate   조회 종료일(포함)
+	 * @return 롤업 행 목록
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<TimeHourlyRollupDto> fetchTimeHourlyRollup(Long storeId, LocalDate startDate, LocalDate endDate) {
 
+		LocalDateTime startDT = startDate.atStartOfDay();
+		LocalDateTime endExDT = endDate.plusDays(1).atStartOfDay();
 
+		NumberExpression<Integer> hourExpr = hourOfDay();
+		StringTemplate dayLabel = Expressions.stringTemplate(
+				"DATE_FORMAT({0}, '%Y-%m-%d')", co.orderedAt
+		);
+		NumberExpression<BigDecimal> salesSumExpr = co.totalPrice.sum();
+		NumberExpression<Long> orderCntExpr = co.id.count();
+
+		List<Tuple> rows = query
+				.select(dayLabel, hourExpr, co.orderType, salesSumExpr, orderCntExpr)
+				.from(co)
+				.join(co.store, s)
+				.where(
+						statusCompleted(),
+						eqStore(storeId),
+						betweenClosedOpen(co.orderedAt, startDT, endExDT)
+				)
+				.groupBy(dayLabel, hourExpr, co.orderType)
+				.setHint("org.hibernate.readOnly", true)
+				.setHint("org.hibernate.flushMode", "COMMIT")
+				.setHint("jakarta.persistence.query.timeout", 10000)
+				.fetch();
 
+		List<TimeHourlyRollupDto> result = new ArrayList<>(rows.size());
+		for (Tuple t : rows) {
+			String d = t.get(dayLabel);
+			Integer h = t.get(hourExpr);
+			if (d == null || h == null) continue;
+			result.add(new TimeHourlyRollupDto(
+					d,
+					h,
+					t.get(co.orderType),
+					nvlBD(t.get(salesSumExpr)).longValue(),
+					nvlLong(t.get(orderCntExpr))
+			));
+		}
+		return result;
+	}
 
 	// ===== Helpers =====
 
@@ -164,6 +164,16 @@ public interface AnalyticsRespositoryCustom {
 	 */
 	CursorPage<TimeDayMonthlyRowDto> fetchTimeDayMonthlyRows(Long storeId, AnalyticsSearchDto cond);
 
+	/**
+	 * 시간대 큐브 적재용 (일자, 시간, 주문 유형) 롤업을 조회합니다.
+	 *
+	 * @param storeId 점포 ID.
+	 * @param startDate 조회 시작일 (inclusive).
+	 * @param endDate 조회 종료일 (inclusive).
+	 * @return 롤업 행 리스트 (0~23시 전체, 주문이 있는 칸만).
+	 */
+	java.util.List<TimeHourlyRollupDto> fetchTimeHourlyRollup(Long storeId, LocalDate startDate, LocalDate endDate);
+
 	// =========================
 	// 재료 분석
 	// =========================
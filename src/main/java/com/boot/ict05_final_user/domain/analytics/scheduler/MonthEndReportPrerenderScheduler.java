@@ -0,0 +1,39 @@
+package com.boot.ict05_final_user.domain.analytics.scheduler;
+
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportPrerenderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+/**
+ * 월 마감 PDF 리포트 사전 생성 스케줄러.
+ *
+ * <p>{@code analytics.prerender.cron} 주기(기본 매월 1일 02:30)로 KST 기준 전월 리포트를
+ * 운영 중인 전 매장에 대해 미리 만듭니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "analytics.prerender.enabled", havingValue = "true", matchIfMissing = true)
+public class MonthEndReportPrerenderScheduler {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AnalyticsReportPrerenderService prerenderService;
+
+    @Scheduled(cron = "${analytics.prerender.cron:0 30 2 1 * *}")
+    public void prerender() {
+        YearMonth closed = YearMonth.from(LocalDate.now(KST)).minusMonths(1);
+        try {
+            prerenderService.prerenderMonth(closed);
+        } catch (RuntimeException e) {
+            log.error("[REPORT_PRERENDER] month={} failed", closed, e);
+        }
+    }
+}
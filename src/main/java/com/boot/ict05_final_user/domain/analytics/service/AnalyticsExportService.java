@@ -0,0 +1,218 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto.ViewBy;
+import com.boot.ict05_final_user.domain.analytics.repository.AnalyticsExportJdbcRepository;
+import com.boot.ict05_final_user.domain.analytics.support.TabularExportWriter;
+import com.boot.ict05_final_user.domain.partition.service.ArchiveReadRouter;
+import com.boot.ict05_final_user.domain.partition.support.ArchiveReadContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 분석 테이블 내보내기(CSV/XLSX) 서비스.
+ *
+ * <p>화면 테이블(KPI / 주문 / 메뉴 / 재료 / 시간·요일, 일별·월별)을 기간 전체에 대해 파일로 내려준다.
+ * 커서 페이징이나 PDF 리포트처럼 행 수 상한을 두지 않는다.</p>
+ *
+ * <ul>
+ *   <li>{@link AnalyticsExportJdbcRepository}의 전진 전용 커서에서 받은 행을 바로 {@link TabularExportWriter}로 기록</li>
+ *   <li>응답은 {@link StreamingResponseBody} → 서블릿 출력 스트림으로 흘려보내므로 힙 사용량이 기간 길이와 무관</li>
+ *   <li>아카이브 폴백 여부는 요청 스레드에서 결정하고, 스트리밍 스레드에서 같은 규칙을 다시 건다</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsExportService {
+
+    private final AnalyticsExportJdbcRepository exportRepo;
+    private final ArchiveReadRouter archiveReadRouter;
+
+    /** 내보내기 대상 테이블 (URL 경로 값) */
+    public enum ExportTable {
+        KPI("kpi"), ORDERS("orders"), MENUS("menus"), MATERIALS("materials"), TIME_DAY("time-day");
+
+        private final String path;
+
+        ExportTable(String path) {
+            this.path = path;
+        }
+
+        public String path() {
+            return path;
+        }
+
+        /** @throws IllegalArgumentException 알 수 없는 경로 값 */
+        public static ExportTable fromPath(String path) {
+            return Arrays.stream(values())
+                    .filter(t -> t.path.equalsIgnoreCase(path))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown export table: " + path));
+        }
+    }
+
+    /** 파일 형식 */
+    public enum ExportFormat {
+        CSV("csv", "text/csv; charset=UTF-8"),
+        XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+        private final String extension;
+        private final String contentType;
+
+        ExportFormat(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        TabularExportWriter open(OutputStream out) throws IOException {
+            return this == XLSX ? TabularExportWriter.xlsx(out) : TabularExportWriter.csv(out);
+        }
+    }
+
+    /**
+     * 내보내기 본문을 만든다. 실제 조회는 응답 스트리밍 시점에 실행된다.
+     *
+     * @param storeId   점포 ID
+     * @param table     대상 테이블
+     * @param startDate 시작일 (inclusive)
+     * @param endDate   종료일 (inclusive)
+     * @param viewBy    DAY / MONTH
+     * @param format    CSV / XLSX
+     * @return 응답 본문
+     * @throws IllegalArgumentException 기간이 비어 있거나 뒤집혀 있을 때
+     */
+    public StreamingResponseBody export(Long storeId, ExportTable table,
+                                        LocalDate startDate, LocalDate endDate,
+                                        ViewBy viewBy, ExportFormat format) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("Invalid export range: " + startDate + " ~ " + endDate);
+        }
+        boolean byMonth = viewBy == ViewBy.MONTH;
+
+        // 요청 스레드에서 아카이브 폴백 규칙 결정 (스트리밍은 다른 스레드에서 실행됨)
+        // KPI 는 전년 비교 구간까지 읽으므로 1년 앞당긴 시작일 기준
+        LocalDate routeFrom = table == ExportTable.KPI ? startDate.minusYears(1) : startDate;
+        Map<String, String> archive = archiveReadRouter.read(routeFrom, ArchiveReadContext::current);
+
+        return out -> {
+            long begin = System.currentTimeMillis();
+            TabularExportWriter w = format.open(out);
+            long rows;
+            try {
+                rows = archive == null
+                        ? write(w, storeId, table, startDate, endDate, byMonth)
+                        : ArchiveReadContext.with(archive, () -> write(w, storeId, table, startDate, endDate, byMonth));
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트 연결 끊김 등
+            }
+            w.finish();
+            log.info("[ANALYTICS_EXPORT] storeId={} table={} viewBy={} range={}~{} format={} rows={} elapsedMs={}",
+                    storeId, table, viewBy, startDate, endDate, format, rows, System.currentTimeMillis() - begin);
+        };
+    }
+
+    /** 다운로드 파일명 */
+    public String filename(ExportTable table, LocalDate startDate, LocalDate endDate, ViewBy viewBy, ExportFormat format) {
+        return table.path() + "-export_" + viewBy.name().toLowerCase() + "_" + startDate + "_" + endDate + "." + format.extension();
+    }
+
+    private long write(TabularExportWriter w, Long storeId, ExportTable table,
+                       LocalDate start, LocalDate end, boolean byMonth) {
+        long[] count = {0L};
+        switch (table) {
+            case KPI -> {
+                header(w, byMonth ? "월" : "일자", "매출", "주문수", "UPT", "객단가(ADS)", "단가(AUR)",
+                        "전월 대비(%)", "전년 대비(%)", "매장 비율(%)", "포장 비율(%)", "배달 비율(%)");
+                exportRepo.streamKpiRows(storeId, start, end, byMonth, r -> row(w, count,
+                        r.label(), r.sales(), r.tx(), r.upt(), r.ads(), r.aur(),
+                        r.compMoM(), r.compYoY(), r.ratioVisit(), r.ratioTakeout(), r.ratioDelivery()));
+            }
+            case ORDERS -> {
+                if (byMonth) {
+                    header(w, "월", "총매출", "주문수", "평균 주문금액", "배달 매출", "포장 매출", "매장 매출");
+                    exportRepo.streamOrderMonthlyRows(storeId, start, end, r -> row(w, count,
+                            r.yearMonth(), r.totalSales(), r.orderCount(), r.avgOrderAmount(),
+                            r.deliverySales(), r.takeoutSales(), r.visitSales()));
+                } else {
+                    header(w, "주문일", "주문ID", "주문번호", "주문유형", "결제금액", "메뉴 수량", "결제수단", "메모");
+                    exportRepo.streamOrderDailyRows(storeId, start, end, r -> row(w, count,
+                            r.orderDate(), r.orderId(), r.orderCode(), r.orderType(),
+                            r.totalPrice(), r.menuCount(), r.paymentType(), r.channelMemo()));
+                }
+            }
+            case MENUS -> {
+                if (byMonth) {
+                    header(w, "월", "메뉴", "카테고리", "판매수량", "매출", "주문수");
+                    exportRepo.streamMenuMonthlyRows(storeId, start, end, r -> row(w, count,
+                            r.yearMonth(), r.menuName(), r.categoryName(), r.quantity(), r.sales(), r.orderCount()));
+                } else {
+                    header(w, "일자", "카테고리", "메뉴", "판매수량", "매출", "주문수");
+                    exportRepo.streamMenuDailyRows(storeId, start, end, r -> row(w, count,
+                            r.orderDate(), r.categoryName(), r.menuName(), r.quantity(), r.sales(), r.orderCount()));
+                }
+            }
+            case MATERIALS -> {
+                if (byMonth) {
+                    header(w, "월", "재료", "사용량", "원가", "원가율(%)", "최근 입고월");
+                    exportRepo.streamMaterialMonthlyRows(storeId, start, end, r -> row(w, count,
+                            r.yearMonth(), r.materialName(), r.usedQuantity(), r.cost(), r.costRate(), r.lastInboundMonth()));
+                } else {
+                    header(w, "일자", "재료", "사용량", "단위", "원가", "매출 대비 원가(%)", "최근 입고일");
+                    exportRepo.streamMaterialDailyRows(storeId, start, end, r -> row(w, count,
+                            r.useDate(), r.materialName(), r.usedQuantity(), r.unitName(),
+                            r.cost(), r.salesShare(), r.lastInboundDate()));
+                }
+            }
+            case TIME_DAY -> {
+                header(w, byMonth ? "월" : "일자", "요일", "시간", "주문수", "매출",
+                        "매장", "포장", "배달", "매장 비율", "포장 비율", "배달 비율");
+                if (byMonth) {
+                    exportRepo.streamTimeDayMonthlyRows(storeId, start, end, r -> row(w, count,
+                            r.yearMonth(), r.weekday(), r.hour(), r.orderCount(), r.sales(),
+                            r.visitCount(), r.takeoutCount(), r.deliveryCount(),
+                            r.visitRate(), r.takeoutRate(), r.deliveryRate()));
+                } else {
+                    exportRepo.streamTimeDayDailyRows(storeId, start, end, r -> row(w, count,
+                            r.orderDate(), r.weekday(), r.hour(), r.orderCount(), r.sales(),
+                            r.visitCount(), r.takeoutCount(), r.deliveryCount(),
+                            r.visitRate(), r.takeoutRate(), r.deliveryRate()));
+                }
+            }
+        }
+        return count[0];
+    }
+
+    private static void header(TabularExportWriter w, String... columns) {
+        try {
+            w.header(columns);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void row(TabularExportWriter w, long[] count, Object... values) {
+        try {
+            w.row(values);
+            count[0]++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsPrerenderProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportStore.ReportType;
+import com.boot.ict05_final_user.domain.store.entity.StoreStatus;
+import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월 마감 PDF 리포트 사전 생성 서비스.
+ *
+ * <p>운영 중인 모든 매장 × 리포트 종류(KPI/주문/메뉴/시간·요일/재료) × 설정된 집계 단위로
+ * 해당 월 1일~말일 리포트를 만들어 {@link AnalyticsReportStore}에 저장한다.
+ * 월초 다운로드 요청은 저장본을 바로 받는다.</p>
+ *
+ * <ul>
+ *   <li>PDF 서버 동시 요청은 {@code concurrency}개로 제한한다(세마포어로 빈 슬롯이 생길 때까지 다음 작업 대기).</li>
+ *   <li>이미 저장된 리포트는 건너뛰므로, 중간에 끊긴 실행을 다시 돌리면 남은 것만 만든다.</li>
+ *   <li>한 건 실패는 로그만 남기고 나머지를 계속한다(해당 건은 다운로드 시 기존처럼 즉시 생성).</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalyticsReportPrerenderService {
+
+    private final AnalyticsPrerenderProperties props;
+    private final AnalyticsReportService reportService;
+    private final AnalyticsReportStore reportStore;
+    private final StoreRepository storeRepository;
+
+    /**
+     * 한 달치 리포트를 사전 생성한다.
+     *
+     * @param month 대상 월
+     * @return 새로 만든 리포트 수
+     */
+    public int prerenderMonth(YearMonth month) {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+        List<Long> storeIds = storeRepository.findIdsByStatus(StoreStatus.OPERATING);
+
+        int concurrency = Math.max(1, props.getConcurrency());
+        long timeoutSec = Math.max(1, props.getTaskTimeoutSeconds());
+        Semaphore slots = new Semaphore(concurrency);
+        AtomicInteger seq = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "report-prerender-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        AtomicInteger rendered = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int skipped = 0;
+        long begin = System.currentTimeMillis();
+        try {
+            jobs:
+            for (Long storeId : storeIds) {
+                for (AnalyticsSearchDto.ViewBy viewBy : props.getViewBy()) {
+                    for (ReportType type : ReportType.values()) {
+                        if (reportStore.exists(storeId, type, start, end, viewBy)) {
+                            skipped++;
+                            continue;
+                        }
+                        if (!slots.tryAcquire(timeoutSec, TimeUnit.SECONDS)) {
+                            // 모든 슬롯이 응답 없이 묶여 있음 → 이번 실행 중단 (다음 실행/다운로드 시 생성)
+                            log.warn("[REPORT_PRERENDER] PDF server stalled, stopping month={} at storeId={}", month, storeId);
+                            break jobs;
+                        }
+                        pool.execute(() -> {
+                            try {
+                                byte[] pdf = render(type, storeId, start, end, viewBy);
+                                reportStore.save(storeId, type, start, end, viewBy, pdf);
+                                rendered.incrementAndGet();
+                            } catch (RuntimeException e) {
+                                failed.incrementAndGet();
+                                log.error("[REPORT_PRERENDER] failed storeId={} type={} viewBy={} month={}",
+                                        storeId, type, viewBy, month, e);
+                            } finally {
+                                slots.release();
+                            }
+                        });
+                    }
+                }
+            }
+            pool.shutdown();
+            if (!pool.awaitTermination(timeoutSec, TimeUnit.SECONDS)) {
+                log.warn("[REPORT_PRERENDER] in-flight renders did not finish within {}s month={}", timeoutSec, month);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int purged = reportStore.purgeBefore(month.minusMonths(Math.max(1, props.getKeepMonths()) - 1L));
+        log.info("[REPORT_PRERENDER] month={} stores={} rendered={} skipped={} failed={} purged={} elapsedMs={}",
+                month, storeIds.size(), rendered.get(), skipped, failed.get(), purged, System.currentTimeMillis() - begin);
+        return rendered.get();
+    }
+
+    private byte[] render(ReportType type, Long storeId, LocalDate start, LocalDate end, AnalyticsSearchDto.ViewBy viewBy) {
+        return switch (type) {
+            case KPI -> reportService.generateKpiReport(storeId, start, end, viewBy);
+            case ORDERS -> reportService.generateOrdersReport(storeId, start, end, viewBy);
+            case MENUS -> reportService.generateMenuReport(storeId, start, end, viewBy);
+            case TIME_DAY -> reportService.generateTimeDayReport(storeId, start, end, viewBy);
+            case MATERIALS -> reportService.generateMaterialReport(storeId, start, end, viewBy);
+        };
+    }
+}
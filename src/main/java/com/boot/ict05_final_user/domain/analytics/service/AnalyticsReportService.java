@@ -1,6 +1,5 @@
 package com.boot.ict05_final_user.domain.analytics.service;
 
-import com.boot.ict05_final_user.config.PythonPdfClient;
 import com.boot.ict05_final_user.domain.analytics.dto.*;
 import com.boot.ict05_final_user.domain.store.entity.Store;
 import com.boot.ict05_final_user.domain.store.service.StoreService;
@@ -11,19 +10,18 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 분석 리포트(PDF) 생성 서비스.
  *
- * <p>AnalyticsService로부터 데이터를 수집하여 Python FastAPI 기반 PDF 서비스에 페이로드를 전송하고,
+ * <p>AnalyticsService로부터 데이터를 수집하여 PDF 렌더러(Python FastAPI 서비스 또는 내부 렌더링)에 페이로드를 전달하고,
  * 생성된 PDF 바이트를 반환합니다.</p>
  *
  * <ul>
  *   <li>KPI / Orders / Menu / TimeDay / Material 리포트 생성</li>
- *   <li>PythonPdfClient를 통해 외부 PDF 생성 서비스와 통신</li>
+ *   <li>{@link ReportRendererRouter}로 리포트 종류별 렌더러(Python 서비스 / 내부 렌더링) 선택</li>
+ *   <li>{@link AnalyticsReportStore}에 미리 만들어 둔 PDF(월 마감 사전 생성)가 있으면 생성 없이 반환</li>
  * </ul>
  *
  * @author 이경욱
@@ -37,8 +35,9 @@ public class AnalyticsReportService {
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
     private final AnalyticsService analyticsService;
-    private final PythonPdfClient pythonPdfClient;
+    private final ReportRendererRouter reportRenderer;
     private final StoreService storeService;
+    private final AnalyticsReportStore reportStore;
 
     // =========================================
     // KPI 리포트
@@ -47,7 +46,7 @@ public class AnalyticsReportService {
     /**
      * KPI 리포트(PDF) 생성 요청을 수행합니다.
      *
-     * <p>내부적으로 AnalyticsService에서 KPI 행을 모두 조회한 뒤 PythonPdfClient로 전송합니다.</p>
+     * <p>내부적으로 AnalyticsService에서 KPI 행을 모두 조회한 뒤 렌더러로 전달합니다.</p>
      *
      * @param storeId 점포 ID.
      * @param startDate 조회 시작일 (YYYY-MM-DD).
@@ -61,6 +60,10 @@ public class AnalyticsReportService {
                                     LocalDate endDate,
                                     AnalyticsSearchDto.ViewBy viewBy) {
 
+        // 월 마감 사전 생성본이 있으면 그대로 반환
+        byte[] prerendered = reportStore.find(storeId, AnalyticsReportStore.ReportType.KPI, startDate, endDate, viewBy);
+        if (prerendered != null) return prerendered;
+
         // 1) 점포명 (StoreService로 실제 점포명 조회)
         String storeName = resolveStoreName(storeId);
 
@@ -75,49 +78,12 @@ public class AnalyticsReportService {
         CursorPage<KpiRowDto> page = analyticsService.getKpiRows(storeId, cond);
         List<KpiRowDto> rows = page.items();
 
-        // 3) criteria 구성
-        Map<String, Object> criteria = new LinkedHashMap<>();
-        criteria.put("storeId", storeId);
-        criteria.put("storeName", storeName);
-        criteria.put("startDate", startDate.toString());
-        criteria.put("endDate", endDate.toString());
-        criteria.put("viewBy", viewBy.name());
-
-        // 4) data 리스트 (Python KpiRow에 맞게 key 채우기)
-        List<Map<String, Object>> data = rows.stream()
-                .map(r -> {
-                    Map<String, Object> m = new LinkedHashMap<>();
-
-                    // ✅ KpiRowDto 필드에 맞게 매핑
-                    m.put("storeName", storeName);
-
-                    // KpiRowDto: long / double 타입 → Number로 auto boxing
-                    m.put("sales", safeNumber(r.sales()));   // long → Double
-                    m.put("transaction", safeInt(r.tx()));   // long → Integer
-                    m.put("upt", safeNumber(r.upt()));       // double → Double
-                    m.put("ads", safeNumber(r.ads()));       // long → Double
-                    m.put("aur", safeNumber(r.aur()));       // long → Double
-
-                    // 아직 안 쓰는 필드는 일단 null로 채우기 (Optional 이라 상관 없음)
-                    m.put("compMoM", null);
-                    m.put("compYoY", null);
-
-                    // 날짜 라벨 ("YYYY-MM-DD" 또는 "YYYY-MM")
-                    m.put("date", r.label());
-
-                    // 채널 비율도 아직 계산 안 하니 null
-                    m.put("ratioVisit", null);
-                    m.put("ratioTakeout", null);
-                    m.put("ratioDelivery", null);
-
-                    return m;
-                })
-                .toList();
-
-        KpiPdfPayload payload = new KpiPdfPayload(criteria, data);
-
-        log.info("[KPI-Report] criteria={}, rows={}", criteria, data.size());
-        return pythonPdfClient.requestKpiReport(payload);
+        // 3) criteria + 행 그대로 전달 (Python KpiRow 컬럼 매핑은 KpiPdfPayload 가 담당)
+        PdfCriteria criteria = new PdfCriteria(storeId, storeName, startDate.toString(), endDate.toString(), viewBy.name());
+        KpiPdfPayload payload = new KpiPdfPayload(criteria, rows);
+
+        log.info("[KPI-Report] criteria={}, rows={}", criteria, rows.size());
+        return reportRenderer.render(AnalyticsReportStore.ReportType.KPI, r -> r.renderKpi(payload));
     }
 
     // =========================================
@@ -127,7 +93,7 @@ public class AnalyticsReportService {
     /**
      * 주문 분석 리포트(PDF) 생성.
      *
-     * <p>viewBy에 따라 일단위(주문 단위) 또는 월단위 집계 데이터를 Python PDF 서비스로 전송합니다.</p>
+     * <p>viewBy에 따라 일단위(주문 단위) 또는 월단위 집계 데이터를 PDF 렌더러로 전달합니다.</p>
      *
      * @param storeId 점포 ID.
      * @param startDate 조회 시작일.
@@ -141,6 +107,10 @@ public class AnalyticsReportService {
                                        LocalDate endDate,
                                        AnalyticsSearchDto.ViewBy viewBy) {
 
+        // 월 마감 사전 생성본이 있으면 그대로 반환
+        byte[] prerendered = reportStore.find(storeId, AnalyticsReportStore.ReportType.ORDERS, startDate, endDate, viewBy);
+        if (prerendered != null) return prerendered;
+
         String storeName = resolveStoreName(storeId);   // 아까 만든 메서드 써도 됨
 
         AnalyticsSearchDto cond = new AnalyticsSearchDto(
@@ -156,64 +126,20 @@ public class AnalyticsReportService {
             CursorPage<OrderDailyRowDto> page = analyticsService.getOrderDailyRows(storeId, cond);
             List<OrderDailyRowDto> rows = page.items();
 
-            Map<String, Object> criteria = new LinkedHashMap<>();
-            criteria.put("storeId", storeId);
-            criteria.put("storeName", storeName);
-            criteria.put("startDate", startDate.toString());
-            criteria.put("endDate", endDate.toString());
-            criteria.put("viewBy", "DAY");
-
-            List<Map<String, Object>> data = rows.stream()
-                    .map(r -> {
-                        Map<String, Object> m = new LinkedHashMap<>();
-
-                        m.put("date", r.orderDate());          // YYYY-MM-DD
-                        m.put("orderId", r.orderId());         // 주문 ID
-                        m.put("orderType", r.orderType());     // VISIT/TAKEOUT/DELIVERY
-                        m.put("orderCount", 1);                // 주문 1건 단위
-                        m.put("totalPrice", safeNumber(r.totalPrice()));
-                        m.put("menuCount", safeInt(r.menuCount()));
-                        m.put("paymentType", r.paymentType()); // CARD/CASH/...
-                        m.put("channelMemo", r.channelMemo()); // 메모
-
-                        return m;
-                    })
-                    .toList();
-
-            OrdersPdfPayload payload = new OrdersPdfPayload(criteria, data);
-            log.info("[Orders-Report-DAY] criteria={}, rows={}", criteria, data.size());
-            return pythonPdfClient.requestOrdersReport(payload);
+            PdfCriteria criteria = new PdfCriteria(storeId, storeName, startDate.toString(), endDate.toString(), "DAY");
+            OrdersPdfPayload payload = new OrdersPdfPayload(criteria, rows, List.of());
+            log.info("[Orders-Report-DAY] criteria={}, rows={}", criteria, rows.size());
+            return reportRenderer.render(AnalyticsReportStore.ReportType.ORDERS, r -> r.renderOrders(payload));
 
         } else {
             // ===== 월별 집계 =====
             CursorPage<OrderMonthlyRowDto> page = analyticsService.getOrderMonthlyRows(storeId, cond);
             List<OrderMonthlyRowDto> rows = page.items();
 
-            Map<String, Object> criteria = new LinkedHashMap<>();
-            criteria.put("storeId", storeId);
-            criteria.put("storeName", storeName);
-            criteria.put("startDate", startDate.toString());
-            criteria.put("endDate", endDate.toString());
-            criteria.put("viewBy", "MONTH");
-
-            List<Map<String, Object>> data = rows.stream()
-                    .map(r -> {
-                        Map<String, Object> m = new LinkedHashMap<>();
-                        m.put("date", r.yearMonth());                        // "YYYY-MM"
-                        m.put("orderCount", safeInt(r.orderCount()));        // 주문수
-                        m.put("totalSales", safeNumber(r.totalSales()));     // 총매출
-                        m.put("avgOrderAmount", safeNumber(r.avgOrderAmount())); // 평균주문금액
-                        m.put("deliverySales", safeNumber(r.deliverySales()));   // 배달매출
-                        m.put("takeoutSales", safeNumber(r.takeoutSales()));     // 포장매출
-                        m.put("visitSales", safeNumber(r.visitSales()));         // 매장매출
-
-                        return m;
-                    })
-                    .toList();
-
-            OrdersPdfPayload payload = new OrdersPdfPayload(criteria, data);
-            log.info("[Orders-Report-MONTH] criteria={}, rows={}", criteria, data.size());
-            return pythonPdfClient.requestOrdersReport(payload);
+            PdfCriteria criteria = new PdfCriteria(storeId, storeName, startDate.toString(), endDate.toString(), "MONTH");
+            OrdersPdfPayload payload = new OrdersPdfPayload(criteria, List.of(), rows);
+            log.info("[Orders-Report-MONTH] criteria={}, rows={}", criteria, rows.size());
+            return reportRenderer.render(AnalyticsReportStore.ReportType.ORDERS, r -> r.renderOrders(payload));
         }
     }
 
@@ -236,6 +162,10 @@ public class AnalyticsReportService {
                                      LocalDate endDate,
                                      AnalyticsSearchDto.ViewBy viewBy) {
 
+        // 월 마감 사전 생성본이 있으면 그대로 반환
+        byte[] prerendered = reportStore.find(storeId, AnalyticsReportStore.ReportType.MENUS, startDate, endDate, viewBy);
+        if (prerendered != null) return prerendered;
+
         String storeName = resolveStoreName(storeId);
 
         AnalyticsSearchDto cond = new AnalyticsSearchDto(
@@ -250,67 +180,26 @@ public class AnalyticsReportService {
             CursorPage<MenuDailyRowDto> page = analyticsService.getMenuDailyRows(storeId, cond);
             List<MenuDailyRowDto> rows = page.items();
 
-            Map<String, Object> criteria = new LinkedHashMap<>();
-            criteria.put("storeId", storeId);
-            criteria.put("storeName", storeName);
-            criteria.put("startDate", startDate.toString());
-            criteria.put("endDate", endDate.toString());
-            criteria.put("viewBy", "DAY");
-
-            List<Map<String, Object>> data = rows.stream()
-                    .map(r -> {
-                        Map<String, Object> m = new LinkedHashMap<>();
-                        // Python MenuRow 기준
-                        m.put("date", r.orderDate().toString());
-                        m.put("storeName", storeName);
-                        m.put("category", r.categoryName());
-                        m.put("menu", r.menuName());
-                        m.put("quantity", safeInt(r.quantity()));
-                        m.put("sales", safeNumber(r.sales()));
-                        m.put("orderCount", safeInt(r.orderCount()));
-                        return m;
-                    })
-                    .toList();
-
-            MenuPdfPayload payload = new MenuPdfPayload(criteria, data);
-            log.info("[Menu-Report-DAY] criteria={}, rows={}", criteria, data.size());
-            return pythonPdfClient.requestMenusReport(payload);
+            PdfCriteria criteria = new PdfCriteria(storeId, storeName, startDate.toString(), endDate.toString(), "DAY");
+            MenuPdfPayload payload = new MenuPdfPayload(criteria, rows, List.of());
+            log.info("[Menu-Report-DAY] criteria={}, rows={}", criteria, rows.size());
+            return reportRenderer.render(AnalyticsReportStore.ReportType.MENUS, r -> r.renderMenus(payload));
 
         } else {
             CursorPage<MenuMonthlyRowDto> page = analyticsService.getMenuMonthlyRows(storeId, cond);
             List<MenuMonthlyRowDto> rows = page.items();
 
-            Map<String, Object> criteria = new LinkedHashMap<>();
-            criteria.put("storeId", storeId);
-            criteria.put("storeName", storeName);
-            criteria.put("startDate", startDate.toString());
-            criteria.put("endDate", endDate.toString());
-            criteria.put("viewBy", "MONTH");
-
-            List<Map<String, Object>> data = rows.stream()
-                    .map(r -> {
-                        Map<String, Object> m = new LinkedHashMap<>();
-                        m.put("date", r.yearMonth()); // "YYYY-MM"
-                        m.put("storeName", storeName);
-                        m.put("category", r.categoryName());
-                        m.put("menu", r.menuName());
-                        m.put("quantity", safeInt(r.quantity()));
-                        m.put("sales", safeNumber(r.sales()));
-                        m.put("orderCount", safeInt(r.orderCount()));
-                        return m;
-                    })
-                    .toList();
-
-            MenuPdfPayload payload = new MenuPdfPayload(criteria, data);
-            log.info("[Menu-Report-MONTH] criteria={}, rows={}", criteria, data.size());
-            return pythonPdfClient.requestMenusReport(payload);
+            PdfCriteria criteria = new PdfCriteria(storeId, storeName, startDate.toString(), endDate.toString(), "MONTH");
+            MenuPdfPayload payload = new MenuPdfPayload(criteria, List.of(), rows);
+            log.info("[Menu-Report-MONTH] criteria={}, rows={}", criteria, rows.size());
+            return reportRenderer.render(AnalyticsReportStore.ReportType.MENUS, r -> r.renderMenus(payload));
         }
     }
 
     /**
      * 시간/요일 분석 리포트(PDF) 생성.
      *
-     * <p>상단 요약, 차트, 테이블(일/월)을 조합하여 TimeDayReportPayload를 구성하고 Python 서비스로 전송합니다.</p>
+     * <p>상단 요약, 차트, 테이블(일/월)을 조합하여 TimeDayReportPayload를 구성하고 PDF 렌더러로 전달합니다.</p>
      *
      * @param storeId 점포 ID.
      * @param startDate 조회 시작일.
@@ -325,6 +214,10 @@ public class AnalyticsReportService {
             LocalDate endDate,
             AnalyticsSearchDto.ViewBy viewBy
     ) {
+
+        // 월 마감 사전 생성본이 있으면 그대로 반환
+        byte[] prerendered = reportStore.find(storeId, AnalyticsReportStore.ReportType.TIME_DAY, startDate, endDate, viewBy);
+        if (prerendered != null) return prerendered;
         // 1) 상단 요약 / 차트
         TimeDaySummaryDto summary = analyticsService.getTimeDaySummary(storeId);
 
@@ -378,7 +271,7 @@ public class AnalyticsReportService {
         log.info("[TimeDay-Report] storeId={}, viewBy={}, rowsDaily={}, rowsMonthly={}",
                 storeId, viewBy, dailyRows.size(), monthlyRows.size());
 
-        return pythonPdfClient.requestTimeDayReport(payload);
+        return reportRenderer.render(AnalyticsReportStore.ReportType.TIME_DAY, r -> r.renderTimeDay(payload));
     }
 
     /**
@@ -397,6 +290,10 @@ public class AnalyticsReportService {
             LocalDate endDate,
             AnalyticsSearchDto.ViewBy viewBy
     ) {
+
+        // 월 마감 사전 생성본이 있으면 그대로 반환
+        byte[] prerendered = reportStore.find(storeId, AnalyticsReportStore.ReportType.MATERIALS, startDate, endDate, viewBy);
+        if (prerendered != null) return prerendered;
         // 1) 상단 요약
         MaterialSummaryDto summary = analyticsService.getMaterialSummary(storeId);
 
@@ -444,31 +341,7 @@ public class AnalyticsReportService {
         log.info("[Material-Report] storeId={}, viewBy={}, rowsDaily={}, rowsMonthly={}",
                 storeId, viewBy, dailyRows.size(), monthlyRows.size());
 
-        return pythonPdfClient.requestMaterialReport(payload);
-    }
-
-    // =========================================
-    // null 방어용 helper
-    // =========================================
-
-    /**
-     * Number를 Double로 안전하게 변환합니다. null이면 0.0 반환.
-     *
-     * @param n 변환 대상 Number.
-     * @return Double 값 또는 0.0.
-     */
-    private Double safeNumber(Number n) {
-        return n == null ? 0.0 : n.doubleValue();
-    }
-
-    /**
-     * Number를 Integer로 안전하게 변환합니다. null이면 0 반환.
-     *
-     * @param n 변환 대상 Number.
-     * @return Integer 값 또는 0.
-     */
-    private Integer safeInt(Number n) {
-        return n == null ? 0 : n.intValue();
+        return reportRenderer.render(AnalyticsReportStore.ReportType.MATERIALS, r -> r.renderMaterial(payload));
     }
 
     /**
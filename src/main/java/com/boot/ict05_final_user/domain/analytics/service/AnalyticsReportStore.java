@@ -0,0 +1,172 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsPrerenderProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.stream.Stream;
+
+/**
+ * 미리 만들어 둔 PDF 리포트 로컬 보관소.
+ *
+ * <p>경로: {@code {dir}/{storeId}/{yyyy-MM}/{type}_{viewBy}_{start}_{end}.pdf}.
+ * 월 디렉터리는 시작일 기준이며, 무효화·정리 단위로 쓴다.</p>
+ *
+ * <ul>
+ *   <li>저장은 임시 파일에 쓴 뒤 이름 변경(원자적 교체)이라 읽는 쪽이 쓰다 만 파일을 보지 않는다.</li>
+ *   <li>지난 날짜 주문이 바뀌면 그 날짜가 속한 월 디렉터리를 지워, 다음 다운로드는 새로 생성한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsReportStore {
+
+    private final AnalyticsPrerenderProperties props;
+
+    /** 리포트 종류 (파일명 접두어) */
+    public enum ReportType {
+        KPI("kpi-report"), ORDERS("orders-report"), MENUS("menu-report"),
+        TIME_DAY("time-day-report"), MATERIALS("material-report");
+
+        private final String prefix;
+
+        ReportType(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public String prefix() {
+            return prefix;
+        }
+    }
+
+    /**
+     * 보관된 PDF 조회.
+     *
+     * @return PDF 바이트, 없거나 읽기 실패면 null
+     */
+    public byte[] find(Long storeId, ReportType type, LocalDate startDate, LocalDate endDate,
+                       AnalyticsSearchDto.ViewBy viewBy) {
+        if (storeId == null || startDate == null || endDate == null || viewBy == null) return null;
+        Path file = path(storeId, type, startDate, endDate, viewBy);
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            log.warn("[REPORT_STORE] read failed file={}", file, e);
+            return null;
+        }
+    }
+
+    /** 보관 여부 */
+    public boolean exists(Long storeId, ReportType type, LocalDate startDate, LocalDate endDate,
+                          AnalyticsSearchDto.ViewBy viewBy) {
+        return Files.isRegularFile(path(storeId, type, startDate, endDate, viewBy));
+    }
+
+    /**
+     * PDF 저장 (같은 키가 있으면 교체).
+     *
+     * @throws UncheckedIOException 디스크 쓰기 실패
+     */
+    public void save(Long storeId, ReportType type, LocalDate startDate, LocalDate endDate,
+                     AnalyticsSearchDto.ViewBy viewBy, byte[] pdf) {
+        Path file = path(storeId, type, startDate, endDate, viewBy);
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(tmp, pdf);
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("리포트 저장 실패: " + file, e);
+        }
+    }
+
+    /**
+     * 지난 날짜 주문이 바뀌었을 때, 그 날짜가 속한 월의 보관 PDF 를 지운다.
+     *
+     * @param storeId 가맹점 ID
+     * @param day     주문일
+     */
+    public void evict(Long storeId, LocalDate day) {
+        if (storeId == null || day == null) return;
+        Path monthDir = root().resolve(String.valueOf(storeId)).resolve(YearMonth.from(day).toString());
+        int removed = deleteTree(monthDir);
+        if (removed > 0) {
+            log.info("[REPORT_STORE] evict storeId={} month={} removed={}", storeId, YearMonth.from(day), removed);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 월 디렉터리 삭제.
+     *
+     * @param oldestKept 남길 가장 오래된 월
+     * @return 삭제한 파일 수
+     */
+    public int purgeBefore(YearMonth oldestKept) {
+        Path root = root();
+        if (!Files.isDirectory(root)) return 0;
+        int removed = 0;
+        try (DirectoryStream<Path> stores = Files.newDirectoryStream(root)) {
+            for (Path storeDir : stores) {
+                if (!Files.isDirectory(storeDir)) continue;
+                try (DirectoryStream<Path> months = Files.newDirectoryStream(storeDir)) {
+                    for (Path monthDir : months) {
+                        YearMonth ym = parseMonth(monthDir.getFileName().toString());
+                        if (ym != null && ym.isBefore(oldestKept)) removed += deleteTree(monthDir);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[REPORT_STORE] purge failed root={}", root, e);
+        }
+        return removed;
+    }
+
+    private Path path(Long storeId, ReportType type, LocalDate startDate, LocalDate endDate,
+                      AnalyticsSearchDto.ViewBy viewBy) {
+        String name = type.prefix() + "_" + viewBy.name().toLowerCase() + "_" + startDate + "_" + endDate + ".pdf";
+        return root().resolve(String.valueOf(storeId)).resolve(YearMonth.from(startDate).toString()).resolve(name);
+    }
+
+    private Path root() {
+        return Paths.get(props.getDir()).toAbsolutePath().normalize();
+    }
+
+    private static YearMonth parseMonth(String s) {
+        try {
+            return YearMonth.parse(s);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int deleteTree(Path dir) {
+        if (!Files.isDirectory(dir)) return 0;
+        int[] removed = {0};
+        try (Stream<Path> walk = Files.walk(dir)) {
+            walk.sorted((a, b) -> b.getNameCount() - a.getNameCount()).forEach(p -> {
+                try {
+                    boolean file = Files.isRegularFile(p);
+                    if (Files.deleteIfExists(p) && file) removed[0]++;
+                } catch (IOException e) {
+                    log.warn("[REPORT_STORE] delete failed path={}", p, e);
+                }
+            });
+        } catch (IOException e) {
+            log.warn("[REPORT_STORE] walk failed dir={}", dir, e);
+        }
+        return removed[0];
+    }
+}
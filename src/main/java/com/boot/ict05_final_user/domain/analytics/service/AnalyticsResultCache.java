@@ -0,0 +1,163 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsCacheProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 분석 테이블/차트 결과 캐시.
+ *
+ * <p>키: (storeId, endpoint, viewBy, 시작일, 종료일, cursor, size)</p>
+ *
+ * <p><b>보관 규칙</b></p>
+ * <ul>
+ *   <li>종료일이 어제 이전인(닫힌) 구간: 주문이 더 들어오지 않으므로 만료 없이 보관한다.</li>
+ *   <li>오늘을 포함하는 구간, 현재 재고 상태가 섞인 endpoint: {@code open-ttl-seconds} 동안만 보관한다.</li>
+ *   <li>전체 항목 수는 {@code max-entries}로 제한하고, 넘으면 가장 오래 안 쓴 항목부터 제거한다(LRU).</li>
+ * </ul>
+ *
+ * <p><b>무효화</b>: 지난 날짜 주문의 상태가 바뀌면(취소/환불 등) 커밋 후 해당 가맹점 항목만 제거한다.
+ * 가맹점별 세대 번호를 두어, 무효화 전에 시작된 조회 결과가 무효화 뒤에 저장되지 않게 한다.
+ * 같은 시점에 {@link AnalyticsReportStore}의 해당 월 사전 생성 PDF 도 지운다.</p>
+ *
+ * <p>반환 값은 요청 사이에 공유되므로 호출 측에서 수정하지 않는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsResultCache {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final AnalyticsCacheProperties props;
+    private final AnalyticsReportStore reportStore;
+
+    /** 접근 순서 LRU (this 로 동기화) */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            return size() > Math.max(1, props.getMaxEntries());
+        }
+    };
+
+    /** 가맹점 ID → 세대 번호 (무효화마다 증가) */
+    private final ConcurrentHashMap<Long, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /** 캐시 키 */
+    private record Key(Long storeId, String endpoint, AnalyticsSearchDto.ViewBy viewBy,
+                       LocalDate startDate, LocalDate endDate, String cursor, Integer size) {}
+
+    /** 캐시 항목. closed 면 만료 없음 */
+    private record Entry(Object value, long generation, boolean closed, long expiresAt) {}
+
+    /**
+     * 조회 조건 기준 캐시 조회. 없거나 만료면 loader 로 조회 후 저장한다.
+     *
+     * @param storeId  가맹점 ID
+     * @param endpoint 조회 종류 (예: "kpi-rows")
+     * @param cond     조회 조건
+     * @param live     현재 재고 등 기간과 무관한 값이 섞인 결과면 true (닫힌 구간이어도 TTL 적용)
+     * @param loader   DB 조회
+     */
+    public <T> T get(Long storeId, String endpoint, AnalyticsSearchDto cond, boolean live, Supplier<T> loader) {
+        return get(new Key(storeId, endpoint, cond.viewBy(), cond.startDate(), cond.endDate(), cond.cursor(), cond.size()),
+                live, loader);
+    }
+
+    /**
+     * 기간 기준 캐시 조회 (차트 등 커서가 없는 조회).
+     */
+    public <T> T get(Long storeId, String endpoint, LocalDate startDate, LocalDate endDate, Supplier<T> loader) {
+        return get(new Key(storeId, endpoint, null, startDate, endDate, null, null), false, loader);
+    }
+
+    /**
+     * 지난 날짜 주문이 바뀌었을 때 호출한다. 오늘 주문이면 닫힌 구간에 영향이 없으므로 무시한다(TTL 로 반영).
+     *
+     * @param storeId   가맹점 ID
+     * @param orderedAt 주문 일시
+     */
+    public void onOrderChanged(Long storeId, LocalDateTime orderedAt) {
+        if (storeId == null || orderedAt == null) return;
+        if (!orderedAt.toLocalDate().isBefore(LocalDate.now(KST))) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictStore(storeId);
+                    reportStore.evict(storeId, orderedAt.toLocalDate());
+                }
+            });
+        } else {
+            evictStore(storeId);
+            reportStore.evict(storeId, orderedAt.toLocalDate());
+        }
+    }
+
+    /** 가맹점 항목 전체 제거 */
+    public void evictStore(Long storeId) {
+        if (storeId == null) return;
+        generation(storeId).incrementAndGet();
+        int removed;
+        synchronized (this) {
+            int before = entries.size();
+            entries.keySet().removeIf(k -> storeId.equals(k.storeId()));
+            removed = before - entries.size();
+        }
+        log.info("[ANALYTICS_CACHE] evict storeId={} removed={}", storeId, removed);
+    }
+
+    /** 전체 제거 */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    private <T> T get(Key key, boolean live, Supplier<T> loader) {
+        if (!props.isEnabled() || key.storeId() == null || key.endDate() == null) {
+            return loader.get();
+        }
+
+        long now = System.nanoTime();
+        long gen = generation(key.storeId()).get();
+        synchronized (this) {
+            Entry e = entries.get(key);
+            if (e != null && e.generation() == gen && (e.closed() || e.expiresAt() - now > 0L)) {
+                @SuppressWarnings("unchecked")
+                T hit = (T) e.value();
+                return hit;
+            }
+            if (e != null) entries.remove(key);
+        }
+
+        T value = loader.get();
+
+        boolean closed = !live && key.endDate().isBefore(LocalDate.now(KST));
+        long expiresAt = System.nanoTime() + TimeUnit.SECONDS.toNanos(Math.max(1, props.getOpenTtlSeconds()));
+        synchronized (this) {
+            // 조회 도중 무효화되었으면 저장하지 않는다
+            if (generation(key.storeId()).get() == gen) {
+                entries.put(key, new Entry(value, gen, closed, expiresAt));
+            }
+        }
+        return value;
+    }
+
+    private AtomicLong generation(Long storeId) {
+        return generations.computeIfAbsent(storeId, id -> new AtomicLong());
+    }
+}
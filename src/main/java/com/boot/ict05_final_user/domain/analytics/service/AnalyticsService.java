@@ -2,6 +2,7 @@ package com.boot.ict05_final_user.domain.analytics.service;
 
 import com.boot.ict05_final_user.domain.analytics.dto.*;
 import com.boot.ict05_final_user.domain.analytics.repository.AnalyticsRespositoryCustom;
+import com.boot.ict05_final_user.domain.partition.service.ArchiveReadRouter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -18,6 +19,11 @@ import java.util.List;
  * <ul>
  *   <li>KPI / 주문 / 메뉴 / 재료 / 시간-요일 분석 관련 조회 메서드 제공</li>
  *   <li>시간대는 KST(Asia/Seoul) 기준으로 계산</li>
+ *   <li>기간 조회는 {@link ArchiveReadRouter}를 거쳐, 아카이브 경계 이전 구간이면 아카이브까지 함께 조회</li>
+ *   <li>테이블/차트 결과는 {@link AnalyticsResultCache}에 보관 (닫힌 구간은 만료 없음, 오늘 포함 구간은 짧은 TTL).
+ *       재료 테이블은 최근 입고일(현재 상태)이 섞여 있어 항상 TTL 적용</li>
+ *   <li>시간/요일 차트·테이블은 {@link AnalyticsTimeCube}(가맹점별 인메모리 배열)에서 계산.
+ *       큐브가 꺼져 있거나 기간이 보관 일수 상한보다 길면 DB 집계</li>
  * </ul>
  *
  * @author 이경욱
@@ -28,6 +34,9 @@ import java.util.List;
 public class AnalyticsService {
 
 	private final AnalyticsRespositoryCustom repo;
+	private final ArchiveReadRouter archiveReadRouter;
+	private final AnalyticsResultCache resultCache;
+	private final AnalyticsTimeCube timeCube;
 	private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
 	/**
@@ -51,7 +60,8 @@ public class AnalyticsService {
 	 * @return 커서 기반 KPI 행 페이지.
 	 */
 	public CursorPage<KpiRowDto> getKpiRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchKpiRows(storeId, cond);
+		return resultCache.get(storeId, "kpi-rows", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchKpiRows(storeId, cond)));
 	}
 
 	// ===== 주문 분석 =====
@@ -77,7 +87,8 @@ public class AnalyticsService {
 	 * @return 주문 일별 행들의 커서 페이지.
 	 */
 	public CursorPage<OrderDailyRowDto> getOrderDailyRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchOrderDailyRows(storeId, cond);
+		return resultCache.get(storeId, "order-daily", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchOrderDailyRows(storeId, cond)));
 	}
 
 	/**
@@ -88,7 +99,8 @@ public class AnalyticsService {
 	 * @return 주문 월별 행들의 커서 페이지.
 	 */
 	public CursorPage<OrderMonthlyRowDto> getOrderMonthlyRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchOrderMonthlyRows(storeId, cond);
+		return resultCache.get(storeId, "order-monthly", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchOrderMonthlyRows(storeId, cond)));
 	}
 
 	// ===== 메뉴 분석 =====
@@ -114,7 +126,8 @@ public class AnalyticsService {
 	 * @return 메뉴 일별 행들의 커서 페이지.
 	 */
 	public CursorPage<MenuDailyRowDto> getMenuDailyRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchMenuDailyRows(storeId, cond);
+		return resultCache.get(storeId, "menu-daily", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchMenuDailyRows(storeId, cond)));
 	}
 
 	/**
@@ -125,7 +138,8 @@ public class AnalyticsService {
 	 * @return 메뉴 월별 행들의 커서 페이지.
 	 */
 	public CursorPage<MenuMonthlyRowDto> getMenuMonthlyRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchMenuMonthlyRows(storeId, cond);
+		return resultCache.get(storeId, "menu-monthly", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchMenuMonthlyRows(storeId, cond)));
 	}
 
 	// ===== 시간/요일 분석 =====
@@ -152,7 +166,11 @@ public class AnalyticsService {
 	 * @return 시간대별 포인트 리스트.
 	 */
 	public List<TimeHourlyPointDto> getTimeDayHourlyChart(Long storeId, LocalDate startDate, LocalDate endDate) {
-		return repo.fetchTimeHourlyChart(storeId, startDate, endDate);
+		if (timeCube.accepts(startDate, endDate)) {
+			return timeCube.hourlyChart(storeId, startDate, endDate);
+		}
+		return resultCache.get(storeId, "timeday-hourly", startDate, endDate,
+				() -> archiveReadRouter.read(startDate, () -> repo.fetchTimeHourlyChart(storeId, startDate, endDate)));
 	}
 
 	/**
@@ -164,7 +182,11 @@ public class AnalyticsService {
 	 * @return 요일별 포인트 리스트.
 	 */
 	public List<WeekdaySalesPointDto> getWeekdayChart(Long storeId, LocalDate startDate, LocalDate endDate) {
-		return repo.fetchWeekdayChart(storeId, startDate, endDate);
+		if (timeCube.accepts(startDate, endDate)) {
+			return timeCube.weekdayChart(storeId, startDate, endDate);
+		}
+		return resultCache.get(storeId, "timeday-weekday", startDate, endDate,
+				() -> archiveReadRouter.read(startDate, () -> repo.fetchWeekdayChart(storeId, startDate, endDate)));
 	}
 
 	/**
@@ -175,7 +197,11 @@ public class AnalyticsService {
 	 * @return 시간/요일 일별 행들의 커서 페이지.
 	 */
 	public CursorPage<TimeDayDailyRowDto> getTimeDayDailyRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchTimeDayDailyRows(storeId, cond);
+		if (timeCube.accepts(cond.startDate(), cond.endDate())) {
+			return timeCube.dailyRows(storeId, cond);
+		}
+		return resultCache.get(storeId, "timeday-daily", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchTimeDayDailyRows(storeId, cond)));
 	}
 
 	/**
@@ -186,7 +212,11 @@ public class AnalyticsService {
 	 * @return 시간/요일 월별 행들의 커서 페이지.
 	 */
 	public CursorPage<TimeDayMonthlyRowDto> getTimeDayMonthlyRows(Long storeId, AnalyticsSearchDto cond) {
-		return repo.fetchTimeDayMonthlyRows(storeId, cond);
+		if (timeCube.accepts(cond.startDate(), cond.endDate())) {
+			return timeCube.monthlyRows(storeId, cond);
+		}
+		return resultCache.get(storeId, "timeday-monthly", cond, false,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchTimeDayMonthlyRows(storeId, cond)));
 	}
 
 	/**
@@ -199,7 +229,6 @@ public class AnalyticsService {
 	 */
 	public MaterialSummaryDto getMaterialSummary(Long storeId) {
 		LocalDate today = LocalDate.now(KST);
-		System.out.println("재료 카드 쿼리 나오나?" + repo.fetchMaterialSummary(storeId, today));
 
 		return repo.fetchMaterialSummary(storeId, today);
 	}
@@ -212,8 +241,8 @@ public class AnalyticsService {
 	 * @return 재료 일별 행들의 커서 페이지.
 	 */
 	public CursorPage<MaterialDailyRowDto> getMaterialDailyRows(Long storeId, AnalyticsSearchDto cond) {
-		System.out.println("재료 일별 쿼리 나오나?" + repo.fetchMaterialDailyRows(storeId, cond));
-		return repo.fetchMaterialDailyRows(storeId, cond);
+		return resultCache.get(storeId, "material-daily", cond, true,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchMaterialDailyRows(storeId, cond)));
 	}
 
 	/**
@@ -224,8 +253,8 @@ public class AnalyticsService {
 	 * @return 재료 월별 행들의 커서 페이지.
 	 */
 	public CursorPage<MaterialMonthlyRowDto> getMaterialMonthlyRows(Long storeId, AnalyticsSearchDto cond) {
-		System.out.println("재료 월별 쿼리 나오나?" + repo.fetchMaterialMonthlyRows(storeId, cond));
-		return repo.fetchMaterialMonthlyRows(storeId, cond);
+		return resultCache.get(storeId, "material-monthly", cond, true,
+				() -> archiveReadRouter.read(cond.startDate(), () -> repo.fetchMaterialMonthlyRows(storeId, cond)));
 	}
 
 }
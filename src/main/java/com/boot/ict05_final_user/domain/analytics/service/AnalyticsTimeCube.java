@@ -0,0 +1,538 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsCubeProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.*;
+import com.boot.ict05_final_user.domain.analytics.repository.AnalyticsRespositoryCustom;
+import com.boot.ict05_final_user.domain.order.entity.OrderType;
+import com.boot.ict05_final_user.domain.partition.service.ArchiveReadRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간/요일 분석용 가맹점별 인메모리 큐브.
+ *
+ * <p>가맹점마다 {@code 일자 × 24시간 × 주문 유형} 칸의 매출/주문수를 기본형 배열 두 개로 들고 있다.
+ * 시간대/요일 차트와 시간·요일 일별/월별 테이블은 DB 의 HOUR()/DAYOFWEEK() GROUP BY 대신
+ * 이 배열을 순회해서 만든다.</p>
+ *
+ * <ul>
+ *   <li>적재: (일자, 시간, 주문 유형) 롤업 1회. 조회 기간이 큐브 밖으로 나가면 모자란 앞/뒤 구간만 추가로 읽는다.</li>
+ *   <li>오늘 이후(닫히지 않은) 구간: {@code open-ttl-seconds}가 지나면 다시 읽는다. 날짜가 바뀐 경우도 같이 처리된다.</li>
+ *   <li>지난 날짜 주문 상태 변경: 커밋 후 해당 일자만 더티 표시 → 다음 조회 때 그 일자만 다시 읽는다.</li>
+ *   <li>메모리: 전체 {@code max-bytes}를 넘으면 가장 오래 안 쓴 가맹점 큐브부터 제거(LRU).
+ *       {@code max-days}보다 긴 조회 기간은 {@link #accepts}가 false 를 돌려 DB 집계로 처리한다.</li>
+ * </ul>
+ *
+ * <p>응답 형식(영업시간 07~20시, 요일 월=1, 커서 형식)은 {@code AnalyticsRepositoryImpl}의 DB 집계와 같다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnalyticsTimeCube {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /** 주문 유형 칸: VISIT, TAKEOUT, DELIVERY, 기타(null) */
+    private static final int CH = 4;
+    private static final int CH_VISIT = 0;
+    private static final int CH_TAKEOUT = 1;
+    private static final int CH_DELIVERY = 2;
+    private static final int CH_OTHER = 3;
+
+    private static final int CELLS_PER_DAY = 24 * CH;
+    /** 칸 하나 = 매출(long) + 주문수(int) */
+    private static final long BYTES_PER_DAY = CELLS_PER_DAY * (8L + 4L);
+
+    /** 영업시간 (AnalyticsRepositoryImpl#businessHoursFilter 와 동일) */
+    private static final int OPEN_HOUR = 7;
+    private static final int CLOSE_HOUR = 20;
+
+    private final AnalyticsCubeProperties props;
+    private final AnalyticsRespositoryCustom repo;
+    private final ArchiveReadRouter archiveReadRouter;
+
+    /** 가맹점 ID → 큐브, 접근 순서 LRU (this 로 동기화) */
+    private final LinkedHashMap<Long, StoreCube> cubes = new LinkedHashMap<>(64, 0.75f, true);
+
+    /**
+     * 가맹점 하나의 큐브. 모든 접근은 인스턴스 자체로 동기화한다.
+     *
+     * <p>칸 인덱스 = {@code (일자 오프셋 × 24 + 시간) × CH + 주문 유형}.</p>
+     */
+    private static final class StoreCube {
+        /** 첫 일자 (days == 0 이면 의미 없음) */
+        LocalDate first;
+        int days;
+        long[] sales = new long[0];
+        int[] orders = new int[0];
+        /** 이 날짜 이후는 적재 시점에 닫히지 않았던 구간 */
+        LocalDate openFrom;
+        long openLoadedAt;
+        /** 다시 읽어야 하는 일자 오프셋 */
+        final BitSet dirty = new BitSet();
+        volatile long bytes;
+
+        LocalDate last() {
+            return first.plusDays(days - 1L);
+        }
+    }
+
+    /**
+     * 이 기간을 큐브로 처리할지 여부.
+     *
+     * @param startDate 시작일 (inclusive)
+     * @param endDate   종료일 (inclusive)
+     * @return 사용 설정이 켜져 있고 기간이 {@code max-days} 이내면 true
+     */
+    public boolean accepts(LocalDate startDate, LocalDate endDate) {
+        if (!props.isEnabled() || startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return false;
+        }
+        return ChronoUnit.DAYS.between(startDate, endDate) + 1 <= props.getMaxDays();
+    }
+
+    /**
+     * 시간대별(07~20시) 매출/주문수. 없는 시간대는 0.
+     */
+    public List<TimeHourlyPointDto> hourlyChart(Long storeId, LocalDate startDate, LocalDate endDate) {
+        long[] sales = new long[24];
+        long[][] cnt = new long[24][CH];
+
+        StoreCube c = ensure(storeId, startDate, endDate);
+        synchronized (c) {
+            int[] r = dayRange(c, startDate, endDate);
+            for (int d = r[0]; d <= r[1]; d++) {
+                int dayBase = d * CELLS_PER_DAY;
+                for (int h = OPEN_HOUR; h <= CLOSE_HOUR; h++) {
+                    int i = dayBase + h * CH;
+                    for (int ch = 0; ch < CH; ch++) {
+                        sales[h] += c.sales[i + ch];
+                        cnt[h][ch] += c.orders[i + ch];
+                    }
+                }
+            }
+        }
+
+        List<TimeHourlyPointDto> result = new ArrayList<>(CLOSE_HOUR - OPEN_HOUR + 1);
+        for (int h = OPEN_HOUR; h <= CLOSE_HOUR; h++) {
+            long[] k = cnt[h];
+            result.add(new TimeHourlyPointDto(h, sales[h], k[CH_VISIT] + k[CH_TAKEOUT] + k[CH_DELIVERY] + k[CH_OTHER],
+                    k[CH_VISIT], k[CH_TAKEOUT], k[CH_DELIVERY]));
+        }
+        return result;
+    }
+
+    /**
+     * 요일별(1~7, 월=1) 매출/주문수, 영업시간만. 없는 요일은 0.
+     */
+    public List<WeekdaySalesPointDto> weekdayChart(Long storeId, LocalDate startDate, LocalDate endDate) {
+        long[] sales = new long[8];
+        long[] orders = new long[8];
+
+        StoreCube c = ensure(storeId, startDate, endDate);
+        synchronized (c) {
+            int[] r = dayRange(c, startDate, endDate);
+            if (r[0] <= r[1]) {
+                int wd = c.first.plusDays(r[0]).getDayOfWeek().getValue();
+                for (int d = r[0]; d <= r[1]; d++) {
+                    int from = d * CELLS_PER_DAY + OPEN_HOUR * CH;
+                    int to = d * CELLS_PER_DAY + (CLOSE_HOUR + 1) * CH;
+                    long s = 0L, o = 0L;
+                    for (int i = from; i < to; i++) {
+                        s += c.sales[i];
+                        o += c.orders[i];
+                    }
+                    sales[wd] += s;
+                    orders[wd] += o;
+                    wd = wd == 7 ? 1 : wd + 1;
+                }
+            }
+        }
+
+        List<WeekdaySalesPointDto> result = new ArrayList<>(7);
+        for (int wd = 1; wd <= 7; wd++) {
+            result.add(new WeekdaySalesPointDto(wd, sales[wd], orders[wd]));
+        }
+        return result;
+    }
+
+    /**
+     * 시간/요일 일별 테이블. 날짜 내림차순 → 시간 오름차순, 커서 {@code "YYYY-MM-DD|HH"}.
+     */
+    public CursorPage<TimeDayDailyRowDto> dailyRows(Long storeId, AnalyticsSearchDto cond) {
+        int size = (cond.size() == null ? 50 : cond.size());
+
+        // 커서: "YYYY-MM-DD|HH" (형식이 맞지 않으면 처음부터)
+        LocalDate cDate = null;
+        int cHour = -1;
+        String cursor = cond.cursor();
+        if (cursor != null && cursor.contains("|")) {
+            try {
+                String[] parts = cursor.split("\\|");
+                cDate = LocalDate.parse(parts[0]);
+                cHour = Integer.parseInt(parts[1]);
+            } catch (Exception ignore) {
+                cDate = null;
+            }
+        }
+
+        List<TimeDayDailyRowDto> result = new ArrayList<>();
+        boolean hasNext = false;
+
+        StoreCube c = ensure(storeId, cond.startDate(), cond.endDate());
+        synchronized (c) {
+            int[] r = dayRange(c, cond.startDate(), cond.endDate());
+            int top = r[1];
+            if (cDate != null && c.days > 0) {
+                top = Math.min(top, (int) ChronoUnit.DAYS.between(c.first, cDate));
+            }
+            scan:
+            for (int d = top; d >= r[0]; d--) {
+                LocalDate date = c.first.plusDays(d);
+                int fromHour = (cDate != null && date.equals(cDate)) ? Math.max(OPEN_HOUR, cHour + 1) : OPEN_HOUR;
+                for (int h = fromHour; h <= CLOSE_HOUR; h++) {
+                    int i = d * CELLS_PER_DAY + h * CH;
+                    long[] k = counts(c, i);
+                    long orderCnt = k[CH_VISIT] + k[CH_TAKEOUT] + k[CH_DELIVERY] + k[CH_OTHER];
+                    if (orderCnt == 0L) continue;
+                    if (result.size() == size) {
+                        hasNext = true;
+                        break scan;
+                    }
+                    result.add(new TimeDayDailyRowDto(
+                            date.toString(), date.getDayOfWeek().getValue(), h,
+                            orderCnt, salesSum(c, i),
+                            k[CH_VISIT], k[CH_TAKEOUT], k[CH_DELIVERY],
+                            safeDiv(k[CH_VISIT], orderCnt), safeDiv(k[CH_TAKEOUT], orderCnt), safeDiv(k[CH_DELIVERY], orderCnt)));
+                }
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TimeDayDailyRowDto last = result.get(result.size() - 1);
+            nextCursor = last.orderDate() + "|" + last.hour();
+        }
+        return new CursorPage<>(result, nextCursor);
+    }
+
+    /**
+     * 시간/요일 월별 테이블. 월 내림차순 → 요일 오름차순 → 시간 오름차순, 커서 {@code "YYYY-MM|weekday|hour"}.
+     */
+    public CursorPage<TimeDayMonthlyRowDto> monthlyRows(Long storeId, AnalyticsSearchDto cond) {
+        int size = (cond.size() == null ? 50 : cond.size());
+
+        // 커서: "YYYY-MM|weekday|hour" (형식이 맞지 않으면 처음부터)
+        YearMonth cYm = null;
+        int cWd = 0, cHour = -1;
+        String cursor = cond.cursor();
+        if (cursor != null && !cursor.isBlank() && cursor.contains("|")) {
+            try {
+                String[] parts = cursor.split("\\|");
+                cYm = YearMonth.parse(parts[0]);
+                cWd = Integer.parseInt(parts[1]);
+                cHour = Integer.parseInt(parts[2]);
+            } catch (Exception ignore) {
+                cYm = null;
+            }
+        }
+
+        List<TimeDayMonthlyRowDto> result = new ArrayList<>();
+        boolean hasNext = false;
+
+        StoreCube c = ensure(storeId, cond.startDate(), cond.endDate());
+        synchronized (c) {
+            int[] r = dayRange(c, cond.startDate(), cond.endDate());
+            if (r[0] <= r[1]) {
+                YearMonth ym = YearMonth.from(c.first.plusDays(r[1]));
+                YearMonth firstYm = YearMonth.from(c.first.plusDays(r[0]));
+                if (cYm != null && cYm.isBefore(ym)) ym = cYm;
+
+                // [요일 1~7][시간][주문 유형]
+                long[][] sales = new long[8][24];
+                long[][][] cnt = new long[8][24][CH];
+
+                scan:
+                for (; !ym.isBefore(firstYm); ym = ym.minusMonths(1)) {
+                    for (long[] a : sales) Arrays.fill(a, 0L);
+                    for (long[][] a : cnt) for (long[] b : a) Arrays.fill(b, 0L);
+
+                    int from = Math.max(r[0], (int) ChronoUnit.DAYS.between(c.first, ym.atDay(1)));
+                    int to = Math.min(r[1], (int) ChronoUnit.DAYS.between(c.first, ym.atEndOfMonth()));
+                    int wd = c.first.plusDays(from).getDayOfWeek().getValue();
+                    for (int d = from; d <= to; d++) {
+                        for (int h = OPEN_HOUR; h <= CLOSE_HOUR; h++) {
+                            int i = d * CELLS_PER_DAY + h * CH;
+                            long[] k = cnt[wd][h];
+                            for (int ch = 0; ch < CH; ch++) {
+                                sales[wd][h] += c.sales[i + ch];
+                                k[ch] += c.orders[i + ch];
+                            }
+                        }
+                        wd = wd == 7 ? 1 : wd + 1;
+                    }
+
+                    boolean cursorMonth = ym.equals(cYm);
+                    for (int w = cursorMonth ? Math.max(1, cWd) : 1; w <= 7; w++) {
+                        int fromHour = (cursorMonth && w == cWd) ? Math.max(OPEN_HOUR, cHour + 1) : OPEN_HOUR;
+                        for (int h = fromHour; h <= CLOSE_HOUR; h++) {
+                            long[] k = cnt[w][h];
+                            long orderCnt = k[CH_VISIT] + k[CH_TAKEOUT] + k[CH_DELIVERY] + k[CH_OTHER];
+                            if (orderCnt == 0L) continue;
+                            if (result.size() == size) {
+                                hasNext = true;
+                                break scan;
+                            }
+                            result.add(new TimeDayMonthlyRowDto(
+                                    ym.toString(), w, h,
+                                    orderCnt, sales[w][h],
+                                    k[CH_VISIT], k[CH_TAKEOUT], k[CH_DELIVERY],
+                                    safeDiv(k[CH_VISIT], orderCnt), safeDiv(k[CH_TAKEOUT], orderCnt), safeDiv(k[CH_DELIVERY], orderCnt)));
+                        }
+                    }
+                }
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TimeDayMonthlyRowDto last = result.get(result.size() - 1);
+            nextCursor = last.yearMonth() + "|" + last.weekday() + "|" + last.hour();
+        }
+        return new CursorPage<>(result, nextCursor);
+    }
+
+    /**
+     * 주문 상태가 바뀌었을 때 호출한다. 커밋 후 해당 일자를 더티 표시한다.
+     *
+     * @param storeId   가맹점 ID
+     * @param orderedAt 주문 일시
+     */
+    public void onOrderChanged(Long storeId, LocalDateTime orderedAt) {
+        if (storeId == null || orderedAt == null) return;
+        LocalDate day = orderedAt.toLocalDate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markDirty(storeId, day);
+                }
+            });
+        } else {
+            markDirty(storeId, day);
+        }
+    }
+
+    /** 가맹점 큐브 제거 */
+    public synchronized void evictStore(Long storeId) {
+        cubes.remove(storeId);
+    }
+
+    /** 전체 제거 */
+    public synchronized void clear() {
+        cubes.clear();
+    }
+
+    private void markDirty(Long storeId, LocalDate day) {
+        StoreCube c;
+        synchronized (this) {
+            c = cubes.get(storeId);
+        }
+        if (c == null) return;
+        synchronized (c) {
+            if (c.days == 0 || day.isBefore(c.first) || day.isAfter(c.last())) return;
+            c.dirty.set((int) ChronoUnit.DAYS.between(c.first, day));
+        }
+    }
+
+    /**
+     * 요청 기간이 큐브에 최신 상태로 들어 있도록 맞춘다 (모자란 구간 적재, 닫히지 않은 구간/더티 일자 재적재).
+     */
+    private StoreCube ensure(Long storeId, LocalDate start, LocalDate end) {
+        StoreCube c;
+        synchronized (this) {
+            c = cubes.computeIfAbsent(storeId, id -> new StoreCube());
+        }
+
+        LocalDate today = LocalDate.now(KST);
+        // 미래 일자는 비어 있으므로 오늘까지만 보관
+        LocalDate loadEnd = end.isAfter(today) ? today : end;
+
+        synchronized (c) {
+            if (!loadEnd.isBefore(start)) {
+                if (c.days > 0) {
+                    LocalDate unionFirst = start.isBefore(c.first) ? start : c.first;
+                    LocalDate unionLast = loadEnd.isAfter(c.last()) ? loadEnd : c.last();
+                    if (ChronoUnit.DAYS.between(unionFirst, unionLast) + 1 > props.getMaxDays()) {
+                        // 보관 일수 상한을 넘으면 이번 요청 기간으로 다시 만든다
+                        reset(c);
+                    }
+                }
+
+                if (c.days == 0) {
+                    c.first = start;
+                    resize(c, start, loadEnd);
+                    load(storeId, c, start, loadEnd);
+                    c.openFrom = today;
+                    c.openLoadedAt = System.nanoTime();
+                } else {
+                    if (start.isBefore(c.first)) {
+                        LocalDate oldFirst = c.first;
+                        resize(c, start, c.last());
+                        load(storeId, c, start, oldFirst.minusDays(1));
+                    }
+                    if (loadEnd.isAfter(c.last())) {
+                        LocalDate oldLast = c.last();
+                        resize(c, c.first, loadEnd);
+                        load(storeId, c, oldLast.plusDays(1), loadEnd);
+                    }
+                    refreshOpen(storeId, c, today);
+                    refreshDirty(storeId, c, start, loadEnd);
+                }
+            }
+        }
+
+        trim(storeId);
+        return c;
+    }
+
+    /** 닫히지 않았던 구간: TTL 이 지났거나 날짜가 바뀌었으면 다시 읽는다 */
+    private void refreshOpen(Long storeId, StoreCube c, LocalDate today) {
+        if (c.openFrom == null || c.openFrom.isAfter(c.last())) {
+            c.openFrom = today;
+            return;
+        }
+        boolean stale = System.nanoTime() - c.openLoadedAt > TimeUnit.SECONDS.toNanos(Math.max(1, props.getOpenTtlSeconds()));
+        if (!stale && !c.openFrom.isBefore(today)) return;
+
+        LocalDate from = c.openFrom.isBefore(c.first) ? c.first : c.openFrom;
+        load(storeId, c, from, c.last());
+        c.openFrom = today;
+        c.openLoadedAt = System.nanoTime();
+    }
+
+    /** 요청 기간 안의 더티 일자를 (처음 ~ 마지막 더티 일자) 한 번에 다시 읽는다 */
+    private void refreshDirty(Long storeId, StoreCube c, LocalDate start, LocalDate end) {
+        if (c.dirty.isEmpty()) return;
+        int[] r = dayRange(c, start, end);
+        int lo = c.dirty.nextSetBit(r[0]);
+        if (lo < 0 || lo > r[1]) return;
+        int hi = c.dirty.previousSetBit(r[1]);
+        load(storeId, c, c.first.plusDays(lo), c.first.plusDays(hi));
+        c.dirty.clear(lo, hi + 1);
+    }
+
+    /** [from, to] 구간 칸을 비우고 롤업으로 채운다. 아카이브 경계 이전이면 아카이브까지 함께 읽는다 */
+    private void load(Long storeId, StoreCube c, LocalDate from, LocalDate to) {
+        long begin = System.currentTimeMillis();
+        List<TimeHourlyRollupDto> rows = archiveReadRouter.read(from,
+                () -> repo.fetchTimeHourlyRollup(storeId, from, to));
+
+        int lo = (int) ChronoUnit.DAYS.between(c.first, from) * CELLS_PER_DAY;
+        int hi = ((int) ChronoUnit.DAYS.between(c.first, to) + 1) * CELLS_PER_DAY;
+        Arrays.fill(c.sales, lo, hi, 0L);
+        Arrays.fill(c.orders, lo, hi, 0);
+
+        for (TimeHourlyRollupDto row : rows) {
+            int d = (int) ChronoUnit.DAYS.between(c.first, LocalDate.parse(row.orderDate()));
+            if (d < 0 || d >= c.days || row.hour() < 0 || row.hour() > 23) continue;
+            int i = d * CELLS_PER_DAY + row.hour() * CH + channel(row.orderType());
+            c.sales[i] += row.sales();
+            c.orders[i] += (int) row.orders();
+        }
+        log.debug("[ANALYTICS_CUBE] load storeId={} range={}~{} rows={} elapsedMs={}",
+                storeId, from, to, rows.size(), System.currentTimeMillis() - begin);
+    }
+
+    /** 배열을 [newFirst, newLast] 범위로 다시 잡고 기존 값을 옮긴다 */
+    private static void resize(StoreCube c, LocalDate newFirst, LocalDate newLast) {
+        int newDays = (int) ChronoUnit.DAYS.between(newFirst, newLast) + 1;
+        long[] sales = new long[newDays * CELLS_PER_DAY];
+        int[] orders = new int[newDays * CELLS_PER_DAY];
+        if (c.days > 0) {
+            int shift = (int) ChronoUnit.DAYS.between(newFirst, c.first);
+            System.arraycopy(c.sales, 0, sales, shift * CELLS_PER_DAY, c.days * CELLS_PER_DAY);
+            System.arraycopy(c.orders, 0, orders, shift * CELLS_PER_DAY, c.days * CELLS_PER_DAY);
+
+            BitSet moved = new BitSet();
+            for (int b = c.dirty.nextSetBit(0); b >= 0; b = c.dirty.nextSetBit(b + 1)) moved.set(b + shift);
+            c.dirty.clear();
+            c.dirty.or(moved);
+        }
+        c.first = newFirst;
+        c.days = newDays;
+        c.sales = sales;
+        c.orders = orders;
+        c.bytes = newDays * BYTES_PER_DAY;
+    }
+
+    private static void reset(StoreCube c) {
+        c.days = 0;
+        c.sales = new long[0];
+        c.orders = new int[0];
+        c.dirty.clear();
+        c.openFrom = null;
+        c.bytes = 0L;
+    }
+
+    /** 메모리 상한을 넘으면 가장 오래 안 쓴 가맹점부터 제거 (방금 쓴 가맹점은 남긴다) */
+    private synchronized void trim(Long keep) {
+        long total = 0L;
+        for (StoreCube c : cubes.values()) total += c.bytes;
+        if (total <= props.getMaxBytes()) return;
+
+        Iterator<Map.Entry<Long, StoreCube>> it = cubes.entrySet().iterator();
+        while (total > props.getMaxBytes() && it.hasNext()) {
+            Map.Entry<Long, StoreCube> e = it.next();
+            if (e.getKey().equals(keep)) continue;
+            total -= e.getValue().bytes;
+            it.remove();
+            log.info("[ANALYTICS_CUBE] evict storeId={} totalBytes={}", e.getKey(), total);
+        }
+    }
+
+    /** 요청 기간을 큐브 일자 오프셋 [lo, hi]로 바꾼다. 겹치지 않으면 lo > hi */
+    private static int[] dayRange(StoreCube c, LocalDate start, LocalDate end) {
+        if (c.days == 0) return new int[]{0, -1};
+        int lo = (int) Math.max(0L, ChronoUnit.DAYS.between(c.first, start));
+        int hi = (int) Math.min(c.days - 1L, ChronoUnit.DAYS.between(c.first, end));
+        return new int[]{lo, hi};
+    }
+
+    private static long[] counts(StoreCube c, int i) {
+        long[] k = new long[CH];
+        for (int ch = 0; ch < CH; ch++) k[ch] = c.orders[i + ch];
+        return k;
+    }
+
+    private static long salesSum(StoreCube c, int i) {
+        long s = 0L;
+        for (int ch = 0; ch < CH; ch++) s += c.sales[i + ch];
+        return s;
+    }
+
+    private static int channel(OrderType type) {
+        if (type == null) return CH_OTHER;
+        return switch (type) {
+            case VISIT -> CH_VISIT;
+            case TAKEOUT -> CH_TAKEOUT;
+            case DELIVERY -> CH_DELIVERY;
+        };
+    }
+
+    private static double safeDiv(long num, long den) {
+        return den == 0L ? 0.0 : (double) num / (double) den;
+    }
+}
@@ -0,0 +1,379 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsRendererProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.*;
+import com.boot.ict05_final_user.domain.analytics.support.PdfReportWriter;
+import com.boot.ict05_final_user.domain.analytics.support.PdfReportWriter.Column;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 애플리케이션 내부에서 PDF 를 만드는 {@link ReportRenderer}.
+ *
+ * <p>python-pdf-download 의 각 컴포넌트(kpi / order / menu / time_day / material)와 같은
+ * 구성·컬럼·정렬로 그린다. 행은 {@link PdfReportWriter}로 바로 흘려보내 페이지 단위로 출력된다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JavaReportRenderer implements ReportRenderer {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter GENERATED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private static final Map<String, String> ORDER_TYPE_LABEL = Map.of(
+            "DELIVERY", "배달", "TAKEOUT", "포장", "VISIT", "매장");
+    private static final Map<String, String> PAYMENT_TYPE_LABEL = Map.of(
+            "CARD", "카드", "CASH", "현금", "VOUCHER", "상품권", "EXTERNAL", "외부 결제");
+    private static final String[] WEEKDAY_LABEL = {"", "월", "화", "수", "목", "금", "토", "일"};
+
+    private final AnalyticsRendererProperties props;
+
+    /** 본문 작성 콜백 */
+    @FunctionalInterface
+    private interface Body {
+        void write(PdfReportWriter w) throws IOException;
+    }
+
+    // =========================================
+    // KPI
+    // =========================================
+
+    @Override
+    public byte[] renderKpi(KpiPdfPayload payload) {
+        PdfCriteria c = payload.criteria();
+        return render(w -> {
+            w.title("[KPI 분석 리포트] " + nz(c.storeName()));
+            w.lines("기간: " + c.startDate() + " ~ " + c.endDate() + " / ViewBy: " + c.viewBy(),
+                    "점포: " + nz(c.storeName()),
+                    "생성일시: " + now());
+            w.gap(6);
+            w.beginTable(9f,
+                    Column.left(c.byDay() ? "날짜" : "월", 26),
+                    Column.right("매출", 30),
+                    Column.right("주문수", 20),
+                    Column.right("UPT", 16),
+                    Column.right("ADS", 22),
+                    Column.right("AUR", 22));
+            for (KpiRowDto r : payload.rows()) {
+                w.row(r.label(), money(r.sales()), money(r.tx()),
+                        String.format(Locale.ROOT, "%.2f", r.upt()), money(r.ads()), money(r.aur()));
+            }
+            w.endTable();
+        });
+    }
+
+    // =========================================
+    // 주문
+    // =========================================
+
+    @Override
+    public byte[] renderOrders(OrdersPdfPayload payload) {
+        PdfCriteria c = payload.criteria();
+        return render(w -> {
+            w.title("주문 분석 리포트");
+            w.lines("기간: " + c.startDate() + " ~ " + c.endDate() + " / 기준: " + (c.byDay() ? "일별" : "월별"),
+                    "점포: " + nz(c.storeName()),
+                    "생성일시: " + now());
+            w.gap(6);
+            if (c.byDay()) {
+                w.beginTable(9f,
+                        Column.left("주문일자", 25),
+                        Column.right("주문ID", 20),
+                        Column.left("주문유형", 18),
+                        Column.right("총금액", 25),
+                        Column.right("메뉴수", 18),
+                        Column.right("결제수단", 22),
+                        Column.left("채널메모", 40));
+                for (OrderDailyRowDto r : payload.dailyRows()) {
+                    w.row(r.orderDate(),
+                            r.orderId() == null ? "" : String.valueOf(r.orderId()),
+                            label(ORDER_TYPE_LABEL, r.orderType()),
+                            money(r.totalPrice()),
+                            money(r.menuCount()),
+                            label(PAYMENT_TYPE_LABEL, r.paymentType()),
+                            r.channelMemo() == null || r.channelMemo().isEmpty() ? "-" : r.channelMemo());
+                }
+            } else {
+                w.beginTable(9f,
+                        Column.left("월", 25),
+                        Column.right("총매출", 25),
+                        Column.right("주문수", 18),
+                        Column.right("평균주문금액", 30),
+                        Column.right("배달매출", 25),
+                        Column.right("포장매출", 25),
+                        Column.right("매장매출", 25));
+                for (OrderMonthlyRowDto r : payload.monthlyRows()) {
+                    w.row(r.yearMonth(), money(r.totalSales()), money(r.orderCount()), money(r.avgOrderAmount()),
+                            money(r.deliverySales()), money(r.takeoutSales()), money(r.visitSales()));
+                }
+            }
+            w.endTable();
+        });
+    }
+
+    // =========================================
+    // 메뉴
+    // =========================================
+
+    @Override
+    public byte[] renderMenus(MenuPdfPayload payload) {
+        PdfCriteria c = payload.criteria();
+        return render(w -> {
+            w.title("메뉴 분석 리포트");
+            w.lines("점포: " + nz(c.storeName()),
+                    "기간: " + c.startDate() + " ~ " + c.endDate(),
+                    "보기: " + (c.byDay() ? "일별" : "월별"),
+                    "생성일시: " + now());
+            w.gap(6);
+            w.beginTable(9f,
+                    Column.left(c.byDay() ? "날짜" : "월", 30),
+                    Column.left("카테고리", 40),
+                    Column.left("메뉴", 60),
+                    Column.right("판매수량", 20),
+                    Column.right("매출액", 25),
+                    Column.right("주문수", 20));
+            if (c.byDay()) {
+                for (MenuDailyRowDto r : payload.dailyRows()) {
+                    w.row(r.orderDate(), nz(r.categoryName()), nz(r.menuName()),
+                            money(r.quantity()), money(r.sales()), money(r.orderCount()));
+                }
+            } else {
+                for (MenuMonthlyRowDto r : payload.monthlyRows()) {
+                    w.row(r.yearMonth(), nz(r.categoryName()), nz(r.menuName()),
+                            money(r.quantity()), money(r.sales()), money(r.orderCount()));
+                }
+            }
+            w.endTable();
+        });
+    }
+
+    // =========================================
+    // 시간·요일
+    // =========================================
+
+    @Override
+    public byte[] renderTimeDay(TimeDayReportPayload payload) {
+        boolean byMonth = "MONTH".equalsIgnoreCase(payload.viewBy());
+        return render(w -> {
+            w.title("시간/요일 분석 리포트");
+            w.lines("점포: " + nz(payload.storeName()),
+                    "기간: " + nz(payload.periodLabel()),
+                    "생성일시: " + nz(payload.generatedAt()));
+            w.gap(6);
+
+            TimeDaySummaryDto s = payload.summary();
+            if (s != null) {
+                w.section("[요약]");
+                w.lines("피크 시간대: " + orDash(s.peakHour()) + "시 / 매출 " + money(s.peakHourSales()) + "원",
+                        "비수 시간대: " + orDash(s.offpeakHour()) + "시 / 매출 " + money(s.offpeakHourSales()) + "원",
+                        "최고 매출 요일: " + weekday(s.topWeekday()) + "요일 / 매출 " + money(s.topWeekdaySales()) + "원",
+                        "주중 매출: " + money(s.weekdaySales()) + "원 / 주말 매출: " + money(s.weekendSales()) + "원");
+                w.gap(6);
+            }
+
+            List<TimeHourlyPointDto> hourly = payload.hourlyPoints();
+            if (hourly != null && !hourly.isEmpty()) {
+                w.section("시간대별 매출");
+                String[] labels = new String[hourly.size()];
+                long[] values = new long[hourly.size()];
+                for (int i = 0; i < hourly.size(); i++) {
+                    labels[i] = String.valueOf(hourly.get(i).hour());
+                    values[i] = hourly.get(i).sales();
+                }
+                w.barChart(labels, values);
+            }
+            List<WeekdaySalesPointDto> weekdays = payload.weekdayPoints();
+            if (weekdays != null && !weekdays.isEmpty()) {
+                w.section("요일별 매출");
+                String[] labels = new String[weekdays.size()];
+                long[] values = new long[weekdays.size()];
+                for (int i = 0; i < weekdays.size(); i++) {
+                    labels[i] = weekday(weekdays.get(i).weekday());
+                    values[i] = weekdays.get(i).sales();
+                }
+                w.barChart(labels, values);
+            }
+            w.gap(4);
+
+            w.beginTable(9f,
+                    Column.left(byMonth ? "날짜(월)" : "날짜(일)", 26),
+                    Column.left("요일", 12),
+                    Column.left("시간대", 18),
+                    Column.right("주문수", 16),
+                    Column.right("매출액", 20),
+                    Column.left("매장/포장/배달", 62));
+            if (byMonth) {
+                for (TimeDayMonthlyRowDto r : payload.monthlyRows()) {
+                    w.row(r.yearMonth(), weekday(r.weekday()), hour(r.hour()), money(r.orderCount()), money(r.sales()),
+                            channels(r.visitCount(), r.takeoutCount(), r.deliveryCount()));
+                }
+            } else {
+                for (TimeDayDailyRowDto r : payload.dailyRows()) {
+                    w.row(r.orderDate(), weekday(r.weekday()), hour(r.hour()), money(r.orderCount()), money(r.sales()),
+                            channels(r.visitCount(), r.takeoutCount(), r.deliveryCount()));
+                }
+            }
+            w.endTable();
+        });
+    }
+
+    // =========================================
+    // 재료
+    // =========================================
+
+    @Override
+    public byte[] renderMaterial(MaterialReportPayload payload) {
+        boolean byMonth = "MONTH".equalsIgnoreCase(payload.viewBy());
+        return render(w -> {
+            w.title("재료 분석 리포트");
+            w.lines("점포: " + nz(payload.storeName()),
+                    "기간: " + nz(payload.periodLabel()) + " / 기준: " + (byMonth ? "월별" : "일별"),
+                    "생성일시: " + nz(payload.generatedAt()));
+            w.gap(5);
+
+            MaterialSummaryDto s = payload.summary();
+            if (s != null) {
+                w.section("재료 분석 요약");
+                w.lines("▶ 사용량 Top 5");
+                topTable(w, s.topByUsage());
+                w.gap(5);
+                w.lines("▶ 원가 Top 5");
+                topTable(w, s.topByCost());
+                w.gap(5);
+                w.lines("▶ 재료 원가율",
+                        "이번달 원가율: " + percent(s.currentCostRate()),
+                        "전월 동기간 원가율: " + percent(s.prevCostRate()),
+                        "증감: " + String.format(Locale.ROOT, "%+.1f%%p", s.costRateDiff()));
+                w.gap(5);
+                w.lines("▶ 재고 위험 알림",
+                        "재고 부족: " + s.lowStockCount() + "개 재료",
+                        "유통기한 임박: " + s.expireSoonCount() + "개 재료");
+            }
+            w.pageBreak();
+
+            if (byMonth) {
+                w.section("월별 재료 사용 내역");
+                if (payload.monthlyRows() == null || payload.monthlyRows().isEmpty()) {
+                    w.lines("데이터 없음");
+                    return;
+                }
+                w.beginTable(8f,
+                        Column.left("월", 25),
+                        Column.left("재료명", 45),
+                        Column.right("사용량", 30),
+                        Column.right("원가", 30),
+                        Column.right("원가율", 25),
+                        Column.left("최근입고월", 30));
+                for (MaterialMonthlyRowDto r : payload.monthlyRows()) {
+                    w.row(r.yearMonth(), orDash(r.materialName()), qty(r.usedQuantity()), money(r.cost()),
+                            percent(r.costRate()), orDash(r.lastInboundMonth()));
+                }
+            } else {
+                w.section("일별 재료 사용 내역");
+                if (payload.dailyRows() == null || payload.dailyRows().isEmpty()) {
+                    w.lines("데이터 없음");
+                    return;
+                }
+                w.beginTable(8f,
+                        Column.left("사용일자", 25),
+                        Column.left("재료명", 35),
+                        Column.right("사용량", 22),
+                        Column.left("단위", 18),
+                        Column.right("원가", 22),
+                        Column.right("매출비중", 22),
+                        Column.left("최근입고일", 25));
+                for (MaterialDailyRowDto r : payload.dailyRows()) {
+                    w.row(r.useDate(), orDash(r.materialName()), qty(r.usedQuantity()), orDash(r.unitName()),
+                            money(r.cost()), percent(r.salesShare()), orDash(r.lastInboundDate()));
+                }
+            }
+            w.endTable();
+        });
+    }
+
+    private static void topTable(PdfReportWriter w, List<MaterialTopItemDto> items) throws IOException {
+        if (items == null || items.isEmpty()) {
+            w.lines("데이터 없음");
+            return;
+        }
+        w.beginTable(8f,
+                Column.right("순위", 15),
+                Column.left("재료명", 40),
+                Column.right("사용량", 25),
+                Column.left("단위", 20),
+                Column.right("원가", 25));
+        int rank = 1;
+        for (MaterialTopItemDto item : items) {
+            w.row(String.valueOf(rank++), orDash(item.materialName()), qty(item.usedQuantity()),
+                    orDash(item.unitName()), money(item.cost()));
+        }
+        w.endTable();
+    }
+
+    // =========================================
+    // 공통
+    // =========================================
+
+    private byte[] render(Body body) {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(64 * 1024);
+        try {
+            PdfReportWriter w = PdfReportWriter.open(buf, props.getFont());
+            body.write(w);
+            w.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException("PDF 렌더링 실패", e);
+        }
+        return buf.toByteArray();
+    }
+
+    private static String now() {
+        return LocalDateTime.now(KST).format(GENERATED_AT);
+    }
+
+    private static String money(long v) {
+        return String.format(Locale.ROOT, "%,d", v);
+    }
+
+    private static String qty(double v) {
+        return String.format(Locale.ROOT, "%,.2f", v);
+    }
+
+    private static String percent(double v) {
+        return String.format(Locale.ROOT, "%.1f%%", v);
+    }
+
+    private static String hour(int h) {
+        return String.format(Locale.ROOT, "%02d시", h);
+    }
+
+    private static String weekday(Integer w) {
+        return w != null && w > 0 && w < WEEKDAY_LABEL.length ? WEEKDAY_LABEL[w] : "-";
+    }
+
+    private static String channels(long visit, long takeout, long delivery) {
+        return "VISIT " + visit + ", TAKEOUT " + takeout + ", DELIVERY " + delivery;
+    }
+
+    private static String label(Map<String, String> labels, String code) {
+        if (code == null || code.isEmpty()) return "-";
+        return labels.getOrDefault(code.toUpperCase(Locale.ROOT), code);
+    }
+
+    private static String orDash(Object v) {
+        return v == null || v.toString().isEmpty() ? "-" : v.toString();
+    }
+
+    private static String nz(String s) {
+        return s == null ? "" : s;
+    }
+}
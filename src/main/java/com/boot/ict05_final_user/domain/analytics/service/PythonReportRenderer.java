@@ -0,0 +1,41 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.config.PythonPdfClient;
+import com.boot.ict05_final_user.domain.analytics.dto.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * python-pdf-download (FastAPI) 서비스로 렌더링하는 {@link ReportRenderer}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PythonReportRenderer implements ReportRenderer {
+
+    private final PythonPdfClient pythonPdfClient;
+
+    @Override
+    public byte[] renderKpi(KpiPdfPayload payload) {
+        return pythonPdfClient.requestKpiReport(payload);
+    }
+
+    @Override
+    public byte[] renderOrders(OrdersPdfPayload payload) {
+        return pythonPdfClient.requestOrdersReport(payload);
+    }
+
+    @Override
+    public byte[] renderMenus(MenuPdfPayload payload) {
+        return pythonPdfClient.requestMenusReport(payload);
+    }
+
+    @Override
+    public byte[] renderTimeDay(TimeDayReportPayload payload) {
+        return pythonPdfClient.requestTimeDayReport(payload);
+    }
+
+    @Override
+    public byte[] renderMaterial(MaterialReportPayload payload) {
+        return pythonPdfClient.requestMaterialReport(payload);
+    }
+}
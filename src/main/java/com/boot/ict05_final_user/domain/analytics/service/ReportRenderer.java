@@ -0,0 +1,31 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.dto.*;
+
+/**
+ * 분석 리포트 PDF 렌더러.
+ *
+ * <p>구현체:
+ * <ul>
+ *   <li>{@link PythonReportRenderer}: python-pdf-download 서비스 호출 (기존 방식)</li>
+ *   <li>{@link JavaReportRenderer}: 애플리케이션 내부 렌더링 (네트워크 왕복·JSON 직렬화 없음)</li>
+ * </ul>
+ * 리포트 종류별 선택과 폴백은 {@link ReportRendererRouter}가 맡는다.</p>
+ */
+public interface ReportRenderer {
+
+    /** KPI 리포트 */
+    byte[] renderKpi(KpiPdfPayload payload);
+
+    /** 주문 분석 리포트 */
+    byte[] renderOrders(OrdersPdfPayload payload);
+
+    /** 메뉴 분석 리포트 */
+    byte[] renderMenus(MenuPdfPayload payload);
+
+    /** 시간·요일 분석 리포트 */
+    byte[] renderTimeDay(TimeDayReportPayload payload);
+
+    /** 재료 분석 리포트 */
+    byte[] renderMaterial(MaterialReportPayload payload);
+}
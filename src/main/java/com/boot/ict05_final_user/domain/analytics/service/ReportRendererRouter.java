@@ -0,0 +1,59 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsRendererProperties;
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsRendererProperties.Engine;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportStore.ReportType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 리포트 종류별 {@link ReportRenderer} 선택.
+ *
+ * <ul>
+ *   <li>{@code analytics.renderer.engines.<종류>} → 없으면 {@code default-engine}</li>
+ *   <li>내부 렌더링이 실패하면 {@code fallback-to-python=true} 일 때 Python 서비스로 다시 시도</li>
+ *   <li>내부 렌더링 실패는 폴백 여부와 관계없이 ERROR 로그 + {@value #FAILURE_METER} 카운터
+ *       (tag: type, fallback)로 남긴다 — 폴백이 조용히 가리지 않도록.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportRendererRouter {
+
+    private final AnalyticsRendererProperties props;
+    private final JavaReportRenderer javaRenderer;
+    private final PythonReportRenderer pythonRenderer;
+    private final MeterRegistry meterRegistry;
+
+    /** 내부 렌더링 실패 카운터 */
+    static final String FAILURE_METER = "analytics.report.render.java.failures";
+
+    /**
+     * @param type   리포트 종류
+     * @param render 렌더러에 대한 호출 (예: {@code r -> r.renderKpi(payload)})
+     * @return PDF 바이트
+     */
+    public byte[] render(ReportType type, Function<ReportRenderer, byte[]> render) {
+        if (props.engineFor(type) != Engine.JAVA) {
+            return render.apply(pythonRenderer);
+        }
+        long begin = System.currentTimeMillis();
+        try {
+            byte[] pdf = render.apply(javaRenderer);
+            log.debug("[REPORT_RENDER] engine=JAVA type={} bytes={} elapsedMs={}",
+                    type, pdf.length, System.currentTimeMillis() - begin);
+            return pdf;
+        } catch (RuntimeException e) {
+            boolean fallback = props.isFallbackToPython();
+            meterRegistry.counter(FAILURE_METER, "type", type.name(), "fallback", String.valueOf(fallback)).increment();
+            log.error("[REPORT_RENDER] in-process render failed type={} fallback={}", type, fallback, e);
+            if (!fallback) throw e;
+            return render.apply(pythonRenderer);
+        }
+    }
+}
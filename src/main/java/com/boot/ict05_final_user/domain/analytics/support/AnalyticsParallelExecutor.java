@@ -0,0 +1,212 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsParallelProperties;
+import com.boot.ict05_final_user.domain.partition.support.ArchiveReadContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 분석 요약 카드의 독립 하위 쿼리 병렬 실행기.
+ *
+ * <p><b>사용</b></p>
+ * <pre>
+ * Scope scope = executor.open("material-summary");
+ * Subtask&lt;Long&gt; a = scope.fork("sales", () -&gt; ..., 0L);
+ * Subtask&lt;Long&gt; b = scope.fork("cost",  () -&gt; ..., 0L);
+ * scope.join();
+ * a.get(); b.get();
+ * </pre>
+ *
+ * <p><b>규칙</b></p>
+ * <ul>
+ *   <li>하위 쿼리마다 작업 스레드에서 별도 읽기 전용 트랜잭션(= 별도 커넥션)으로 실행한다.</li>
+ *   <li>스레드 수와 대기열은 고정 크기. 대기열이 가득 차면 해당 하위 쿼리는 실행하지 않고 기본값을 쓴다
+ *       (호출 스레드에서 직접 실행하면 마감 시각을 지키지 못하므로).</li>
+ *   <li>{@link Scope#join()}은 스코프 전체 마감 시각({@code deadline-ms})까지만 기다린다.
+ *       시간 초과/실패한 하위 쿼리는 취소하고 fork 시 지정한 기본값을 돌려준다(부분 결과).</li>
+ *   <li>스레드 인터럽트로는 실행 중인 JDBC 문이 멈추지 않으므로, 하위 쿼리 트랜잭션에 남은 마감 시간
+ *       이하의 타임아웃(초 단위 내림, 최소 1초)을 걸어 드라이버 쿼리 타임아웃으로 끊는다.</li>
+ *   <li>아카이브 폴백 조회 컨텍스트({@link ArchiveReadContext})는 작업 스레드로 전파한다.</li>
+ *   <li>{@code analytics.parallel.enabled=false} 이면 호출 스레드에서 순차 실행한다(기본값 규칙은 동일).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class AnalyticsParallelExecutor implements DisposableBean {
+
+    private final AnalyticsParallelProperties props;
+    private final PlatformTransactionManager transactionManager;
+    private final ThreadPoolExecutor pool;
+
+    public AnalyticsParallelExecutor(AnalyticsParallelProperties props, PlatformTransactionManager transactionManager) {
+        this.props = props;
+        this.transactionManager = transactionManager;
+
+        int size = Math.max(1, props.getPoolSize());
+        AtomicInteger seq = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, props.getQueueCapacity())),
+                r -> {
+                    Thread t = new Thread(r, "analytics-q-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 하위 쿼리 묶음을 연다.
+     *
+     * @param name 로그용 이름
+     */
+    public Scope open(String name) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, props.getDeadlineMs()));
+        return new Scope(name, deadline);
+    }
+
+    /**
+     * 남은 마감 시간 이하의 타임아웃을 건 읽기 전용 트랜잭션.
+     * (JDBC 쿼리 타임아웃이 초 단위이므로 내림, 최소 1초)
+     */
+    private TransactionTemplate readOnlyTx(long deadline) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.setTimeout((int) Math.max(1L, Math.min(Integer.MAX_VALUE, remainingMs / 1000)));
+        return tx;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+
+    /** 하위 쿼리 묶음 (요청 스레드 1개에서만 사용) */
+    public final class Scope {
+
+        private final String name;
+        private final long deadline;
+        private final List<Subtask<?>> tasks = new ArrayList<>();
+        private boolean partial;
+
+        private Scope(String name, long deadline) {
+            this.name = name;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 하위 쿼리를 시작한다.
+         *
+         * @param taskName 로그용 이름
+         * @param body     조회
+         * @param fallback 실패/시간 초과 시 값
+         */
+        public <T> Subtask<T> fork(String taskName, Supplier<T> body, T fallback) {
+            Subtask<T> st = new Subtask<>(taskName, fallback);
+            tasks.add(st);
+            if (!props.isEnabled()) {
+                try {
+                    st.value = body.get();
+                    st.done = true;
+                } catch (RuntimeException e) {
+                    fail(st, e);
+                }
+                return st;
+            }
+            Map<String, String> archive = ArchiveReadContext.current();
+            try {
+                st.future = pool.submit(() -> readOnlyTx(deadline).execute(tx ->
+                        archive == null ? body.get() : ArchiveReadContext.with(archive, body)));
+            } catch (RejectedExecutionException e) {
+                fail(st, e);
+            }
+            return st;
+        }
+
+        /** 이미 계산된 값을 하위 결과로 등록한다 (조건부로 조회를 건너뛸 때) */
+        public <T> Subtask<T> done(T value) {
+            Subtask<T> st = new Subtask<>("const", value);
+            st.value = value;
+            st.done = true;
+            return st;
+        }
+
+        /**
+         * 마감 시각까지 모든 하위 쿼리를 기다린다. 남은 하위 쿼리는 취소한다.
+         *
+         * @return this
+         */
+        public Scope join() {
+            for (Subtask<?> st : tasks) {
+                if (st.done || st.future == null) continue;
+                long remaining = deadline - System.nanoTime();
+                try {
+                    collect(st, remaining);
+                } catch (TimeoutException e) {
+                    st.future.cancel(true);
+                    partial = true;
+                    log.warn("[ANALYTICS] {}/{} timed out, using fallback", name, st.name);
+                } catch (ExecutionException e) {
+                    fail(st, e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    tasks.forEach(t -> { if (t.future != null) t.future.cancel(true); });
+                    partial = true;
+                    log.warn("[ANALYTICS] {} interrupted, using fallback", name);
+                    break;
+                } catch (CancellationException e) {
+                    partial = true;
+                }
+            }
+            return this;
+        }
+
+        /** 기본값으로 대체된 하위 쿼리가 있는지 */
+        public boolean isPartial() {
+            return partial;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> void collect(Subtask<T> st, long remainingNanos)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            st.value = (T) st.future.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS);
+            st.done = true;
+        }
+
+        private void fail(Subtask<?> st, Throwable e) {
+            partial = true;
+            log.warn("[ANALYTICS] {}/{} failed, using fallback: {}", name, st.name, String.valueOf(e));
+        }
+    }
+
+    /** 하위 쿼리 결과 */
+    public static final class Subtask<T> {
+
+        private final String name;
+        private final T fallback;
+        private Future<?> future;
+        private T value;
+        private boolean done;
+
+        private Subtask(String name, T fallback) {
+            this.name = name;
+            this.fallback = fallback;
+        }
+
+        /** {@link Scope#join()} 이후 결과. 실패/시간 초과면 기본값 */
+        public T get() {
+            return done ? value : fallback;
+        }
+    }
+}
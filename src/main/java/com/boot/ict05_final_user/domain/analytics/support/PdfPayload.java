@@ -0,0 +1,20 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * PDF 서버로 보내는 리포트 페이로드.
+ *
+ * <p>구현체는 자기 JSON 본문 전체(최상위 객체)를 generator 에 직접 쓴다.
+ * 표 형태 목록은 {@link PdfTable}로 쓰고, 요약 카드 등 작은 객체는 {@code writeObjectField}로 쓴다.</p>
+ */
+public interface PdfPayload {
+
+    /**
+     * @param g        출력 generator (ObjectMapper 코덱 연결됨)
+     * @param columnar true 면 테이블을 컬럼 형식으로 쓴다
+     */
+    void writeTo(JsonGenerator g, boolean columnar) throws IOException;
+}
@@ -0,0 +1,44 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link PdfPayload} → 요청 본문 바이트.
+ *
+ * <p>중간 트리/Map 없이 generator 로 바로 쓰고, 필요하면 같은 스트림에서 gzip 으로 압축한다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PdfPayloadEncoder {
+
+    /** 테이블 형식 헤더 (columnar | rows) */
+    public static final String FORMAT_HEADER = "X-Payload-Format";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param columnar 테이블을 컬럼 형식으로 쓸지
+     * @param gzip     gzip 압축 여부
+     * @throws UncheckedIOException 직렬화 실패
+     */
+    public byte[] encode(PdfPayload payload, boolean columnar, boolean gzip) {
+        ByteArrayOutputStream buf = new ByteArrayOutputStream(16 * 1024);
+        try (OutputStream out = gzip ? new GZIPOutputStream(buf, 8 * 1024) : buf;
+             JsonGenerator g = objectMapper.createGenerator(out, JsonEncoding.UTF8)) {
+            payload.writeTo(g, columnar);
+        } catch (IOException e) {
+            throw new UncheckedIOException("PDF 페이로드 직렬화 실패", e);
+        }
+        return buf.toByteArray();
+    }
+}
@@ -0,0 +1,426 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 분석 리포트용 PDF writer (A4 가로, 제목 / 정보 / 표 / 막대 차트).
+ *
+ * <p>페이지가 차는 즉시 해당 페이지를 출력 스트림에 쓰고 버린다.
+ * 메모리에는 현재 페이지 내용과 객체 오프셋만 남으므로 행 수와 무관하게 일정하다.
+ * 표는 페이지가 넘어가면 헤더 행을 다시 그린다.</p>
+ *
+ * <p>한글은 내장하지 않는 CID 글꼴(기본 {@code HYGoThic-Medium}, Adobe-Korea1 / UniKS-UCS2-H)로 쓴다.
+ * 뷰어가 가진 한글 글꼴로 대체 표시되므로 글꼴 파일·외부 라이브러리가 필요 없다.
+ * 굵은 글씨는 채움+외곽선 렌더링으로 흉내 낸다.</p>
+ *
+ * <p>{@link #finish()}는 페이지 트리, xref, trailer 를 쓰고 flush 한다. 출력 스트림은 닫지 않는다.</p>
+ */
+public final class PdfReportWriter {
+
+    private static final float MM = 72f / 25.4f;
+    private static final float PAGE_W = 842f;
+    private static final float PAGE_H = 595f;
+    private static final float MARGIN_X = 10 * MM;
+    private static final float MARGIN_Y = 15 * MM;
+    private static final float BODY_SIZE = 9f;
+    private static final float CELL_PAD = 3f;
+
+    /** 고정 객체 번호 */
+    private static final int CATALOG = 1, PAGES = 2, FONT = 3, CID_FONT = 4, DESCRIPTOR = 5;
+
+    /** 표 컬럼 정렬 */
+    public enum Align { LEFT, CENTER, RIGHT }
+
+    /**
+     * 표 컬럼.
+     *
+     * @param header  헤더 라벨
+     * @param widthMm 폭(mm)
+     * @param align   본문 정렬 (헤더는 항상 가운데)
+     */
+    public record Column(String header, float widthMm, Align align) {
+        public static Column left(String header, float widthMm) {
+            return new Column(header, widthMm, Align.LEFT);
+        }
+
+        public static Column right(String header, float widthMm) {
+            return new Column(header, widthMm, Align.RIGHT);
+        }
+    }
+
+    private final CountingOutputStream out;
+    private final List<Long> offsets = new ArrayList<>();
+    private final List<Integer> pageIds = new ArrayList<>();
+    private final StringBuilder page = new StringBuilder(16 * 1024);
+    private boolean pageOpen;
+    private float y;
+
+    private List<Column> table;
+    private float tableX;
+    private float tableFontSize;
+    private int tableRows;
+
+    private PdfReportWriter(OutputStream out, String fontName) throws IOException {
+        this.out = new CountingOutputStream(new BufferedOutputStream(out, 16 * 1024));
+        offsets.add(0L); // 0번 객체(free)
+        ascii("%PDF-1.4\n%âãÏÓ\n");
+        writeFont(fontName);
+    }
+
+    /**
+     * @param out      출력 스트림
+     * @param fontName Adobe-Korea1 CID 글꼴 이름 (예: HYGoThic-Medium, HYSMyeongJo-Medium)
+     */
+    public static PdfReportWriter open(OutputStream out, String fontName) throws IOException {
+        return new PdfReportWriter(out, fontName);
+    }
+
+    // =========================================
+    // 본문 블록
+    // =========================================
+
+    /** 가운데 정렬 제목 (18pt) */
+    public void title(String text) throws IOException {
+        ensureSpace(26f);
+        float size = 18f;
+        y -= size;
+        text((PAGE_W - width(text, size)) / 2, y, size, text, true);
+        y -= 3 * MM + 4f;
+    }
+
+    /** 정보 문단 (줄 단위) */
+    public void lines(String... lines) throws IOException {
+        for (String line : lines) {
+            ensureSpace(BODY_SIZE + 4f);
+            y -= BODY_SIZE + 2f;
+            text(MARGIN_X, y, BODY_SIZE, line, false);
+            y -= 2f;
+        }
+    }
+
+    /** 소제목 (굵게, 10pt) */
+    public void section(String text) throws IOException {
+        ensureSpace(40f); // 소제목만 페이지 끝에 남지 않도록
+        float size = 10f;
+        y -= size + 2f;
+        text(MARGIN_X, y, size, text, true);
+        y -= 2 * MM;
+    }
+
+    /** 세로 여백(mm) */
+    public void gap(float mm) {
+        y -= mm * MM;
+    }
+
+    /** 다음 블록을 새 페이지에서 시작 */
+    public void pageBreak() throws IOException {
+        if (pageOpen) endPage();
+    }
+
+    // =========================================
+    // 표
+    // =========================================
+
+    /**
+     * 표 시작. 헤더 행을 그리고 이후 {@link #row(String...)}로 행을 받는다.
+     *
+     * @param fontSize 글자 크기 (행 높이 = 글자 크기 + 6pt)
+     */
+    public void beginTable(float fontSize, Column... columns) throws IOException {
+        this.table = List.of(columns);
+        this.tableFontSize = fontSize;
+        this.tableRows = 0;
+        float total = 0;
+        for (Column c : columns) total += c.widthMm() * MM;
+        this.tableX = (PAGE_W - total) / 2;
+        ensureSpace(rowHeight() * 2);
+        tableHeader();
+    }
+
+    /** 표 본문 행. 페이지가 차면 새 페이지에 헤더를 다시 그린 뒤 이어 쓴다 */
+    public void row(String... cells) throws IOException {
+        float h = rowHeight();
+        if (!pageOpen || y - h < MARGIN_Y) {
+            endPage();
+            tableHeader();
+        }
+        y -= h;
+        float x = tableX;
+        for (int i = 0; i < table.size(); i++) {
+            Column c = table.get(i);
+            float w = c.widthMm() * MM;
+            page.append(f(x)).append(' ').append(f(y)).append(' ').append(f(w)).append(' ').append(f(h)).append(" re S\n");
+            cell(x, w, i < cells.length ? cells[i] : null, c.align(), false);
+            x += w;
+        }
+        tableRows++;
+    }
+
+    /** 표 끝. 행이 하나도 없으면 빈 행 하나를 그린다 */
+    public void endTable() throws IOException {
+        if (tableRows == 0) row();
+        table = null;
+    }
+
+    private void tableHeader() throws IOException {
+        if (!pageOpen) beginPage();
+        float h = rowHeight();
+        y -= h;
+        float total = 0;
+        for (Column c : table) total += c.widthMm() * MM;
+        page.append("0.953 g ").append(f(tableX)).append(' ').append(f(y)).append(' ')
+                .append(f(total)).append(' ').append(f(h)).append(" re f 0 g\n");
+        float x = tableX;
+        for (Column c : table) {
+            float w = c.widthMm() * MM;
+            page.append(f(x)).append(' ').append(f(y)).append(' ').append(f(w)).append(' ').append(f(h)).append(" re S\n");
+            cell(x, w, c.header(), Align.CENTER, true);
+            x += w;
+        }
+    }
+
+    private void cell(float x, float w, String value, Align align, boolean bold) {
+        if (value == null || value.isEmpty()) return;
+        float size = tableFontSize;
+        String s = fit(value, w - CELL_PAD * 2, size);
+        float tw = width(s, size);
+        float tx = switch (align) {
+            case LEFT -> x + CELL_PAD;
+            case CENTER -> x + (w - tw) / 2;
+            case RIGHT -> x + w - CELL_PAD - tw;
+        };
+        text(tx, y + (rowHeight() - size) / 2 + 1f, size, s, bold);
+    }
+
+    private float rowHeight() {
+        return tableFontSize + 6f;
+    }
+
+    // =========================================
+    // 막대 차트
+    // =========================================
+
+    /**
+     * 세로 막대 차트 (높이 45mm, 본문 폭 전체).
+     *
+     * @param labels 막대 아래 라벨
+     * @param values 막대 값 (음수는 0)
+     */
+    public void barChart(String[] labels, long[] values) throws IOException {
+        float height = 45 * MM;
+        ensureSpace(height + 14f);
+        float left = MARGIN_X + 40f;
+        float right = PAGE_W - MARGIN_X;
+        float base = y - height;
+        long max = 1;
+        for (long v : values) max = Math.max(max, v);
+
+        page.append("0.808 0.831 0.855 RG ").append(f(left)).append(' ').append(f(base)).append(" m ")
+                .append(f(right)).append(' ').append(f(base)).append(" l S\n");
+        text(MARGIN_X, y - BODY_SIZE, 7f, String.format(Locale.ROOT, "%,d", max), false);
+        text(MARGIN_X, base, 7f, "0", false);
+
+        int n = Math.max(1, values.length);
+        float slot = (right - left) / n;
+        float barW = slot * 0.6f;
+        page.append("0.33 0.5 0.85 rg\n");
+        for (int i = 0; i < values.length; i++) {
+            float bh = (float) Math.max(0, values[i]) / max * (height - 4f);
+            float bx = left + slot * i + (slot - barW) / 2;
+            if (bh > 0) {
+                page.append(f(bx)).append(' ').append(f(base)).append(' ').append(f(barW)).append(' ').append(f(bh)).append(" re f\n");
+            }
+        }
+        page.append("0 g\n");
+        for (int i = 0; i < labels.length && i < n; i++) {
+            float lw = width(labels[i], 7f);
+            text(left + slot * i + (slot - lw) / 2, base - 9f, 7f, labels[i], false);
+        }
+        y = base - 14f;
+    }
+
+    // =========================================
+    // 마무리
+    // =========================================
+
+    /** 남은 페이지, 페이지 트리, xref, trailer 기록 후 flush */
+    public void finish() throws IOException {
+        if (!pageOpen && pageIds.isEmpty()) beginPage();
+        if (pageOpen) endPage();
+
+        StringBuilder kids = new StringBuilder();
+        for (int id : pageIds) kids.append(id).append(" 0 R ");
+        object(PAGES, "<< /Type /Pages /Kids [" + kids + "] /Count " + pageIds.size() + " >>");
+        object(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+
+        long xref = out.count;
+        StringBuilder sb = new StringBuilder();
+        sb.append("xref\n0 ").append(offsets.size()).append('\n');
+        sb.append("0000000000 65535 f \n");
+        for (int i = 1; i < offsets.size(); i++) {
+            sb.append(String.format(Locale.ROOT, "%010d 00000 n \n", offsets.get(i)));
+        }
+        sb.append("trailer\n<< /Size ").append(offsets.size()).append(" /Root ").append(CATALOG).append(" 0 R >>\n");
+        sb.append("startxref\n").append(xref).append("\n%%EOF\n");
+        ascii(sb.toString());
+        out.flush();
+    }
+
+    // =========================================
+    // 페이지 / 객체
+    // =========================================
+
+    private void ensureSpace(float needed) throws IOException {
+        if (!pageOpen) {
+            beginPage();
+        } else if (y - needed < MARGIN_Y) {
+            endPage();
+            beginPage();
+        }
+    }
+
+    private void beginPage() {
+        page.setLength(0);
+        page.append("0.5 w 0.808 0.831 0.855 RG 0 g\n");
+        y = PAGE_H - MARGIN_Y;
+        pageOpen = true;
+    }
+
+    private void endPage() throws IOException {
+        if (!pageOpen) return;
+        String no = "- " + (pageIds.size() + 1) + " -";
+        page.append("0 g\n");
+        text((PAGE_W - width(no, 8f)) / 2, MARGIN_Y / 2, 8f, no, false);
+
+        byte[] raw = page.toString().getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream z = new ByteArrayOutputStream(raw.length / 3 + 64);
+        try (DeflaterOutputStream d = new DeflaterOutputStream(z, new Deflater(Deflater.BEST_SPEED))) {
+            d.write(raw);
+        }
+        int content = nextId();
+        begin(content);
+        ascii("<< /Length " + z.size() + " /Filter /FlateDecode >>\nstream\n");
+        z.writeTo(out);
+        ascii("\nendstream\nendobj\n");
+
+        int pageId = nextId();
+        object(pageId, "<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 " + f(PAGE_W) + " " + f(PAGE_H) + "]"
+                + " /Resources << /Font << /F1 " + FONT + " 0 R >> >> /Contents " + content + " 0 R >>");
+        pageIds.add(pageId);
+        page.setLength(0);
+        pageOpen = false;
+    }
+
+    private void writeFont(String fontName) throws IOException {
+        for (int i = 1; i <= DESCRIPTOR; i++) offsets.add(0L);
+        object(FONT, "<< /Type /Font /Subtype /Type0 /BaseFont /" + fontName
+                + " /Encoding /UniKS-UCS2-H /DescendantFonts [" + CID_FONT + " 0 R] >>");
+        // CID 1~95 = 반각 로마자 (UniKS-UCS2-H 에서 U+0020~U+007E)
+        object(CID_FONT, "<< /Type /Font /Subtype /CIDFontType0 /BaseFont /" + fontName
+                + " /CIDSystemInfo << /Registry (Adobe) /Ordering (Korea1) /Supplement 1 >>"
+                + " /FontDescriptor " + DESCRIPTOR + " 0 R /DW 1000 /W [1 95 500] >>");
+        object(DESCRIPTOR, "<< /Type /FontDescriptor /FontName /" + fontName
+                + " /Flags 6 /FontBBox [-6 -145 1003 880] /ItalicAngle 0 /Ascent 880 /Descent -120"
+                + " /CapHeight 880 /StemV 93 >>");
+    }
+
+    private int nextId() {
+        offsets.add(0L);
+        return offsets.size() - 1;
+    }
+
+    private void begin(int id) throws IOException {
+        offsets.set(id, out.count);
+        ascii(id + " 0 obj\n");
+    }
+
+    private void object(int id, String body) throws IOException {
+        begin(id);
+        ascii(body + "\nendobj\n");
+    }
+
+    private void ascii(String s) throws IOException {
+        out.write(s.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    // =========================================
+    // 텍스트
+    // =========================================
+
+    private void text(float x, float y, float size, String s, boolean bold) {
+        if (bold) page.append("q 0.25 w 0 G BT 2 Tr ");
+        else page.append("BT ");
+        page.append("/F1 ").append(f(size)).append(" Tf ").append(f(x)).append(' ').append(f(y)).append(" Td <");
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isSurrogate(c) || c < 0x20) c = '?';
+            page.append(HEX[(c >> 12) & 0xF]).append(HEX[(c >> 8) & 0xF]).append(HEX[(c >> 4) & 0xF]).append(HEX[c & 0xF]);
+        }
+        page.append("> Tj ET");
+        page.append(bold ? " Q\n" : "\n");
+    }
+
+    /** 폭 추정: 반각 로마자 0.5em, 그 외(한글 등) 1em — CID 글꼴 /W 와 동일 */
+    private static float width(String s, float size) {
+        float em = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            em += (c >= 0x20 && c <= 0x7E) ? 0.5f : 1f;
+        }
+        return em * size;
+    }
+
+    /** 폭을 넘으면 뒤를 잘라 ".." 로 표시 */
+    private static String fit(String s, float max, float size) {
+        if (width(s, size) <= max) return s;
+        float limit = max - width("..", size);
+        float w = 0;
+        int end = 0;
+        while (end < s.length()) {
+            char c = s.charAt(end);
+            float cw = ((c >= 0x20 && c <= 0x7E) ? 0.5f : 1f) * size;
+            if (w + cw > limit) break;
+            w += cw;
+            end++;
+        }
+        return s.substring(0, end) + "..";
+    }
+
+    /** 좌표/크기 (소수 둘째 자리, 뒤 0 생략). String.format 은 행마다 수십 번 불려 느리다 */
+    private static String f(float v) {
+        long c = Math.round(v * 100.0);
+        if (c % 100 == 0) return Long.toString(c / 100);
+        long a = Math.abs(c);
+        String frac = a % 10 == 0 ? Long.toString(a % 100 / 10) : (a % 100 < 10 ? "0" : "") + a % 100;
+        return (c < 0 ? "-" : "") + a / 100 + "." + frac;
+    }
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /** 객체 오프셋(xref) 계산용 */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * PDF 페이로드 테이블 정의 (컬럼명 + 행 DTO 에서 값을 꺼내는 함수).
+ *
+ * <p>행 DTO 를 Map 으로 옮기지 않고 {@link JsonGenerator}에 바로 쓴다. 숫자 컬럼은 기본형으로 꺼내 박싱이 없다.</p>
+ *
+ * <ul>
+ *   <li>행 형식: {@code [{"date": "...", "sales": 1}, ...]} (기존 PDF 서버 호환)</li>
+ *   <li>컬럼 형식: {@code {"size": n, "columns": {"date": [...], "sales": [...]}}} — 키를 행마다 반복하지 않는다</li>
+ * </ul>
+ *
+ * @param <T> 행 DTO 타입
+ */
+public final class PdfTable<T> {
+
+    @FunctionalInterface
+    private interface Cell<T> {
+        void write(JsonGenerator g, T row) throws IOException;
+    }
+
+    private record Column<T>(String name, Cell<T> cell) {}
+
+    private final List<Column<T>> columns;
+
+    private PdfTable(List<Column<T>> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 테이블 값을 현재 위치(필드 이름 다음)에 쓴다.
+     *
+     * @param columnar true 면 컬럼 형식, false 면 행 형식
+     */
+    public void write(JsonGenerator g, List<T> rows, boolean columnar) throws IOException {
+        if (columnar) {
+            g.writeStartObject();
+            g.writeNumberField("size", rows.size());
+            g.writeObjectFieldStart("columns");
+            for (Column<T> c : columns) {
+                g.writeArrayFieldStart(c.name());
+                for (T row : rows) c.cell().write(g, row);
+                g.writeEndArray();
+            }
+            g.writeEndObject();
+            g.writeEndObject();
+        } else {
+            g.writeStartArray();
+            for (T row : rows) {
+                g.writeStartObject();
+                for (Column<T> c : columns) {
+                    g.writeFieldName(c.name());
+                    c.cell().write(g, row);
+                }
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final List<Column<T>> columns = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /** 문자열 컬럼 (null 허용) */
+        public Builder<T> text(String name, Function<T, String> getter) {
+            return add(name, (g, r) -> {
+                String v = getter.apply(r);
+                if (v == null) g.writeNull(); else g.writeString(v);
+            });
+        }
+
+        /** 정수 컬럼 */
+        public Builder<T> integer(String name, ToLongFunction<T> getter) {
+            return add(name, (g, r) -> g.writeNumber(getter.applyAsLong(r)));
+        }
+
+        /** 실수 컬럼 */
+        public Builder<T> decimal(String name, ToDoubleFunction<T> getter) {
+            return add(name, (g, r) -> g.writeNumber(getter.applyAsDouble(r)));
+        }
+
+        /** 정수 컬럼 (null 허용) */
+        public Builder<T> nullableInteger(String name, Function<T, Long> getter) {
+            return add(name, (g, r) -> {
+                Long v = getter.apply(r);
+                if (v == null) g.writeNull(); else g.writeNumber(v);
+            });
+        }
+
+        /** 실수 컬럼 (null 허용) */
+        public Builder<T> nullableDecimal(String name, Function<T, Double> getter) {
+            return add(name, (g, r) -> {
+                Double v = getter.apply(r);
+                if (v == null) g.writeNull(); else g.writeNumber(v);
+            });
+        }
+
+        public PdfTable<T> build() {
+            return new PdfTable<>(columns);
+        }
+
+        private Builder<T> add(String name, Cell<T> cell) {
+            columns.add(new Column<>(name, cell));
+            return this;
+        }
+    }
+}
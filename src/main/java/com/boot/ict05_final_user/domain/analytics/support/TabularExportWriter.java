@@ -0,0 +1,190 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 표 형태 내보내기 writer (CSV / XLSX).
+ *
+ * <p>행을 받는 즉시 출력 스트림으로 흘려보내며 행을 모아 두지 않는다.
+ * 버퍼 크기만큼만 메모리를 쓰므로 행 수와 무관하게 일정하다.</p>
+ *
+ * <p>{@link #finish()}는 형식의 꼬리(XLSX 시트 닫기, zip 디렉터리)를 쓰고 flush 한다.
+ * 출력 스트림 자체는 닫지 않는다(서블릿 컨테이너 소유).</p>
+ */
+public abstract class TabularExportWriter {
+
+    /** 헤더 행 */
+    public abstract void header(String... columns) throws IOException;
+
+    /** 데이터 행. 값은 {@link Number}면 숫자, 그 외는 문자열로 기록한다 (null 은 빈 칸) */
+    public abstract void row(Object... values) throws IOException;
+
+    /** 마무리 + flush */
+    public abstract void finish() throws IOException;
+
+    /** CSV (UTF-8 BOM, 엑셀에서 한글이 깨지지 않도록) */
+    public static TabularExportWriter csv(OutputStream out) throws IOException {
+        return new Csv(out);
+    }
+
+    /** XLSX (시트 1개, inline string, 행/셀 참조 명시) */
+    public static TabularExportWriter xlsx(OutputStream out) throws IOException {
+        return new Xlsx(out);
+    }
+
+    private static final class Csv extends TabularExportWriter {
+
+        private final Writer w;
+
+        private Csv(OutputStream out) throws IOException {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+            w.write('\uFEFF');
+        }
+
+        @Override
+        public void header(String... columns) throws IOException {
+            row((Object[]) columns);
+        }
+
+        @Override
+        public void row(Object... values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) w.write(',');
+                Object v = values[i];
+                if (v == null) continue;
+                if (v instanceof Number) {
+                    w.write(v.toString());
+                } else {
+                    w.write(quote(v.toString()));
+                }
+            }
+            w.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            w.flush();
+        }
+
+        /** RFC 4180 따옴표 처리 + 수식 주입 방지(=,+,-,@ 로 시작하는 문자열 앞에 ') */
+        private static String quote(String s) {
+            if (!s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) s = "'" + s;
+            boolean needs = s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0;
+            return needs ? '"' + s.replace("\"", "\"\"") + '"' : s;
+        }
+    }
+
+    private static final class Xlsx extends TabularExportWriter {
+
+        private final ZipOutputStream zip;
+        private final Writer w;
+        /** 마지막으로 쓴 행 번호 (1부터) */
+        private int rowNum;
+
+        private Xlsx(OutputStream out) throws IOException {
+            this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+            this.w = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), 16 * 1024);
+
+            entry("[Content_Types].xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Types xmlns="http://schemas.openxmlformats.org/package/2006/content-types">
+                <Default Extension="rels" ContentType="application/vnd.openxmlformats-package.relationships+xml"/>
+                <Default Extension="xml" ContentType="application/xml"/>
+                <Override PartName="/xl/workbook.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml"/>
+                <Override PartName="/xl/worksheets/sheet1.xml" ContentType="application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml"/>
+                </Types>""");
+            entry("_rels/.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument" Target="xl/workbook.xml"/>
+                </Relationships>""");
+            entry("xl/workbook.xml", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main" xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+                <sheets><sheet name="data" sheetId="1" r:id="rId1"/></sheets>
+                </workbook>""");
+            entry("xl/_rels/workbook.xml.rels", """
+                <?xml version="1.0" encoding="UTF-8" standalone="yes"?>
+                <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>
+                </Relationships>""");
+
+            zip.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+            w.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>"
+                    + "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>");
+        }
+
+        @Override
+        public void header(String... columns) throws IOException {
+            row((Object[]) columns);
+        }
+
+        @Override
+        public void row(Object... values) throws IOException {
+            rowNum++;
+            w.write("<row r=\"" + rowNum + "\">");
+            for (int i = 0; i < values.length; i++) {
+                Object v = values[i];
+                String ref = column(i) + rowNum;
+                if (v == null) {
+                    w.write("<c r=\"" + ref + "\"/>");
+                } else if (v instanceof Number n) {
+                    w.write("<c r=\"" + ref + "\"><v>");
+                    w.write(n.toString());
+                    w.write("</v></c>");
+                } else {
+                    w.write("<c r=\"" + ref + "\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+                    w.write(escape(v.toString()));
+                    w.write("</t></is></c>");
+                }
+            }
+            w.write("</row>");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            w.write("</sheetData></worksheet>");
+            w.flush();
+            zip.closeEntry();
+            zip.finish();
+            zip.flush();
+        }
+
+        private void entry(String name, String content) throws IOException {
+            zip.putNextEntry(new ZipEntry(name));
+            w.write(content);
+            w.flush();
+            zip.closeEntry();
+        }
+
+        /** 0부터 시작하는 열 번호 → 열 문자 (0 → A, 25 → Z, 26 → AA) */
+        private static String column(int index) {
+            StringBuilder sb = new StringBuilder(3);
+            for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+                sb.append((char) ('A' + (n - 1) % 26));
+            }
+            return sb.reverse().toString();
+        }
+
+        /** XML 특수문자 이스케이프 + XML 1.0 에서 허용되지 않는 제어문자 제거 */
+        private static String escape(String s) {
+            StringBuilder sb = new StringBuilder(s.length() + 16);
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                switch (c) {
+                    case '&' -> sb.append("&amp;");
+                    case '<' -> sb.append("&lt;");
+                    case '>' -> sb.append("&gt;");
+                    case '"' -> sb.append("&quot;");
+                    default -> {
+                        if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') sb.append(c);
+                    }
+                }
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -21,6 +21,12 @@ import org.springframework.stereotype.Component;
  *   enabled: true
  *   service-account: classpath:fcm/toastlab-firebase-adminsdk.json
  *   timeout-ms: 3000
+ *   gateway: firebase            # firebase | fake
+ *   fake:
+ *     latency-ms: 40
+ *     jitter-ms: 15
+ *     failure-rate: 0.002
+ *     unregistered-rate: 0.03
  *   webpush:
  *     icon: /icons/icon-192.png
  *     badge: /icons/badge-72.png
@@ -28,6 +34,18 @@ import org.springframework.stereotype.Component;
  *   cleanup:
  *     cron: 0 0 4 * * *
  *     days-inactive: 90
+ *   coalesce:
+ *     enabled: true
+ *     window-seconds: 60
+ *     resend-after-minutes: 180
+ *     flush-interval-ms: 10000
+ *     max-buckets: 50000
+ *     max-digest-lines: 5
+ *   token:
+ *     ensure-unique-index: true
+ *     heartbeat-coalesce-seconds: 600
+ *     heartbeat-flush-ms: 30000
+ *     max-pending: 20000
  * </pre>
  * @author 이경욱
  * @since 2025-11-20
@@ -56,6 +74,18 @@ public class FcmProperties {
      */
     private int timeoutMs = 3000;
 
+    /**
+     * 푸시 발송 게이트웨이 선택.
+     * <p>{@code firebase}(기본): Firebase Admin SDK, {@code fake}: 프로세스 내부 가짜 발송(오프라인 부하 테스트용,
+     * 서비스 계정 불필요).</p>
+     */
+    private String gateway = "firebase";
+
+    /**
+     * {@code gateway=fake} 일 때의 지연/실패 시뮬레이션 설정.
+     */
+    private Fake fake = new Fake();
+
     /**
      * 브라우저(WebPush) 알림 관련 설정을 담는 내부 클래스.
      */
@@ -66,6 +96,16 @@ public class FcmProperties {
      */
     private Cleanup cleanup = new Cleanup();
 
+    /**
+     * 매장 알림 병합(요약 발송) 설정을 담는 내부 클래스.
+     */
+    private Coalesce coalesce = new Coalesce();
+
+    /**
+     * 토큰 등록(Upsert) 및 접속 heartbeat 병합 설정을 담는 내부 클래스.
+     */
+    private Token token = new Token();
+
     /**
      * 웹 푸시(WebPush) 알림 설정 클래스.
      * <p>알림 아이콘, 배지, 클릭 시 기본 이동 경로 등을 정의합니다.</p>
@@ -113,4 +153,117 @@ public class FcmProperties {
          */
         private int daysInactive = 90;
     }
+
+    /**
+     * 토큰 등록 / heartbeat 병합 정책 클래스.
+     * <p>같은 토큰의 반복 등록(앱 실행·새로고침)은 DB 를 건드리지 않고 메모리에 lastSeenAt 만 모았다가
+     * 주기적으로 한 번에 반영합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class Token {
+
+        /**
+         * 기동 시 token 유니크 인덱스 점검 여부.
+         * <p>인덱스가 없으면 중복 행 수를 경고로 남깁니다(삭제·DDL 없음). 이 설정과 관계없이 인덱스가 없는 동안
+         * 토큰 등록은 조회 후 갱신/삽입으로 처리합니다.
+         * 정리는 {@code db/manual/V20261018_02__fcm_device_token_dedup_unique.sql} 로 수동 적용합니다.</p>
+         */
+        private boolean checkUniqueIndex = true;
+
+        /**
+         * 같은 토큰·같은 등록 정보의 재등록을 DB Upsert 없이 병합하는 시간 (단위: 초).
+         * <p>0 이하면 병합하지 않고 매번 Upsert 합니다.</p>
+         */
+        private long heartbeatCoalesceSeconds = 600;
+
+        /**
+         * 모아 둔 lastSeenAt 을 DB 에 반영하는 주기 (단위: 밀리초).
+         */
+        private long heartbeatFlushMs = 30_000;
+
+        /**
+         * 메모리에 보관할 최대 토큰 수.
+         * <p>초과 시 대기 중인 lastSeenAt 을 즉시 반영하고 병합 캐시를 비웁니다.</p>
+         */
+        private int maxPending = 20_000;
+    }
+
+    /**
+     * 가짜 게이트웨이 시뮬레이션 설정 클래스.
+     */
+    @Getter
+    @Setter
+    public static class Fake {
+
+        /**
+         * 호출당 기본 지연 (단위: 밀리초).
+         */
+        private double latencyMs = 40;
+
+        /**
+         * 지연 꼬리(지수분포) 평균 (단위: 밀리초).
+         * <p>0이면 기본 지연만 적용합니다.</p>
+         */
+        private double jitterMs = 15;
+
+        /**
+         * 일시 실패(UNAVAILABLE) 확률 (0~1).
+         */
+        private double failureRate = 0.002;
+
+        /**
+         * 미등록(UNREGISTERED) 처리할 토큰 비율 (0~1).
+         * <p>토큰 해시 기준이라 같은 토큰은 항상 같은 결과입니다.</p>
+         */
+        private double unregisteredRate = 0.03;
+
+        /**
+         * 난수 시드.
+         */
+        private long seed = 42L;
+    }
+
+    /**
+     * 매장 알림 병합 정책 클래스.
+     * <p>매장·토픽별로 {@code windowSeconds} 동안 들어온 알림을 (매장, 카테고리, 참조) 기준으로 중복 제거해
+     * 요약 1건으로 발송합니다. 방해 금지 시간대인 매장은 시간대가 끝날 때까지 보류합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class Coalesce {
+
+        /**
+         * 병합 사용 여부.
+         * <p>{@code false}면 알림을 즉시 개별 발송합니다.</p>
+         */
+        private boolean enabled = true;
+
+        /**
+         * 첫 알림 이후 병합을 기다리는 시간 (단위: 초).
+         */
+        private long windowSeconds = 60;
+
+        /**
+         * 스캔형 알림(재고부족/유통임박)의 같은 (매장, 카테고리, 참조) 재발송 최소 간격 (단위: 분).
+         * <p>이 시간 안에 같은 알림이 다시 스캔되면 발송하지 않습니다. 0 이하면 제한 없음.</p>
+         */
+        private long resendAfterMinutes = 180;
+
+        /**
+         * 병합 버킷 점검 주기 (단위: 밀리초).
+         */
+        private long flushIntervalMs = 10_000;
+
+        /**
+         * 메모리에 보관할 최대 버킷(매장×토픽) 수.
+         * <p>초과 시 기한과 무관하게 즉시 발송합니다.</p>
+         */
+        private int maxBuckets = 50_000;
+
+        /**
+         * 요약 본문에 나열할 최대 항목 수.
+         */
+        private int maxDigestLines = 5;
+    }
 }
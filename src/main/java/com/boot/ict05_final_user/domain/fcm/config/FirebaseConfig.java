@@ -1,11 +1,15 @@
 package com.boot.ict05_final_user.domain.fcm.config;
 
+import com.boot.ict05_final_user.domain.fcm.service.FakePushGateway;
+import com.boot.ict05_final_user.domain.fcm.service.FirebasePushGateway;
+import com.boot.ict05_final_user.domain.fcm.service.PushGateway;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.FirebaseMessaging;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
@@ -16,7 +20,7 @@ import java.io.InputStream;
 /**
  * Firebase Admin SDK 초기화 설정 클래스.
  *
- * <p>이 클래스는 {@link FcmProperties} 설정값을 기반으로 FirebaseApp과 FirebaseMessaging 빈을 생성합니다.
+ * <p>이 클래스는 {@link FcmProperties} 설정값을 기반으로 FirebaseApp과 FirebaseMessaging, {@link PushGateway} 빈을 생성합니다.
  * FCM 서비스 계정(JSON) 파일을 읽어 {@link FirebaseApp}을 초기화하고,
  * Spring 컨텍스트 내에서 전역적으로 사용할 수 있도록 {@link FirebaseMessaging} 빈을 등록합니다.</p>
  *
@@ -53,6 +57,7 @@ public class FirebaseConfig {
      * @throws Exception 서비스 계정 파일을 읽을 수 없거나 Firebase 초기화에 실패한 경우
      */
     @Bean
+    @ConditionalOnProperty(name = "fcm.gateway", havingValue = "firebase", matchIfMissing = true)
     public FirebaseApp firebaseApp() throws Exception {
         if (!props.isEnabled()) {
             log.warn("[FCM] disabled by configuration.");
@@ -78,7 +83,34 @@ public class FirebaseConfig {
      * @return {@link FirebaseMessaging} 인스턴스
      */
     @Bean
+    @ConditionalOnProperty(name = "fcm.gateway", havingValue = "firebase", matchIfMissing = true)
     public FirebaseMessaging firebaseMessaging(FirebaseApp app) {
         return FirebaseMessaging.getInstance(app);
     }
+
+    /**
+     * Firebase Admin SDK 기반 푸시 게이트웨이 (기본).
+     *
+     * @param messaging {@link FirebaseMessaging} 인스턴스
+     * @return {@link PushGateway}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "fcm.gateway", havingValue = "firebase", matchIfMissing = true)
+    public PushGateway firebasePushGateway(FirebaseMessaging messaging) {
+        return new FirebasePushGateway(messaging);
+    }
+
+    /**
+     * 프로세스 내부 가짜 푸시 게이트웨이 ({@code fcm.gateway=fake}).
+     *
+     * <p>FirebaseApp 을 만들지 않으므로 서비스 계정 없이 발송 파이프라인을 부하 테스트할 수 있습니다.</p>
+     *
+     * @return {@link FakePushGateway}
+     */
+    @Bean
+    @ConditionalOnProperty(name = "fcm.gateway", havingValue = "fake")
+    public PushGateway fakePushGateway() {
+        log.warn("[FCM] fake push gateway enabled (no messages leave this process)");
+        return new FakePushGateway(props.getFake());
+    }
 }
@@ -8,7 +8,8 @@ import com.boot.ict05_final_user.domain.fcm.entity.AppType;
 import com.boot.ict05_final_user.domain.fcm.entity.PlatformType;
 import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
 import com.boot.ict05_final_user.domain.fcm.service.FcmService;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.boot.ict05_final_user.domain.fcm.service.PushGateway;
+import com.boot.ict05_final_user.domain.fcm.service.FcmTokenHeartbeatBuffer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -57,6 +58,7 @@ public class FcmController {
     private final FcmService fcmService;
     private final JwtService jwtService;
     private final FcmDeviceTokenRepository tokenRepo;
+    private final FcmTokenHeartbeatBuffer heartbeat;
 
     @Value("${fcm.test.admin-only:false}")
     private boolean testAdminOnly;
@@ -167,6 +169,7 @@ public class FcmController {
             tokenRepo.findByToken(req.token()).ifPresent(row -> {
                 if (Objects.equals(row.getMemberIdFk(), ids.memberId)) {
                     row.setIsActive(false);
+                    heartbeat.forget(row.getToken());
                 }
             });
             affected = 1;
@@ -179,7 +182,10 @@ public class FcmController {
             var rows = tokenRepo.findByAppTypeAndPlatformAndMemberIdFkAndDeviceIdAndIsActiveTrue(
                     AppType.STORE, platform, ids.memberId, deviceId
             );
-            rows.forEach(r -> r.setIsActive(false));
+            rows.forEach(r -> {
+                r.setIsActive(false);
+                heartbeat.forget(r.getToken());
+            });
             affected = rows.size();
         }
         return Map.of("status", "ok", "revoked", affected);
@@ -191,7 +197,7 @@ public class FcmController {
      * @param token FCM 디바이스 토큰
      * @param topic 구독할 토픽명
      * @return 성공 여부
-     * @throws FirebaseMessagingException Firebase 전송 예외
+     * @throws PushGateway.SendException 푸시 발송 예외
      */
     @Operation(summary = "토픽 구독", description = "지정된 FCM 토픽에 단말기를 구독시킵니다.")
     @ApiResponses({
@@ -203,7 +209,7 @@ public class FcmController {
     public Map<String, Object> subscribe(
             @Parameter(description = "FCM 디바이스 토큰", example = "fcm_token_string") @RequestParam String token,
             @Parameter(description = "구독할 토픽명", example = "store-1") @RequestParam String topic
-    ) throws FirebaseMessagingException {
+    ) throws PushGateway.SendException {
         if (!StoreTopic.isAllowed(topic))
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "TOPIC_NOT_ALLOWED");
         fcmService.subscribe(token, topic);
@@ -216,7 +222,7 @@ public class FcmController {
      * @param token FCM 디바이스 토큰
      * @param topic 해제할 토픽명
      * @return 성공 여부
-     * @throws FirebaseMessagingException Firebase 전송 예외
+     * @throws PushGateway.SendException 푸시 발송 예외
      */
     @Operation(summary = "토픽 구독 해제", description = "지정된 FCM 토픽에서 단말기의 구독을 해제합니다.")
     @ApiResponses({
@@ -228,7 +234,7 @@ public class FcmController {
     public Map<String, Object> unsubscribe(
             @Parameter(description = "FCM 디바이스 토큰") @RequestParam String token,
             @Parameter(description = "해제할 토픽명") @RequestParam String topic
-    ) throws FirebaseMessagingException {
+    ) throws PushGateway.SendException {
         if (!StoreTopic.isAllowed(topic))
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "TOPIC_NOT_ALLOWED");
         fcmService.unsubscribe(token, topic);
@@ -244,7 +250,7 @@ public class FcmController {
      * @param authentication 인증 객체
      * @param req 테스트 발송 요청 DTO
      * @return 전송된 메시지 ID
-     * @throws FirebaseMessagingException Firebase 전송 예외
+     * @throws PushGateway.SendException 푸시 발송 예외
      */
     @Operation(summary = "테스트 메시지 발송", description = "Firebase를 통해 테스트용 FCM 메시지를 발송합니다.")
     @ApiResponses({
@@ -257,7 +263,7 @@ public class FcmController {
             @AuthenticationPrincipal Object me,
             Authentication authentication,
             @RequestBody FcmTestSendRequest req
-    ) throws FirebaseMessagingException {
+    ) throws PushGateway.SendException {
         if (testAdminOnly) {
             boolean admin = authentication != null && authentication.getAuthorities().stream()
                     .map(GrantedAuthority::getAuthority)
@@ -277,7 +283,7 @@ public class FcmController {
      * @param body  공지 내용
      * @param link  클릭 시 이동할 링크
      * @return 전송된 메시지 ID
-     * @throws FirebaseMessagingException Firebase 전송 예외
+     * @throws PushGateway.SendException 푸시 발송 예외
      */
     @Operation(summary = "HQ 공지 발송", description = "본사(HQ) 공지를 가맹점 토픽으로 발송합니다.")
     @ApiResponses({
@@ -291,7 +297,7 @@ public class FcmController {
             @Parameter(description = "공지 제목", example = "신규 프로모션 안내") @RequestParam String title,
             @Parameter(description = "공지 내용", example = "이번 주부터 새로운 메뉴 이벤트가 시작됩니다.") @RequestParam String body,
             @Parameter(description = "공지 클릭 시 이동할 링크", example = "/user/event") @RequestParam String link
-    ) throws FirebaseMessagingException {
+    ) throws PushGateway.SendException {
         if (!StoreTopic.isAllowed(topic))
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "TOPIC_NOT_ALLOWED");
         String id = fcmService.sendHqNoticeToStores(topic, title, body, link);
@@ -7,7 +7,7 @@ import com.boot.ict05_final_user.domain.fcm.entity.FcmDeviceToken;
 import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
 import com.boot.ict05_final_user.domain.fcm.service.FcmPreferenceService;
 import com.boot.ict05_final_user.domain.fcm.service.FcmService;
-import com.google.firebase.messaging.FirebaseMessagingException;
+import com.boot.ict05_final_user.domain.fcm.service.PushGateway;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -128,6 +128,8 @@ public class FcmPreferenceController {
 		res.put("catStockLow", p != null ? p.getCatStockLow() : true);
 		res.put("catExpireSoon", p != null ? p.getCatExpireSoon() : true);
 		res.put("thresholdDays", p != null ? p.getThresholdDays() : 3);
+		res.put("quietStart", p != null ? p.getQuietStart() : null);
+		res.put("quietEnd", p != null ? p.getQuietEnd() : null);
 		return res;
 	}
 
@@ -163,7 +165,8 @@ public class FcmPreferenceController {
 
 		FcmPreference saved = prefService.upsertForStoreMember(
 				ids.memberId, ids.storeId,
-				req.catNotice(), req.catStockLow(), req.catExpireSoon(), req.thresholdDays()
+				req.catNotice(), req.catStockLow(), req.catExpireSoon(), req.thresholdDays(),
+				req.quietEnabled(), req.quietStart(), req.quietEnd()
 		);
 
 		boolean apply = (req.applySubscriptions() == null) || req.applySubscriptions();
@@ -194,7 +197,7 @@ public class FcmPreferenceController {
 						else fcmService.unsubscribe(t.getToken(), topic);
 					}
 				}
-			} catch (FirebaseMessagingException e) {
+			} catch (PushGateway.SendException e) {
 				log.warn("[FCM] applySubscriptions failed", e);
 			}
 		}
@@ -3,11 +3,14 @@ package com.boot.ict05_final_user.domain.fcm.dto;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
+import java.time.LocalTime;
+
 /**
  * 가맹점 사용자의 FCM 알림 수신 설정 변경 요청 DTO.
  *
  * <p>사용자는 공지, 재고 부족, 유통기한 임박 등의 알림을
- * 선택적으로 구독/해제할 수 있습니다.</p>
+ * 선택적으로 구독/해제할 수 있으며, 방해 금지 시간대에는 알림이 모였다가
+ * 시간대가 끝난 뒤 요약 1건으로 발송됩니다.</p>
  *
  * <p>본 DTO는 HQ(Admin) 시스템과 동일한 구조를 사용합니다.</p>
  *
@@ -28,5 +31,14 @@ public record FcmPreferenceUpdateRequest(
 		@Min(1) @Max(30) Integer thresholdDays,
 
 		/** 변경 즉시 구독 반영 여부 (기본 true) */
-		Boolean applySubscriptions
+		Boolean applySubscriptions,
+
+		/** 방해 금지 사용 여부 (false 면 시간대 해제, null 이면 시작/종료 값으로 판단) */
+		Boolean quietEnabled,
+
+		/** 방해 금지 시작 시각 (HH:mm) */
+		LocalTime quietStart,
+
+		/** 방해 금지 종료 시각 (HH:mm, 시작보다 이르면 다음 날) */
+		LocalTime quietEnd
 ) { }
@@ -3,6 +3,7 @@ package com.boot.ict05_final_user.domain.fcm.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 /**
  * FCM 알림 선호도 엔티티.
@@ -13,7 +14,7 @@ import java.time.LocalDateTime;
  * <ul>
  *   <li>테이블명: {@code fcm_preference}</li>
  *   <li>대상: STORE 앱 사용자 중심</li>
- *   <li>필드: 알림 카테고리 및 유통임박 기준일</li>
+ *   <li>필드: 알림 카테고리, 유통임박 기준일, 방해 금지 시간대</li>
  * </ul>
  *
  * @author 이경욱
@@ -69,6 +70,14 @@ public class FcmPreference {
 	@Column(nullable = false)
 	private Integer thresholdDays = 3;
 
+	/** 방해 금지 시작 시각 (null 이면 방해 금지 없음) */
+	@Column(name = "quiet_start")
+	private LocalTime quietStart;
+
+	/** 방해 금지 종료 시각 (시작보다 이르면 자정을 넘기는 구간, 예: 22:00~07:00) */
+	@Column(name = "quiet_end")
+	private LocalTime quietEnd;
+
 	/** 생성 시각 */
 	@Column(nullable = false)
 	private LocalDateTime createdAt = LocalDateTime.now();
@@ -90,6 +99,20 @@ public class FcmPreference {
 		if (thresholdDays == null) thresholdDays = 3;
 	}
 
+	/**
+	 * 주어진 시각이 방해 금지 시간대인지 여부.
+	 *
+	 * @param time 확인할 시각
+	 * @return 방해 금지 중이면 true (구간 미설정 또는 시작=종료면 false)
+	 */
+	public boolean isQuietAt(LocalTime time) {
+		if (quietStart == null || quietEnd == null || quietStart.equals(quietEnd)) return false;
+		if (quietStart.isBefore(quietEnd)) {
+			return !time.isBefore(quietStart) && time.isBefore(quietEnd);
+		}
+		return !time.isBefore(quietStart) || time.isBefore(quietEnd);
+	}
+
 	/** 수정 시 updatedAt 자동 갱신 */
 	@PreUpdate
 	void onUpdate() {
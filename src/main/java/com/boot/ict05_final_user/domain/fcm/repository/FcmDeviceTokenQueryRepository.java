@@ -5,6 +5,7 @@ import com.boot.ict05_final_user.domain.fcm.entity.FcmDeviceToken;
 import com.boot.ict05_final_user.domain.fcm.entity.PlatformType;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,7 +26,7 @@ import java.util.Optional;
 public interface FcmDeviceTokenQueryRepository {
 
     /**
-     * (appType, platform, memberId, deviceId) 조합 또는 token을 기준으로 Upsert 수행.
+     * token 기준 단일 문장 Upsert 수행 (새 토큰이면 같은 디바이스의 이전 토큰은 비활성화).
      *
      * @param appType   앱 유형 (HQ / STORE)
      * @param platform  플랫폼 유형 (WEB / ANDROID / IOS)
@@ -34,13 +35,35 @@ public interface FcmDeviceTokenQueryRepository {
      * @param deviceId  디바이스 식별자
      * @param token     FCM 토큰
      * @param seenAt    최근 접속 시각
-     * @return Upsert 완료된 {@link FcmDeviceToken} 엔티티
+     * @return Upsert 완료된 {@link FcmDeviceToken} (영속 상태 아님, ID 포함)
      */
     FcmDeviceToken upsert(AppType appType, PlatformType platform,
                           Long storeId, Long memberId,
                           String deviceId, String token,
                           LocalDateTime seenAt);
 
+    /**
+     * 모아 둔 lastSeenAt 배치 반영 (더 최근 값만).
+     *
+     * @param seenByToken 토큰 → 최근 접속 시각
+     * @return 반영된 행 수
+     */
+    int touchLastSeen(Map<String, LocalDateTime> seenByToken);
+
+    /**
+     * token 유니크 인덱스 존재 여부 (조회만).
+     *
+     * @return 있으면 true
+     */
+    boolean hasTokenUniqueIndex();
+
+    /**
+     * 같은 token 을 가진 중복 행 수 (조회만).
+     *
+     * @return token 마다 1건을 뺀 나머지 행 수
+     */
+    long countDuplicateTokens();
+
     /**
      * 활성 상태의 특정 토큰 조회.
      *
@@ -3,14 +3,19 @@ package com.boot.ict05_final_user.domain.fcm.repository;
 import com.boot.ict05_final_user.domain.fcm.entity.AppType;
 import com.boot.ict05_final_user.domain.fcm.entity.FcmDeviceToken;
 import com.boot.ict05_final_user.domain.fcm.entity.PlatformType;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAUpdateClause;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.boot.ict05_final_user.domain.fcm.entity.QFcmDeviceToken.fcmDeviceToken;
@@ -18,10 +23,12 @@ import static com.boot.ict05_final_user.domain.fcm.entity.QFcmDeviceToken.fcmDev
 /**
  * {@link FcmDeviceTokenQueryRepository} 구현체.
  *
- * <p>FCM 기기 토큰의 Upsert 및 배치 비활성화 로직을 QueryDSL 기반으로 구현합니다.</p>
+ * <p>FCM 기기 토큰의 Upsert 및 배치 비활성화 로직을 QueryDSL / Native SQL 로 구현합니다.</p>
  *
  * <ul>
- *   <li>Upsert: (appType, platform, memberId, deviceId) 조합 또는 token 기준으로 신규/갱신 처리</li>
+ *   <li>Upsert: token 유니크 인덱스 기준 {@code INSERT ... ON DUPLICATE KEY UPDATE} 한 문장 (Native SQL).
+ *       인덱스가 없는 테이블이면 조회 후 갱신/삽입으로 처리 (중복 행이 생기지 않도록)</li>
+ *   <li>heartbeat: 모아 둔 lastSeenAt 배치 반영</li>
  *   <li>조회: 활성 토큰 단건 조회</li>
  *   <li>정리: updatedAt / lastSeenAt 기준 대량 비활성화</li>
  * </ul>
@@ -35,14 +42,33 @@ import static com.boot.ict05_final_user.domain.fcm.entity.QFcmDeviceToken.fcmDev
 @RequiredArgsConstructor
 public class FcmDeviceTokenQueryRepositoryImpl implements FcmDeviceTokenQueryRepository {
 
+    /** token 유니크 인덱스 (엔티티 {@code uq_fcm_token} 과 동일 이름) */
+    public static final String TOKEN_UNIQUE_INDEX = "uq_fcm_token";
+
+    /** 인덱스가 없다고 확인한 뒤 다시 확인하기까지의 간격 (수동 스크립트 적용을 재기동 없이 반영) */
+    private static final long INDEX_RECHECK_MS = 5 * 60_000L;
+
     private final JPAQueryFactory query;
     private final EntityManager em;
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** token 유니크 인덱스 확인 결과 (null = 아직 확인 전) */
+    private volatile Boolean tokenUniqueIndex;
+    /** 마지막 확인 시각(ms) */
+    private volatile long tokenUniqueIndexCheckedAt;
 
     /**
-     * 토큰 또는 (appType, platform, memberId, deviceId) 기준으로 Upsert 수행.
+     * token 유니크 인덱스({@value #TOKEN_UNIQUE_INDEX}) 기준 단일 문장 Upsert.
+     *
+     * <p>{@code INSERT ... ON DUPLICATE KEY UPDATE} 한 번으로 신규 삽입 또는 기존 행 재활성화·정보 갱신을 처리합니다.
+     * 기존 행이면 {@code LAST_INSERT_ID(id)}로 그 행의 ID 를 돌려받습니다.
+     * lastSeenAt 은 더 최근 값만 반영합니다(지연 flush 된 heartbeat 가 되돌리지 않도록).</p>
      *
-     * <p>1) 토큰 존재 시: 기존 행 재활성화 및 정보 갱신<br>
-     * 2) 토큰 미존재 시: 동일 디바이스 존재 여부 확인 후 삽입 또는 갱신</p>
+     * <p>새 토큰이 삽입된 경우(토큰 재발급)에만, 같은 (appType, platform, memberId, deviceId) 의
+     * 다른 활성 토큰을 비활성화합니다.</p>
+     *
+     * <p>{@value #TOKEN_UNIQUE_INDEX} 가 없는 테이블에서는 위 문장이 매번 새 행을 넣으므로,
+     * 인덱스가 확인될 때까지 {@link #upsertBySelect} 로 처리합니다.</p>
      *
      * @param appType   앱 구분 (HQ / STORE)
      * @param platform  플랫폼 (WEB / ANDROID / IOS)
@@ -51,67 +77,225 @@ public class FcmDeviceTokenQueryRepositoryImpl implements FcmDeviceTokenQueryRep
      * @param deviceId  디바이스 식별자
      * @param token     FCM 등록 토큰
      * @param seenAt    최근 접속 시각
-     * @return 저장 또는 갱신된 {@link FcmDeviceToken}
+     * @return 저장 또는 갱신된 {@link FcmDeviceToken} (영속 상태 아님, ID 포함)
      */
     @Override
+    @Transactional
     public FcmDeviceToken upsert(AppType appType, PlatformType platform,
                                  Long storeIdFk, Long memberIdFk,
                                  String deviceId, String token,
                                  LocalDateTime seenAt) {
+        if (!tokenUniqueIndexReady()) {
+            return upsertBySelect(appType, platform, storeIdFk, memberIdFk, deviceId, token, seenAt);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("appType", appType.name())
+                .addValue("platform", platform.name())
+                .addValue("token", token)
+                .addValue("deviceId", deviceId)
+                .addValue("memberId", memberIdFk)
+                .addValue("storeId", storeIdFk)
+                .addValue("seenAt", seenAt)
+                .addValue("now", now);
 
-        FcmDeviceToken found = query
+        KeyHolder keys = new GeneratedKeyHolder();
+        int affected = jdbc.update("""
+                INSERT INTO fcm_device_token
+                    (app_type, platform, token, device_id, member_id_fk, store_id_fk,
+                     is_active, last_seen_at, created_at, updated_at)
+                VALUES
+                    (:appType, :platform, :token, :deviceId, :memberId, :storeId,
+                     1, :seenAt, :now, :now)
+                ON DUPLICATE KEY UPDATE
+                    fcm_device_token_id = LAST_INSERT_ID(fcm_device_token_id),
+                    app_type     = VALUES(app_type),
+                    platform     = VALUES(platform),
+                    device_id    = VALUES(device_id),
+                    member_id_fk = VALUES(member_id_fk),
+                    store_id_fk  = VALUES(store_id_fk),
+                    is_active    = 1,
+                    last_seen_at = GREATEST(COALESCE(last_seen_at, VALUES(last_seen_at)), VALUES(last_seen_at)),
+                    updated_at   = VALUES(updated_at)
+                """, params, keys, new String[]{"fcm_device_token_id"});
+
+        // 1 = 신규 삽입, 2 = 기존 행 갱신
+        if (affected == 1 && deviceId != null) {
+            jdbc.update("""
+                    UPDATE fcm_device_token
+                       SET is_active = 0, updated_at = :now
+                     WHERE app_type = :appType
+                       AND platform = :platform
+                       AND device_id = :deviceId
+                       AND (:memberId IS NULL OR member_id_fk = :memberId)
+                       AND token <> :token
+                       AND is_active = 1
+                    """, params);
+        }
+
+        Number id = keys.getKey();
+        return FcmDeviceToken.builder()
+                .fcmDeviceTokenId(id != null ? id.longValue() : null)
+                .appType(appType)
+                .platform(platform)
+                .token(token)
+                .deviceId(deviceId)
+                .memberIdFk(memberIdFk)
+                .storeIdFk(storeIdFk)
+                .isActive(true)
+                .lastSeenAt(seenAt)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    /**
+     * 인덱스 없는 테이블용 Upsert: token 또는 (appType, platform, memberId, deviceId) 로 찾아 갱신, 없으면 삽입.
+     *
+     * <p>같은 token 의 행이 이미 여럿이면 가장 최근 행을 갱신하고 나머지는 비활성화합니다
+     * (같은 단말에 중복 발송하지 않도록).</p>
+     *
+     * @return 저장 또는 갱신된 {@link FcmDeviceToken} (영속 상태)
+     */
+    private FcmDeviceToken upsertBySelect(AppType appType, PlatformType platform,
+                                          Long storeIdFk, Long memberIdFk,
+                                          String deviceId, String token,
+                                          LocalDateTime seenAt) {
+        FcmDeviceToken row = query
                 .selectFrom(fcmDeviceToken)
                 .where(fcmDeviceToken.token.eq(token))
-                .setHint("org.hibernate.readOnly", true)
-                .setHint("org.hibernate.flushMode", "COMMIT")
+                .orderBy(fcmDeviceToken.fcmDeviceTokenId.desc())
                 .setHint("jakarta.persistence.query.timeout", 3000)
                 .fetchFirst();
-
-        if (found == null) {
-            FcmDeviceToken byDevice = query
+        if (row == null && deviceId != null) {
+            row = query
                     .selectFrom(fcmDeviceToken)
-                    .where(allOf(
-                            fcmDeviceToken.appType.eq(appType),
+                    .where(fcmDeviceToken.appType.eq(appType),
                             fcmDeviceToken.platform.eq(platform),
-                            eqOrNull(fcmDeviceToken.memberIdFk, memberIdFk),
-                            eqOrNull(fcmDeviceToken.deviceId, deviceId)
-                    ))
-                    .setHint("org.hibernate.readOnly", true)
-                    .setHint("org.hibernate.flushMode", "COMMIT")
+                            memberIdFk == null ? null : fcmDeviceToken.memberIdFk.eq(memberIdFk),
+                            fcmDeviceToken.deviceId.eq(deviceId))
+                    .orderBy(fcmDeviceToken.fcmDeviceTokenId.desc())
                     .setHint("jakarta.persistence.query.timeout", 3000)
                     .fetchFirst();
+        }
 
-            if (byDevice == null) {
-                FcmDeviceToken row = FcmDeviceToken.builder()
-                        .appType(appType)
-                        .platform(platform)
-                        .token(token)
-                        .deviceId(deviceId)
-                        .memberIdFk(memberIdFk)
-                        .storeIdFk(storeIdFk)
-                        .isActive(true)
-                        .lastSeenAt(seenAt)
-                        .build();
-                em.persist(row);
-                return row;
-            } else {
-                byDevice.setToken(token);
-                byDevice.setStoreIdFk(storeIdFk);
-                byDevice.setMemberIdFk(memberIdFk);
-                byDevice.setIsActive(true);
-                byDevice.setLastSeenAt(seenAt);
-                return byDevice;
-            }
-        } else {
-            found.setAppType(appType);
-            found.setPlatform(platform);
-            found.setStoreIdFk(storeIdFk);
-            found.setMemberIdFk(memberIdFk);
-            found.setDeviceId(deviceId);
-            found.setIsActive(true);
-            found.setLastSeenAt(seenAt);
-            return found;
+        if (row == null) {
+            row = FcmDeviceToken.builder()
+                    .appType(appType)
+                    .platform(platform)
+                    .token(token)
+                    .deviceId(deviceId)
+                    .memberIdFk(memberIdFk)
+                    .storeIdFk(storeIdFk)
+                    .isActive(true)
+                    .lastSeenAt(seenAt)
+                    .build();
+            em.persist(row);
+            return row;
         }
+
+        row.setAppType(appType);
+        row.setPlatform(platform);
+        row.setToken(token);
+        row.setDeviceId(deviceId);
+        row.setStoreIdFk(storeIdFk);
+        row.setMemberIdFk(memberIdFk);
+        row.setIsActive(true);
+        if (row.getLastSeenAt() == null || row.getLastSeenAt().isBefore(seenAt)) row.setLastSeenAt(seenAt);
+
+        new JPAUpdateClause(em, fcmDeviceToken)
+                .where(fcmDeviceToken.token.eq(token),
+                        fcmDeviceToken.fcmDeviceTokenId.ne(row.getFcmDeviceTokenId()),
+                        fcmDeviceToken.isActive.isTrue())
+                .set(fcmDeviceToken.isActive, false)
+                .execute();
+        return row;
+    }
+
+    /**
+     * 단일 문장 Upsert 를 써도 되는지 (token 유니크 인덱스 존재).
+     * <p>있으면 계속 사용하고, 없거나 확인에 실패하면 {@value #INDEX_RECHECK_MS}ms 마다 다시 확인합니다.</p>
+     */
+    private boolean tokenUniqueIndexReady() {
+        Boolean known = tokenUniqueIndex;
+        if (Boolean.TRUE.equals(known)) return true;
+        if (known != null && System.currentTimeMillis() - tokenUniqueIndexCheckedAt < INDEX_RECHECK_MS) return false;
+        try {
+            return hasTokenUniqueIndex();
+        } catch (RuntimeException e) {
+            tokenUniqueIndex = false;
+            tokenUniqueIndexCheckedAt = System.currentTimeMillis();
+            return false;
+        }
+    }
+
+    /**
+     * 모아 둔 lastSeenAt 을 배치로 반영합니다 (더 최근 값만).
+     *
+     * @param seenByToken 토큰 → 최근 접속 시각
+     * @return 반영된 행 수
+     */
+    @Override
+    @Transactional
+    public int touchLastSeen(Map<String, LocalDateTime> seenByToken) {
+        if (seenByToken.isEmpty()) return 0;
+        MapSqlParameterSource[] batch = seenByToken.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("token", e.getKey())
+                        .addValue("seenAt", e.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        int[] counts = jdbc.batchUpdate("""
+                UPDATE fcm_device_token
+                   SET last_seen_at = GREATEST(COALESCE(last_seen_at, :seenAt), :seenAt)
+                 WHERE token = :token
+                   AND is_active = 1
+                """, batch);
+        int total = 0;
+        for (int c : counts) total += Math.max(c, 0);
+        return total;
+    }
+
+    /**
+     * token 유니크 인덱스({@value #TOKEN_UNIQUE_INDEX}) 존재 여부.
+     *
+     * <p>조회만 합니다(결과는 Upsert 방식 선택에 재사용). 인덱스 생성과 중복 정리는 수동 스크립트
+     * {@code db/manual/V20261018_02__fcm_device_token_dedup_unique.sql} 로 합니다.</p>
+     *
+     * @return token 이 첫 컬럼인 유니크 인덱스가 있으면 true
+     */
+    @Override
+    public boolean hasTokenUniqueIndex() {
+        Integer existing = jdbc.queryForObject("""
+                SELECT COUNT(*)
+                  FROM information_schema.statistics
+                 WHERE table_schema = DATABASE()
+                   AND table_name = 'fcm_device_token'
+                   AND column_name = 'token'
+                   AND seq_in_index = 1
+                   AND non_unique = 0
+                """, new MapSqlParameterSource(), Integer.class);
+        boolean present = existing != null && existing > 0;
+        tokenUniqueIndex = present;
+        tokenUniqueIndexCheckedAt = System.currentTimeMillis();
+        return present;
+    }
+
+    /**
+     * 같은 token 을 가진 중복 행 수 (token 마다 1건을 뺀 나머지, 앱 구분 무관).
+     *
+     * @return 중복 행 수
+     */
+    @Override
+    public long countDuplicateTokens() {
+        Long count = jdbc.queryForObject("""
+                SELECT COALESCE(SUM(cnt - 1), 0)
+                  FROM (SELECT COUNT(*) AS cnt
+                          FROM fcm_device_token
+                         GROUP BY token
+                        HAVING COUNT(*) > 1) d
+                """, new MapSqlParameterSource(), Long.class);
+        return count == null ? 0L : count;
     }
 
     /**
@@ -163,19 +347,4 @@ public class FcmDeviceTokenQueryRepositoryImpl implements FcmDeviceTokenQueryRep
                 .execute();
         return (int) affected;
     }
-
-    /** 다중 BooleanExpression 조합 유틸리티 */
-    private static BooleanExpression allOf(BooleanExpression... exps) {
-        BooleanExpression acc = null;
-        for (BooleanExpression e : exps) {
-            if (e == null) continue;
-            acc = (acc == null) ? e : acc.and(e);
-        }
-        return acc;
-    }
-
-    /** 값이 null이 아닐 경우 eq 조건 생성 */
-    private static <T> BooleanExpression eqOrNull(com.querydsl.core.types.dsl.SimpleExpression<T> col, T v) {
-        return (v == null) ? null : col.eq(v);
-    }
 }
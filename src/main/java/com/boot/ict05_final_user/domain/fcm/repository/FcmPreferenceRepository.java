@@ -4,6 +4,8 @@ import com.boot.ict05_final_user.domain.fcm.entity.AppType;
 import com.boot.ict05_final_user.domain.fcm.entity.FcmPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,4 +27,13 @@ public interface FcmPreferenceRepository extends JpaRepository<FcmPreference, Lo
 	 * @return FCM 선호도 엔티티(Optional)
 	 */
 	Optional<FcmPreference> findFirstByAppTypeAndMemberIdFk(AppType appType, Long memberIdFk);
+
+	/**
+	 * 여러 매장의 알림 설정을 한 번에 조회합니다 (알림 병합 시 방해 금지 판단용).
+	 *
+	 * @param appType   앱 구분
+	 * @param storeIds  매장 ID 목록
+	 * @return 알림 설정 목록
+	 */
+	List<FcmPreference> findByAppTypeAndStoreIdFkIn(AppType appType, Collection<Long> storeIds);
 }
@@ -0,0 +1,52 @@
+package com.boot.ict05_final_user.domain.fcm.scheduler;
+
+import com.boot.ict05_final_user.domain.fcm.config.FcmProperties;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
+import com.boot.ict05_final_user.domain.fcm.service.FcmTokenHeartbeatBuffer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * FCM 토큰 heartbeat 반영 스케줄러.
+ *
+ * <ul>
+ *   <li>기동 시: {@code fcm.token.check-unique-index=true}(기본) 이면 token 유니크 인덱스(단일 문장 Upsert 의 전제)를
+ *       점검하고, 없으면 중복 행 수를 경고로 남긴다. 인덱스가 없는 동안 등록은 조회 후 갱신/삽입으로 처리된다.
+ *       정리는 수동 스크립트로 한다.</li>
+ *   <li>주기 실행: {@link FcmTokenHeartbeatBuffer} 에 모인 lastSeenAt 을 배치 UPDATE 로 반영한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.enabled", havingValue = "true")
+public class FcmTokenHeartbeatScheduler implements ApplicationRunner {
+
+    private final FcmProperties props;
+    private final FcmDeviceTokenRepository tokenRepo;
+    private final FcmTokenHeartbeatBuffer heartbeat;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!props.getToken().isCheckUniqueIndex()) return;
+        try {
+            if (tokenRepo.hasTokenUniqueIndex()) return;
+            log.warn("[FCM] token unique index missing, registering by select-then-update; duplicate rows={} "
+                            + "(apply db/manual/V20261018_02__fcm_device_token_dedup_unique.sql)",
+                    tokenRepo.countDuplicateTokens());
+        } catch (RuntimeException e) {
+            log.warn("[FCM] token unique index check failed", e);
+        }
+    }
+
+    /** 모인 lastSeenAt 반영 */
+    @Scheduled(fixedDelayString = "${fcm.token.heartbeat-flush-ms:30000}")
+    public void flush() {
+        heartbeat.flush();
+    }
+}
@@ -0,0 +1,33 @@
+package com.boot.ict05_final_user.domain.fcm.scheduler;
+
+import com.boot.ict05_final_user.domain.fcm.service.StoreAlertCoalescer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매장 알림 병합 버킷 발송 스케줄러.
+ *
+ * <p>{@code fcm.coalesce.flush-interval-ms} 마다 병합 구간이 지난 버킷을 요약 발송한다
+ * (방해 금지 중인 매장은 {@link StoreAlertCoalescer} 가 보류).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.enabled", havingValue = "true")
+public class StoreAlertCoalesceScheduler {
+
+    private final StoreAlertCoalescer coalescer;
+
+    /** 기한 지난 버킷 발송 */
+    @Scheduled(fixedDelayString = "${fcm.coalesce.flush-interval-ms:10000}")
+    public void flush() {
+        try {
+            coalescer.flushDue();
+        } catch (RuntimeException e) {
+            log.warn("[FCM_COALESCE] flush failed", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import com.boot.ict05_final_user.domain.fcm.config.FcmProperties;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 프로세스 내부 가짜 {@link PushGateway} (오프라인 부하 테스트용).
+ *
+ * <ul>
+ *   <li>지연: 호출마다 {@code latencyMs} + 지수분포 꼬리({@code jitterMs} 평균)만큼 대기</li>
+ *   <li>실패: {@code failureRate} 확률로 {@link ErrorCode#UNAVAILABLE}</li>
+ *   <li>미등록 토큰: 토큰 해시 기준 {@code unregisteredRate} 비율의 토큰은 항상 {@link ErrorCode#UNREGISTERED}
+ *       (같은 토큰은 매번 같은 결과). 토픽 발송에는 적용하지 않는다.</li>
+ * </ul>
+ *
+ * <p>난수는 호출 순번과 {@code seed} 로 만들므로 스레드 간 잠금이 없고, 같은 순서로 호출하면 결과가 같다.</p>
+ */
+public class FakePushGateway implements PushGateway {
+
+    private final long latencyNanos;
+    private final double jitterNanos;
+    private final double failureRate;
+    private final double unregisteredRate;
+    private final long seed;
+
+    private final AtomicLong seq = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong unregistered = new AtomicLong();
+
+    public FakePushGateway(FcmProperties.Fake cfg) {
+        this(cfg.getLatencyMs(), cfg.getJitterMs(), cfg.getFailureRate(), cfg.getUnregisteredRate(), cfg.getSeed());
+    }
+
+    public FakePushGateway(double latencyMs, double jitterMs, double failureRate, double unregisteredRate, long seed) {
+        this.latencyNanos = (long) (Math.max(0, latencyMs) * 1_000_000);
+        this.jitterNanos = Math.max(0, jitterMs) * 1_000_000;
+        this.failureRate = failureRate;
+        this.unregisteredRate = unregisteredRate;
+        this.seed = seed;
+    }
+
+    @Override
+    public String send(PushMessage message) throws SendException {
+        long n = seq.incrementAndGet();
+        simulateLatency(n);
+        if (unit(n, 1) < failureRate) {
+            failed.incrementAndGet();
+            throw new SendException(ErrorCode.UNAVAILABLE, "fake: transient failure");
+        }
+        if (!message.topic() && isUnregistered(message.target())) {
+            unregistered.incrementAndGet();
+            throw new SendException(ErrorCode.UNREGISTERED, "fake: registration-token-not-registered");
+        }
+        sent.incrementAndGet();
+        return "projects/fake/messages/" + n;
+    }
+
+    @Override
+    public TopicResult subscribe(List<String> tokens, String topic) throws SendException {
+        return topicOp(tokens);
+    }
+
+    @Override
+    public TopicResult unsubscribe(List<String> tokens, String topic) throws SendException {
+        return topicOp(tokens);
+    }
+
+    private TopicResult topicOp(List<String> tokens) throws SendException {
+        long n = seq.incrementAndGet();
+        simulateLatency(n);
+        if (unit(n, 1) < failureRate) {
+            throw new SendException(ErrorCode.UNAVAILABLE, "fake: transient failure");
+        }
+        int bad = 0;
+        for (String t : tokens) if (isUnregistered(t)) bad++;
+        return new TopicResult(tokens.size() - bad, bad);
+    }
+
+    /** 해시 기준으로 고정된 미등록 토큰 여부 */
+    public boolean isUnregistered(String token) {
+        return token != null && unit(token.hashCode(), 2) < unregisteredRate;
+    }
+
+    /** 성공 발송 수 */
+    public long sentCount() {
+        return sent.get();
+    }
+
+    /** 일시 실패 수 */
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /** UNREGISTERED 응답 수 */
+    public long unregisteredCount() {
+        return unregistered.get();
+    }
+
+    private void simulateLatency(long n) {
+        long nanos = latencyNanos;
+        if (jitterNanos > 0) {
+            double u = Math.max(1e-12, unit(n, 3));
+            nanos += (long) (-Math.log(u) * jitterNanos);
+        }
+        if (nanos > 0) LockSupport.parkNanos(Math.min(nanos, TimeUnit.SECONDS.toNanos(30)));
+    }
+
+    /** (n, salt) → [0, 1) 균등 난수 (SplitMix64) */
+    private double unit(long n, long salt) {
+        long z = n * 0x9E3779B97F4A7C15L + seed + salt * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
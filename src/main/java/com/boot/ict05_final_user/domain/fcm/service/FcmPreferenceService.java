@@ -5,13 +5,13 @@ import com.boot.ict05_final_user.domain.fcm.entity.FcmDeviceToken;
 import com.boot.ict05_final_user.domain.fcm.entity.FcmPreference;
 import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
 import com.boot.ict05_final_user.domain.fcm.repository.FcmPreferenceRepository;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -21,7 +21,7 @@ import java.util.List;
  * 관련 FCM 토픽 구독 상태를 자동으로 동기화합니다.</p>
  *
  * <ul>
- *     <li>가맹점 사용자의 알림 선호도 저장(업서트)</li>
+ *     <li>가맹점 사용자의 알림 선호도 저장(업서트, 방해 금지 시간대 포함)</li>
  *     <li>멤버별 현재 선호도 조회</li>
  *     <li>선호도 기반 토픽 구독/해제 일괄 동기화</li>
  * </ul>
@@ -53,6 +53,9 @@ public class FcmPreferenceService {
 	 * @param catStockLow    재고 부족 알림 수신 여부
 	 * @param catExpireSoon  유통기한 임박 알림 수신 여부
 	 * @param thresholdDays  임박 기준일(일 단위)
+	 * @param quietEnabled   방해 금지 사용 여부 (false 면 해제, null 이면 시작/종료 값이 모두 있을 때만 변경)
+	 * @param quietStart     방해 금지 시작 시각
+	 * @param quietEnd       방해 금지 종료 시각
 	 * @return 저장된 {@link FcmPreference} 객체
 	 */
 	@Transactional
@@ -62,7 +65,10 @@ public class FcmPreferenceService {
 			Boolean catNotice,
 			Boolean catStockLow,
 			Boolean catExpireSoon,
-			Integer thresholdDays
+			Integer thresholdDays,
+			Boolean quietEnabled,
+			LocalTime quietStart,
+			LocalTime quietEnd
 	) {
 		FcmPreference row = repo.findFirstByAppTypeAndMemberIdFk(AppType.STORE, memberId)
 				.orElseGet(() -> FcmPreference.builder()
@@ -76,6 +82,13 @@ public class FcmPreferenceService {
 		if (catExpireSoon != null) row.setCatExpireSoon(catExpireSoon);
 		if (thresholdDays != null) row.setThresholdDays(Math.max(0, thresholdDays));
 		if (row.getStoreIdFk() == null && storeId != null) row.setStoreIdFk(storeId);
+		if (Boolean.FALSE.equals(quietEnabled)) {
+			row.setQuietStart(null);
+			row.setQuietEnd(null);
+		} else if (quietStart != null && quietEnd != null) {
+			row.setQuietStart(quietStart);
+			row.setQuietEnd(quietEnd);
+		}
 
 		FcmPreference saved = repo.save(row);
 
@@ -111,11 +124,11 @@ public class FcmPreferenceService {
 	 * @param memberId 회원 ID
 	 * @param storeId  매장 ID
 	 * @param pref     사용자의 알림 선호도 객체
-	 * @throws FirebaseMessagingException FCM 구독/해제 요청 실패 시 발생
+	 * @throws PushGateway.SendException FCM 구독/해제 요청 실패 시 발생
 	 */
 	@Transactional(readOnly = true)
 	public void syncTopicsForMember(Long memberId, Long storeId, FcmPreference pref)
-			throws FirebaseMessagingException {
+			throws PushGateway.SendException {
 
 		if (memberId == null || storeId == null || pref == null) {
 			log.debug("[FCM][PrefSync] skip: invalid args memberId={} storeId={} prefNull={}",
@@ -9,13 +9,10 @@ import com.boot.ict05_final_user.domain.fcm.entity.FcmStoreSendLog;
 import com.boot.ict05_final_user.domain.fcm.entity.PlatformType;
 import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
 import com.boot.ict05_final_user.domain.fcm.repository.FcmStoreSendLogRepository;
-import com.google.firebase.ErrorCode;
-import com.google.firebase.messaging.*;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -24,7 +21,7 @@ import java.util.*;
 /**
  * FCM 토큰 관리, 토픽 구독 관리 및 메시지 발송을 담당하는 서비스 클래스.
  *
- * <p>본 서비스는 Firebase Admin SDK를 기반으로 하며, 주요 역할은 다음과 같습니다:</p>
+ * <p>실제 발송은 {@link PushGateway}(기본: Firebase Admin SDK)에 위임하며, 주요 역할은 다음과 같습니다:</p>
  * <ul>
  *   <li>토큰 업서트 및 구독/해제 관리</li>
  *   <li>단일 또는 다중 대상 발송 (Topic, Token)</li>
@@ -43,10 +40,11 @@ import java.util.*;
 @ConditionalOnProperty(name = "fcm.enabled", havingValue = "true")
 public class FcmService {
 
-    private final FirebaseMessaging messaging;
+    private final PushGateway gateway;
     private final FcmDeviceTokenRepository tokenRepo;
     private final FcmProperties props;
     private final FcmStoreSendLogRepository storeLogRepo;
+    private final FcmTokenHeartbeatBuffer heartbeat;
 
     /**
      * FCM 발송 로그 저장 시 메타 정보를 보관하는 내부 클래스.
@@ -68,23 +66,45 @@ public class FcmService {
     /**
      * 가맹점 단말의 FCM 토큰을 등록(업서트)합니다.
      *
+     * <p>같은 등록 정보로 최근 Upsert 한 토큰이면 DB 를 건드리지 않고
+     * lastSeenAt 만 {@link FcmTokenHeartbeatBuffer} 에 모읍니다.</p>
+     *
      * @param storeId 매장 ID
      * @param memberId 회원 ID
      * @param req 토큰 등록 요청 DTO
-     * @return 업서트된 {@link FcmDeviceToken} 엔티티
+     * @return 업서트된 {@link FcmDeviceToken} (영속 상태 아님, ID 포함)
      */
-    @Transactional
     public FcmDeviceToken upsertStoreToken(Long storeId, Long memberId, FcmRegisterTokenRequest req) {
         PlatformType platform = (req.platform() == null) ? PlatformType.WEB : req.platform();
-        return tokenRepo.upsert(
+        LocalDateTime now = LocalDateTime.now();
+        String fingerprint = AppType.STORE + "|" + platform + "|" + storeId + "|" + memberId + "|" + req.deviceId();
+
+        Long cachedId = heartbeat.tryCoalesce(req.token(), fingerprint, now);
+        if (cachedId != null) {
+            return FcmDeviceToken.builder()
+                    .fcmDeviceTokenId(cachedId)
+                    .appType(AppType.STORE)
+                    .platform(platform)
+                    .storeIdFk(storeId)
+                    .memberIdFk(memberId)
+                    .deviceId(req.deviceId())
+                    .token(req.token())
+                    .isActive(true)
+                    .lastSeenAt(now)
+                    .build();
+        }
+
+        FcmDeviceToken row = tokenRepo.upsert(
                 AppType.STORE,
                 platform,
                 storeId,
                 memberId,
                 req.deviceId(),
                 req.token(),
-                LocalDateTime.now()
+                now
         );
+        heartbeat.written(req.token(), fingerprint, row.getFcmDeviceTokenId());
+        return row;
     }
 
     // ============================ 토픽 구독 관리 ============================
@@ -94,12 +114,12 @@ public class FcmService {
      *
      * @param token 토큰 문자열
      * @param topic 구독할 토픽명
-     * @throws FirebaseMessagingException FCM 오류 발생 시
+     * @throws PushGateway.SendException FCM 오류 발생 시
      */
-    public void subscribe(String token, String topic) throws FirebaseMessagingException {
-        TopicManagementResponse res = messaging.subscribeToTopic(List.of(token), topic);
+    public void subscribe(String token, String topic) throws PushGateway.SendException {
+        PushGateway.TopicResult res = gateway.subscribe(List.of(token), topic);
         log.info("[FCM] subscribe {} -> {} (success={}, fail={})",
-                token, topic, res.getSuccessCount(), res.getFailureCount());
+                token, topic, res.successCount(), res.failureCount());
     }
 
     /**
@@ -107,12 +127,12 @@ public class FcmService {
      *
      * @param token 토큰 문자열
      * @param topic 해제할 토픽명
-     * @throws FirebaseMessagingException FCM 오류 발생 시
+     * @throws PushGateway.SendException FCM 오류 발생 시
      */
-    public void unsubscribe(String token, String topic) throws FirebaseMessagingException {
-        TopicManagementResponse res = messaging.unsubscribeFromTopic(List.of(token), topic);
+    public void unsubscribe(String token, String topic) throws PushGateway.SendException {
+        PushGateway.TopicResult res = gateway.unsubscribe(List.of(token), topic);
         log.info("[FCM] unsubscribe {} -> {} (success={}, fail={})",
-                token, topic, res.getSuccessCount(), res.getFailureCount());
+                token, topic, res.successCount(), res.failureCount());
     }
 
     /**
@@ -120,13 +140,13 @@ public class FcmService {
      *
      * @param tokens 구독 대상 토큰 목록
      * @param topic 구독할 토픽명
-     * @throws FirebaseMessagingException FCM 오류 발생 시
+     * @throws PushGateway.SendException FCM 오류 발생 시
      */
-    public void subscribeAll(List<String> tokens, String topic) throws FirebaseMessagingException {
+    public void subscribeAll(List<String> tokens, String topic) throws PushGateway.SendException {
         if (tokens == null || tokens.isEmpty()) return;
-        TopicManagementResponse res = messaging.subscribeToTopic(tokens, topic);
+        PushGateway.TopicResult res = gateway.subscribe(tokens, topic);
         log.info("[FCM] subscribeAll {} -> {} (success={}, fail={})",
-                tokens.size(), topic, res.getSuccessCount(), res.getFailureCount());
+                tokens.size(), topic, res.successCount(), res.failureCount());
     }
 
     /**
@@ -134,13 +154,13 @@ public class FcmService {
      *
      * @param tokens 해제 대상 토큰 목록
      * @param topic 해제할 토픽명
-     * @throws FirebaseMessagingException FCM 오류 발생 시
+     * @throws PushGateway.SendException FCM 오류 발생 시
      */
-    public void unsubscribeAll(List<String> tokens, String topic) throws FirebaseMessagingException {
+    public void unsubscribeAll(List<String> tokens, String topic) throws PushGateway.SendException {
         if (tokens == null || tokens.isEmpty()) return;
-        TopicManagementResponse res = messaging.unsubscribeFromTopic(tokens, topic);
+        PushGateway.TopicResult res = gateway.unsubscribe(tokens, topic);
         log.info("[FCM] unsubscribeAll {} -> {} (success={}, fail={})",
-                tokens.size(), topic, res.getSuccessCount(), res.getFailureCount());
+                tokens.size(), topic, res.successCount(), res.failureCount());
     }
 
     // ============================ 메시지 발송 공통 로직 ============================
@@ -148,8 +168,8 @@ public class FcmService {
     /**
      * FCM 메시지를 실제 발송하고 발송 로그를 기록합니다.
      *
-     * <p>WebPush 및 Android 알림 설정을 포함하며,
-     * 링크, 아이콘, 배지 정보는 {@link FcmProperties}에서 불러옵니다.</p>
+     * <p>링크, 아이콘, 배지 정보는 {@link FcmProperties}에서 불러오며,
+     * WebPush / Android 구성은 {@link PushGateway} 구현체가 맡습니다.</p>
      *
      * @param tokenOrTopic 토큰 또는 토픽명
      * @param isTopic 토픽 여부
@@ -159,12 +179,12 @@ public class FcmService {
      * @param dataExtra 부가 데이터 (null 가능)
      * @param meta 로그 메타데이터
      * @return 메시지 ID
-     * @throws FirebaseMessagingException 발송 실패 시 예외
+     * @throws PushGateway.SendException 발송 실패 시 예외
      */
     protected String sendCommonWithLog(String tokenOrTopic, boolean isTopic,
                                        String title, String body, String link,
                                        Map<String, String> dataExtra,
-                                       StoreLogMeta meta) throws FirebaseMessagingException {
+                                       StoreLogMeta meta) throws PushGateway.SendException {
         final String defaultLink =
                 (props != null && props.getWebpush() != null && props.getWebpush().getDefaultLink() != null)
                         ? props.getWebpush().getDefaultLink()
@@ -174,56 +194,20 @@ public class FcmService {
         final String icon = (props != null && props.getWebpush() != null) ? props.getWebpush().getIcon() : null;
         final String badge = (props != null && props.getWebpush() != null) ? props.getWebpush().getBadge() : null;
 
-        WebpushNotification.Builder webpushNoti = WebpushNotification.builder()
-                .setTitle(title)
-                .setBody(body);
-        if (icon != null && !icon.isBlank()) webpushNoti.setIcon(icon);
-
-        WebpushConfig.Builder webpush = WebpushConfig.builder()
-                .setNotification(webpushNoti.build())
-                .setFcmOptions(WebpushFcmOptions.withLink(safeLink))
-                .putData("link", safeLink);
-        if (badge != null && !badge.isBlank()) webpush.putData("badge", badge);
-
-        AndroidNotification androidNoti = AndroidNotification.builder()
-                .setChannelId("default")
-                .setTitle(title)
-                .setBody(body)
-                .build();
-
-        AndroidConfig.Builder android = AndroidConfig.builder()
-                .setPriority(AndroidConfig.Priority.HIGH)
-                .setNotification(androidNoti)
-                .putData("link", safeLink);
-        if (badge != null && !badge.isBlank()) android.putData("badge", badge);
-
-        if (dataExtra != null) {
-            dataExtra.forEach((k, v) -> {
-                if (v != null) {
-                    webpush.putData(k, v);
-                    android.putData(k, v);
-                }
-            });
-        }
-
-        Message.Builder mb = Message.builder()
-                .setWebpushConfig(webpush.build())
-                .setAndroidConfig(android.build());
-        if (isTopic) mb.setTopic(tokenOrTopic);
-        else mb.setToken(tokenOrTopic);
+        PushGateway.PushMessage message = new PushGateway.PushMessage(
+                tokenOrTopic, isTopic, title, body, safeLink, icon, badge, dataExtra);
 
         LocalDateTime now = LocalDateTime.now();
         String messageId = null;
         String errorMsg = null;
 
         try {
-            messageId = messaging.send(mb.build());
+            messageId = gateway.send(message);
             log.info("[FCM] send ok id={} target={} isTopic={}", messageId, tokenOrTopic, isTopic);
             return messageId;
 
-        } catch (FirebaseMessagingException e) {
-            MessagingErrorCode mec = e.getMessagingErrorCode();
-            final String code = (mec != null ? mec.name() : "UNKNOWN");
+        } catch (PushGateway.SendException e) {
+            final String code = e.getErrorCode().name();
             errorMsg = code + ":" + e.getMessage();
 
             log.warn("[FCM] send fail target={} isTopic={} code={} msg={}",
@@ -263,7 +247,7 @@ public class FcmService {
     // ============================ 고수준 발송 API ============================
 
     /** 테스트 발송 요청 DTO 기반 메시지 전송 */
-    public String sendTest(FcmTestSendRequest req) throws FirebaseMessagingException {
+    public String sendTest(FcmTestSendRequest req) throws PushGateway.SendException {
         String link = "/";
         Map<String, String> extra = new HashMap<>();
         extra.put("type", "TEST");
@@ -291,7 +275,7 @@ public class FcmService {
 
     /** HQ 공지 브로드캐스트 발송 (store-all 또는 store-{id}) */
     public String sendHqNoticeToStores(String topic, String title, String body, String link)
-            throws FirebaseMessagingException {
+            throws PushGateway.SendException {
         StoreLogMeta meta = StoreLogMeta.builder()
                 .category("NOTICE")
                 .refType("NOTICE_HQ")
@@ -305,7 +289,7 @@ public class FcmService {
 
     /** 재고 부족 알림 발송 */
     public String sendInventoryLow(long storeId, String title, String body, String link)
-            throws FirebaseMessagingException {
+            throws PushGateway.SendException {
         StoreLogMeta meta = StoreLogMeta.builder()
                 .category("STOCK_LOW")
                 .storeId(storeId)
@@ -320,7 +304,7 @@ public class FcmService {
 
     /** 유통기한 임박 알림 발송 */
     public String sendExpireSoon(long storeId, LocalDate baseDate, String title, String body, String link)
-            throws FirebaseMessagingException {
+            throws PushGateway.SendException {
         StoreLogMeta meta = StoreLogMeta.builder()
                 .category("EXPIRE_SOON")
                 .storeId(storeId)
@@ -336,41 +320,19 @@ public class FcmService {
 
     // ============================ 내부 유틸 ============================
 
-    private void handleTokenError(String token, FirebaseMessagingException e) {
-        MessagingErrorCode mcode = e.getMessagingErrorCode();
-        if (mcode != null) {
-            if (mcode == MessagingErrorCode.UNREGISTERED || mcode == MessagingErrorCode.INVALID_ARGUMENT) {
-                deactivateToken(token, "messaging:" + mcode.name());
-                return;
-            }
-            log.debug("[FCM] non-deactivation messaging error: {} token={} msg={}",
-                    mcode, token, e.getMessage());
+    private void handleTokenError(String token, PushGateway.SendException e) {
+        PushGateway.ErrorCode code = e.getErrorCode();
+        if (code != null && code.isTokenInvalid()) {
+            deactivateToken(token, "push:" + code.name());
             return;
         }
-
-        ErrorCode gcode = e.getErrorCode();
-        if (gcode != null) {
-            if (gcode == ErrorCode.INVALID_ARGUMENT || gcode == ErrorCode.NOT_FOUND) {
-                deactivateToken(token, "generic:" + gcode.name());
-                return;
-            }
-        }
-
-        String msg = e.getMessage();
-        if (msg != null && (
-                msg.contains("registration-token-not-registered")
-                        || msg.contains("invalid-registration-token")
-                        || msg.contains("requested entity was not found")
-        )) {
-            deactivateToken(token, "message-match");
-        } else {
-            log.debug("[FCM] non-deactivation error token={} errCode={} msg={}",
-                    token, (gcode != null ? gcode.name() : null), e.getMessage());
-        }
+        log.debug("[FCM] non-deactivation error token={} errCode={} msg={}",
+                token, code, e.getMessage());
     }
 
     private void deactivateToken(String token, String reason) {
         tokenRepo.findByToken(token).ifPresent(row -> row.setIsActive(false));
+        heartbeat.forget(token);
         log.info("[FCM] token deactivated (reason={}) token={}", reason, token);
     }
 }
@@ -0,0 +1,121 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import com.boot.ict05_final_user.domain.fcm.config.FcmProperties;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FCM 토큰 재등록(heartbeat) 병합 버퍼.
+ *
+ * <p>가맹점 앱은 실행·새로고침마다 같은 토큰을 다시 등록한다. 직전에 같은 등록 정보로 Upsert 한 토큰이
+ * {@code fcm.token.heartbeat-coalesce-seconds} 안에 다시 오면 DB 를 건드리지 않고 lastSeenAt 만 메모리에 모은다.
+ * 모인 값은 {@link #flush()} 에서 토큰당 한 번, 배치 UPDATE 로 반영한다.</p>
+ *
+ * <ul>
+ *   <li>등록 정보(앱/플랫폼/매장/회원/디바이스)가 바뀌면 병합하지 않고 Upsert 한다.</li>
+ *   <li>비활성화된 토큰은 {@link #forget(String)} 으로 즉시 제외한다(다음 등록은 Upsert 로 재활성화).</li>
+ *   <li>보관 토큰 수가 {@code fcm.token.max-pending} 을 넘으면 즉시 반영 후 캐시를 비운다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FcmTokenHeartbeatBuffer {
+
+    private final FcmProperties props;
+    private final FcmDeviceTokenRepository tokenRepo;
+
+    /** token → 마지막 Upsert 정보 */
+    private final Map<String, Written> recent = new ConcurrentHashMap<>();
+    /** token → 반영 대기 중인 최근 lastSeenAt */
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    private record Written(Long id, String fingerprint, long writtenAtMs) {
+    }
+
+    /**
+     * 병합 가능하면 lastSeenAt 을 대기열에 올리고 기존 행 ID 를 돌려준다.
+     *
+     * @param token       FCM 토큰
+     * @param fingerprint 등록 정보 요약 (앱/플랫폼/매장/회원/디바이스)
+     * @param seenAt      접속 시각
+     * @return 병합했으면 행 ID, Upsert 가 필요하면 null
+     */
+    public Long tryCoalesce(String token, String fingerprint, LocalDateTime seenAt) {
+        long windowMs = props.getToken().getHeartbeatCoalesceSeconds() * 1000L;
+        if (windowMs <= 0) return null;
+        Written w = recent.get(token);
+        if (w == null || w.id() == null || !w.fingerprint().equals(fingerprint)
+                || System.currentTimeMillis() - w.writtenAtMs() > windowMs) {
+            return null;
+        }
+        pending.merge(token, seenAt, (a, b) -> a.isAfter(b) ? a : b);
+        return w.id();
+    }
+
+    /**
+     * Upsert 직후 호출한다. 이후 같은 등록은 병합 대상이 된다.
+     *
+     * @param token       FCM 토큰
+     * @param fingerprint 등록 정보 요약
+     * @param id          행 ID
+     */
+    public void written(String token, String fingerprint, Long id) {
+        if (recent.size() >= Math.max(1, props.getToken().getMaxPending())) {
+            flush();
+            recent.clear();
+        }
+        recent.put(token, new Written(id, fingerprint, System.currentTimeMillis()));
+        pending.remove(token); // Upsert 가 더 최근 lastSeenAt 을 이미 썼음
+    }
+
+    /**
+     * 비활성화된 토큰을 병합 대상에서 뺀다.
+     *
+     * @param token FCM 토큰
+     */
+    public void forget(String token) {
+        if (token == null) return;
+        recent.remove(token);
+        pending.remove(token);
+    }
+
+    /**
+     * 대기 중인 lastSeenAt 을 DB 에 반영한다.
+     *
+     * @return 반영된 행 수
+     */
+    public int flush() {
+        if (pending.isEmpty()) return 0;
+        Map<String, LocalDateTime> batch = new HashMap<>(pending.size() * 2);
+        for (String token : pending.keySet()) {
+            LocalDateTime seen = pending.remove(token);
+            if (seen != null) batch.put(token, seen);
+        }
+        if (batch.isEmpty()) return 0;
+        try {
+            int updated = tokenRepo.touchLastSeen(batch);
+            log.debug("[FCM] heartbeat flush tokens={} updated={}", batch.size(), updated);
+            return updated;
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도 (그 사이 들어온 더 최근 값 우선)
+            batch.forEach((t, s) -> pending.merge(t, s, (a, b) -> a.isAfter(b) ? a : b));
+            log.warn("[FCM] heartbeat flush failed tokens={}", batch.size(), e);
+            return 0;
+        }
+    }
+
+    /** 종료 시 남은 lastSeenAt 반영 */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,121 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Firebase Admin SDK 기반 {@link PushGateway}.
+ *
+ * <p>{@link PushGateway.PushMessage} 를 WebPush / Android 설정이 들어간 {@link Message} 로 바꿔 발송하고,
+ * {@link FirebaseMessagingException} 을 {@link PushGateway.ErrorCode} 로 변환한다.</p>
+ */
+@RequiredArgsConstructor
+public class FirebasePushGateway implements PushGateway {
+
+    private final FirebaseMessaging messaging;
+
+    @Override
+    public String send(PushMessage m) throws SendException {
+        WebpushNotification.Builder webpushNoti = WebpushNotification.builder()
+                .setTitle(m.title())
+                .setBody(m.body());
+        if (m.icon() != null && !m.icon().isBlank()) webpushNoti.setIcon(m.icon());
+
+        WebpushConfig.Builder webpush = WebpushConfig.builder()
+                .setNotification(webpushNoti.build())
+                .setFcmOptions(WebpushFcmOptions.withLink(m.link()))
+                .putData("link", m.link());
+        if (m.badge() != null && !m.badge().isBlank()) webpush.putData("badge", m.badge());
+
+        AndroidNotification androidNoti = AndroidNotification.builder()
+                .setChannelId("default")
+                .setTitle(m.title())
+                .setBody(m.body())
+                .build();
+
+        AndroidConfig.Builder android = AndroidConfig.builder()
+                .setPriority(AndroidConfig.Priority.HIGH)
+                .setNotification(androidNoti)
+                .putData("link", m.link());
+        if (m.badge() != null && !m.badge().isBlank()) android.putData("badge", m.badge());
+
+        if (m.data() != null) {
+            m.data().forEach((k, v) -> {
+                if (v != null) {
+                    webpush.putData(k, v);
+                    android.putData(k, v);
+                }
+            });
+        }
+
+        Message.Builder mb = Message.builder()
+                .setWebpushConfig(webpush.build())
+                .setAndroidConfig(android.build());
+        if (m.topic()) mb.setTopic(m.target());
+        else mb.setToken(m.target());
+
+        try {
+            return messaging.send(mb.build());
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public TopicResult subscribe(List<String> tokens, String topic) throws SendException {
+        try {
+            TopicManagementResponse res = messaging.subscribeToTopic(tokens, topic);
+            return new TopicResult(res.getSuccessCount(), res.getFailureCount());
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+    }
+
+    @Override
+    public TopicResult unsubscribe(List<String> tokens, String topic) throws SendException {
+        try {
+            TopicManagementResponse res = messaging.unsubscribeFromTopic(tokens, topic);
+            return new TopicResult(res.getSuccessCount(), res.getFailureCount());
+        } catch (FirebaseMessagingException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * FCM 예외 → {@link PushGateway.ErrorCode}.
+     *
+     * <p>메시징 오류 코드가 있으면 그대로, 없으면 일반 오류 코드(INVALID_ARGUMENT / NOT_FOUND),
+     * 그것도 아니면 메시지 문구로 미등록 토큰 여부를 판단한다.</p>
+     */
+    private static SendException translate(FirebaseMessagingException e) {
+        MessagingErrorCode mcode = e.getMessagingErrorCode();
+        if (mcode != null) {
+            return new SendException(ErrorCode.valueOf(mcode.name()), e.getMessage(), e);
+        }
+
+        com.google.firebase.ErrorCode gcode = e.getErrorCode();
+        if (gcode == com.google.firebase.ErrorCode.INVALID_ARGUMENT) {
+            return new SendException(ErrorCode.INVALID_ARGUMENT, e.getMessage(), e);
+        }
+        if (gcode == com.google.firebase.ErrorCode.NOT_FOUND) {
+            return new SendException(ErrorCode.NOT_FOUND, e.getMessage(), e);
+        }
+
+        String msg = e.getMessage();
+        if (msg != null && (
+                msg.contains("registration-token-not-registered")
+                        || msg.contains("invalid-registration-token")
+                        || msg.contains("requested entity was not found")
+        )) {
+            return new SendException(ErrorCode.UNREGISTERED, msg, e);
+        }
+
+        ErrorCode code = ErrorCode.UNKNOWN;
+        if (gcode == com.google.firebase.ErrorCode.UNAVAILABLE) code = ErrorCode.UNAVAILABLE;
+        else if (gcode == com.google.firebase.ErrorCode.INTERNAL) code = ErrorCode.INTERNAL;
+        else if (gcode == com.google.firebase.ErrorCode.RESOURCE_EXHAUSTED) code = ErrorCode.QUOTA_EXCEEDED;
+        return new SendException(code, msg, e);
+    }
+}
@@ -1,7 +1,6 @@
 package com.boot.ict05_final_user.domain.fcm.service;
 
 import com.boot.ict05_final_user.domain.fcm.repository.InventoryAlertQueryRepository;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,7 +21,8 @@ import java.util.Set;
  *
  * <ul>
  *   <li>조회는 {@link InventoryAlertQueryRepository}에서 QueryDSL로 수행</li>
- *   <li>매장 단위 FCM 발송은 {@link FcmService}를 통해 처리</li>
+ *   <li>매장 단위 FCM 발송은 {@link StoreAlertCoalescer}를 거쳐 처리
+ *       (병합 구간 내 중복 제거, 같은 상태 재스캔은 재발송 간격 동안 생략, 방해 금지 시간대 보류)</li>
  *   <li>개별 매장 발송 실패 시 예외를 로깅하고 다음 매장으로 계속 진행</li>
  * </ul>
  *
@@ -35,7 +35,7 @@ import java.util.Set;
 public class InventoryAlertService {
 
     private final InventoryAlertQueryRepository inventoryRepo;
-    private final FcmService fcmService;
+    private final StoreAlertCoalescer coalescer;
 
     /**
      * 재고 부족 상태를 스캔하여 해당 매장에 FCM 알림을 발송합니다.
@@ -44,7 +44,7 @@ public class InventoryAlertService {
      * {@code inv-low-{storeId}} 토픽으로 공지를 발송합니다.</p>
      *
      * @param threshold 임계 수량 (1 이상)
-     * @return 성공적으로 발송된 매장 수
+     * @return 발송(또는 병합 대기·재발송 생략) 처리된 매장 수
      */
     @Transactional(readOnly = true)
     public int scanAndNotifyLowStock(int threshold) {
@@ -59,14 +59,14 @@ public class InventoryAlertService {
         int success = 0;
         for (Long storeId : stores) {
             try {
-                fcmService.sendInventoryLow(
+                coalescer.submit(StoreAlertCoalescer.Alert.inventoryLow(
                         storeId,
                         "[재고부족] 확인 필요",
                         "일부 재료의 재고가 임계치 미만입니다.",
                         "/user/inventory/low"
-                );
+                ));
                 success++;
-            } catch (FirebaseMessagingException e) {
+            } catch (PushGateway.SendException e) {
                 log.warn("[FCM][INV_LOW] send fail storeId={} code={}", storeId, e.getErrorCode(), e);
             } catch (RuntimeException e) {
                 log.warn("[FCM][INV_LOW] send fail storeId={} err={}", storeId, e.getMessage(), e);
@@ -85,7 +85,7 @@ public class InventoryAlertService {
      *
      * @param today 기준일 (null 시 현재 일자)
      * @param days 오늘로부터 며칠 후까지 조회 (0 이상)
-     * @return 성공적으로 발송된 매장 수
+     * @return 발송(또는 병합 대기·재발송 생략) 처리된 매장 수
      */
     @Transactional(readOnly = true)
     public int scanAndNotifyExpireSoon(LocalDate today, int days) {
@@ -101,15 +101,15 @@ public class InventoryAlertService {
         int success = 0;
         for (Long storeId : stores) {
             try {
-                fcmService.sendExpireSoon(
+                coalescer.submit(StoreAlertCoalescer.Alert.expireSoon(
                         storeId,
                         today,
                         "[유통임박] 확인 필요",
                         "일부 재료의 유통기한이 임박했습니다.",
                         "/user/inventory/expire"
-                );
+                ));
                 success++;
-            } catch (FirebaseMessagingException e) {
+            } catch (PushGateway.SendException e) {
                 log.warn("[FCM][EXP_SOON] send fail storeId={} code={}", storeId, e.getErrorCode(), e);
             } catch (RuntimeException e) {
                 log.warn("[FCM][EXP_SOON] send fail storeId={} err={}", storeId, e.getMessage(), e);
@@ -128,7 +128,7 @@ public class InventoryAlertService {
      *
      * @param threshold 임계 수량 (1 이상)
      * @param maxTargets 최대 발송 매장 수 (0 이하는 무제한)
-     * @return 성공적으로 발송된 매장 수
+     * @return 발송(또는 병합 대기·재발송 생략) 처리된 매장 수
      */
     @Transactional(readOnly = true)
     public int scanAndNotifyLowStock(int threshold, int maxTargets) {
@@ -142,12 +142,12 @@ public class InventoryAlertService {
         int success = 0;
         for (Long storeId : new LinkedHashSet<>(list)) {
             try {
-                fcmService.sendInventoryLow(
+                coalescer.submit(StoreAlertCoalescer.Alert.inventoryLow(
                         storeId,
                         "[재고부족] 확인 필요",
                         "일부 재료의 재고가 임계치 미만입니다.",
                         "/user/inventory/low"
-                );
+                ));
                 success++;
             } catch (Exception e) {
                 log.warn("[FCM][INV_LOW] send fail storeId={} err={}", storeId, e.getMessage(), e);
@@ -164,7 +164,7 @@ public class InventoryAlertService {
      * @param today 기준일 (null 시 현재 일자)
      * @param days 오늘로부터 며칠 후까지 조회
      * @param maxTargets 최대 발송 매장 수 (0 이하는 무제한)
-     * @return 성공적으로 발송된 매장 수
+     * @return 발송(또는 병합 대기·재발송 생략) 처리된 매장 수
      */
     @Transactional(readOnly = true)
     public int scanAndNotifyExpireSoon(LocalDate today, int days, int maxTargets) {
@@ -179,13 +179,13 @@ public class InventoryAlertService {
         int success = 0;
         for (Long storeId : new LinkedHashSet<>(list)) {
             try {
-                fcmService.sendExpireSoon(
+                coalescer.submit(StoreAlertCoalescer.Alert.expireSoon(
                         storeId,
                         today,
                         "[유통임박] 확인 필요",
                         "일부 재료의 유통기한이 임박했습니다.",
                         "/user/inventory/expire"
-                );
+                ));
                 success++;
             } catch (Exception e) {
                 log.warn("[FCM][EXP_SOON] send fail storeId={} err={}", storeId, e.getMessage(), e);
@@ -1,20 +1,14 @@
 package com.boot.ict05_final_user.domain.fcm.service;
 
-import com.boot.ict05_final_user.domain.fcm.dto.StoreTopic;
-import com.boot.ict05_final_user.domain.fcm.entity.AppType;
-import com.boot.ict05_final_user.domain.fcm.entity.FcmStoreSendLog;
-import com.boot.ict05_final_user.domain.fcm.repository.FcmStoreSendLogRepository;
 import com.boot.ict05_final_user.domain.notice.entity.Notice;
 import com.boot.ict05_final_user.domain.notice.repository.NoticeRepository;
 import com.boot.ict05_final_user.domain.store.entity.Store;
 import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
-import com.google.firebase.messaging.FirebaseMessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -29,7 +23,7 @@ import java.util.List;
  *   <li>FCM 실패 로그 및 전송 이력 기록</li>
  * </ul>
  *
- * <p>각 알림은 {@link FcmService#sendHqNoticeToStores(String, String, String, String)}를 통해 전송됩니다.</p>
+ * <p>각 알림은 {@link StoreAlertCoalescer}를 거쳐 매장별로 병합·중복 제거된 뒤 전송됩니다.</p>
  *
  * @author 이경욱
  * @since 2025-11-20
@@ -40,8 +34,7 @@ import java.util.List;
 public class NoticeAlertService {
 
     private final NoticeRepository noticeRepository;
-    private final FcmService fcmService;
-    private final FcmStoreSendLogRepository storeLogRepo;
+    private final StoreAlertCoalescer coalescer;
     private final StoreRepository storeRepository;
 
     // =========================
@@ -147,10 +140,11 @@ public class NoticeAlertService {
     /**
      * 단일 매장 대상 공지 알림 발송을 수행합니다.
      *
-     * <p>공지 본문과 제목을 정리한 뒤, {@link FcmService#sendHqNoticeToStores(String, String, String, String)}
-     * 를 통해 {@code store-{storeId}} 토픽으로 발송합니다.</p>
+     * <p>공지 본문과 제목을 정리한 뒤 {@link StoreAlertCoalescer}에 넘깁니다.
+     * 같은 공지의 등록/수정 알림은 병합 구간 안에서 {@code store-{storeId}} 토픽 메시지 1건으로 합쳐지며,
+     * 방해 금지 시간대인 매장은 시간대가 끝난 뒤 발송됩니다.</p>
      *
-     * <p>발송 결과는 {@code fcm_store_send_log} 테이블에 기록됩니다.</p>
+     * <p>발송 결과는 발송 시점에 {@code fcm_store_send_log} 테이블에 1행 기록됩니다.</p>
      *
      * @param storeId 매장 ID
      * @param memberId 회원 ID (선택적)
@@ -158,7 +152,7 @@ public class NoticeAlertService {
      * @param category 알림 카테고리
      * @param prefixTitle 제목 접두어
      * @param noticeOrNull 공지 엔티티 (null 가능)
-     * @return 발송 성공 시 1, 실패 시 0
+     * @return 발송(또는 병합 대기) 시 1, 실패 시 0
      */
     private int doSend(Long storeId,
                        Long memberId,
@@ -188,36 +182,13 @@ public class NoticeAlertService {
         if (body.length() > 80) body = body.substring(0, 77) + "...";
 
         String link = "/notice/list";
-        String topic = StoreTopic.store(storeId);
-
-        String messageId = null;
-        String error = null;
 
         try {
-            messageId = fcmService.sendHqNoticeToStores(topic, title, body, link);
-        } catch (FirebaseMessagingException e) {
-            error = e.getMessage();
+            coalescer.submit(StoreAlertCoalescer.Alert.notice(storeId, noticeId, title, body, link));
+            return 1;
+        } catch (PushGateway.SendException e) {
             log.warn("[NoticeAlert] send fail storeId={} noticeId={}", storeId, noticeId, e);
+            return 0;
         }
-
-        FcmStoreSendLog logRow = FcmStoreSendLog.builder()
-                .appType(AppType.STORE)
-                .category("NOTICE")
-                .storeIdFk(storeId)
-                .memberIdFk(memberId)
-                .topic(topic)
-                .title(title)
-                .body(body)
-                .link(link)
-                .refType("NOTICE")
-                .refId(noticeId)
-                .sentAt(LocalDateTime.now())
-                .resultMessageId(messageId)
-                .resultError(error)
-                .build();
-
-        storeLogRepo.save(logRow);
-
-        return (messageId != null ? 1 : 0);
     }
 }
@@ -0,0 +1,108 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 푸시 발송 게이트웨이.
+ *
+ * <p>구현체:
+ * <ul>
+ *   <li>{@link FirebasePushGateway}: Firebase Admin SDK({@code FirebaseMessaging}) 호출 (기본, {@code fcm.gateway=firebase})</li>
+ *   <li>{@link FakePushGateway}: 프로세스 내부 가짜 발송 — 지연·실패·UNREGISTERED 토큰을 흉내 낸다
+ *       ({@code fcm.gateway=fake}, 오프라인 부하 테스트용)</li>
+ * </ul>
+ * {@link FcmService} 는 이 인터페이스만 사용하므로 Firebase 타입에 묶이지 않는다.</p>
+ */
+public interface PushGateway {
+
+    /**
+     * 단건 메시지 발송.
+     *
+     * @param message 발송할 메시지
+     * @return 메시지 ID
+     * @throws SendException 발송 실패 시
+     */
+    String send(PushMessage message) throws SendException;
+
+    /**
+     * 토큰들을 토픽에 구독시킨다.
+     *
+     * @param tokens 대상 토큰
+     * @param topic  토픽명
+     * @return 성공/실패 건수
+     * @throws SendException 요청 자체가 실패한 경우
+     */
+    TopicResult subscribe(List<String> tokens, String topic) throws SendException;
+
+    /**
+     * 토큰들을 토픽에서 해제한다.
+     *
+     * @param tokens 대상 토큰
+     * @param topic  토픽명
+     * @return 성공/실패 건수
+     * @throws SendException 요청 자체가 실패한 경우
+     */
+    TopicResult unsubscribe(List<String> tokens, String topic) throws SendException;
+
+    /**
+     * 발송 메시지 (WebPush / Android 공통 항목).
+     *
+     * @param target 토큰 또는 토픽명
+     * @param topic  토픽 발송 여부
+     * @param title  제목
+     * @param body   본문
+     * @param link   클릭 시 이동 경로
+     * @param icon   WebPush 아이콘 (null 가능)
+     * @param badge  배지 이미지 (null 가능)
+     * @param data   부가 데이터 (null 값 제외)
+     */
+    record PushMessage(String target, boolean topic,
+                       String title, String body, String link,
+                       String icon, String badge,
+                       Map<String, String> data) {
+    }
+
+    /** 토픽 구독/해제 결과 */
+    record TopicResult(int successCount, int failureCount) {
+    }
+
+    /** 발송 오류 코드 (FCM {@code MessagingErrorCode} 기준 + 일반 오류) */
+    enum ErrorCode {
+        UNREGISTERED,
+        INVALID_ARGUMENT,
+        NOT_FOUND,
+        SENDER_ID_MISMATCH,
+        QUOTA_EXCEEDED,
+        UNAVAILABLE,
+        INTERNAL,
+        THIRD_PARTY_AUTH_ERROR,
+        UNKNOWN;
+
+        /** 토큰을 더 쓸 수 없는 오류(비활성화 대상) 여부 */
+        public boolean isTokenInvalid() {
+            return this == UNREGISTERED || this == INVALID_ARGUMENT || this == NOT_FOUND;
+        }
+    }
+
+    /** 발송 실패 */
+    class SendException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ErrorCode errorCode;
+
+        public SendException(ErrorCode errorCode, String message, Throwable cause) {
+            super(message, cause);
+            this.errorCode = errorCode;
+        }
+
+        public SendException(ErrorCode errorCode, String message) {
+            this(errorCode, message, null);
+        }
+
+        public ErrorCode getErrorCode() {
+            return errorCode;
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import com.boot.ict05_final_user.domain.fcm.config.FcmProperties;
+import com.boot.ict05_final_user.domain.fcm.dto.StoreTopic;
+import com.boot.ict05_final_user.domain.fcm.entity.AppType;
+import com.boot.ict05_final_user.domain.fcm.entity.FcmPreference;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmPreferenceRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 알림 병합기 (요약 발송 + 중복 제거 + 방해 금지).
+ *
+ * <p>공지 등록/수정, 재고부족/유통임박 스캔 알림을 바로 보내지 않고 매장·토픽별 버킷에 모은다.
+ * 첫 알림 후 {@code fcm.coalesce.window-seconds} 가 지나면 버킷 하나를 메시지 1건(+발송 로그 1행)으로 보낸다.</p>
+ *
+ * <ul>
+ *   <li>버킷은 토픽 단위(매장 × 카테고리)로 나눈다 — 카테고리별 토픽 구독 설정을 그대로 따른다.</li>
+ *   <li>같은 (매장, 카테고리, 참조) 알림은 버킷 안에서 1항목으로 합치고 횟수만 센다(최신 내용 유지).</li>
+ *   <li>스캔형 알림(재고부족/유통임박)은 같은 항목을 {@code resend-after-minutes} 안에 다시 보내지 않는다.</li>
+ *   <li>매장의 알림 설정이 모두 방해 금지 시간대(KST)면 버킷을 보류했다가 시간대가 끝난 뒤 요약 발송한다.</li>
+ *   <li>발송에 실패한 버킷은 다시 넣어 다음 점검 때 재시도한다({@value #MAX_SEND_ATTEMPTS}회 실패 시 버림).</li>
+ *   <li>항목이 1개·1회면 원래 메시지를 그대로 보낸다.</li>
+ * </ul>
+ *
+ * <p>{@code fcm.coalesce.enabled=false} 이면 {@link #submit(Alert)} 이 즉시 개별 발송한다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "fcm.enabled", havingValue = "true")
+public class StoreAlertCoalescer {
+
+    public static final String CATEGORY_NOTICE = "NOTICE";
+    public static final String CATEGORY_STOCK_LOW = "STOCK_LOW";
+    public static final String CATEGORY_EXPIRE_SOON = "EXPIRE_SOON";
+
+    private final FcmService fcmService;
+    private final FcmPreferenceRepository prefRepo;
+    private final FcmProperties props;
+
+    /** topic → 병합 버킷 */
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    /** 스캔형 알림 중복 키 → 마지막 발송 시각(ms) */
+    private final Map<String, Long> lastSent = new ConcurrentHashMap<>();
+    /** 방해 금지로 보류한 매장 → 다시 확인할 시각(ms) (점검 주기마다 설정을 조회하지 않도록) */
+    private final Map<Long, Long> quietRecheckAt = new ConcurrentHashMap<>();
+
+    /** 방해 금지 매장 재확인 간격 */
+    private static final long QUIET_RECHECK_MS = 5 * 60_000L;
+
+    /** 버킷 1개의 최대 발송 시도 횟수 */
+    static final int MAX_SEND_ATTEMPTS = 3;
+
+    /** 방해 금지 시간대 기준 (설정 화면 입력 기준) */
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 매장 알림 1건.
+     *
+     * @param storeId  매장 ID
+     * @param category 카테고리 (NOTICE / STOCK_LOW / EXPIRE_SOON)
+     * @param topic    발송 토픽
+     * @param refType  참조 유형
+     * @param refId    참조 ID (null 가능)
+     * @param refDate  참조 일자 (null 가능)
+     * @param title    제목
+     * @param body     본문
+     * @param link     클릭 시 이동 경로
+     * @param data     부가 데이터
+     */
+    public record Alert(long storeId, String category, String topic,
+                        String refType, Long refId, LocalDate refDate,
+                        String title, String body, String link,
+                        Map<String, String> data) {
+
+        /** 공지 알림 (매장 토픽) */
+        public static Alert notice(long storeId, Long noticeId, String title, String body, String link) {
+            return new Alert(storeId, CATEGORY_NOTICE, StoreTopic.store(storeId), "NOTICE", noticeId, null,
+                    title, body, link, Map.of("type", "HQ_NOTICE"));
+        }
+
+        /** 재고 부족 알림 */
+        public static Alert inventoryLow(long storeId, String title, String body, String link) {
+            return new Alert(storeId, CATEGORY_STOCK_LOW, StoreTopic.invLow(storeId), "INVENTORY", null, null,
+                    title, body, link, Map.of("type", "INV_LOW", "storeId", String.valueOf(storeId)));
+        }
+
+        /** 유통기한 임박 알림 */
+        public static Alert expireSoon(long storeId, LocalDate baseDate, String title, String body, String link) {
+            return new Alert(storeId, CATEGORY_EXPIRE_SOON, StoreTopic.expireSoon(storeId), "INVENTORY", null, baseDate,
+                    title, body, link, Map.of("type", "EXP_SOON", "storeId", String.valueOf(storeId)));
+        }
+
+        /** (매장, 카테고리, 참조) 중복 키 */
+        String dedupKey() {
+            return storeId + "|" + category + "|" + refType + "|" + refId + "|" + refDate;
+        }
+
+        /** 시간이 지나면 같은 내용으로 다시 스캔되는 알림 여부 */
+        boolean scanned() {
+            return CATEGORY_STOCK_LOW.equals(category) || CATEGORY_EXPIRE_SOON.equals(category);
+        }
+    }
+
+    /** 제출 결과 */
+    public enum Outcome {
+        /** 즉시 발송 (병합 꺼짐) */
+        SENT,
+        /** 새 항목으로 대기 */
+        QUEUED,
+        /** 대기 중인 같은 항목에 합침 */
+        MERGED,
+        /** 재발송 간격 안이라 버림 */
+        SUPPRESSED
+    }
+
+    private static final class Bucket {
+        final long storeId;
+        final String topic;
+        final String category;
+        final long openedAtMs;
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        int failures;
+
+        Bucket(Alert a, long now) {
+            this.storeId = a.storeId();
+            this.topic = a.topic();
+            this.category = a.category();
+            this.openedAtMs = now;
+        }
+    }
+
+    private static final class Entry {
+        Alert latest;
+        int count;
+
+        Entry(Alert a) {
+            this.latest = a;
+        }
+    }
+
+    /**
+     * 알림을 제출한다.
+     *
+     * @param alert 매장 알림
+     * @return 처리 결과
+     * @throws PushGateway.SendException 병합이 꺼져 있고 즉시 발송이 실패한 경우
+     */
+    public Outcome submit(Alert alert) throws PushGateway.SendException {
+        FcmProperties.Coalesce cfg = props.getCoalesce();
+        if (!cfg.isEnabled()) {
+            send(alert.storeId(), alert.topic(), alert.category(), List.of(new Entry(alert)), 1);
+            return Outcome.SENT;
+        }
+
+        long now = System.currentTimeMillis();
+        String key = alert.dedupKey();
+        if (alert.scanned() && cfg.getResendAfterMinutes() > 0) {
+            Long sentAt = lastSent.get(key);
+            if (sentAt != null && now - sentAt < cfg.getResendAfterMinutes() * 60_000L) {
+                return Outcome.SUPPRESSED;
+            }
+        }
+
+        boolean[] merged = new boolean[1];
+        buckets.compute(alert.topic(), (topic, b) -> {
+            if (b == null) b = new Bucket(alert, now);
+            Entry e = b.entries.computeIfAbsent(key, k -> new Entry(alert));
+            merged[0] = e.count > 0;
+            e.latest = alert;
+            e.count++;
+            return b;
+        });
+
+        if (buckets.size() > Math.max(1, cfg.getMaxBuckets())) {
+            log.warn("[FCM_COALESCE] bucket limit {} exceeded, flushing all", cfg.getMaxBuckets());
+            flush(true);
+        }
+        return merged[0] ? Outcome.MERGED : Outcome.QUEUED;
+    }
+
+    /**
+     * 기한이 지난 버킷을 발송한다 (방해 금지 중인 매장은 보류).
+     *
+     * @return 발송한 메시지 수
+     */
+    public int flushDue() {
+        return flush(false);
+    }
+
+    /** 종료 시 남은 버킷 발송 (방해 금지 무시) */
+    @PreDestroy
+    public void shutdown() {
+        if (!buckets.isEmpty()) flush(true);
+    }
+
+    private int flush(boolean all) {
+        if (buckets.isEmpty()) return 0;
+        long now = System.currentTimeMillis();
+        long windowMs = Math.max(0, props.getCoalesce().getWindowSeconds()) * 1000L;
+
+        List<Bucket> due = new ArrayList<>();
+        for (Bucket b : buckets.values()) {
+            if (all || now - b.openedAtMs >= windowMs) due.add(b);
+        }
+        if (due.isEmpty()) return 0;
+
+        Set<Long> quiet = all ? Set.of() : quietStores(due, now);
+        int sent = 0;
+        int events = 0;
+        int deferred = 0;
+        for (Bucket b : due) {
+            if (quiet.contains(b.storeId)) {
+                deferred++;
+                continue;
+            }
+            if (!buckets.remove(b.topic, b)) continue; // 그 사이 다른 flush 가 가져감
+
+            List<Entry> entries = new ArrayList<>(b.entries.values());
+            int total = entries.stream().mapToInt(e -> e.count).sum();
+            try {
+                send(b.storeId, b.topic, b.category, entries, total);
+                sent++;
+                events += total;
+                for (Entry e : entries) {
+                    if (e.latest.scanned()) lastSent.put(e.latest.dedupKey(), now);
+                }
+            } catch (PushGateway.SendException | RuntimeException e) {
+                log.warn("[FCM_COALESCE] send fail storeId={} topic={} events={} attempt={} err={}",
+                        b.storeId, b.topic, total, b.failures + 1, e.getMessage());
+                requeue(b);
+            }
+        }
+
+        long resendMs = props.getCoalesce().getResendAfterMinutes() * 60_000L;
+        lastSent.values().removeIf(t -> now - t >= resendMs);
+
+        if (sent > 0 || deferred > 0) {
+            log.info("[FCM_COALESCE] flushed messages={} events={} deferredQuiet={} pending={}",
+                    sent, events, deferred, buckets.size());
+        }
+        return sent;
+    }
+
+    /**
+     * 발송에 실패한 버킷을 다시 넣는다.
+     * <p>그 사이 같은 토픽에 새 버킷이 생겼으면 항목을 합친다(처음 연 시각 유지 → 다음 점검에서 바로 재시도).</p>
+     */
+    private void requeue(Bucket failed) {
+        if (++failed.failures >= MAX_SEND_ATTEMPTS) {
+            log.warn("[FCM_COALESCE] dropped after {} attempts storeId={} topic={} items={}",
+                    failed.failures, failed.storeId, failed.topic, failed.entries.size());
+            return;
+        }
+        buckets.merge(failed.topic, failed, (current, old) -> {
+            for (Map.Entry<String, Entry> me : current.entries.entrySet()) {
+                old.entries.merge(me.getKey(), me.getValue(), (o, n) -> {
+                    o.latest = n.latest;
+                    o.count += n.count;
+                    return o;
+                });
+            }
+            return old;
+        });
+    }
+
+    /**
+     * 방해 금지 중인 매장.
+     * <p>매장의 알림 설정이 1건 이상 있고 모두 지금 방해 금지 시간대일 때만 보류한다
+     * (토픽 발송은 매장 전원에게 가므로, 한 명이라도 받을 수 있으면 보낸다).</p>
+     */
+    private Set<Long> quietStores(List<Bucket> due, long now) {
+        Set<Long> quiet = new HashSet<>();
+        Set<Long> storeIds = new HashSet<>();
+        for (Bucket b : due) {
+            Long recheckAt = quietRecheckAt.get(b.storeId);
+            if (recheckAt != null && now < recheckAt) quiet.add(b.storeId);
+            else storeIds.add(b.storeId);
+        }
+        if (storeIds.isEmpty()) return quiet;
+
+        List<FcmPreference> prefs;
+        try {
+            prefs = prefRepo.findByAppTypeAndStoreIdFkIn(AppType.STORE, storeIds);
+        } catch (RuntimeException e) {
+            log.warn("[FCM_COALESCE] preference lookup failed, sending without quiet hours: {}", e.getMessage());
+            return quiet;
+        }
+
+        LocalTime time = LocalTime.now(KST);
+        Map<Long, Boolean> quietByStore = new HashMap<>();
+        for (FcmPreference p : prefs) {
+            if (p.getStoreIdFk() == null) continue;
+            quietByStore.merge(p.getStoreIdFk(), p.isQuietAt(time), Boolean::logicalAnd);
+        }
+        for (Long storeId : storeIds) {
+            if (Boolean.TRUE.equals(quietByStore.get(storeId))) {
+                quiet.add(storeId);
+                quietRecheckAt.put(storeId, now + QUIET_RECHECK_MS);
+            } else {
+                quietRecheckAt.remove(storeId);
+            }
+        }
+        return quiet;
+    }
+
+    private void send(long storeId, String topic, String category, List<Entry> entries, int total)
+            throws PushGateway.SendException {
+        Alert first = entries.get(0).latest;
+        FcmService.StoreLogMeta.StoreLogMetaBuilder meta = FcmService.StoreLogMeta.builder()
+                .category(category)
+                .storeId(storeId);
+
+        if (entries.size() == 1) {
+            // 같은 항목만 있으면 최신 내용 그대로 (여러 번이면 횟수만 데이터로)
+            Map<String, String> data = first.data() == null ? new HashMap<>() : new HashMap<>(first.data());
+            if (total > 1) data.put("count", String.valueOf(total));
+            fcmService.sendCommonWithLog(topic, true, first.title(), first.body(), first.link(), data,
+                    meta.refType(first.refType()).refId(first.refId()).refDate(first.refDate()).build());
+            return;
+        }
+
+        int maxLines = Math.max(1, props.getCoalesce().getMaxDigestLines());
+        StringBuilder body = new StringBuilder();
+        String link = first.link();
+        int i = 0;
+        for (Entry e : entries) {
+            if (link != null && !link.equals(e.latest.link())) link = null;
+            if (i++ >= maxLines) continue;
+            if (!body.isEmpty()) body.append('\n');
+            body.append("· ").append(e.latest.title());
+            if (e.count > 1) body.append(" (").append(e.count).append("회)");
+        }
+        if (entries.size() > maxLines) {
+            body.append('\n').append("외 ").append(entries.size() - maxLines).append("건");
+        }
+
+        String title = "[" + label(category) + " 요약] " + entries.size() + "건";
+        Map<String, String> data = first.data() == null ? new HashMap<>() : new HashMap<>(first.data());
+        data.put("digest", "true");
+        data.put("items", String.valueOf(entries.size()));
+        data.put("count", String.valueOf(total));
+
+        fcmService.sendCommonWithLog(topic, true, title, truncate(body.toString(), 1000), link, data,
+                meta.refType("DIGEST").build());
+    }
+
+    private static String label(String category) {
+        return switch (category) {
+            case CATEGORY_NOTICE -> "공지";
+            case CATEGORY_STOCK_LOW -> "재고부족";
+            case CATEGORY_EXPIRE_SOON -> "유통임박";
+            default -> "알림";
+        };
+    }
+
+    private static String truncate(String s, int max) {
+        return s.length() <= max ? s : s.substring(0, max - 3) + "...";
+    }
+}
@@ -0,0 +1,32 @@
+package com.boot.ict05_final_user.domain.home.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대시보드 "오늘의 TOP 메뉴" 실시간 랭킹 설정.
+ *
+ * <p>prefix "home.ranking" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * home.ranking.live-enabled=true
+ * home.ranking.reconcile-cron=0 *&#47;10 * * * *
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "home.ranking")
+@Getter
+@Setter
+public class HomeRankingProperties {
+
+    /**
+     * 메모리 집계 사용 여부.
+     * <p>{@code false}이면 기존처럼 매 요청마다 DB 그룹 집계로 조회합니다.</p>
+     */
+    private boolean liveEnabled = true;
+
+    /** 메모리 집계와 DB 집계를 비교·보정하는 주기 (기본 10분) */
+    private String reconcileCron = "0 */10 * * * *";
+}
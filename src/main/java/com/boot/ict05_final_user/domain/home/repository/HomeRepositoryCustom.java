@@ -17,6 +17,9 @@ public interface HomeRepositoryCustom {
 
     List<TopMenuAgg> findTopMenus(LocalDateTime start, LocalDateTime end, Long storeId, int limit, List<OrderStatus> statuses);
 
+    /** 기간 내 메뉴별 판매 수량/매출 전체 (실시간 랭킹 시드/재조정용, 한도 없음) */
+    List<TopMenuAgg> findMenuSales(LocalDateTime start, LocalDateTime end, Long storeId, List<OrderStatus> statuses);
+
     List<HourlyAgg> aggregateHourly(LocalDateTime start, LocalDateTime end, Long storeId, List<OrderStatus> statuses);
 
     // ===== Projections =====
@@ -82,12 +82,22 @@ public class HomeRepositoryCustomImpl implements HomeRepositoryCustom{
 
     @Override
     public List<TopMenuAgg> findTopMenus(LocalDateTime start, LocalDateTime end, Long storeId, int limit, List<OrderStatus> statuses) {
+        return aggregateMenuSales(start, end, storeId, limit, statuses);
+    }
+
+    @Override
+    public List<TopMenuAgg> findMenuSales(LocalDateTime start, LocalDateTime end, Long storeId, List<OrderStatus> statuses) {
+        return aggregateMenuSales(start, end, storeId, null, statuses);
+    }
+
+    /** 메뉴별 판매 집계 공통 쿼리. limit 이 null 이면 전체 반환 */
+    private List<TopMenuAgg> aggregateMenuSales(LocalDateTime start, LocalDateTime end, Long storeId, Integer limit, List<OrderStatus> statuses) {
         QCustomerOrder customerOrder = QCustomerOrder.customerOrder;
         QCustomerOrderDetail customerOrderDetail = QCustomerOrderDetail.customerOrderDetail;
         QMenuCategory menuCategory = QMenuCategory.menuCategory;
         QMenu menu = QMenu.menu;
 
-        var rows = queryFactory
+        var q = queryFactory
                 .select(
                         customerOrderDetail.menuIdFk.menuId,
                         customerOrderDetail.menuIdFk.menuName,
@@ -113,9 +123,9 @@ public class HomeRepositoryCustomImpl implements HomeRepositoryCustom{
                 .orderBy(
                         customerOrderDetail.quantity.sum().desc(),
                         customerOrderDetail.lineTotal.sum().desc()
-                )
-                .limit(limit)
-                .fetch();
+                );
+        if (limit != null) q.limit(limit);
+        var rows = q.fetch();
 
         return rows.stream().map(t -> new TopMenuAgg(
                 t.get(customerOrderDetail.menuIdFk.menuId),
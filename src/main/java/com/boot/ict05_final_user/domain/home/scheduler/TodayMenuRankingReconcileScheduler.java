@@ -0,0 +1,33 @@
+package com.boot.ict05_final_user.domain.home.scheduler;
+
+import com.boot.ict05_final_user.domain.home.service.TodayMenuRankingTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오늘의 TOP 메뉴 메모리 집계 재조정 스케줄러.
+ *
+ * <p>{@code home.ranking.live-enabled=true}(기본) 일 때
+ * {@code home.ranking.reconcile-cron} 주기로 DB 집계와 비교·보정합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "home.ranking.live-enabled", havingValue = "true", matchIfMissing = true)
+public class TodayMenuRankingReconcileScheduler {
+
+    private final TodayMenuRankingTracker todayMenuRankingTracker;
+
+    @Scheduled(cron = "${home.ranking.reconcile-cron:0 */10 * * * *}")
+    public void reconcile() {
+        try {
+            int drifted = todayMenuRankingTracker.reconcile();
+            if (drifted > 0) log.info("[TOP_MENU] reconciled stores={}", drifted);
+        } catch (RuntimeException e) {
+            log.error("[TOP_MENU] reconcile failed", e);
+        }
+    }
+}
@@ -25,12 +25,16 @@ import java.util.*;
  *   서비스 계층은 기간 계산, 포맷팅, UI 친화적 문구 조립에 집중한다.
  * - 기간 범위는 [startOfDay, nextStartOfDay) 형태의 반개구간을 사용한다.
  * - 완료 주문 상태 집합(DONE)을 상수로 유지하여 재사용한다.
+ * - 오늘의 TOP 메뉴는 TodayMenuRankingTracker(메모리 집계)에서 상위 K개만 읽는다.
+ *   (home.ranking.live-enabled=false 이면 기존 DB 그룹 집계로 조회)
+ * - "오늘"은 KST(Asia/Seoul) 기준 날짜로 계산한다.
  */
 @Service
 @RequiredArgsConstructor
 public class HomeService {
 
     private final HomeRepositoryCustom homeRepositoryCustom;
+    private final TodayMenuRankingTracker todayMenuRankingTracker;
 
     /** 일자의 시작 시각(00:00:00) */
     private static LocalDateTime s(LocalDate d) { return d.atStartOfDay(); }
@@ -53,9 +57,10 @@ public class HomeService {
      * - 증감률은 "어제 대비 ±x.x%" 형태 문자열
      */
     public KpiCardsResponseDTO getTodayKpis(Long storeId) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = TodayMenuRankingTracker.today();
         LocalDateTime ts = s(today), te = e(today);
         LocalDateTime ys = s(today.minusDays(1)), ye = e(today.minusDays(1));
+        var topMenu = topMenus(ts, te, storeId, 1);
 
         // 오늘 집계
         BigDecimal sales = homeRepositoryCustom.sumSales(ts, te, storeId, DONE);
@@ -91,8 +96,8 @@ public class HomeService {
                         .build(),
                 KpiCardDTO.builder()
                         .key("top_menu")
-                        .value(findTopMenuName(ts, te, storeId)) // 상단 텍스트: 메뉴명 또는 "데이터 없음"
-                        .change(findTopMenuQty(ts, te, storeId)) // 보조 텍스트: "n개 판매"
+                        .value(topMenuName(topMenu)) // 상단 텍스트: 메뉴명 또는 "데이터 없음"
+                        .change(topMenuQty(topMenu)) // 보조 텍스트: "n개 판매"
                         .changeType(ChangeType.NEUTRAL)          // 의미상 증감 아님
                         .build()
         );
@@ -112,10 +117,10 @@ public class HomeService {
      * - 카테고리/이름 기반 이모지 매핑으로 간단한 썸네일 대용을 제공한다.
      */
     public TopMenusResponseDTO getTopMenus(Long storeId, int limit) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = TodayMenuRankingTracker.today();
         LocalDateTime ts = s(today), te = e(today);
 
-        var rows = homeRepositoryCustom.findTopMenus(ts, te, storeId, limit, DONE);
+        var rows = topMenus(ts, te, storeId, limit);
         var items = rows.stream()
                 .map(r -> TopMenuItemDTO.builder()
                         .menuId(r.menuId())
@@ -186,7 +191,7 @@ public class HomeService {
      * - UI 차트용 문자열 포맷("HH:00")로 시간 라벨을 구성한다.
      */
     public HourlyStatsResponseDTO getTodayHourly(Long storeId) {
-        LocalDate today = LocalDate.now();
+        LocalDate today = TodayMenuRankingTracker.today();
         LocalDateTime ts = s(today), te = e(today);
 
         var rows = homeRepositoryCustom.aggregateHourly(ts, te, storeId, DONE);
@@ -254,16 +259,22 @@ public class HomeService {
 
     // ===== 내부 조회 헬퍼 =====
 
-    /** 오늘 TOP 1 메뉴명 조회. 없으면 "데이터 없음" */
-    private String findTopMenuName(LocalDateTime ts, LocalDateTime te, Long storeId) {
-        var rows = homeRepositoryCustom.findTopMenus(ts, te, storeId, 1, DONE);
+    /** 오늘 TOP N 메뉴: 메모리 집계 우선, 비활성 시 DB 그룹 집계 */
+    private List<HomeRepositoryCustom.TopMenuAgg> topMenus(LocalDateTime ts, LocalDateTime te, Long storeId, int limit) {
+        if (storeId != null && todayMenuRankingTracker.isEnabled()) {
+            return todayMenuRankingTracker.top(storeId, limit);
+        }
+        return homeRepositoryCustom.findTopMenus(ts, te, storeId, limit, DONE);
+    }
+
+    /** 오늘 TOP 1 메뉴명. 없으면 "데이터 없음" */
+    private static String topMenuName(List<HomeRepositoryCustom.TopMenuAgg> rows) {
         return rows.isEmpty() ? "데이터 없음" : rows.get(0).name();
         // 필요 시 이미지/URL 확장 가능
     }
 
     /** 오늘 TOP 1 메뉴 수량 문자열("{n}개 판매") */
-    private String findTopMenuQty(LocalDateTime ts, LocalDateTime te, Long storeId) {
-        var rows = homeRepositoryCustom.findTopMenus(ts, te, storeId, 1, DONE);
+    private static String topMenuQty(List<HomeRepositoryCustom.TopMenuAgg> rows) {
         if (rows.isEmpty()) return null;
         return rows.get(0).qty() + "개 판매";
     }
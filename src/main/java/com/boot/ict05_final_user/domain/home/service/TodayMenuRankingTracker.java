@@ -0,0 +1,239 @@
+package com.boot.ict05_final_user.domain.home.service;
+
+import com.boot.ict05_final_user.domain.home.config.HomeRankingProperties;
+import com.boot.ict05_final_user.domain.home.repository.HomeRepositoryCustom;
+import com.boot.ict05_final_user.domain.home.repository.HomeRepositoryCustom.TopMenuAgg;
+import com.boot.ict05_final_user.domain.menu.entity.Menu;
+import com.boot.ict05_final_user.domain.order.entity.CustomerOrderDetail;
+import com.boot.ict05_final_user.domain.order.entity.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가맹점별 "오늘의 TOP 메뉴" 실시간 집계기.
+ *
+ * <p>대시보드 새로고침마다 주문 상세/주문/메뉴/카테고리 그룹 조인을 수행하지 않도록,
+ * 완료 주문 전이 시점에 메뉴별 판매 수량/매출을 메모리 카운터에 누적하고
+ * 조회 시에는 상위 K개만 골라 반환한다.</p>
+ *
+ * <p><b>집계 규칙</b></p>
+ * <ul>
+ *   <li>완료 상태 집합({@link OrderStatus#PAID}, {@link OrderStatus#COMPLETED})으로 들어오면 가산,
+ *       완료 상태에서 벗어나면(취소/환불 등) 차감한다. 완료 상태끼리의 전이는 무시한다.</li>
+ *   <li>주문 일시가 오늘(KST)인 주문만 반영한다. KST 날짜가 바뀌면 다음 조회 시 새 날짜로 초기화된다.</li>
+ *   <li>반영은 트랜잭션 커밋 이후에 수행하여 롤백된 전이가 집계에 섞이지 않게 한다.</li>
+ * </ul>
+ *
+ * <p><b>정합성</b></p>
+ * <ul>
+ *   <li>가맹점별 첫 조회(또는 날짜 변경) 시 DB 집계로 시드한다. 시드 전 전이는 시드 결과에 포함되므로 건너뛴다.</li>
+ *   <li>{@link #reconcile()}가 주기적으로 DB 집계와 비교해 차이가 있으면 DB 값으로 교체한다(최종 일관성).</li>
+ * </ul>
+ *
+ * <p>메모리 사용량은 가맹점 수 × 오늘 판매된 메뉴 수(메뉴 카탈로그 크기 이하)로 제한된다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodayMenuRankingTracker {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    /** "완료"로 간주하는 주문 상태 모음 (HomeService 와 동일) */
+    private static final List<OrderStatus> DONE = List.of(OrderStatus.PAID, OrderStatus.COMPLETED);
+
+    /** 메뉴별 정렬: 수량 desc → 매출 desc → 메뉴 ID asc (DB 집계 정렬과 동일 + 동률 고정) */
+    private static final Comparator<TopMenuAgg> RANK = Comparator
+            .comparingLong(TopMenuAgg::qty).reversed()
+            .thenComparing(Comparator.comparingLong(TopMenuAgg::sales).reversed())
+            .thenComparing(TopMenuAgg::menuId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final HomeRepositoryCustom homeRepositoryCustom;
+    private final HomeRankingProperties props;
+
+    /** 가맹점 ID → 오늘 집계 */
+    private final ConcurrentHashMap<Long, StoreDay> stores = new ConcurrentHashMap<>();
+
+    /** 집계 반영 단위(주문 품목 1줄) */
+    public record SaleLine(Long menuId, String name, String categoryName, long qty, long sales) {
+
+        /** 주문 상세 엔티티에서 변환 (트랜잭션 안에서 호출해야 메뉴/카테고리 지연 로딩이 가능) */
+        public static SaleLine of(CustomerOrderDetail d) {
+            Menu menu = d.getMenuIdFk();
+            String category = menu.getMenuCategory() == null ? null : menu.getMenuCategory().getMenuCategoryName();
+            long sales = d.getLineTotal() == null ? 0L : d.getLineTotal().longValue();
+            long qty = d.getQuantity() == null ? 0L : d.getQuantity();
+            return new SaleLine(menu.getMenuId(), menu.getMenuName(), category, qty, sales);
+        }
+    }
+
+    /** 메모리 집계 사용 여부 */
+    public boolean isEnabled() {
+        return props.isLiveEnabled();
+    }
+
+    /** 오늘(KST) */
+    public static LocalDate today() {
+        return LocalDate.now(KST);
+    }
+
+    /**
+     * 주문 상태 전이를 집계에 반영한다.
+     *
+     * @param storeId   가맹점 ID
+     * @param orderedAt 주문 일시
+     * @param prev      변경 전 상태
+     * @param next      변경 후 상태
+     * @param details   주문 상세 목록
+     */
+    public void onStatusChanged(Long storeId, LocalDateTime orderedAt,
+                                OrderStatus prev, OrderStatus next,
+                                List<CustomerOrderDetail> details) {
+        if (!isEnabled() || storeId == null || orderedAt == null) return;
+
+        int sign = DONE.contains(next) == DONE.contains(prev) ? 0 : (DONE.contains(next) ? 1 : -1);
+        if (sign == 0) return;
+
+        LocalDate day = orderedAt.toLocalDate();
+        if (!day.equals(today())) return;
+
+        List<SaleLine> lines = details.stream().map(SaleLine::of).toList();
+        Runnable apply = () -> {
+            StoreDay sd = stores.get(storeId);
+            if (sd == null || !sd.day.equals(day)) return; // 미시드 → 다음 조회 시 DB에서 함께 시드됨
+            sd.apply(lines, sign);
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    /**
+     * 오늘의 상위 K개 메뉴.
+     *
+     * @param storeId 가맹점 ID
+     * @param k       개수
+     * @return 수량/매출 정렬된 상위 메뉴 목록
+     */
+    public List<TopMenuAgg> top(Long storeId, int k) {
+        if (k <= 0) return List.of();
+        LocalDate today = today();
+        StoreDay sd = stores.get(storeId);
+        if (sd == null || !sd.day.equals(today)) {
+            StoreDay seeded = load(storeId, today);
+            sd = stores.merge(storeId, seeded, (cur, fresh) -> cur.day.equals(today) ? cur : fresh);
+        }
+        return sd.top(k);
+    }
+
+    /**
+     * 메모리 집계와 DB 집계를 비교하여 차이가 있으면 DB 값으로 교체한다.
+     * 날짜가 지난 가맹점 집계는 제거한다.
+     *
+     * @return 보정된 가맹점 수
+     */
+    public int reconcile() {
+        LocalDate today = today();
+        int drifted = 0;
+        for (Map.Entry<Long, StoreDay> e : stores.entrySet()) {
+            Long storeId = e.getKey();
+            StoreDay cur = e.getValue();
+            if (!cur.day.equals(today)) {
+                stores.remove(storeId, cur);
+                continue;
+            }
+            StoreDay fresh = load(storeId, today);
+            if (!fresh.sameCounts(cur)) {
+                log.warn("[TOP_MENU] drift storeId={} mem={} db={}", storeId, cur.top(3), fresh.top(3));
+                stores.replace(storeId, cur, fresh);
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    /** 가맹점 집계 제거 (다음 조회 시 재시드) */
+    public void evict(Long storeId) {
+        if (storeId != null) stores.remove(storeId);
+    }
+
+    private StoreDay load(Long storeId, LocalDate day) {
+        LocalDateTime ts = day.atStartOfDay(), te = day.plusDays(1).atStartOfDay();
+        StoreDay sd = new StoreDay(day);
+        for (TopMenuAgg r : homeRepositoryCustom.findMenuSales(ts, te, storeId, DONE)) {
+            sd.apply(List.of(new SaleLine(r.menuId(), r.name(), r.categoryName(), r.qty(), r.sales())), 1);
+        }
+        return sd;
+    }
+
+    /** 가맹점 하루치 메뉴 카운터 */
+    private static final class StoreDay {
+
+        private final LocalDate day;
+        private final Map<Long, Counter> counters = new HashMap<>();
+
+        private StoreDay(LocalDate day) {
+            this.day = day;
+        }
+
+        synchronized void apply(List<SaleLine> lines, int sign) {
+            for (SaleLine l : lines) {
+                if (l.menuId() == null) continue;
+                Counter c = counters.computeIfAbsent(l.menuId(), id -> new Counter());
+                c.name = l.name();
+                c.categoryName = l.categoryName();
+                c.qty += sign * l.qty();
+                c.sales += sign * l.sales();
+                if (c.qty <= 0 && c.sales <= 0) counters.remove(l.menuId());
+            }
+        }
+
+        /** 크기 k 최소 힙으로 상위 K개 선택: O(n log k) */
+        synchronized List<TopMenuAgg> top(int k) {
+            PriorityQueue<TopMenuAgg> heap = new PriorityQueue<>(k + 1, RANK.reversed());
+            for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+                Counter c = e.getValue();
+                heap.offer(new TopMenuAgg(e.getKey(), c.name, c.categoryName, c.qty, c.sales));
+                if (heap.size() > k) heap.poll();
+            }
+            List<TopMenuAgg> out = new ArrayList<>(heap);
+            out.sort(RANK);
+            return out;
+        }
+
+        synchronized boolean sameCounts(StoreDay other) {
+            synchronized (other) {
+                if (counters.size() != other.counters.size()) return false;
+                for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+                    Counter o = other.counters.get(e.getKey());
+                    if (o == null || o.qty != e.getValue().qty || o.sales != e.getValue().sales) return false;
+                }
+                return true;
+            }
+        }
+    }
+
+    private static final class Counter {
+        private String name;
+        private String categoryName;
+        private long qty;
+        private long sales;
+    }
+}
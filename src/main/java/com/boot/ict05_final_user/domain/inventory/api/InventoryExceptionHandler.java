@@ -4,6 +4,7 @@ import com.boot.ict05_final_user.domain.inventory.controller.StoreInventoryRestC
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
@@ -74,6 +75,17 @@ public class InventoryExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
     }
 
+    /** 409: 동시 갱신 충돌(재시도 소진) */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        ApiErrorResponse body = ApiErrorResponse.of(
+                "INV-409",
+                "다른 요청과 동시에 재고가 변경되었습니다. 잠시 후 다시 시도하세요.",
+                currentPath()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     /** 400: 도메인 검증 실패(IllegalArgumentException) */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiErrorResponse> handleIllegalArg(IllegalArgumentException ex) {
@@ -0,0 +1,37 @@
+package com.boot.ict05_final_user.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집계 재고 갱신 동시성(낙관적 잠금 재시도) 설정.
+ *
+ * <p>prefix "inventory.concurrency" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * inventory.concurrency.max-attempts=5
+ * inventory.concurrency.initial-backoff-ms=10
+ * inventory.concurrency.max-backoff-ms=200
+ * inventory.concurrency.multiplier=2.0
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "inventory.concurrency")
+@Getter
+@Setter
+public class InventoryConcurrencyProperties {
+
+    /** 버전 충돌 시 최대 시도 횟수(첫 시도 포함) */
+    private int maxAttempts = 5;
+
+    /** 첫 재시도 대기 상한(ms) */
+    private long initialBackoffMs = 10;
+
+    /** 재시도 대기 상한의 최대값(ms) */
+    private long maxBackoffMs = 200;
+
+    /** 재시도마다 대기 상한 증가 배수 */
+    private double multiplier = 2.0;
+}
@@ -0,0 +1,37 @@
+package com.boot.ict05_final_user.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가맹점 재고 원장(store_inventory_ledger) 설정.
+ *
+ * <p>prefix "inventory.ledger" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * inventory.ledger.backfill-on-startup=false
+ * inventory.ledger.backfill-chunk-size=5000
+ * inventory.ledger.snapshot-enabled=false
+ * inventory.ledger.snapshot-cron=0 10 0 * * *
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "inventory.ledger")
+@Getter
+@Setter
+public class InventoryLedgerProperties {
+
+    /** 기동 시 기존 입고/출고/조정 이력 1회 백필 여부 (완료 후 false 로 되돌린다) */
+    private boolean backfillOnStartup = false;
+
+    /** 백필 청크당 원본 PK 구간 크기 */
+    private int backfillChunkSize = 5000;
+
+    /** 일별 재고 스냅샷 생성 스케줄 사용 여부 (원장 백필 완료 후 켠다) */
+    private boolean snapshotEnabled = false;
+
+    /** 일별 재고 스냅샷 생성 주기 (KST 자정 직후, 해당일 00:00 기준 스냅샷) */
+    private String snapshotCron = "0 10 0 * * *";
+}
@@ -0,0 +1,37 @@
+package com.boot.ict05_final_user.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가맹점 온보딩(본사 재료 매핑 + 집계 재고 생성) 설정.
+ *
+ * <p>prefix "inventory.onboarding" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * inventory.onboarding.chunk-size=200
+ * inventory.onboarding.hq-resync-enabled=false
+ * inventory.onboarding.hq-resync-cron=0 30 5 * * *
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "inventory.onboarding")
+@Getter
+@Setter
+public class StoreOnboardingProperties {
+
+    /**
+     * 청크당 id 개수.
+     * <p>MATERIALS 단계는 본사 재료 수, INVENTORY 단계는 가맹점 재료 수 기준이다.
+     * 전 매장 재동기화 시 한 문장이 (청크 × 매장 수) 행까지 생성할 수 있다.</p>
+     */
+    private int chunkSize = 200;
+
+    /** 전 매장 본사 신규 재료 재동기화 스케줄 사용 여부 */
+    private boolean hqResyncEnabled = false;
+
+    /** 전 매장 재동기화 주기 (기본 매일 05:30) */
+    private String hqResyncCron = "0 30 5 * * *";
+}
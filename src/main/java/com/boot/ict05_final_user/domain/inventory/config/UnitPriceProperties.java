@@ -0,0 +1,36 @@
+package com.boot.ict05_final_user.domain.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * HQ 단가 해석기(UnitPriceResolver) 설정.
+ *
+ * <p>prefix "inventory.unit-price" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * inventory.unit-price.cache-enabled=true
+ * inventory.unit-price.refresh-cron=0/30 * * * * *
+ * inventory.unit-price.check-index=false
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "inventory.unit-price")
+@Getter
+@Setter
+public class UnitPriceProperties {
+
+    /** 메모리 단가표 사용 여부 (false 면 조회마다 DB 폴백) */
+    private boolean cacheEnabled = true;
+
+    /** 단가 테이블 변경 감지 주기 */
+    private String refreshCron = "0/30 * * * * *";
+
+    /**
+     * 최초 적재 시 시점 조회용 인덱스 존재 확인 여부 (없으면 경고 로그만 남긴다).
+     * 본사 소유 테이블이므로 인덱스는 db/manual 스크립트로 본사가 적용한다.
+     */
+    private boolean checkIndex = false;
+}
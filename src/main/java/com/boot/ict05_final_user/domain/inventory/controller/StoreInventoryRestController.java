@@ -1,23 +1,41 @@
 package com.boot.ict05_final_user.domain.inventory.controller;
 
 import com.boot.ict05_final_user.config.security.principal.AppUser;
+import com.boot.ict05_final_user.domain.analytics.dto.CursorPage;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreConsumeRequestDTO;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryAdjustmentWriteDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryAtDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryContentionDTO;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryInWriteDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryLedgerDTO;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryListDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryReceiptRequestDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryReceiptResponseDTO;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryRestockRequest;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventorySearchDTO;
 import com.boot.ict05_final_user.domain.inventory.service.StoreAdjustmentService;
 import com.boot.ict05_final_user.domain.inventory.service.StoreConsumptionService;
 import com.boot.ict05_final_user.domain.inventory.service.StoreInboundService;
 import com.boot.ict05_final_user.domain.inventory.service.StoreInventoryService;
+import com.boot.ict05_final_user.domain.inventory.service.StoreInventorySnapshotService;
+import com.boot.ict05_final_user.domain.purchaseOrder.entity.PurchaseOrderStatus;
+import com.boot.ict05_final_user.domain.purchaseOrder.service.OrderSyncService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.Validator;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -25,7 +43,7 @@ import java.util.List;
  *
  * <p>역할</p>
  * <ul>
- *   <li>가맹점 집계 재고 목록 조회</li>
+ *   <li>가맹점 집계 재고 목록 조회 (전체 / 검색·정렬·페이징)</li>
  *   <li>가맹점 집계 재고 일괄 초기화(누락분 0으로 생성)</li>
  *   <li>간단 입고(집계 가산)</li>
  *   <li>신규 입고 레코드 등록(단가/정책 반영 포함, Inbound 서비스 위임)</li>
@@ -45,15 +63,18 @@ import java.util.List;
  *   <li>대상 미존재/권한 불일치/검증 실패 시 서비스 계층에서 예외를 던지며, 글로벌 예외 핸들러에서 HTTP 에러로 변환</li>
  * </ul>
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/API/store/inventory")
 public class StoreInventoryRestController {
 
     private final StoreInventoryService storeInventoryService;
+    private final StoreInventorySnapshotService storeInventorySnapshotService;
     private final StoreInboundService inboundService;
     private final StoreConsumptionService consumptionService;
     private final StoreAdjustmentService adjustmentService;
+    private final OrderSyncService orderSyncService;
 
     private final Validator inventoryValidator;
 
@@ -81,6 +102,108 @@ public class StoreInventoryRestController {
         return storeInventoryService.getStoreInventoryList(user.getStoreId());
     }
 
+    /**
+     * 가맹점 집계 재고 목록 검색(서버 필터/정렬/페이징).
+     *
+     * <p>GET /API/store/inventory/search?s=&amp;type=&amp;status=&amp;category=&amp;expiringWithinDays=&amp;page=&amp;size=&amp;sort=</p>
+     *
+     * <p>설명</p>
+     * <ul>
+     *   <li>검색어 대상(type): all | name | category | supplier | code</li>
+     *   <li>정렬 허용 필드: name, category, quantity, optimalQuantity, status, nearestExpirationDate, id</li>
+     *   <li>각 행에 잔량 있는 로트의 최근접 유통기한/로트 수가 포함된다.</li>
+     * </ul>
+     *
+     * @param user     인증 사용자(매장 ID 보유)
+     * @param cond     검색 조건
+     * @param pageable 페이지/정렬 (기본 name asc, 10건)
+     * @return 재고 목록 페이지
+     */
+    @GetMapping("/search")
+    public Page<StoreInventoryListDTO> searchStoreInventory(@AuthenticationPrincipal AppUser user,
+                                                            @ModelAttribute StoreInventorySearchDTO cond,
+                                                            @PageableDefault(size = 10, sort = "name", direction = Sort.Direction.ASC)
+                                                            Pageable pageable) {
+        return storeInventoryService.searchStoreInventory(user.getStoreId(), cond, pageable);
+    }
+
+    /**
+     * 가맹점 재고 원장(입고/출고/조정 통합 이력) 조회.
+     *
+     * <p>GET /API/store/inventory/ledger?storeMaterialId=&amp;from=&amp;to=&amp;cursor=&amp;size=</p>
+     *
+     * <ul>
+     *   <li>최신순(일시 desc, id desc) 키셋 페이지. 응답의 nextCursor 를 다음 요청의 cursor 로 전달한다.</li>
+     *   <li>수량은 부호 포함(입고 +, 출고 -, 조정 ±), stockAfter 는 반영 후 재고.</li>
+     * </ul>
+     *
+     * @param user            인증 사용자(매장 ID 보유)
+     * @param storeMaterialId 가맹점 재료 ID (생략 시 매장 전체)
+     * @param from            시작일(yyyy-MM-dd, 포함)
+     * @param to              종료일(yyyy-MM-dd, 포함)
+     * @param cursor          이전 페이지 nextCursor
+     * @param size            페이지 크기 (기본 20, 최대 200)
+     * @return 원장 페이지
+     */
+    @GetMapping("/ledger")
+    public CursorPage<StoreInventoryLedgerDTO> getLedger(@AuthenticationPrincipal AppUser user,
+                                                         @RequestParam(required = false) Long storeMaterialId,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return storeInventoryService.getLedger(user.getStoreId(), storeMaterialId, from, to, cursor, size);
+    }
+
+    /**
+     * 특정 시점 재고 조회.
+     *
+     * <p>GET /API/store/inventory/at?at=2025-01-01T09:00:00&amp;storeMaterialId=</p>
+     *
+     * <p>시점 이하 가장 가까운 일별 스냅샷 + 이후 원장 재생으로 계산한다.</p>
+     *
+     * @param user            인증 사용자(매장 ID 보유)
+     * @param at              조회 시점(ISO date-time)
+     * @param storeMaterialId 가맹점 재료 ID (생략 시 매장 전체)
+     * @return 재료별 시점 수량
+     */
+    @GetMapping("/at")
+    public StoreInventoryAtDTO getInventoryAt(@AuthenticationPrincipal AppUser user,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+                                              @RequestParam(required = false) Long storeMaterialId) {
+        return storeInventorySnapshotService.quantitiesAt(user.getStoreId(), storeMaterialId, at);
+    }
+
+    /**
+     * 일 마감 재고 조회 (해당일 24:00 시점).
+     *
+     * <p>GET /API/store/inventory/closing?date=yyyy-MM-dd</p>
+     *
+     * @param user 인증 사용자(매장 ID 보유)
+     * @param date 마감일
+     * @return 재료별 마감 수량
+     */
+    @GetMapping("/closing")
+    public StoreInventoryAtDTO getClosingInventory(@AuthenticationPrincipal AppUser user,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return storeInventorySnapshotService.closingQuantities(user.getStoreId(), date);
+    }
+
+    /**
+     * 재료별 재고 갱신 경합 통계.
+     *
+     * <p>GET /API/store/inventory/contention</p>
+     *
+     * <p>낙관적 잠금 충돌/재시도/재시도 소진 횟수(인스턴스 기동 이후 누적)를 충돌 많은 순으로 반환한다.</p>
+     *
+     * @param user 인증 사용자(매장 ID 보유)
+     * @return 재료별 경합 통계
+     */
+    @GetMapping("/contention")
+    public List<StoreInventoryContentionDTO> getContention(@AuthenticationPrincipal AppUser user) {
+        return storeInventoryService.getContention(user.getStoreId());
+    }
+
     /**
      * 가맹점 집계 재고 누락분 0으로 일괄 생성.
      *
@@ -142,6 +265,36 @@ public class StoreInventoryRestController {
         return ResponseEntity.ok(id);
     }
 
+    /**
+     * 일괄 입고(납품 1건, 여러 라인).
+     *
+     * <p>POST /API/store/inventory/receipt</p>
+     *
+     * <p>설명</p>
+     * <ul>
+     *   <li>라인별 입고 이력과 LOT(유통기한/LOT 번호)를 생성하고 집계 재고를 한 트랜잭션으로 갱신한다.</li>
+     *   <li>purchaseOrderId 지정 시 발주 품목만 허용하며, 완료 후 발주를 검수완료로 바꾸고 본사에 동기화한다.
+     *       본사 동기화 실패는 입고 결과에 영향을 주지 않는다.</li>
+     * </ul>
+     *
+     * @param user 인증 사용자(매장 ID 보유)
+     * @param dto  일괄 입고 요청 DTO
+     * @return 라인별 입고 결과
+     */
+    @PostMapping("/receipt")
+    public ResponseEntity<StoreInventoryReceiptResponseDTO> receive(@AuthenticationPrincipal AppUser user,
+                                                                    @RequestBody @Valid StoreInventoryReceiptRequestDTO dto) {
+        StoreInventoryReceiptResponseDTO res = inboundService.receive(user.getStoreId(), dto);
+        if (res.getPurchaseOrderCode() != null) {
+            try {
+                orderSyncService.syncToHQ(res.getPurchaseOrderCode(), PurchaseOrderStatus.DELIVERED.name());
+            } catch (Exception e) {
+                log.warn("[STORE] HQ 동기화 실패: orderCode={}, err={}", res.getPurchaseOrderCode(), e.getMessage());
+            }
+        }
+        return ResponseEntity.ok(res);
+    }
+
     /**
      * 판매 소진 처리.
      *
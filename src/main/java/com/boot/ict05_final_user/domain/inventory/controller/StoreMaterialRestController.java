@@ -2,10 +2,12 @@ package com.boot.ict05_final_user.domain.inventory.controller;
 
 import com.boot.ict05_final_user.config.security.principal.AppUser;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreMaterialCreateDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreOnboardingJobResponse;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreMaterialResponse;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreMaterialUpdateOptimalRequest;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreMaterialUpdateStatusRequest;
 import com.boot.ict05_final_user.domain.inventory.service.StoreMaterialService;
+import com.boot.ict05_final_user.domain.inventory.service.StoreOnboardingService;
 import com.boot.ict05_final_user.domain.purchaseOrder.dto.PurchaseOrderRequestsDTO;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +25,7 @@ import java.util.List;
  * <ul>
  *   <li>가맹점 자체 재료 생성</li>
  *   <li>가맹점 재료 목록 조회</li>
- *   <li>본사 재료 일괄 동기화(매핑)</li>
+ *   <li>본사 재료 일괄 동기화(매핑) 및 온보딩 작업 진행률 조회/재개</li>
  *   <li>가맹점 재고 초기 세팅(StoreInventory 누락분 0 생성)</li>
  *   <li>가맹점 재료의 적정재고/상태 갱신</li>
  * </ul>
@@ -52,6 +54,7 @@ import java.util.List;
 public class StoreMaterialRestController {
 
     private final StoreMaterialService storeMaterialService;
+    private final StoreOnboardingService storeOnboardingService;
 
     /**
      * 가맹점 재료 등록.
@@ -131,6 +134,55 @@ public class StoreMaterialRestController {
         return storeMaterialService.mapAllHqMaterialsToStore(user.getStoreId());
     }
 
+    /**
+     * 가맹점 온보딩 작업 실행(본사 재료 매핑 + 집계 재고 0 생성).
+     *
+     * <p>POST /API/store/material/onboarding</p>
+     *
+     * <p>설명</p>
+     * <ul>
+     *   <li>id 구간 단위 set-based INSERT 로 진행하며, 미완료 작업이 있으면 이어서 실행한다.</li>
+     *   <li>실패 시에도 작업 상태(FAILED)와 진행 커서를 반환하며, resume 으로 재개할 수 있다.</li>
+     * </ul>
+     *
+     * @param user 인증 사용자(매장 ID 보유)
+     * @return 작업 진행 상황
+     */
+    @PostMapping("/onboarding")
+    public StoreOnboardingJobResponse onboarding(@AuthenticationPrincipal AppUser user) {
+        return StoreOnboardingJobResponse.from(storeOnboardingService.onboardStore(user.getStoreId()));
+    }
+
+    /**
+     * 가맹점 온보딩 작업 진행 상황 조회.
+     *
+     * <p>GET /API/store/material/onboarding/{jobId}</p>
+     *
+     * @param jobId 작업 ID
+     * @param user  인증 사용자(매장 ID 보유)
+     * @return 작업 진행 상황
+     */
+    @GetMapping("/onboarding/{jobId}")
+    public StoreOnboardingJobResponse onboardingStatus(@PathVariable Long jobId,
+                                                       @AuthenticationPrincipal AppUser user) {
+        return StoreOnboardingJobResponse.from(storeOnboardingService.getJob(user.getStoreId(), jobId));
+    }
+
+    /**
+     * 중단/실패한 가맹점 온보딩 작업 재개.
+     *
+     * <p>POST /API/store/material/onboarding/{jobId}/resume</p>
+     *
+     * @param jobId 작업 ID
+     * @param user  인증 사용자(매장 ID 보유)
+     * @return 작업 진행 상황
+     */
+    @PostMapping("/onboarding/{jobId}/resume")
+    public StoreOnboardingJobResponse resumeOnboarding(@PathVariable Long jobId,
+                                                       @AuthenticationPrincipal AppUser user) {
+        return StoreOnboardingJobResponse.from(storeOnboardingService.resume(user.getStoreId(), jobId));
+    }
+
     /**
      * 가맹점 재고 초기 세팅(누락 StoreInventory 0 생성).
      *
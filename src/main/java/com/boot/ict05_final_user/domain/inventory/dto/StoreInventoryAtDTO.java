@@ -0,0 +1,42 @@
+package com.boot.ict05_final_user.domain.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 특정 시점 재고 조회 결과 DTO
+ *
+ * <p>기준 스냅샷 + 이후 원장 재생으로 계산된 재료별 수량.</p>
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreInventoryAtDTO {
+
+    /** 조회 시점 */
+    private LocalDateTime at;
+
+    /** 사용한 스냅샷 기준일 (없으면 null → 원장 전체 합계) */
+    private LocalDate snapshotDate;
+
+    /** 재료별 수량 */
+    private List<Item> items;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        /** store_material_id */
+        private Long storeMaterialId;
+
+        /** 시점 재고 수량 */
+        private BigDecimal quantity;
+    }
+}
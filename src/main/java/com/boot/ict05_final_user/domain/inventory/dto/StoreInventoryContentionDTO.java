@@ -0,0 +1,36 @@
+package com.boot.ict05_final_user.domain.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재료별 재고 갱신 경합 통계 DTO
+ *
+ * <p>애플리케이션 기동 이후 누적값(인스턴스 단위).</p>
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreInventoryContentionDTO {
+
+    /** store_material_id */
+    private Long storeMaterialId;
+
+    /** 커밋된 갱신 수 */
+    private long committed;
+
+    /** 버전 충돌 횟수 */
+    private long conflicts;
+
+    /** 재시도 횟수 */
+    private long retries;
+
+    /** 재시도 소진으로 실패한 갱신 수 */
+    private long exhausted;
+
+    /** 마지막 충돌 시각 */
+    private LocalDateTime lastConflictAt;
+}
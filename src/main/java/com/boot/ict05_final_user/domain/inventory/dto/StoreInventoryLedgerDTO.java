@@ -0,0 +1,50 @@
+package com.boot.ict05_final_user.domain.inventory.dto;
+
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryLedgerType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 재고 원장 행 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreInventoryLedgerDTO {
+
+    /** ledger_id */
+    private Long id;
+
+    /** 이벤트 일시 */
+    private LocalDateTime date;
+
+    /** store_material_id */
+    private Long storeMaterialId;
+
+    /** 품목명 (가맹점 표시명) */
+    private String storeMaterialName;
+
+    /** 이벤트 타입: INCOME / OUTGO / ADJUST */
+    private InventoryLedgerType type;
+
+    /** 수량(+입고, -출고, ±조정) */
+    private BigDecimal quantity;
+
+    /** 이벤트 반영 후 재고 */
+    private BigDecimal stockAfter;
+
+    /** 단가(옵션) */
+    private BigDecimal unitPrice;
+
+    /** 메모 */
+    private String memo;
+
+    /** 원본 이력 PK */
+    private Long sourceId;
+}
@@ -9,11 +9,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 가맹점 재고 목록 DTO
- * StoreInventory + StoreMaterial 요약본
+ * StoreInventory + StoreMaterial 요약본 (+ 잔량 있는 로트 유통기한 요약)
+ *
+ * <p>목록 화면은 {@code StoreInventoryRepositoryCustom}의 단일 튜플 프로젝션으로 채운다.
+ * {@link #from(StoreInventory)}는 단건 변환용으로만 사용한다(지연 로딩 발생).</p>
  */
 @Getter
 @NoArgsConstructor
@@ -51,6 +55,12 @@ public class StoreInventoryListDTO {
     /** 최근 매입단가 */
     private BigDecimal purchasePrice;
 
+    /** 가장 임박한 유통기한 (잔량 있는 로트 기준, 없으면 null) */
+    private LocalDate nearestExpirationDate;
+
+    /** 잔량 있는 로트 수 */
+    private Long activeLotCount;
+
     public static StoreInventoryListDTO from(StoreInventory si) {
         StoreMaterial sm = si.getStoreMaterial();
 
@@ -0,0 +1,75 @@
+package com.boot.ict05_final_user.domain.inventory.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 입고(납품 1건 = 여러 라인) 요청 DTO.
+ *
+ * <p>컨트롤러: POST /API/store/inventory/receipt</p>
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoreInventoryReceiptRequestDTO {
+
+    /** 연결할 가맹점 발주 ID (선택). 지정 시 발주 품목만 입고 가능하며 완료 후 검수완료 처리 */
+    private Long purchaseOrderId;
+
+    /** 입고 시각 미전달 시 서버가 now 적용 */
+    private LocalDateTime receivedAt;
+
+    /** 공통 메모 선택 */
+    private String memo;
+
+    /** 입고 라인 목록 비어 있을 수 없음 */
+    @NotEmpty
+    @Size(max = 500)
+    @Valid
+    private List<Line> lines;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Line {
+
+        /** 가맹점 재료 PK */
+        @NotNull
+        private Long storeMaterialId;
+
+        /** 입고 수량 소수 셋째 자리까지 */
+        @NotNull
+        @DecimalMin(value = "0.001")
+        @Digits(integer = 12, fraction = 3)
+        private BigDecimal quantity;
+
+        /** 선택: 미입력 시 단건 입고와 같은 규칙(HQ 판매가 → 매장 최근 입고가)으로 해석 */
+        @PositiveOrZero
+        private BigDecimal unitPrice;
+
+        /** 유통기한 선택 */
+        private LocalDate expirationDate;
+
+        /** LOT 번호 선택 (미입력 시 "IN" + 입고 이력 PK) */
+        @Size(max = 50)
+        private String lotNo;
+
+        /** 라인 메모 선택 (미입력 시 공통 메모) */
+        private String memo;
+    }
+}
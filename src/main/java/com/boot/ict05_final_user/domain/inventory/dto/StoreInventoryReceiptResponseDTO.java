@@ -0,0 +1,58 @@
+package com.boot.ict05_final_user.domain.inventory.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일괄 입고 결과 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreInventoryReceiptResponseDTO {
+
+    /** 연결된 발주 ID (없으면 null) */
+    private Long purchaseOrderId;
+
+    /** 연결된 발주 코드 (없으면 null) */
+    private String purchaseOrderCode;
+
+    /** 입고 시각 */
+    private LocalDateTime receivedAt;
+
+    /** 라인별 결과 (요청 순서) */
+    private List<Line> lines;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+
+        /** 입고 이력 PK */
+        private Long storeInventoryInId;
+
+        /** store_material_id */
+        private Long storeMaterialId;
+
+        /** 입고 수량 */
+        private BigDecimal quantity;
+
+        /** 적용 단가 */
+        private BigDecimal unitPrice;
+
+        /** 입고 반영 후 재고 */
+        private BigDecimal stockAfter;
+
+        /** LOT 번호 */
+        private String lotNo;
+
+        /** 유통기한 */
+        private LocalDate expirationDate;
+    }
+}
@@ -7,6 +7,13 @@ import lombok.Data;
  * 가맹점 재고 검색 DTO
  *
  * <p>가맹점 재고 목록 페이지 및 REST API 검색 조건을 전달한다.</p>
+ *
+ * <ul>
+ *   <li>{@code s}: 검색어</li>
+ *   <li>{@code type}: 검색 대상 (all | name | category | supplier | code), 기본 all</li>
+ *   <li>{@code category}: 카테고리 일치 필터</li>
+ *   <li>{@code expiringWithinDays}: N일 이내 유통기한 로트가 있는 품목만</li>
+ * </ul>
  */
 @Data
 public class StoreInventorySearchDTO {
@@ -19,4 +26,10 @@ public class StoreInventorySearchDTO {
 
     /** 재고 상태 (SUFFICIENT / LOW / SHORTAGE) */
     private InventoryStatus status;
+
+    /** 카테고리 (일치) */
+    private String category;
+
+    /** N일 이내 유통기한 로트 보유 품목만 (null 이면 미적용) */
+    private Integer expiringWithinDays;
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.boot.ict05_final_user.domain.inventory.dto;
+
+import com.boot.ict05_final_user.domain.inventory.entity.OnboardingJobStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.OnboardingPhase;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreOnboardingJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 온보딩 작업 진행 상황 DTO
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class StoreOnboardingJobResponse {
+
+    private Long jobId;
+    private Long storeId;                // null = 전 매장
+    private OnboardingPhase phase;
+    private OnboardingJobStatus status;
+    private int progressPercent;         // 현재 단계 진행률(근사)
+    private long materialsInserted;      // 생성된 가맹점 재료 수
+    private long inventoriesInserted;    // 생성된 집계 재고 수
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static StoreOnboardingJobResponse from(StoreOnboardingJob job) {
+        return StoreOnboardingJobResponse.builder()
+                .jobId(job.getId())
+                .storeId(job.getStoreId())
+                .phase(job.getPhase())
+                .status(job.getStatus())
+                .progressPercent(job.progressPercent())
+                .materialsInserted(job.getMaterialsInserted())
+                .inventoriesInserted(job.getInventoriesInserted())
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 재고 원장 이벤트 타입
+ *
+ * <p>INCOME: 입고(+)</p>
+ * <p>OUTGO: 출고/소진(-)</p>
+ * <p>ADJUST: 조정(±)</p>
+ */
+@Schema(description = "재고 원장 이벤트 타입")
+public enum InventoryLedgerType {
+
+    @Schema(description = "입고")
+    INCOME,
+
+    @Schema(description = "출고/소진")
+    OUTGO,
+
+    @Schema(description = "조정")
+    ADJUST
+}
@@ -0,0 +1,23 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 가맹점 온보딩 작업 상태
+ *
+ * <p>RUNNING: 진행 중(또는 중단되어 재개 대기)</p>
+ * <p>COMPLETED: 완료</p>
+ * <p>FAILED: 실패 (커서 위치부터 재개 가능)</p>
+ */
+@Schema(description = "가맹점 온보딩 작업 상태")
+public enum OnboardingJobStatus {
+
+    @Schema(description = "진행 중")
+    RUNNING,
+
+    @Schema(description = "완료")
+    COMPLETED,
+
+    @Schema(description = "실패(재개 가능)")
+    FAILED
+}
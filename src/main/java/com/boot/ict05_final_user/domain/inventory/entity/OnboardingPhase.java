@@ -0,0 +1,23 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 가맹점 온보딩 작업 단계
+ *
+ * <p>MATERIALS: 본사 재료 → 가맹점 재료(store_material) 매핑</p>
+ * <p>INVENTORY: 가맹점 재료 → 집계 재고(store_inventory) 0 생성</p>
+ * <p>DONE: 완료</p>
+ */
+@Schema(description = "가맹점 온보딩 단계")
+public enum OnboardingPhase {
+
+    @Schema(description = "본사 재료 매핑")
+    MATERIALS,
+
+    @Schema(description = "집계 재고 생성")
+    INVENTORY,
+
+    @Schema(description = "완료")
+    DONE
+}
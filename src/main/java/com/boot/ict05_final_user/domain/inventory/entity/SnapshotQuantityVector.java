@@ -0,0 +1,120 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재고 스냅샷의 가맹점 재료별 수량 벡터 (불변).
+ *
+ * <p>store_material_id 오름차순 배열 2개(id, 수량×1000)로 보관하고 이진 탐색으로 조회한다.</p>
+ *
+ * <p>직렬화 형식(바이트)</p>
+ * <ul>
+ *   <li>varint 항목 수</li>
+ *   <li>항목마다 varint(id 증분) + zigzag varint(소수 3자리 고정 수량의 정수값)</li>
+ * </ul>
+ * 재료 ID 가 매장 안에서 연속적이므로 항목당 보통 3~5바이트로 저장된다.
+ */
+public final class SnapshotQuantityVector {
+
+    private static final int SCALE = 3;
+
+    public static final SnapshotQuantityVector EMPTY = new SnapshotQuantityVector(new long[0], new long[0]);
+
+    private final long[] ids;
+    private final long[] units;
+
+    private SnapshotQuantityVector(long[] ids, long[] units) {
+        this.ids = ids;
+        this.units = units;
+    }
+
+    /** 재료 ID → 수량 맵에서 생성 (소수 3자리 반올림 후 0 인 수량은 제외) */
+    public static SnapshotQuantityVector of(Map<Long, BigDecimal> quantities) {
+        long[] keys = quantities.entrySet().stream()
+                .filter(e -> e.getKey() != null && e.getValue() != null && toUnits(e.getValue()) != 0)
+                .mapToLong(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+        long[] vals = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            vals[i] = toUnits(quantities.get(keys[i]));
+        }
+        return new SnapshotQuantityVector(keys, vals);
+    }
+
+    /** 바이트 배열에서 복원 */
+    public static SnapshotQuantityVector decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) return EMPTY;
+        int[] pos = {0};
+        int n = (int) readVarLong(bytes, pos);
+        long[] keys = new long[n];
+        long[] vals = new long[n];
+        long prev = 0;
+        for (int i = 0; i < n; i++) {
+            prev += readVarLong(bytes, pos);
+            keys[i] = prev;
+            long z = readVarLong(bytes, pos);
+            vals[i] = (z >>> 1) ^ -(z & 1);
+        }
+        return new SnapshotQuantityVector(keys, vals);
+    }
+
+    /** 바이트 배열로 직렬화 */
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4 + ids.length * 5);
+        writeVarLong(out, ids.length);
+        long prev = 0;
+        for (int i = 0; i < ids.length; i++) {
+            writeVarLong(out, ids[i] - prev);
+            prev = ids[i];
+            writeVarLong(out, (units[i] << 1) ^ (units[i] >> 63));
+        }
+        return out.toByteArray();
+    }
+
+    /** 재료 수량 (없으면 0) */
+    public BigDecimal get(Long storeMaterialId) {
+        if (storeMaterialId == null) return BigDecimal.ZERO.setScale(SCALE);
+        int i = Arrays.binarySearch(ids, storeMaterialId);
+        return BigDecimal.valueOf(i >= 0 ? units[i] : 0L, SCALE);
+    }
+
+    /** 재료 ID 오름차순 맵 사본 */
+    public Map<Long, BigDecimal> toMap() {
+        Map<Long, BigDecimal> m = new LinkedHashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            m.put(ids[i], BigDecimal.valueOf(units[i], SCALE));
+        }
+        return m;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private static long toUnits(BigDecimal v) {
+        return v.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static long readVarLong(byte[] b, int[] pos) {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte x = b[pos[0]++];
+            v |= (long) (x & 0x7F) << shift;
+            if ((x & 0x80) == 0) return v;
+        }
+    }
+}
@@ -17,6 +17,8 @@ import java.math.BigDecimal;
  * 적정 수량(Optimal Quantity)은 {@link StoreMaterial} 에서 관리하고,
  * 본 엔티티는 StoreMaterial 별 현재 수량/상태/최근 갱신 정보에 집중한다.
  * </p>
+ *
+ * <p>동시 갱신은 {@link #version} 비교(낙관적 잠금)로 검출한다.</p>
  */
 @Entity
 @Table(name = "store_inventory",
@@ -47,7 +49,16 @@ public class StoreInventory extends InventoryBase {
             foreignKey = @ForeignKey(name = "fk_si_store_material"))
     private StoreMaterial storeMaterial;
 
-
+    /**
+     * 낙관적 잠금 버전.
+     *
+     * <p>수량 변경은 모두 버전 비교 갱신으로 커밋되며, 충돌 시 재시도한다
+     * ({@code InventoryMutationExecutor}). 온보딩 INSERT ... SELECT 로 만든 행도 0 으로 시작한다.</p>
+     */
+    @Version
+    @Column(name = "inventory_version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    @Comment("낙관적 잠금 버전")
+    private Long version;
 
     /**
      * 수량 증가(Null-Safe)
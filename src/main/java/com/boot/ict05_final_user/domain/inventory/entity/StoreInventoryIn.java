@@ -90,6 +90,11 @@ public class StoreInventoryIn {
     @Comment("본사 출고 헤더 참조(추적용)")
     private Long refHqOutId;
 
+    /** 가맹점 발주 참조(일괄 입고 시, 선택) */
+    @Column(name = "purchase_order_id_fk", columnDefinition = "BIGINT UNSIGNED")
+    @Comment("가맹점 발주 참조")
+    private Long purchaseOrderId;
+
     /** 입고일시(실제) */
     @Column(name = "store_inventory_in_date", nullable = false, columnDefinition = "DATETIME")
     @Comment("입고일시")
@@ -0,0 +1,150 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 재고 원장(store_inventory_ledger) 엔티티 — append-only
+ *
+ * <p>
+ * 입고/출고/조정 이벤트를 단일 타임라인으로 적재한다.<br>
+ * 기존 {@code v_store_inventory_log} 뷰(UNION + ROW_NUMBER)는 필터 전에 전 매장 이력을
+ * 물질화해야 했으므로, 쓰기 시점에 원장 행을 함께 기록하는 실테이블로 대체한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>quantity: +입고, -출고, ±조정</li>
+ *   <li>stock_after: 이벤트 반영 후 재고</li>
+ *   <li>(ledger_type, ledger_source_id) 유니크 → 원본 이력 1건당 원장 1건(백필 멱등)</li>
+ *   <li>인덱스 (store, material, log_date, id): 재료별 이력 키셋 페이지 조회</li>
+ * </ul>
+ *
+ * <p>수정/삭제하지 않는다. 정정은 반대 부호의 새 이벤트로 기록한다.</p>
+ */
+@Entity
+@Immutable
+@Table(
+        name = "store_inventory_ledger",
+        indexes = {
+                @Index(name = "ix_ledger_store_material_date",
+                        columnList = "store_id_fk, store_material_id_fk, ledger_log_date, ledger_id"),
+                @Index(name = "ix_ledger_store_date", columnList = "store_id_fk, ledger_log_date, ledger_id")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uq_ledger_source",
+                columnNames = {"ledger_type", "ledger_source_id"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Comment("가맹점 재고 원장")
+public class StoreInventoryLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_id", columnDefinition = "BIGINT UNSIGNED")
+    private Long id;
+
+    /** 가맹점 ID */
+    @Column(name = "store_id_fk", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    private Long storeId;
+
+    /** 가맹점 재료 ID */
+    @Column(name = "store_material_id_fk", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    private Long storeMaterialId;
+
+    /** 이벤트 타입 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ledger_type", nullable = false, length = 10)
+    private InventoryLedgerType type;
+
+    /** 원본 이력 PK (입고/출고/조정) */
+    @Column(name = "ledger_source_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    @Comment("원본 이력 PK")
+    private Long sourceId;
+
+    /** 이벤트 일시 */
+    @Column(name = "ledger_log_date", nullable = false, columnDefinition = "DATETIME")
+    private LocalDateTime logDate;
+
+    /** 수량(+입고, -출고, ±조정) */
+    @Column(name = "ledger_quantity", precision = 15, scale = 3, nullable = false)
+    private BigDecimal quantity;
+
+    /** 이벤트 반영 후 재고 */
+    @Column(name = "ledger_stock_after", precision = 15, scale = 3)
+    private BigDecimal stockAfter;
+
+    /** 단가(옵션) */
+    @Column(name = "ledger_unit_price", precision = 15, scale = 2)
+    private BigDecimal unitPrice;
+
+    /** 메모 */
+    @Column(name = "ledger_memo", columnDefinition = "VARCHAR(255)")
+    private String memo;
+
+    /** 적재 일시 */
+    @Column(name = "ledger_created_at", nullable = false, updatable = false,
+            columnDefinition = "DATETIME DEFAULT CURRENT_TIMESTAMP")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    /** 입고 이력 → 원장 (저장 후 PK 가 있는 상태로 호출) */
+    public static StoreInventoryLedger fromIn(StoreInventoryIn in) {
+        return StoreInventoryLedger.builder()
+                .storeId(in.getStore().getId())
+                .storeMaterialId(in.getStoreMaterial().getId())
+                .type(InventoryLedgerType.INCOME)
+                .sourceId(in.getId())
+                .logDate(in.getInDate())
+                .quantity(in.getQuantity())
+                .stockAfter(in.getStockAfter())
+                .unitPrice(in.getUnitPrice())
+                .memo(in.getMemo())
+                .build();
+    }
+
+    /** 출고 이력 → 원장 (수량은 음수로 기록) */
+    public static StoreInventoryLedger fromOut(StoreInventoryOut out) {
+        return StoreInventoryLedger.builder()
+                .storeId(out.getStore().getId())
+                .storeMaterialId(out.getStoreMaterial().getId())
+                .type(InventoryLedgerType.OUTGO)
+                .sourceId(out.getId())
+                .logDate(out.getOutDate())
+                .quantity(out.getQuantity().negate())
+                .stockAfter(out.getStockAfter())
+                .unitPrice(out.getUnitPrice())
+                .memo(out.getMemo())
+                .build();
+    }
+
+    /** 조정 이력 → 원장 (수량은 차이값) */
+    public static StoreInventoryLedger fromAdjustment(StoreInventoryAdjustment adj) {
+        StoreInventory inv = adj.getStoreInventory();
+        return StoreInventoryLedger.builder()
+                .storeId(inv.getStore().getId())
+                .storeMaterialId(inv.getStoreMaterial().getId())
+                .type(InventoryLedgerType.ADJUST)
+                .sourceId(adj.getId())
+                .logDate(adj.getCreatedAt())
+                .quantity(adj.getDifference())
+                .stockAfter(adj.getQuantityAfter())
+                .memo(adj.getMemo() != null ? adj.getMemo()
+                        : (adj.getReason() != null ? adj.getReason().name() : null))
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 재고 일별 스냅샷(store_inventory_snapshot) 엔티티
+ *
+ * <p>
+ * 기준일 00:00 직전까지의 원장 누계(= 전일 마감 재고)를 매장당 1행,
+ * 재료별 수량 벡터({@link SnapshotQuantityVector}) 바이트로 보관한다.
+ * </p>
+ *
+ * <ul>
+ *   <li>ledger_max_id: 스냅샷 계산에 포함된 원장 최대 PK.
+ *       이후 소급 기록(일시가 기준 시각 이전인 새 원장 행)은 id &gt; ledger_max_id 로 찾아 보정한다.</li>
+ *   <li>(store_id_fk, snapshot_date) 유니크</li>
+ * </ul>
+ */
+@Entity
+@Immutable
+@Table(
+        name = "store_inventory_snapshot",
+        uniqueConstraints = @UniqueConstraint(name = "uq_snapshot_store_date",
+                columnNames = {"store_id_fk", "snapshot_date"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Comment("가맹점 재고 일별 스냅샷")
+public class StoreInventorySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id", columnDefinition = "BIGINT UNSIGNED")
+    private Long id;
+
+    /** 가맹점 ID */
+    @Column(name = "store_id_fk", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    private Long storeId;
+
+    /** 기준일 (해당일 00:00 시점 재고) */
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    /** 포함된 원장 최대 PK */
+    @Column(name = "ledger_max_id", nullable = false, columnDefinition = "BIGINT UNSIGNED")
+    @Comment("포함된 원장 최대 PK")
+    private Long ledgerMaxId;
+
+    /** 수량 벡터 항목 수 */
+    @Column(name = "snapshot_item_count", nullable = false)
+    private Integer itemCount;
+
+    /** 수량 벡터(직렬화) */
+    @Column(name = "snapshot_payload", nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] payload;
+
+    /** 생성 일시 */
+    @Column(name = "snapshot_created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+
+    /** 기준 시각 (기준일 00:00) */
+    public LocalDateTime cutoff() {
+        return snapshotDate.atStartOfDay();
+    }
+
+    /** 수량 벡터 복원 */
+    public SnapshotQuantityVector vector() {
+        return SnapshotQuantityVector.decode(payload);
+    }
+}
@@ -30,7 +30,8 @@ import java.time.LocalDateTime;
         uniqueConstraints = @UniqueConstraint(
                 name = "uq_store_material_code",
                 columnNames = {"store_id_fk", "store_material_code"}
-        )
+        ),
+        indexes = @Index(name = "ix_sm_store_material", columnList = "store_id_fk, material_id_fk")
 )
 @Getter
 @NoArgsConstructor
@@ -0,0 +1,92 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 온보딩(본사 재료 매핑 + 집계 재고 생성) 작업 엔티티
+ *
+ * <p>
+ * 작업은 id 구간(청크) 단위의 set-based INSERT 로 진행되며,
+ * 청크마다 커서(마지막 처리 id)를 같은 트랜잭션에 기록한다.<br>
+ * 따라서 중단/실패 후에도 커서 위치부터 그대로 재개할 수 있다.
+ * </p>
+ *
+ * <ul>
+ *   <li>storeId = NULL → 전 가맹점 대상(본사 신규 재료 재동기화)</li>
+ *   <li>MATERIALS 단계 커서: material_id / INVENTORY 단계 커서: store_material_id</li>
+ * </ul>
+ */
+@Entity
+@Table(
+        name = "store_onboarding_job",
+        indexes = @Index(name = "ix_onboarding_store_status", columnList = "store_id_fk, onboarding_status")
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Comment("가맹점 온보딩 작업")
+public class StoreOnboardingJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "onboarding_job_id")
+    private Long id;
+
+    /** 대상 매장 (NULL = 전 매장) */
+    @Column(name = "store_id_fk")
+    @Comment("대상 매장 (NULL=전 매장)")
+    private Long storeId;
+
+    /** 현재 단계 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "onboarding_phase", nullable = false, length = 20)
+    private OnboardingPhase phase;
+
+    /** 작업 상태 */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "onboarding_status", nullable = false, length = 20)
+    private OnboardingJobStatus status;
+
+    /** 현재 단계에서 마지막으로 처리한 id */
+    @Column(name = "onboarding_cursor_id", nullable = false)
+    @Comment("현재 단계 마지막 처리 id")
+    private long cursorId;
+
+    /** 현재 단계 대상 최대 id (진행률 계산용) */
+    @Column(name = "onboarding_max_id", nullable = false)
+    private long maxId;
+
+    /** 생성된 가맹점 재료 수 */
+    @Column(name = "onboarding_materials_inserted", nullable = false)
+    private long materialsInserted;
+
+    /** 생성된 집계 재고 수 */
+    @Column(name = "onboarding_inventories_inserted", nullable = false)
+    private long inventoriesInserted;
+
+    /** 실패 사유 */
+    @Column(name = "onboarding_error", length = 500)
+    private String errorMessage;
+
+    @Column(name = "onboarding_started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "onboarding_updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "onboarding_finished_at")
+    private LocalDateTime finishedAt;
+
+    /** 현재 단계 진행률(0~100, 커서/최대 id 기준 근사) */
+    public int progressPercent() {
+        if (phase == OnboardingPhase.DONE) return 100;
+        if (maxId <= 0) return 0;
+        return (int) Math.min(100, cursorId * 100 / maxId);
+    }
+}
@@ -0,0 +1,121 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryLedgerType;
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryLedger;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 재고 원장 백필(JDBC) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>기존 입고/출고/조정 이력을 원본 PK 구간 단위로 {@code store_inventory_ledger}에 일괄 적재</li>
+ *   <li>{@code INSERT IGNORE} + 유니크 (ledger_type, ledger_source_id) → 같은 구간 재실행/서비스 동시 기록에도 멱등</li>
+ *   <li>재고 미반영 이력(DRAFT, CANCELLED)은 제외</li>
+ *   <li>일괄 입고 시 원장 행 JDBC batch 적재</li>
+ * </ul>
+ */
+@Repository
+public class StoreInventoryLedgerJdbcRepository {
+
+    private static final List<String> SKIP_STATUSES =
+            List.of(InventoryRecordStatus.DRAFT.name(), InventoryRecordStatus.CANCELLED.name());
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreInventoryLedgerJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 원본 테이블 최대 PK (없으면 0) */
+    public long findMaxSourceId(InventoryLedgerType type) {
+        String sql = switch (type) {
+            case INCOME -> "SELECT COALESCE(MAX(store_inventory_in_id), 0) FROM store_inventory_in";
+            case OUTGO -> "SELECT COALESCE(MAX(store_inventory_out_id), 0) FROM store_inventory_out";
+            case ADJUST -> "SELECT COALESCE(MAX(store_adjustment_id), 0) FROM store_inventory_adjustment";
+        };
+        Long v = jdbc.queryForObject(sql, new MapSqlParameterSource(), Long.class);
+        return v != null ? v : 0L;
+    }
+
+    /**
+     * (afterId, uptoId] 구간 원본 이력을 원장에 적재한다.
+     *
+     * @return 새로 적재된 행 수
+     */
+    public int backfill(InventoryLedgerType type, long afterId, long uptoId) {
+        String sql = switch (type) {
+            case INCOME -> """
+                INSERT IGNORE INTO store_inventory_ledger
+                       (store_id_fk, store_material_id_fk, ledger_type, ledger_source_id, ledger_log_date,
+                        ledger_quantity, ledger_stock_after, ledger_unit_price, ledger_memo, ledger_created_at)
+                SELECT i.store_id_fk, i.store_material_id_fk, :type, i.store_inventory_in_id, i.store_inventory_in_date,
+                       i.store_inventory_in_quantity, i.store_inventory_in_stock_after, i.store_inventory_in_unit_price,
+                       i.store_inventory_in_memo, NOW()
+                  FROM store_inventory_in i
+                 WHERE i.store_inventory_in_id > :afterId
+                   AND i.store_inventory_in_id <= :uptoId
+                   AND i.inventory_record_status NOT IN (:skip)
+            """;
+            case OUTGO -> """
+                INSERT IGNORE INTO store_inventory_ledger
+                       (store_id_fk, store_material_id_fk, ledger_type, ledger_source_id, ledger_log_date,
+                        ledger_quantity, ledger_stock_after, ledger_unit_price, ledger_memo, ledger_created_at)
+                SELECT o.store_id_fk, o.store_material_id_fk, :type, o.store_inventory_out_id, o.store_inventory_out_date,
+                       -o.store_inventory_out_quantity, o.store_inventory_out_stock_after, o.store_inventory_out_unit_price,
+                       o.store_inventory_out_memo, NOW()
+                  FROM store_inventory_out o
+                 WHERE o.store_inventory_out_id > :afterId
+                   AND o.store_inventory_out_id <= :uptoId
+                   AND o.inventory_record_status NOT IN (:skip)
+            """;
+            case ADJUST -> """
+                INSERT IGNORE INTO store_inventory_ledger
+                       (store_id_fk, store_material_id_fk, ledger_type, ledger_source_id, ledger_log_date,
+                        ledger_quantity, ledger_stock_after, ledger_unit_price, ledger_memo, ledger_created_at)
+                SELECT si.store_id_fk, si.store_material_id_fk, :type, a.store_adjustment_id,
+                       a.store_inventory_adjustment_created_at,
+                       a.store_inventory_adjustment_difference, a.store_inventory_adjustment_quantity_after, NULL,
+                       COALESCE(a.store_inventory_adjustment_memo, a.store_inventory_adjustment_reason), NOW()
+                  FROM store_inventory_adjustment a
+                  JOIN store_inventory si ON si.store_inventory_id = a.store_inventory_id_fk
+                 WHERE a.store_adjustment_id > :afterId
+                   AND a.store_adjustment_id <= :uptoId
+                   AND a.inventory_record_status NOT IN (:skip)
+            """;
+        };
+        return jdbc.update(sql, new MapSqlParameterSource()
+                .addValue("type", type.name())
+                .addValue("afterId", afterId)
+                .addValue("uptoId", uptoId)
+                .addValue("skip", SKIP_STATUSES));
+    }
+
+    /** 원장 행 일괄 적재 (일괄 입고 등, 호출 측 트랜잭션 안) */
+    public void insertAll(List<StoreInventoryLedger> rows) {
+        String sql = """
+            INSERT INTO store_inventory_ledger
+                   (store_id_fk, store_material_id_fk, ledger_type, ledger_source_id, ledger_log_date,
+                    ledger_quantity, ledger_stock_after, ledger_unit_price, ledger_memo, ledger_created_at)
+            VALUES (:storeId, :smId, :type, :sourceId, :logDate, :qty, :stockAfter, :unitPrice, :memo, NOW())
+        """;
+        jdbc.batchUpdate(sql, rows.stream()
+                .map(l -> new MapSqlParameterSource()
+                        .addValue("storeId", l.getStoreId())
+                        .addValue("smId", l.getStoreMaterialId())
+                        .addValue("type", l.getType().name())
+                        .addValue("sourceId", l.getSourceId())
+                        .addValue("logDate", l.getLogDate())
+                        .addValue("qty", l.getQuantity())
+                        .addValue("stockAfter", l.getStockAfter())
+                        .addValue("unitPrice", l.getUnitPrice())
+                        .addValue("memo", l.getMemo()))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
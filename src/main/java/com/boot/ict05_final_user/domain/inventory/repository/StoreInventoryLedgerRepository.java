@@ -0,0 +1,13 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryLedger;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 가맹점 재고 원장(append-only) 리포지토리.
+ *
+ * <p>쓰기는 입고/소진/조정 서비스에서 원본 이력 저장 직후 {@code save} 로만 수행한다.</p>
+ */
+public interface StoreInventoryLedgerRepository
+        extends JpaRepository<StoreInventoryLedger, Long>, StoreInventoryLedgerRepositoryCustom {
+}
@@ -0,0 +1,26 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.analytics.dto.CursorPage;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryLedgerDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 재고 원장 커스텀 조회.
+ */
+public interface StoreInventoryLedgerRepositoryCustom {
+
+    /**
+     * 원장 키셋 페이지 조회 (최신순).
+     *
+     * @param storeId         매장 ID(필수)
+     * @param storeMaterialId 가맹점 재료 ID (null 이면 매장 전체)
+     * @param from            시작 일시(포함, null 허용)
+     * @param to              종료 일시(미포함, null 허용)
+     * @param cursor          이전 페이지 nextCursor ("yyyy-MM-ddTHH:mm:ss|ledgerId"), 첫 페이지는 null
+     * @param size            페이지 크기
+     */
+    CursorPage<StoreInventoryLedgerDTO> findLedgerPage(Long storeId, Long storeMaterialId,
+                                                       LocalDateTime from, LocalDateTime to,
+                                                       String cursor, int size);
+}
@@ -0,0 +1,95 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.analytics.dto.CursorPage;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryLedgerDTO;
+import com.boot.ict05_final_user.domain.inventory.entity.QStoreInventoryLedger;
+import com.boot.ict05_final_user.domain.inventory.entity.QStoreMaterial;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * {@link StoreInventoryLedgerRepositoryCustom} 구현체.
+ *
+ * <p>키셋 페이지</p>
+ * <ul>
+ *   <li>정렬: log_date DESC, ledger_id DESC</li>
+ *   <li>커서: 마지막 행의 "log_date|ledger_id" → 다음 페이지 조건
+ *       {@code (log_date < d) OR (log_date = d AND ledger_id < id)}</li>
+ *   <li>인덱스 (store_id_fk, store_material_id_fk, ledger_log_date, ledger_id) 역순 스캔으로
+ *       재료별 이력은 페이지 크기만큼만 읽는다. 매장 전체는 (store_id_fk, ledger_log_date, ledger_id) 사용.</li>
+ *   <li>size+1 건을 읽어 다음 페이지 존재 여부를 판단한다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class StoreInventoryLedgerRepositoryImpl implements StoreInventoryLedgerRepositoryCustom {
+
+    private static final int MAX_SIZE = 200;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public CursorPage<StoreInventoryLedgerDTO> findLedgerPage(Long storeId, Long storeMaterialId,
+                                                              LocalDateTime from, LocalDateTime to,
+                                                              String cursor, int size) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+
+        QStoreInventoryLedger l = QStoreInventoryLedger.storeInventoryLedger;
+        QStoreMaterial sm = QStoreMaterial.storeMaterial;
+
+        BooleanBuilder where = new BooleanBuilder(l.storeId.eq(storeId));
+        if (storeMaterialId != null) where.and(l.storeMaterialId.eq(storeMaterialId));
+        if (from != null) where.and(l.logDate.goe(from));
+        if (to != null) where.and(l.logDate.lt(to));
+
+        if (cursor != null && !cursor.isBlank()) {
+            String[] p = cursor.split("\\|", 2);
+            if (p.length != 2) throw new IllegalArgumentException("invalid cursor: " + cursor);
+            final LocalDateTime cDate;
+            final long cId;
+            try {
+                cDate = LocalDateTime.parse(p[0]);
+                cId = Long.parseLong(p[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("invalid cursor: " + cursor);
+            }
+            where.and(l.logDate.lt(cDate).or(l.logDate.eq(cDate).and(l.id.lt(cId))));
+        }
+
+        List<StoreInventoryLedgerDTO> rows = queryFactory
+                .select(Projections.fields(StoreInventoryLedgerDTO.class,
+                        l.id.as("id"),
+                        l.logDate.as("date"),
+                        l.storeMaterialId.as("storeMaterialId"),
+                        sm.name.as("storeMaterialName"),
+                        l.type.as("type"),
+                        l.quantity.as("quantity"),
+                        l.stockAfter.as("stockAfter"),
+                        l.unitPrice.as("unitPrice"),
+                        l.memo.as("memo"),
+                        l.sourceId.as("sourceId")
+                ))
+                .from(l)
+                .leftJoin(sm).on(sm.id.eq(l.storeMaterialId))
+                .where(where)
+                .orderBy(l.logDate.desc(), l.id.desc())
+                .limit(limit + 1L)
+                .fetch();
+
+        String next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            StoreInventoryLedgerDTO last = rows.get(limit - 1);
+            next = last.getDate() + "|" + last.getId();
+        }
+        return new CursorPage<>(rows, next);
+    }
+}
@@ -0,0 +1,78 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매 소진 출고 이력(JDBC batch) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>주문 1건의 소진 라인을 라인마다 persist 하지 않고 JDBC batch 로 한 번에 적재</li>
+ *   <li>출고 이력 PK 는 batch 생성 키로 받아 원장 원본 ID 로 사용</li>
+ *   <li>호출 측 트랜잭션 안에서 실행해야 함</li>
+ * </ul>
+ */
+@Repository
+public class StoreInventoryOutJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreInventoryOutJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 출고 이력 1행 */
+    public record OutRow(Long storeId, Long storeMaterialId, BigDecimal quantity, BigDecimal stockAfter,
+                         BigDecimal unitPrice, LocalDateTime outDate, String memo) {}
+
+    /**
+     * 출고 이력 일괄 적재.
+     *
+     * @return 생성된 출고 이력 PK (입력 순서)
+     */
+    public List<Long> insertOutRecords(List<OutRow> rows) {
+        String sql = """
+            INSERT INTO store_inventory_out
+                   (store_id_fk, store_material_id_fk, store_inventory_out_quantity, store_inventory_out_stock_after,
+                    store_inventory_out_unit_price, store_inventory_out_date, store_inventory_out_memo,
+                    store_inventory_out_created_at, inventory_record_status)
+            VALUES (:storeId, :smId, :qty, :stockAfter, :unitPrice, :outDate, :memo, NOW(), :status)
+        """;
+        SqlParameterSource[] params = rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("storeId", r.storeId())
+                        .addValue("smId", r.storeMaterialId())
+                        .addValue("qty", r.quantity())
+                        .addValue("stockAfter", r.stockAfter())
+                        .addValue("unitPrice", r.unitPrice())
+                        .addValue("outDate", r.outDate())
+                        .addValue("memo", r.memo())
+                        .addValue("status", InventoryRecordStatus.CONFIRMED.name()))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(sql, params, keys, new String[]{"store_inventory_out_id"});
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != rows.size()) {
+            throw new IllegalStateException("출고 이력 생성 키 수 불일치. rows=" + rows.size() + ", keys=" + keyList.size());
+        }
+        List<Long> ids = new ArrayList<>(keyList.size());
+        for (Map<String, Object> k : keyList) {
+            ids.add(((Number) k.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
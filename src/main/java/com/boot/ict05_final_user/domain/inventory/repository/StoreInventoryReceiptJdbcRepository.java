@@ -0,0 +1,104 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일괄 입고(JDBC batch) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>납품 1건의 입고 이력/LOT 를 라인마다 persist 하지 않고 JDBC batch 로 한 번에 적재</li>
+ *   <li>입고 이력 PK 는 batch 생성 키로 받아 원장/LOT 번호에 사용</li>
+ *   <li>호출 측 트랜잭션(집계 재고 잠금 포함) 안에서 실행해야 함</li>
+ * </ul>
+ */
+@Repository
+public class StoreInventoryReceiptJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreInventoryReceiptJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 입고 이력 1행 */
+    public record InRow(Long storeId, Long storeMaterialId, BigDecimal quantity, BigDecimal stockAfter,
+                        BigDecimal unitPrice, LocalDateTime inDate, String memo, Long purchaseOrderId) {}
+
+    /** LOT 1행 */
+    public record LotRow(Long storeInventoryId, Long storeMaterialId, BigDecimal quantity,
+                         LocalDateTime receivedDate, LocalDate expirationDate, String lotNo) {}
+
+    /**
+     * 입고 이력 일괄 적재.
+     *
+     * @return 생성된 입고 이력 PK (입력 순서)
+     */
+    public List<Long> insertInRecords(List<InRow> rows) {
+        String sql = """
+            INSERT INTO store_inventory_in
+                   (store_id_fk, store_material_id_fk, store_inventory_in_quantity, store_inventory_in_stock_after,
+                    store_inventory_in_unit_price, store_inventory_in_date, store_inventory_in_memo,
+                    purchase_order_id_fk, store_inventory_in_created_at, inventory_record_status)
+            VALUES (:storeId, :smId, :qty, :stockAfter, :unitPrice, :inDate, :memo, :poId, NOW(), :status)
+        """;
+        SqlParameterSource[] params = rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("storeId", r.storeId())
+                        .addValue("smId", r.storeMaterialId())
+                        .addValue("qty", r.quantity())
+                        .addValue("stockAfter", r.stockAfter())
+                        .addValue("unitPrice", r.unitPrice())
+                        .addValue("inDate", r.inDate())
+                        .addValue("memo", r.memo())
+                        .addValue("poId", r.purchaseOrderId())
+                        .addValue("status", InventoryRecordStatus.CONFIRMED.name()))
+                .toArray(SqlParameterSource[]::new);
+
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(sql, params, keys, new String[]{"store_inventory_in_id"});
+
+        List<Map<String, Object>> keyList = keys.getKeyList();
+        if (keyList.size() != rows.size()) {
+            throw new IllegalStateException("입고 이력 생성 키 수 불일치. rows=" + rows.size() + ", keys=" + keyList.size());
+        }
+        List<Long> ids = new ArrayList<>(keyList.size());
+        for (Map<String, Object> k : keyList) {
+            ids.add(((Number) k.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    /** LOT 일괄 적재 */
+    public void insertLots(List<LotRow> rows) {
+        String sql = """
+            INSERT INTO store_inventory_batch
+                   (store_inventory_id_fk, store_material_id_fk, store_inventory_batch_quantity,
+                    store_inventory_batch_received_date, store_inventory_batch_expiration_date,
+                    store_inventory_batch_lot_no, store_inventory_batch_reg_date)
+            VALUES (:invId, :smId, :qty, :receivedDate, :expirationDate, :lotNo, NOW())
+        """;
+        jdbc.batchUpdate(sql, rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("invId", r.storeInventoryId())
+                        .addValue("smId", r.storeMaterialId())
+                        .addValue("qty", r.quantity())
+                        .addValue("receivedDate", r.receivedDate())
+                        .addValue("expirationDate", r.expirationDate())
+                        .addValue("lotNo", r.lotNo()))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
@@ -20,8 +20,11 @@ import java.util.Optional;
  * <p>역할</p>
  * <ul>
  *   <li>매장/재료 단위 집계 재고 조회 및 존재 여부 확인</li>
- *   <li>경합 방지를 위한 비관적 잠금 조회 제공(소진/조정 등에서 사용 가능)</li>
+ *   <li>경합 방지를 위한 비관적 잠금 조회 제공</li>
  * </ul>
+ *
+ * <p>수량 갱신 경로(입고/소진/조정/가산)는 낙관적 잠금(@Version) + 재시도를 사용하므로
+ * 비관적 잠금 조회는 버전 없이 행을 고정해야 하는 특수한 경우에만 사용한다.</p>
  */
 public interface StoreInventoryRepository extends JpaRepository<StoreInventory, Long>, StoreInventoryRepositoryCustom {
 
@@ -60,4 +63,18 @@ public interface StoreInventoryRepository extends JpaRepository<StoreInventory,
        """)
     Optional<StoreInventory> findByStoreIdAndStoreMaterialIdForUpdate(@Param("storeId") Long storeId,
                                                                       @Param("storeMaterialId") Long storeMaterialId);
+
+    /**
+     * 여러 재료 재고를 한 번에 조회 (일괄 입고용, 잠금 없음).
+     *
+     * <p>동시 갱신은 {@code StoreInventory.version} 비교로 커밋 시 검출한다.</p>
+     */
+    @Query("""
+       select si
+       from StoreInventory si
+       where si.store.id = :storeId and si.storeMaterial.id in :storeMaterialIds
+       order by si.storeMaterial.id
+       """)
+    List<StoreInventory> findAllByStoreIdAndStoreMaterialIdIn(@Param("storeId") Long storeId,
+                                                              @Param("storeMaterialIds") List<Long> storeMaterialIds);
 }
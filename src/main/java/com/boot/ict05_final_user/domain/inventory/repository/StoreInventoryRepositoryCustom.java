@@ -1,5 +1,12 @@
 package com.boot.ict05_final_user.domain.inventory.repository;
 
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryListDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventorySearchDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
 /**
  * 가맹점 집계 재고 커스텀 쿼리 확장 포인트.
  *
@@ -11,4 +18,10 @@ package com.boot.ict05_final_user.domain.inventory.repository;
  */
 public interface StoreInventoryRepositoryCustom {
     // Optional<BigDecimal> findProjectedQtyByStoreMaterial(Long storeId, Long storeMaterialId);
+
+    /** 매장 재고 목록 전체(재고 + 가맹점 재료 + 로트 유통기한 요약, 단일 쿼리) */
+    List<StoreInventoryListDTO> findInventoryList(Long storeId);
+
+    /** 매장 재고 목록 검색/정렬/페이징 (storeId 는 cond 에서 필수) */
+    Page<StoreInventoryListDTO> searchInventory(StoreInventorySearchDTO cond, Pageable pageable);
 }
@@ -1,10 +1,33 @@
 package com.boot.ict05_final_user.domain.inventory.repository;
 
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryListDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventorySearchDTO;
+import com.boot.ict05_final_user.domain.inventory.entity.QStoreInventory;
+import com.boot.ict05_final_user.domain.inventory.entity.QStoreInventoryBatch;
+import com.boot.ict05_final_user.domain.inventory.entity.QStoreMaterial;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * {@link StoreInventoryRepositoryCustom} 구현체(현재 빈 구현).
+ * {@link StoreInventoryRepositoryCustom} 구현체.
  *
  * <p>가이드</p>
  * <ul>
@@ -15,5 +38,154 @@ import org.springframework.stereotype.Repository;
 @Repository
 @RequiredArgsConstructor
 public class StoreInventoryRepositoryImpl implements StoreInventoryRepositoryCustom {
-    // 예. private final JPAQueryFactory queryFactory;
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final QStoreInventory si = QStoreInventory.storeInventory;
+    private static final QStoreMaterial sm = QStoreMaterial.storeMaterial;
+    private static final QStoreInventoryBatch lot = QStoreInventoryBatch.storeInventoryBatch;
+
+    /**
+     * 매장 재고 목록 전체를 단일 쿼리로 조회한다.
+     *
+     * <p>엔티티를 로딩한 뒤 {@code StoreMaterial}을 행마다 지연 로딩하던 방식(N+1)을 대체한다.
+     * 정렬은 품목명 → 재고 ID 오름차순.</p>
+     *
+     * @param storeId 매장 ID(필수)
+     * @return 재고 목록 DTO
+     */
+    @Override
+    public List<StoreInventoryListDTO> findInventoryList(Long storeId) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+
+        return baseQuery()
+                .where(si.store.id.eq(storeId))
+                .orderBy(sm.name.asc(), si.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 매장 재고 목록을 검색 조건/정렬/페이징으로 조회한다.
+     *
+     * <p>
+     * - 필터: 상태, 카테고리, 검색어(type: all | name | category | supplier | code), N일 이내 유통기한 로트 보유<br>
+     * - 정렬 허용 필드: name, category, quantity, optimalQuantity, status, nearestExpirationDate, id (기본 name asc)<br>
+     * - 로트 요약은 잔량(&gt;0) 로트만 LEFT JOIN 후 그룹 집계한다. 카운트 쿼리는 로트를 조인하지 않는다.
+     * </p>
+     *
+     * @param cond     검색 조건 (storeId 필수)
+     * @param pageable 페이지/정렬
+     * @return 재고 목록 페이지
+     */
+    @Override
+    public Page<StoreInventoryListDTO> searchInventory(StoreInventorySearchDTO cond, Pageable pageable) {
+        if (cond == null || cond.getStoreId() == null) throw new IllegalArgumentException("storeId is required");
+
+        BooleanBuilder where = buildWhere(cond);
+
+        List<StoreInventoryListDTO> content = baseQuery()
+                .where(where)
+                .orderBy(orderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(si.id.count())
+                .from(si)
+                .join(si.storeMaterial, sm)
+                .where(where)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    /** 재고 + 가맹점 재료 + 잔량 로트 요약 공통 프로젝션 */
+    private JPAQuery<StoreInventoryListDTO> baseQuery() {
+        return queryFactory
+                .select(Projections.fields(StoreInventoryListDTO.class,
+                        si.id.as("id"),
+                        sm.id.as("storeMaterialId"),
+                        sm.name.as("name"),
+                        sm.category.as("category"),
+                        si.quantity.as("quantity"),
+                        si.optimalQuantity.as("optimalQuantity"),
+                        si.status.as("status"),
+                        sm.baseUnit.as("baseUnit"),
+                        sm.supplier.as("supplier"),
+                        sm.purchasePrice.as("purchasePrice"),
+                        lot.expirationDate.min().as("nearestExpirationDate"),
+                        lot.id.count().as("activeLotCount")
+                ))
+                .from(si)
+                .join(si.storeMaterial, sm)
+                .leftJoin(lot).on(lot.storeInventory.id.eq(si.id), lot.quantity.gt(BigDecimal.ZERO))
+                .groupBy(si.id, sm.id, sm.name, sm.category, si.quantity, si.optimalQuantity,
+                        si.status, sm.baseUnit, sm.supplier, sm.purchasePrice);
+    }
+
+    /** 검색 조건 → where 절 */
+    private BooleanBuilder buildWhere(StoreInventorySearchDTO cond) {
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(si.store.id.eq(cond.getStoreId()));
+
+        if (cond.getStatus() != null) where.and(si.status.eq(cond.getStatus()));
+        if (StringUtils.hasText(cond.getCategory())) where.and(sm.category.eq(cond.getCategory().trim()));
+
+        if (StringUtils.hasText(cond.getS())) {
+            String kw = cond.getS().trim();
+            String type = cond.getType() == null ? "all" : cond.getType();
+            where.and(switch (type) {
+                case "name" -> sm.name.containsIgnoreCase(kw);
+                case "category" -> sm.category.containsIgnoreCase(kw);
+                case "supplier" -> sm.supplier.containsIgnoreCase(kw);
+                case "code" -> sm.code.containsIgnoreCase(kw);
+                default -> sm.name.containsIgnoreCase(kw)
+                        .or(sm.category.containsIgnoreCase(kw))
+                        .or(sm.supplier.containsIgnoreCase(kw))
+                        .or(sm.code.containsIgnoreCase(kw));
+            });
+        }
+
+        if (cond.getExpiringWithinDays() != null) {
+            where.and(expiringWithin(cond.getExpiringWithinDays()));
+        }
+        return where;
+    }
+
+    /** N일 이내 유통기한(잔량 있는 로트) 보유 여부 */
+    private BooleanExpression expiringWithin(int days) {
+        QStoreInventoryBatch b = new QStoreInventoryBatch("expiringLot");
+        return JPAExpressions.selectOne()
+                .from(b)
+                .where(
+                        b.storeInventory.id.eq(si.id),
+                        b.quantity.gt(BigDecimal.ZERO),
+                        b.expirationDate.loe(LocalDate.now().plusDays(Math.max(days, 0)))
+                )
+                .exists();
+    }
+
+    /** Pageable 정렬 → 허용 필드만 OrderSpecifier 로 변환 (미지정 시 name asc) */
+    private OrderSpecifier<?>[] orderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> out = new ArrayList<>();
+        for (Sort.Order o : sort) {
+            ComparableExpressionBase<?> path = switch (o.getProperty()) {
+                case "name" -> sm.name;
+                case "category" -> sm.category;
+                case "quantity" -> si.quantity;
+                case "optimalQuantity" -> si.optimalQuantity;
+                case "status" -> si.status;
+                case "nearestExpirationDate" -> lot.expirationDate.min();
+                case "id" -> si.id;
+                default -> null;
+            };
+            if (path == null) continue;
+            OrderSpecifier<?> spec = o.isAscending() ? path.asc() : path.desc();
+            out.add("nearestExpirationDate".equals(o.getProperty()) ? spec.nullsLast() : spec);
+        }
+        if (out.isEmpty()) out.add(sm.name.asc());
+        out.add(si.id.asc()); // 페이지 경계 안정화
+        return out.toArray(OrderSpecifier[]::new);
+    }
 }
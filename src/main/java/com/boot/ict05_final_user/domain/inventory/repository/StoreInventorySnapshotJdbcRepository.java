@@ -0,0 +1,144 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 스냅샷 계산용 원장 합계(JDBC) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>스냅샷 생성/시점 조회에 필요한 재료별 원장 수량 합계를 구간 단위로 계산</li>
+ *   <li>일시 구간: 인덱스 (store_id_fk, store_material_id_fk, ledger_log_date, ledger_id) 또는
+ *       (store_id_fk, ledger_log_date, ledger_id) 범위 스캔</li>
+ *   <li>소급 보정(id 구간): PK 범위 스캔 → 스냅샷 이후 적재된 행만 읽는다</li>
+ * </ul>
+ */
+@Repository
+public class StoreInventorySnapshotJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreInventorySnapshotJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 원장 최대 PK (없으면 0) */
+    public long findMaxLedgerId() {
+        Long v = jdbc.queryForObject("SELECT COALESCE(MAX(ledger_id), 0) FROM store_inventory_ledger",
+                new MapSqlParameterSource(), Long.class);
+        return v != null ? v : 0L;
+    }
+
+    /**
+     * 원장에 아직 적재되지 않은 확정 입고/출고/조정 이력이 있는지 (원장 백필 전 여부).
+     *
+     * <p>유니크 (ledger_type, ledger_source_id) 인덱스로 원본 행마다 원장 존재를 확인한다.
+     * 매장 첫 스냅샷 생성 시에만 호출한다.</p>
+     *
+     * @param storeId 매장 ID
+     */
+    public boolean hasUnledgeredHistory(Long storeId) {
+        String sql = """
+            SELECT EXISTS (SELECT 1 FROM store_inventory_in i
+                            WHERE i.store_id_fk = :storeId
+                              AND i.inventory_record_status NOT IN (:skip)
+                              AND NOT EXISTS (SELECT 1 FROM store_inventory_ledger l
+                                               WHERE l.ledger_type = 'INCOME'
+                                                 AND l.ledger_source_id = i.store_inventory_in_id))
+                OR EXISTS (SELECT 1 FROM store_inventory_out o
+                            WHERE o.store_id_fk = :storeId
+                              AND o.inventory_record_status NOT IN (:skip)
+                              AND NOT EXISTS (SELECT 1 FROM store_inventory_ledger l
+                                               WHERE l.ledger_type = 'OUTGO'
+                                                 AND l.ledger_source_id = o.store_inventory_out_id))
+                OR EXISTS (SELECT 1 FROM store_inventory_adjustment a
+                             JOIN store_inventory si ON si.store_inventory_id = a.store_inventory_id_fk
+                            WHERE si.store_id_fk = :storeId
+                              AND a.inventory_record_status NOT IN (:skip)
+                              AND NOT EXISTS (SELECT 1 FROM store_inventory_ledger l
+                                               WHERE l.ledger_type = 'ADJUST'
+                                                 AND l.ledger_source_id = a.store_adjustment_id))
+            """;
+        Boolean v = jdbc.queryForObject(sql, new MapSqlParameterSource()
+                .addValue("storeId", storeId)
+                .addValue("skip", List.of(InventoryRecordStatus.DRAFT.name(), InventoryRecordStatus.CANCELLED.name())),
+                Boolean.class);
+        return Boolean.TRUE.equals(v);
+    }
+
+    /** 전체 매장 ID */
+    public List<Long> findAllStoreIds() {
+        return jdbc.queryForList("SELECT store_id FROM store ORDER BY store_id", new MapSqlParameterSource(), Long.class);
+    }
+
+    /**
+     * 일시 구간 [from, to) 재료별 원장 수량 합계.
+     *
+     * @param storeId         매장 ID
+     * @param storeMaterialId 가맹점 재료 ID (null 이면 매장 전체)
+     * @param from            시작(포함, null 이면 처음부터)
+     * @param to              종료(제외)
+     * @param uptoLedgerId    원장 PK 상한(포함, null 이면 제한 없음)
+     */
+    public Map<Long, BigDecimal> sumByDateRange(Long storeId, Long storeMaterialId,
+                                                LocalDateTime from, LocalDateTime to, Long uptoLedgerId) {
+        String sql = """
+            SELECT l.store_material_id_fk AS sm_id, SUM(l.ledger_quantity) AS qty
+              FROM store_inventory_ledger l
+             WHERE l.store_id_fk = :storeId
+               AND l.ledger_log_date < :to
+            """
+                + (storeMaterialId != null ? "   AND l.store_material_id_fk = :smId\n" : "")
+                + (from != null ? "   AND l.ledger_log_date >= :from\n" : "")
+                + (uptoLedgerId != null ? "   AND l.ledger_id <= :uptoId\n" : "")
+                + " GROUP BY l.store_material_id_fk";
+        return sum(sql, new MapSqlParameterSource()
+                .addValue("storeId", storeId)
+                .addValue("smId", storeMaterialId)
+                .addValue("from", from)
+                .addValue("to", to)
+                .addValue("uptoId", uptoLedgerId));
+    }
+
+    /**
+     * 소급 기록 보정: 원장 PK (afterId, uptoId] 중 일시가 cutoff 이전인 행의 재료별 합계.
+     *
+     * @param uptoLedgerId 원장 PK 상한(포함, null 이면 제한 없음)
+     */
+    public Map<Long, BigDecimal> sumLateEntries(Long storeId, Long storeMaterialId,
+                                                long afterLedgerId, Long uptoLedgerId, LocalDateTime cutoff) {
+        String sql = """
+            SELECT l.store_material_id_fk AS sm_id, SUM(l.ledger_quantity) AS qty
+              FROM store_inventory_ledger l
+             WHERE l.ledger_id > :afterId
+               AND l.store_id_fk = :storeId
+               AND l.ledger_log_date < :cutoff
+            """
+                + (storeMaterialId != null ? "   AND l.store_material_id_fk = :smId\n" : "")
+                + (uptoLedgerId != null ? "   AND l.ledger_id <= :uptoId\n" : "")
+                + " GROUP BY l.store_material_id_fk";
+        return sum(sql, new MapSqlParameterSource()
+                .addValue("afterId", afterLedgerId)
+                .addValue("storeId", storeId)
+                .addValue("cutoff", cutoff)
+                .addValue("smId", storeMaterialId)
+                .addValue("uptoId", uptoLedgerId));
+    }
+
+    private Map<Long, BigDecimal> sum(String sql, MapSqlParameterSource params) {
+        Map<Long, BigDecimal> out = new HashMap<>();
+        jdbc.query(sql, params, rs -> {
+            out.put(rs.getLong("sm_id"), rs.getBigDecimal("qty"));
+        });
+        return out;
+    }
+}
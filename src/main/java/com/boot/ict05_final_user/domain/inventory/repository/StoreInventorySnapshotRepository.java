@@ -0,0 +1,19 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventorySnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * 가맹점 재고 일별 스냅샷 리포지토리
+ */
+public interface StoreInventorySnapshotRepository extends JpaRepository<StoreInventorySnapshot, Long> {
+
+    /** 기준일 이하 가장 최근 스냅샷 */
+    Optional<StoreInventorySnapshot> findFirstByStoreIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(
+            Long storeId, LocalDate date);
+
+    boolean existsByStoreIdAndSnapshotDate(Long storeId, LocalDate date);
+}
@@ -0,0 +1,47 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 가맹점 재료 ↔ 본사 재료 매핑 조회(JDBC) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>매장 1곳의 본사 재료 ID → 가맹점 재료 ID 매핑 전체를 한 번에 조회</li>
+ *   <li>인덱스 {@code ix_sm_store_material (store_id_fk, material_id_fk)} 사용</li>
+ * </ul>
+ */
+@Repository
+public class StoreMaterialMappingJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreMaterialMappingJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /**
+     * 매장의 본사 재료 매핑.
+     *
+     * @param storeId 매장 ID
+     * @return materialId → storeMaterialId (같은 본사 재료가 여러 번 매핑되었으면 가장 작은 ID)
+     */
+    public Map<Long, Long> findMaterialMappings(Long storeId) {
+        String sql = """
+            SELECT sm.material_id_fk AS material_id, MIN(sm.store_material_id) AS store_material_id
+              FROM store_material sm
+             WHERE sm.store_id_fk = :storeId
+               AND sm.material_id_fk IS NOT NULL
+             GROUP BY sm.material_id_fk
+        """;
+        Map<Long, Long> out = new HashMap<>();
+        jdbc.query(sql, new MapSqlParameterSource("storeId", storeId),
+                rs -> { out.put(rs.getLong("material_id"), rs.getLong("store_material_id")); });
+        return out;
+    }
+}
@@ -0,0 +1,168 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.MaterialStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 가맹점 온보딩(set-based) JDBC 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>재료마다 exists → save 를 반복하던 방식 대신
+ *       <code>INSERT ... SELECT ... WHERE NOT EXISTS</code> 한 문장으로 id 구간 단위 일괄 생성</li>
+ *   <li>storeId 가 null 이면 전 매장 대상(본사 신규 재료 재동기화)</li>
+ *   <li>모든 문장은 멱등(이미 있는 행은 건너뜀)이라 같은 구간을 다시 실행해도 안전</li>
+ * </ul>
+ *
+ * <p>인덱스</p>
+ * <ul>
+ *   <li><code>store_material (store_id_fk, material_id_fk)</code>: 매핑 존재 검사</li>
+ *   <li><code>store_material (store_id_fk, store_material_code)</code>: 코드 유니크 충돌 회피</li>
+ *   <li><code>store_inventory (store_id_fk, store_material_id_fk)</code>: 재고 존재 검사(유니크)</li>
+ * </ul>
+ */
+@Repository
+public class StoreOnboardingJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public StoreOnboardingJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 사용(USE) 중인 본사 재료의 최대 id (없으면 0) */
+    public long findMaxHqMaterialId() {
+        Long v = jdbc.queryForObject(
+                "SELECT COALESCE(MAX(material_id), 0) FROM material WHERE material_status = :use",
+                new MapSqlParameterSource("use", MaterialStatus.USE.name()), Long.class);
+        return v != null ? v : 0L;
+    }
+
+    /** 가맹점 재료 최대 id (storeId null 이면 전체, 없으면 0) */
+    public long findMaxStoreMaterialId(Long storeId) {
+        String sql = "SELECT COALESCE(MAX(store_material_id), 0) FROM store_material"
+                + (storeId != null ? " WHERE store_id_fk = :storeId" : "");
+        Long v = jdbc.queryForObject(sql, new MapSqlParameterSource("storeId", storeId), Long.class);
+        return v != null ? v : 0L;
+    }
+
+    /**
+     * afterId 이후 limit 개 본사 재료의 마지막 id (청크 상한). 남은 재료가 없으면 afterId.
+     */
+    public long nextHqMaterialBoundary(long afterId, int limit) {
+        String sql = """
+            SELECT COALESCE(MAX(t.material_id), :afterId)
+              FROM (SELECT material_id
+                      FROM material
+                     WHERE material_status = :use
+                       AND material_id > :afterId
+                  ORDER BY material_id
+                     LIMIT :limit) t
+        """;
+        Long v = jdbc.queryForObject(sql, new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("use", MaterialStatus.USE.name())
+                .addValue("limit", limit), Long.class);
+        return v != null ? v : afterId;
+    }
+
+    /**
+     * afterId 이후 limit 개 가맹점 재료의 마지막 id (청크 상한). 남은 재료가 없으면 afterId.
+     */
+    public long nextStoreMaterialBoundary(Long storeId, long afterId, int limit) {
+        String sql = """
+            SELECT COALESCE(MAX(t.store_material_id), :afterId)
+              FROM (SELECT store_material_id
+                      FROM store_material
+                     WHERE store_material_id > :afterId
+            """ + (storeId != null ? "           AND store_id_fk = :storeId\n" : "") + """
+                  ORDER BY store_material_id
+                     LIMIT :limit) t
+        """;
+        Long v = jdbc.queryForObject(sql, new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("storeId", storeId)
+                .addValue("limit", limit), Long.class);
+        return v != null ? v : afterId;
+    }
+
+    /**
+     * (afterId, uptoId] 구간의 사용 중 본사 재료를 매장에 가맹점 재료로 일괄 매핑한다.
+     *
+     * <p>기존 {@code mapAllHqMaterialsToStore}와 동일한 기본값:
+     * status=STOP, isHqMaterial=1, 코드/이름/단위/카테고리/온도/변환비율은 본사 값 복사,
+     * 공급처/적정재고/매입단가는 NULL.</p>
+     *
+     * @param storeId 대상 매장 (null 이면 전 매장)
+     * @return 생성된 행 수
+     */
+    public int insertMissingHqMaterials(Long storeId, long afterId, long uptoId) {
+        String sql = """
+            INSERT INTO store_material
+                   (store_id_fk, material_id_fk, store_material_code, store_material_name,
+                    store_material_category, store_material_base_unit, store_material_sales_unit,
+                    material_conversion_rate, store_material_supplier, store_material_temperature,
+                    store_material_status, store_material_optimal_quantity, store_material_purchase_price,
+                    store_material_is_hq_material, store_material_reg_date, store_material_modify_date)
+            SELECT s.store_id, m.material_id, m.material_code, m.material_name,
+                   m.material_category, m.material_base_unit, m.material_sales_unit,
+                   m.material_conversion_rate, NULL, m.material_temperature,
+                   :stop, NULL, NULL,
+                   1, NOW(), NOW()
+              FROM material m
+              JOIN store s ON 1 = 1
+             WHERE m.material_status = :use
+               AND m.material_id > :afterId
+               AND m.material_id <= :uptoId
+            """ + (storeId != null ? "   AND s.store_id = :storeId\n" : "") + """
+               AND NOT EXISTS (SELECT 1 FROM store_material sm
+                                WHERE sm.store_id_fk = s.store_id
+                                  AND sm.material_id_fk = m.material_id)
+               AND NOT EXISTS (SELECT 1 FROM store_material sc
+                                WHERE sc.store_id_fk = s.store_id
+                                  AND sc.store_material_code = m.material_code)
+        """;
+        return jdbc.update(sql, new MapSqlParameterSource()
+                .addValue("stop", MaterialStatus.STOP.name())
+                .addValue("use", MaterialStatus.USE.name())
+                .addValue("afterId", afterId)
+                .addValue("uptoId", uptoId)
+                .addValue("storeId", storeId));
+    }
+
+    /**
+     * (afterId, uptoId] 구간의 가맹점 재료 중 집계 재고가 없는 항목을 quantity=0 으로 일괄 생성한다.
+     *
+     * <p>적정 수량은 가맹점 재료 값을 복사하고, 상태는 수량 0 기준 {@link InventoryStatus#from}
+     * 결과(SHORTAGE)로 기록한다({@code touchAfterQuantityChange()}와 동일).</p>
+     *
+     * @param storeId 대상 매장 (null 이면 전 매장)
+     * @return 생성된 행 수
+     */
+    public int insertMissingInventories(Long storeId, long afterId, long uptoId) {
+        String sql = """
+            INSERT INTO store_inventory
+                   (store_id_fk, store_material_id_fk, inventory_quantity,
+                    inventory_optimal_quantity, inventory_status, inventory_update_date)
+            SELECT sm.store_id_fk, sm.store_material_id, 0,
+                   sm.store_material_optimal_quantity, :status, NOW()
+              FROM store_material sm
+             WHERE sm.store_material_id > :afterId
+               AND sm.store_material_id <= :uptoId
+            """ + (storeId != null ? "   AND sm.store_id_fk = :storeId\n" : "") + """
+               AND NOT EXISTS (SELECT 1 FROM store_inventory si
+                                WHERE si.store_id_fk = sm.store_id_fk
+                                  AND si.store_material_id_fk = sm.store_material_id)
+        """;
+        return jdbc.update(sql, new MapSqlParameterSource()
+                .addValue("status", InventoryStatus.from(BigDecimal.ZERO, null).name())
+                .addValue("afterId", afterId)
+                .addValue("uptoId", uptoId)
+                .addValue("storeId", storeId));
+    }
+}
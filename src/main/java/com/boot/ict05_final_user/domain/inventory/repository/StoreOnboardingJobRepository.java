@@ -0,0 +1,19 @@
+package com.boot.ict05_final_user.domain.inventory.repository;
+
+import com.boot.ict05_final_user.domain.inventory.entity.OnboardingJobStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreOnboardingJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+/**
+ * 가맹점 온보딩 작업 리포지토리.
+ */
+public interface StoreOnboardingJobRepository extends JpaRepository<StoreOnboardingJob, Long> {
+
+    /** 매장별 미완료(진행 중/실패) 최신 작업 */
+    Optional<StoreOnboardingJob> findFirstByStoreIdAndStatusNotOrderByIdDesc(Long storeId, OnboardingJobStatus status);
+
+    /** 전 매장 대상 미완료 최신 작업 */
+    Optional<StoreOnboardingJob> findFirstByStoreIdIsNullAndStatusNotOrderByIdDesc(OnboardingJobStatus status);
+}
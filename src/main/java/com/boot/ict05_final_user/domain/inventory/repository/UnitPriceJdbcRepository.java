@@ -5,6 +5,9 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,7 +16,8 @@ import java.util.Optional;
  * <p>의도/역할</p>
  * <ul>
  *   <li>JPA 매핑 없이 HQ 단가 테이블(<code>unit_price</code>)로부터 필요한 값만 경량 쿼리로 조회</li>
- *   <li>현재 사용: <b>HQ 재료의 최신 SELLING 단가 1건</b> 조회</li>
+ *   <li>{@code UnitPriceResolver} 메모리 단가표 적재(SELLING 전체)와 변경 감지(fingerprint)</li>
+ *   <li>캐시 미사용 시 DB 폴백: 시점 유효 SELLING 단가 1건</li>
  *   <li>가맹점 입고 시 “입고 단가” 기본값(HQ 판매가) 제공</li>
  * </ul>
  *
@@ -35,13 +39,20 @@ import java.util.Optional;
  * <p>트랜잭션/성능</p>
  * <ul>
  *   <li>읽기 전용 쿼리(상위 서비스 트랜잭션 격리 수준에 의존)</li>
- *   <li>인덱스 권장:
- *     <code>(material_id_fk, unit_price_type, unit_price_date_to, unit_price_date_from)</code></li>
+ *   <li>인덱스 {@value #EFFECTIVE_INDEX}:
+ *     <code>(material_id_fk, unit_price_type, unit_price_date_from)</code> — 시점 조회 DB 폴백용.
+ *     본사 테이블이라 이 앱의 DDL 대상이 아니다. {@code db/manual/V20261018_01__unit_price_effective_index.sql}
+ *     을 본사 검토 후 적용하며, 앱은 {@link #hasEffectiveDateIndex()}로 존재 여부만 확인한다</li>
  * </ul>
  */
 @Repository
 public class UnitPriceJdbcRepository {
 
+    public static final String EFFECTIVE_INDEX = "ix_unit_price_material_type_from";
+
+    /** SELLING 단가 1행 (유효 구간 포함) */
+    public record SellingPriceRow(Long materialId, BigDecimal price, LocalDateTime dateFrom, LocalDateTime dateTo) {}
+
     private final NamedParameterJdbcTemplate jdbc;
 
     public UnitPriceJdbcRepository(NamedParameterJdbcTemplate jdbc) {
@@ -70,4 +81,78 @@ public class UnitPriceJdbcRepository {
                 rs -> rs.next() ? Optional.of(rs.getBigDecimal(1)) : Optional.empty()
         );
     }
+
+    /**
+     * 시점 유효 <b>SELLING</b> 단가 1건 (DB 폴백).
+     *
+     * <p>유효 구간 {@code date_from <= at <= COALESCE(date_to, ∞)} 중 시작일이 가장 늦은 행.
+     * {@value #EFFECTIVE_INDEX} 인덱스의 (material, type) 고정 + date_from 역순 스캔으로 처리된다.</p>
+     *
+     * @param materialId HQ 재료 PK
+     * @param at         기준 시점
+     * @return 유효 판매 단가(Optional)
+     */
+    public Optional<BigDecimal> findSellingPriceAt(Long materialId, LocalDateTime at) {
+        String sql = """
+            SELECT unit_price_selling
+              FROM unit_price
+             WHERE material_id_fk = :materialId
+               AND unit_price_type = 'SELLING'
+               AND unit_price_date_from <= :at
+               AND (unit_price_date_to IS NULL OR unit_price_date_to >= :at)
+          ORDER BY unit_price_date_from DESC
+             LIMIT 1
+        """;
+        return jdbc.query(
+                sql,
+                new MapSqlParameterSource().addValue("materialId", materialId).addValue("at", at),
+                rs -> rs.next() ? Optional.ofNullable(rs.getBigDecimal(1)) : Optional.empty()
+        );
+    }
+
+    /** 전체 SELLING 단가 행 (메모리 단가표 적재용, 재료/시작일 오름차순) */
+    public List<SellingPriceRow> findAllSellingPrices() {
+        String sql = """
+            SELECT material_id_fk, unit_price_selling, unit_price_date_from, unit_price_date_to
+              FROM unit_price
+             WHERE unit_price_type = 'SELLING'
+          ORDER BY material_id_fk, unit_price_date_from
+        """;
+        return jdbc.query(sql, new MapSqlParameterSource(), (rs, i) -> new SellingPriceRow(
+                rs.getLong(1),
+                rs.getBigDecimal(2),
+                toLocal(rs.getTimestamp(3)),
+                toLocal(rs.getTimestamp(4))));
+    }
+
+    /**
+     * 단가 테이블 변경 감지용 지문 (행 수 + 내용 체크섬).
+     *
+     * <p>본사 앱에서 단가가 추가/수정/삭제되면 값이 달라진다.</p>
+     */
+    public String fingerprint() {
+        String sql = """
+            SELECT CONCAT(COUNT(*), ':',
+                   COALESCE(SUM(CRC32(CONCAT_WS('|', material_id_fk, unit_price_type, unit_price_selling,
+                                                unit_price_date_from, unit_price_date_to))), 0))
+              FROM unit_price
+        """;
+        return jdbc.queryForObject(sql, new MapSqlParameterSource(), String.class);
+    }
+
+    /** 시점 조회용 인덱스 존재 여부 (읽기 전용, 생성하지 않는다) */
+    public boolean hasEffectiveDateIndex() {
+        Integer n = jdbc.queryForObject("""
+            SELECT COUNT(*)
+              FROM information_schema.statistics
+             WHERE table_schema = DATABASE()
+               AND table_name = 'unit_price'
+               AND index_name = :name
+        """, new MapSqlParameterSource("name", EFFECTIVE_INDEX), Integer.class);
+        return n != null && n > 0;
+    }
+
+    private static LocalDateTime toLocal(Timestamp ts) {
+        return ts != null ? ts.toLocalDateTime() : null;
+    }
 }
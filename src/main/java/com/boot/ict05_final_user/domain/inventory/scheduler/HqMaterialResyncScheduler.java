@@ -0,0 +1,32 @@
+package com.boot.ict05_final_user.domain.inventory.scheduler;
+
+import com.boot.ict05_final_user.domain.inventory.entity.StoreOnboardingJob;
+import com.boot.ict05_final_user.domain.inventory.service.StoreOnboardingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 본사 신규 재료 전 매장 재동기화 스케줄러.
+ *
+ * <p>{@code inventory.onboarding.hq-resync-enabled=true} 일 때만 동작하며,
+ * {@code inventory.onboarding.hq-resync-cron} 주기로 미매핑 본사 재료/누락 집계 재고를 전 매장에 일괄 생성합니다.
+ * 이전 실행이 중단되었으면 커서 위치부터 이어서 실행합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "inventory.onboarding.hq-resync-enabled", havingValue = "true")
+public class HqMaterialResyncScheduler {
+
+    private final StoreOnboardingService storeOnboardingService;
+
+    @Scheduled(cron = "${inventory.onboarding.hq-resync-cron:0 30 5 * * *}")
+    public void resync() {
+        StoreOnboardingJob job = storeOnboardingService.resyncAllStores();
+        log.info("[ONBOARDING] hq resync jobId={} status={} materials={} inventories={}",
+                job.getId(), job.getStatus(), job.getMaterialsInserted(), job.getInventoriesInserted());
+    }
+}
@@ -0,0 +1,33 @@
+package com.boot.ict05_final_user.domain.inventory.scheduler;
+
+import com.boot.ict05_final_user.domain.inventory.service.StoreInventoryLedgerBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 원장 1회성 백필 실행기.
+ *
+ * <p>{@code inventory.ledger.backfill-on-startup=true} 일 때 기동 직후 한 번 실행합니다.
+ * 멱등이므로 재기동 시 다시 실행되어도 중복 적재되지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "inventory.ledger.backfill-on-startup", havingValue = "true")
+public class StoreInventoryLedgerBackfillRunner implements ApplicationRunner {
+
+    private final StoreInventoryLedgerBackfillService backfillService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            backfillService.backfillAll();
+        } catch (RuntimeException e) {
+            log.error("[LEDGER] backfill failed", e);
+        }
+    }
+}
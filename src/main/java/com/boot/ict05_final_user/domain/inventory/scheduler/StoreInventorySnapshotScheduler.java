@@ -0,0 +1,49 @@
+package com.boot.ict05_final_user.domain.inventory.scheduler;
+
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventorySnapshotJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.service.StoreInventorySnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 가맹점 재고 일별 스냅샷 스케줄러.
+ *
+ * <p>{@code inventory.ledger.snapshot-cron} 주기(기본 매일 00:10)로 전 매장의 당일 00:00 기준 스냅샷을 만듭니다.
+ * 매장별로 별도 트랜잭션이며, 한 매장 실패가 다른 매장 생성을 막지 않습니다.</p>
+ *
+ * <p>첫 스냅샷은 원장 전체 합계이므로 기본값은 꺼짐입니다. 원장 백필을 끝낸 뒤
+ * {@code inventory.ledger.snapshot-enabled=true} 로 켭니다(백필 전 매장은 스냅샷 생성을 거부합니다).</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "inventory.ledger.snapshot-enabled", havingValue = "true")
+public class StoreInventorySnapshotScheduler {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final StoreInventorySnapshotService snapshotService;
+    private final StoreInventorySnapshotJdbcRepository snapshotJdbcRepository;
+
+    @Scheduled(cron = "${inventory.ledger.snapshot-cron:0 10 0 * * *}", zone = "Asia/Seoul")
+    public void snapshot() {
+        LocalDate today = LocalDate.now(KST);
+        int ok = 0, failed = 0;
+        for (Long storeId : snapshotJdbcRepository.findAllStoreIds()) {
+            try {
+                snapshotService.takeSnapshot(storeId, today);
+                ok++;
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("[SNAPSHOT] failed storeId={} date={}", storeId, today, e);
+            }
+        }
+        log.info("[SNAPSHOT] date={} stores={} failed={}", today, ok, failed);
+    }
+}
@@ -0,0 +1,34 @@
+package com.boot.ict05_final_user.domain.inventory.scheduler;
+
+import com.boot.ict05_final_user.domain.inventory.service.UnitPriceResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * HQ 단가표 변경 감지 스케줄러.
+ *
+ * <p>{@code inventory.unit-price.refresh-cron} 주기로 단가 테이블 지문을 비교하여,
+ * 본사에서 단가가 바뀌었을 때만 메모리 단가표를 다시 적재합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "inventory.unit-price.cache-enabled", havingValue = "true", matchIfMissing = true)
+public class UnitPriceRefreshScheduler {
+
+    private final UnitPriceResolver unitPriceResolver;
+
+    @Scheduled(cron = "${inventory.unit-price.refresh-cron:0/30 * * * * *}")
+    public void refresh() {
+        try {
+            if (unitPriceResolver.refreshIfChanged()) {
+                log.info("[UNIT_PRICE] price table changed, reloaded");
+            }
+        } catch (RuntimeException e) {
+            log.warn("[UNIT_PRICE] refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.config.InventoryConcurrencyProperties;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryContentionDTO;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.StaleStateException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 집계 재고 갱신 실행기(낙관적 잠금 + 충돌 재시도).
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>입고/소진/조정/가산 등 {@code StoreInventory} 수량 변경을 시도 1회 = 트랜잭션 1개로 실행한다.</li>
+ *   <li>커밋 시 버전 충돌({@link OptimisticLockingFailureException} 등)이면 전체를 롤백하고
+ *       지수 백오프 + 지터 대기 후 처음부터 다시 읽어 재실행한다.</li>
+ *   <li>매장/재료별 충돌·재시도·실패 횟수를 메모리에 누적한다({@link #contention(Long)}).</li>
+ * </ul>
+ *
+ * <p>규칙</p>
+ * <ul>
+ *   <li>작업 본문은 재실행되어도 안전해야 한다(외부 호출 금지, 메모리 반영은 커밋 이후 콜백으로).</li>
+ *   <li>다른 실행기 시도({@link #execute} / {@link #executeBoundary}) 안에서 호출되면 재시도하지 않고 그대로 실행하며,
+ *       통계 키를 바깥 시도에 넘긴다. 커밋 시점 충돌도 바깥 시도가 잡아 재시도·집계한다.</li>
+ *   <li>실행기 밖의 트랜잭션 안에서 호출되면 재시도하지 않고 그대로 실행한다(바깥 트랜잭션이 롤백 대상이므로).
+ *       재시도가 필요한 상위 작업은 {@link #executeBoundary}로 감싼다.</li>
+ *   <li>재시도를 모두 소진하면 마지막 충돌 예외를 그대로 던진다(API 409).</li>
+ *   <li>여러 재료를 함께 갱신하는 작업의 충돌은 관련 재료 모두에 집계한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryMutationExecutor {
+
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryConcurrencyProperties props;
+
+    /** 현재 스레드에서 진행 중인 실행기 시도의 통계 키 (안쪽 execute 가 보탠다) */
+    private static final ThreadLocal<Set<Key>> SCOPE = new ThreadLocal<>();
+
+    /** (storeId, storeMaterialId) → 경합 통계 */
+    private final ConcurrentHashMap<Key, Stats> stats = new ConcurrentHashMap<>();
+
+    private record Key(Long storeId, Long storeMaterialId) {}
+
+    /**
+     * 재고 갱신 작업 실행.
+     *
+     * @param storeId          매장 ID (통계 키)
+     * @param storeMaterialIds 갱신 대상 가맹점 재료 ID (통계 키)
+     * @param work             트랜잭션 안에서 실행할 작업(재실행 가능해야 함)
+     * @return 작업 결과
+     * @throws OptimisticLockingFailureException 재시도 소진
+     */
+    public <T> T execute(Long storeId, Collection<Long> storeMaterialIds, Supplier<T> work) {
+        Set<Key> keys = keys(storeId, storeMaterialIds);
+
+        Set<Key> scope = SCOPE.get();
+        if (scope != null) {
+            // 바깥 실행기 시도 안: 키만 넘기고 그대로 실행 (충돌·재시도·집계는 바깥에서)
+            scope.addAll(keys);
+            return work.get();
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            try {
+                T result = work.get();
+                record(keys, 0, false);
+                return result;
+            } catch (RuntimeException e) {
+                if (isConflict(e)) record(keys, 1, true);
+                throw e;
+            }
+        }
+
+        return retry(keys, work);
+    }
+
+    /**
+     * 재고 갱신을 포함하는 상위 작업(주문 상태 전이 등) 실행.
+     *
+     * <p>작업 전체를 시도 1회 = 트랜잭션 1개로 실행하고, 커밋 시점 충돌을 포함해 버전 충돌이면 처음부터 재실행한다.
+     * 작업 안의 {@link #execute} 호출은 재시도 없이 실행되며 그 통계 키가 이 작업의 충돌/재시도로 집계된다.</p>
+     *
+     * @param work 트랜잭션 안에서 실행할 작업(재실행 가능해야 함)
+     * @return 작업 결과
+     * @throws OptimisticLockingFailureException 재시도 소진
+     */
+    public <T> T executeBoundary(Supplier<T> work) {
+        if (SCOPE.get() != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+        return retry(new LinkedHashSet<>(), work);
+    }
+
+    /** 시도마다 새 트랜잭션, 충돌이면 백오프 후 재실행. 통계 키는 시도 중 안쪽 execute 가 보탠다. */
+    private <T> T retry(Set<Key> keys, Supplier<T> work) {
+        int maxAttempts = Math.max(1, props.getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            SCOPE.set(keys);
+            try {
+                T result = transactionTemplate.execute(tx -> work.get());
+                record(keys, attempt - 1, false);
+                return result;
+            } catch (RuntimeException e) {
+                if (!isConflict(e)) throw e;
+                if (attempt >= maxAttempts) {
+                    record(keys, attempt, true);
+                    log.warn("[INVENTORY] version conflict retries exhausted keys={} attempts={}", keys, attempt);
+                    throw e;
+                }
+                log.debug("[INVENTORY] version conflict keys={} attempt={}", keys, attempt);
+            } finally {
+                SCOPE.remove();
+            }
+            backoff(attempt);
+        }
+    }
+
+    /**
+     * 매장 재료별 경합 통계 (충돌 많은 순).
+     *
+     * @param storeId 매장 ID
+     */
+    public List<StoreInventoryContentionDTO> contention(Long storeId) {
+        List<StoreInventoryContentionDTO> out = new ArrayList<>();
+        for (Map.Entry<Key, Stats> e : stats.entrySet()) {
+            if (!e.getKey().storeId().equals(storeId)) continue;
+            Stats s = e.getValue();
+            out.add(new StoreInventoryContentionDTO(e.getKey().storeMaterialId(),
+                    s.committed.sum(), s.conflicts.sum(), s.retries.sum(), s.exhausted.sum(), s.lastConflictAt));
+        }
+        out.sort(Comparator.comparingLong(StoreInventoryContentionDTO::getConflicts).reversed()
+                .thenComparing(StoreInventoryContentionDTO::getStoreMaterialId));
+        return out;
+    }
+
+    /* ===== 내부 ===== */
+
+    /** 상한 = min(max, initial × multiplier^(attempt-1)), 대기 = [0, 상한) 균등 분포(full jitter) */
+    private void backoff(int attempt) {
+        double cap = Math.min(props.getMaxBackoffMs(),
+                props.getInitialBackoffMs() * Math.pow(Math.max(1.0, props.getMultiplier()), attempt - 1));
+        long sleep = cap >= 1 ? ThreadLocalRandom.current().nextLong((long) cap + 1) : 0L;
+        if (sleep <= 0) return;
+        try {
+            Thread.sleep(sleep);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new OptimisticLockingFailureException("interrupted while backing off a version conflict", ie);
+        }
+    }
+
+    private static Set<Key> keys(Long storeId, Collection<Long> storeMaterialIds) {
+        Set<Key> keys = new LinkedHashSet<>();
+        if (storeId == null || storeMaterialIds == null) return keys;
+        for (Long smId : storeMaterialIds) {
+            if (smId != null) keys.add(new Key(storeId, smId));
+        }
+        return keys;
+    }
+
+    private void record(Set<Key> keys, int conflicts, boolean exhausted) {
+        LocalDateTime now = conflicts > 0 ? LocalDateTime.now() : null;
+        for (Key key : keys) {
+            Stats s = stats.computeIfAbsent(key, k -> new Stats());
+            if (exhausted) {
+                s.exhausted.increment();
+                s.retries.add(conflicts - 1L);
+            } else {
+                s.committed.increment();
+                s.retries.add(conflicts);
+            }
+            if (conflicts > 0) {
+                s.conflicts.add(conflicts);
+                s.lastConflictAt = now;
+            }
+        }
+    }
+
+    /** 버전 충돌 여부(원인 체인 포함) */
+    private static boolean isConflict(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof OptimisticLockingFailureException
+                    || t instanceof OptimisticLockException
+                    || t instanceof StaleStateException) {
+                return true;
+            }
+            if (t.getCause() == t) break;
+        }
+        return false;
+    }
+
+    private static final class Stats {
+        private final LongAdder committed = new LongAdder();
+        private final LongAdder conflicts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private volatile LocalDateTime lastConflictAt;
+    }
+}
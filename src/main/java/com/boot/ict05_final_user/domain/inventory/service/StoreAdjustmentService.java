@@ -5,30 +5,41 @@ import com.boot.ict05_final_user.domain.inventory.entity.AdjustmentReason;
 import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryAdjustment;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryLedger;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreMaterial;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryAdjustmentRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryLedgerRepository;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryRepository;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialRepository;
+import com.boot.ict05_final_user.domain.menu.service.MenuAvailabilityEngine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+/**
+ * 가맹점 재고 조정(절대 수량 설정) 서비스.
+ *
+ * <p>조정 이력/원장 기록과 집계 재고 갱신을 {@link InventoryMutationExecutor}로 실행한다
+ * (버전 충돌 시 최신 수량으로 다시 읽어 조정 전/차이를 재계산).</p>
+ */
 @Service
 @RequiredArgsConstructor
 public class StoreAdjustmentService {
 
     private final StoreInventoryRepository storeInventoryRepository;
     private final StoreInventoryAdjustmentRepository storeInventoryAdjustmentRepository;
+    private final StoreInventoryLedgerRepository storeInventoryLedgerRepository;
     private final StoreMaterialRepository storeMaterialRepository;
+    private final InventoryMutationExecutor mutationExecutor;
+    private final MenuAvailabilityEngine menuAvailabilityEngine;
 
-    @Transactional
     public Long adjust(final Long storeId, final StoreInventoryAdjustmentWriteDTO req) {
         Objects.requireNonNull(storeId, "storeId must not be null");
         Objects.requireNonNull(req, "request must not be null");
@@ -38,6 +49,14 @@ public class StoreAdjustmentService {
         final AdjustmentReason reason = AdjustmentReason.valueOf(req.getReason().trim().toUpperCase());
         final LocalDateTime at = LocalDateTime.now();
 
+        return mutationExecutor.execute(storeId, List.of(storeMaterialId),
+                () -> applyAdjustment(storeId, storeMaterialId, newQty, reason, req.getMemo(), at));
+    }
+
+    /** 조정 1회 시도 (실행기 트랜잭션 안) */
+    private Long applyAdjustment(final Long storeId, final Long storeMaterialId, final BigDecimal newQty,
+                                 final AdjustmentReason reason, final String memo, final LocalDateTime at) {
+
         // 대상 검증
         final StoreMaterial sm = storeMaterialRepository.findById(storeMaterialId)
                 .orElseThrow(() -> new EntityNotFoundException("StoreMaterial not found. id=" + storeMaterialId));
@@ -65,16 +84,18 @@ public class StoreAdjustmentService {
                 .quantityAfter(after)
                 .difference(diff)
                 // unitPrice 필드 사용 안 함
-                .memo(req.getMemo())
+                .memo(memo)
                 .reason(reason)
                 .createdAt(at)
                 .status(InventoryRecordStatus.CONFIRMED)
                 .build();
         storeInventoryAdjustmentRepository.save(adj);
+        storeInventoryLedgerRepository.save(StoreInventoryLedger.fromAdjustment(adj));
 
         // 집계 재고 갱신
         inv.setQuantity(after);
         storeInventoryRepository.save(inv);
+        menuAvailabilityEngine.onStockChanged(storeId, List.of(inv));
 
         return adj.getId();
     }
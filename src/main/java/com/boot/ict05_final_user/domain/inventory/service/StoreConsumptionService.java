@@ -3,22 +3,28 @@ package com.boot.ict05_final_user.domain.inventory.service;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreConsumeRequestDTO;
 import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryLedger;
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryLedgerType;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryOut;
-import com.boot.ict05_final_user.domain.inventory.entity.StoreMaterial;
-import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryOutRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryLedgerJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryOutJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryOutJdbcRepository.OutRow;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryRepository;
-import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialRepository;
+import com.boot.ict05_final_user.domain.menu.service.MenuAvailabilityEngine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 가맹점 "판매 소진(Consumption)" 트랜잭션 도메인 서비스.
@@ -26,7 +32,7 @@ import java.util.Optional;
  * <p>역할</p>
  * <ul>
  *   <li>이미 가맹점 재료(StoreMaterial) 기준으로 정규화된 소진 라인들을 받아 재고를 차감한다.</li>
- *   <li>차감 결과를 {@link StoreInventoryOut} 이력으로 기록한다(단가 미관리).</li>
+ *   <li>차감 결과를 {@link StoreInventoryOut} 이력(store_inventory_out)으로 기록한다(단가 미관리).</li>
  *   <li>단위 변환/레시피 조회/본사 재료 매핑은 사전 단계에서 완료되었다고 가정한다.</li>
  * </ul>
  *
@@ -43,9 +49,16 @@ import java.util.Optional;
  *   <li>{@link #consume(Long, StoreConsumeRequestDTO)}: 쓰기 트랜잭션. 라인별 집계 재고 갱신 + 이력 저장을 단일 트랜잭션으로 커밋.</li>
  * </ul>
  *
+ * <p>쿼리 수</p>
+ * <ul>
+ *   <li>집계 재고는 요청 재료 전체를 1회 조회하고, 출고 이력/원장은 JDBC batch 로 적재한다(라인 수와 무관).</li>
+ * </ul>
+ *
  * <p>동시성</p>
  * <ul>
- *   <li>본 구현은 라인별 조회→검증→차감 순서를 따른다. 동시 소진이 빈번한 경우에는 비관/낙관 잠금, 버전 필드, 또는 재시도 정책을 상위 계층에서 고려하라.</li>
+ *   <li>행 잠금 없이 조회→검증→차감하고, 커밋 시 버전 비교로 동시 갱신을 검출한다.</li>
+ *   <li>충돌하면 {@link InventoryMutationExecutor}가 전체를 롤백 후 최신 수량으로 처음부터 재실행한다
+ *       (재고 부족 선검증도 다시 수행).</li>
  * </ul>
  */
 @Service
@@ -53,8 +66,10 @@ import java.util.Optional;
 public class StoreConsumptionService {
 
     private final StoreInventoryRepository storeInventoryRepository;
-    private final StoreInventoryOutRepository storeInventoryOutRepository;
-    private final StoreMaterialRepository storeMaterialRepository;
+    private final StoreInventoryOutJdbcRepository storeInventoryOutJdbcRepository;
+    private final StoreInventoryLedgerJdbcRepository storeInventoryLedgerJdbcRepository;
+    private final InventoryMutationExecutor mutationExecutor;
+    private final MenuAvailabilityEngine menuAvailabilityEngine;
 
     /**
      * 판매 소진 처리.
@@ -76,7 +91,6 @@ public class StoreConsumptionService {
      * @param storeId 가맹점 ID(소유 검증용)
      * @param request 소진 요청(가맹점 재료 기준으로 정규화된 라인 목록)
      */
-    @Transactional
     public void consume(final Long storeId, final StoreConsumeRequestDTO request) {
         Objects.requireNonNull(storeId, "storeId must not be null");
         Objects.requireNonNull(request, "request must not be null");
@@ -86,9 +100,23 @@ public class StoreConsumptionService {
         final List<StoreConsumeRequestDTO.Line> lines = request.getLines();
         if (lines == null || lines.isEmpty()) return;
 
+        final List<Long> smIds = lines.stream().map(StoreConsumeRequestDTO.Line::getStoreMaterialId).distinct().toList();
+        mutationExecutor.execute(storeId, smIds, () -> {
+            applyConsumption(storeId, request, lines, eventAt);
+            return null;
+        });
+    }
+
+    /** 소진 1회 시도 (실행기 트랜잭션 안) */
+    private void applyConsumption(final Long storeId, final StoreConsumeRequestDTO request,
+                                  final List<StoreConsumeRequestDTO.Line> lines, final LocalDateTime eventAt) {
+
+        // 0) 집계 재고 일괄 조회 (매장 조건 포함 → 다른 매장 재료는 미존재로 처리)
+        final Map<Long, StoreInventory> invBySm = findInventories(storeId, lines);
+
         // 1) 선검증: 모든 라인에 대해 음수 재고 방지 (현재고 < 요구수량 이면 전체 요청 거절)
         for (StoreConsumeRequestDTO.Line line : lines) {
-            final StoreInventory inv = findInventoryByStoreMaterialId(storeId, line.getStoreMaterialId());
+            final StoreInventory inv = invBySm.get(line.getStoreMaterialId());
             final BigDecimal current = nz(inv.getQuantity());
             if (current.compareTo(line.getQuantity()) < 0) {
                 throw new IllegalStateException("재고 부족. storeMaterialId=" + line.getStoreMaterialId()
@@ -96,50 +124,67 @@ public class StoreConsumptionService {
             }
         }
 
-        // 2) 라인별 차감 및 이력 생성
+        // 2) 라인별 차감 및 이력 행 구성
+        final String memo = Optional.ofNullable(request.getMemo()).orElse("SALE");
+        final List<OutRow> outRows = new ArrayList<>(lines.size());
         for (StoreConsumeRequestDTO.Line line : lines) {
             final Long storeMaterialId = line.getStoreMaterialId();
             final BigDecimal outQty = scale3(line.getQuantity());
 
-            final StoreInventory inv = findInventoryByStoreMaterialId(storeId, storeMaterialId);
+            final StoreInventory inv = invBySm.get(storeMaterialId);
             final BigDecimal before = nz(inv.getQuantity());
             final BigDecimal after = before.subtract(outQty);
             if (after.compareTo(BigDecimal.ZERO) < 0) {
-                // 동시성 경합 등으로 인한 추가 방어
+                // 같은 재료가 여러 라인에 있을 때 누적 차감 방어
                 throw new IllegalStateException("재고 부족. 경합 발생. storeMaterialId=" + storeMaterialId
                         + ", before=" + before + ", out=" + outQty);
             }
 
             // 집계 재고 갱신
             inv.setQuantity(after);
-            storeInventoryRepository.save(inv);
-
-            // 소진 이력 저장 (단가 미사용)
-            final StoreInventoryOut out = StoreInventoryOut.builder()
-                    .store(inv.getStore())
-                    .storeMaterial(inv.getStoreMaterial())
-                    .quantity(outQty)
-                    .stockAfter(after)
-                    .unitPrice(null) // 매장 판매가/원가 이력 비관리
-                    .memo(Optional.ofNullable(request.getMemo()).orElse("SALE"))
-                    .outDate(eventAt)
-                    .status(InventoryRecordStatus.CONFIRMED)
-                    .build();
-            storeInventoryOutRepository.save(out);
+
+            // 소진 이력 (단가 미사용 - 매장 판매가/원가 이력 비관리)
+            outRows.add(new OutRow(storeId, storeMaterialId, outQty, after, null, eventAt, memo));
+        }
+
+        // 3) 출고 이력 → 원장 (JDBC batch)
+        final List<Long> outIds = storeInventoryOutJdbcRepository.insertOutRecords(outRows);
+        final List<StoreInventoryLedger> ledger = new ArrayList<>(outRows.size());
+        for (int i = 0; i < outRows.size(); i++) {
+            final OutRow r = outRows.get(i);
+            ledger.add(StoreInventoryLedger.builder()
+                    .storeId(storeId)
+                    .storeMaterialId(r.storeMaterialId())
+                    .type(InventoryLedgerType.OUTGO)
+                    .sourceId(outIds.get(i))
+                    .logDate(eventAt)
+                    .quantity(r.quantity().negate())
+                    .stockAfter(r.stockAfter())
+                    .unitPrice(null)
+                    .memo(memo)
+                    .build());
         }
+        storeInventoryLedgerJdbcRepository.insertAll(ledger);
+        storeInventoryRepository.saveAll(invBySm.values());
+        menuAvailabilityEngine.onStockChanged(storeId, invBySm.values());
     }
 
     /**
-     * 가맹점 소유 검증 포함: StoreMaterial 존재/소유 확인 후 StoreInventory 조회.
+     * 요청 재료 전체의 집계 재고를 한 번에 조회한다 (가맹점 소유 검증 포함).
+     *
+     * @throws EntityNotFoundException 해당 가맹점의 집계 재고가 없을 때
      */
-    private StoreInventory findInventoryByStoreMaterialId(final Long storeId, final Long storeMaterialId) {
-        final StoreMaterial sm = storeMaterialRepository.findById(storeMaterialId)
-                .orElseThrow(() -> new EntityNotFoundException("StoreMaterial not found. id=" + storeMaterialId));
-        if (!sm.getStore().getId().equals(storeId)) {
-            throw new EntityNotFoundException("StoreMaterial의 매장 불일치. storeId=" + storeId + ", storeMaterialId=" + storeMaterialId);
+    private Map<Long, StoreInventory> findInventories(final Long storeId, final List<StoreConsumeRequestDTO.Line> lines) {
+        final List<Long> smIds = lines.stream().map(StoreConsumeRequestDTO.Line::getStoreMaterialId).distinct().toList();
+        final Map<Long, StoreInventory> invBySm = storeInventoryRepository
+                .findAllByStoreIdAndStoreMaterialIdIn(storeId, smIds).stream()
+                .collect(Collectors.toMap(si -> si.getStoreMaterial().getId(), Function.identity()));
+        for (Long id : smIds) {
+            if (!invBySm.containsKey(id)) {
+                throw new EntityNotFoundException("StoreInventory not found. storeId=" + storeId + ", storeMaterialId=" + id);
+            }
         }
-        return storeInventoryRepository.findByStoreIdAndStoreMaterialId(storeId, storeMaterialId)
-                .orElseThrow(() -> new EntityNotFoundException("StoreInventory not found. storeId=" + storeId + ", storeMaterialId=" + storeMaterialId));
+        return invBySm;
     }
 
     /**
@@ -1,23 +1,35 @@
 package com.boot.ict05_final_user.domain.inventory.service;
 
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryInWriteDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryReceiptRequestDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryReceiptResponseDTO;
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryLedgerType;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryIn;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryLedger;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreMaterial;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryInRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryLedgerJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryLedgerRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryReceiptJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryReceiptJdbcRepository.InRow;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryReceiptJdbcRepository.LotRow;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryRepository;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialRepository;
-import com.boot.ict05_final_user.domain.inventory.repository.UnitPriceJdbcRepository;
+import com.boot.ict05_final_user.domain.purchaseOrder.entity.PurchaseOrder;
+import com.boot.ict05_final_user.domain.purchaseOrder.entity.PurchaseOrderStatus;
+import com.boot.ict05_final_user.domain.purchaseOrder.repository.PurchaseOrderRepository;
+import com.boot.ict05_final_user.domain.menu.service.MenuAvailabilityEngine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 가맹점 <b>입고(Inbound)</b> 도메인 서비스.
@@ -25,6 +37,7 @@ import java.util.Optional;
  * <p>역할</p>
  * <ul>
  *   <li>집계 재고(StoreInventory) 수량 증가 및 입고 이력(StoreInventoryIn) 생성</li>
+ *   <li>일괄 입고(납품 1건): 라인별 입고 이력 + LOT(StoreInventoryBatch) 생성, 발주 검수완료 처리</li>
  *   <li>입고 단가 결정 규칙 적용: <i>요청 단가 → HQ 판매가 → 매장 최근 입고가</i></li>
  * </ul>
  *
@@ -37,9 +50,9 @@ import java.util.Optional;
  *
  * <p>동시성</p>
  * <ul>
- *   <li>집계 갱신 전 <b>비관적 잠금</b>으로 대상 행을 확보:
- *       <code>StoreInventoryRepository.findByStoreIdAndStoreMaterialIdForUpdate(...)</code></li>
- *   <li>본 메서드는 @Transactional 경계 내에서 동작해야 함</li>
+ *   <li>행 잠금 없이 읽고 커밋 시 버전 비교(<b>낙관적 잠금</b>)로 동시 갱신을 검출한다.</li>
+ *   <li>충돌 시 {@link InventoryMutationExecutor}가 롤백 후 최신 수량으로 다시 실행한다
+ *       (이력/원장/LOT 도 같은 트랜잭션이라 함께 롤백).</li>
  * </ul>
  */
 @Service
@@ -49,7 +62,13 @@ public class StoreInboundService {
     private final StoreInventoryRepository storeInventoryRepository;
     private final StoreMaterialRepository storeMaterialRepository;
     private final StoreInventoryInRepository storeInventoryInRepository;
-    private final UnitPriceJdbcRepository unitPriceJdbcRepository;
+    private final StoreInventoryLedgerRepository storeInventoryLedgerRepository;
+    private final StoreInventoryLedgerJdbcRepository storeInventoryLedgerJdbcRepository;
+    private final StoreInventoryReceiptJdbcRepository receiptJdbcRepository;
+    private final PurchaseOrderRepository purchaseOrderRepository;
+    private final UnitPriceResolver unitPriceResolver;
+    private final InventoryMutationExecutor mutationExecutor;
+    private final MenuAvailabilityEngine menuAvailabilityEngine;
 
     /**
      * 입고 처리.
@@ -71,14 +90,18 @@ public class StoreInboundService {
      * @param dto     입고 요청 DTO(재고/재료/수량/단가/메모)
      * @return 생성된 입고 이력 PK
      */
-    @Transactional
     public Long inbound(final Long storeId, final StoreInventoryInWriteDTO dto) {
         Objects.requireNonNull(storeId, "storeId must not be null");
         Objects.requireNonNull(dto, "dto must not be null");
 
-        // 1) 검증/로딩 — PESSIMISTIC_WRITE (매장+가맹점재료 기준 단건 고정)
+        return mutationExecutor.execute(storeId, List.of(dto.getStoreMaterialId()), () -> applyInbound(storeId, dto));
+    }
+
+    /** 입고 1회 시도 (실행기 트랜잭션 안) */
+    private Long applyInbound(final Long storeId, final StoreInventoryInWriteDTO dto) {
+        // 1) 검증/로딩 (매장+가맹점재료 기준 단건, 버전은 커밋 시 비교)
         final StoreInventory inv = storeInventoryRepository
-                .findByStoreIdAndStoreMaterialIdForUpdate(storeId, dto.getStoreMaterialId())
+                .findByStoreIdAndStoreMaterialId(storeId, dto.getStoreMaterialId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "재고가 존재하지 않습니다. (storeId=%d, storeMaterialId=%d)".formatted(storeId, dto.getStoreMaterialId())
                 ));
@@ -96,7 +119,8 @@ public class StoreInboundService {
                 ));
 
         // 2) 단가 결정
-        final BigDecimal resolvedUnitPrice = resolveUnitPrice(sm, dto);
+        final BigDecimal resolvedUnitPrice = resolveUnitPrice(sm,
+                dto.getUnitPrice() == null ? null : BigDecimal.valueOf(dto.getUnitPrice()));
 
         // 3) 수량 계산 및 집계 반영
         final BigDecimal inQty = scale3(BigDecimal.valueOf(dto.getQuantity()));
@@ -109,6 +133,7 @@ public class StoreInboundService {
 
         inv.setQuantity(after);
         storeInventoryRepository.save(inv);
+        menuAvailabilityEngine.onStockChanged(storeId, List.of(inv));
 
         // 4) 입고 이력 저장 (증가 이후의 수량 기록)
         final StoreInventoryIn in = StoreInventoryIn.builder()
@@ -121,6 +146,7 @@ public class StoreInboundService {
                 .inDate(LocalDateTime.now()) // DTO에 날짜가 있다면 교체 가능
                 .build();
         storeInventoryInRepository.save(in);
+        storeInventoryLedgerRepository.save(StoreInventoryLedger.fromIn(in));
 
         // 5) (선택) 단가 이력 정책에 따라 별도 테이블 적재 필요 시 별도 리포지토리 활용
         // ex) storeUnitPriceRepository.save(...);
@@ -128,6 +154,151 @@ public class StoreInboundService {
         return in.getId();
     }
 
+    /**
+     * 일괄 입고 처리(납품 1건, 여러 라인).
+     *
+     * <p>흐름</p>
+     * <ol>
+     *   <li>발주 연결 시: 매장 소유/상태(취소·검수완료 아님) 검증, 발주 품목 외 재료 거절</li>
+     *   <li>대상 재고 행 전체를 조회(쿼리 1회, 잠금 없음 — 커밋 시 버전 비교)</li>
+     *   <li>라인별 단가 결정(단건 입고와 동일 규칙) 및 집계 수량 누적 — 같은 재료가 여러 라인이면 순서대로 누적</li>
+     *   <li>입고 이력/원장/LOT 를 JDBC batch 로 적재, 집계 재고 갱신</li>
+     *   <li>발주 연결 시 검수완료(DELIVERED) + 실제 납기일 기록</li>
+     * </ol>
+     *
+     * <p>전체가 하나의 트랜잭션이며, 라인 하나라도 실패하면 전부 롤백된다.
+     * 버전 충돌이면 처음(발주 검증)부터 다시 실행한다.</p>
+     *
+     * @param storeId 가맹점 ID(인증 컨텍스트)
+     * @param req     일괄 입고 요청
+     * @return 라인별 입고 결과
+     * @throws IllegalArgumentException 대상 미존재, 권한 불일치, 발주 품목 불일치, 음수 입력 등
+     * @throws IllegalStateException    이미 검수완료/취소된 발주
+     */
+    public StoreInventoryReceiptResponseDTO receive(final Long storeId, final StoreInventoryReceiptRequestDTO req) {
+        Objects.requireNonNull(storeId, "storeId must not be null");
+        if (req == null || req.getLines() == null || req.getLines().isEmpty()) {
+            throw new IllegalArgumentException("입고 라인이 없습니다.");
+        }
+        final LocalDateTime at = Optional.ofNullable(req.getReceivedAt()).orElseGet(LocalDateTime::now);
+        final List<Long> smIds = req.getLines().stream()
+                .map(StoreInventoryReceiptRequestDTO.Line::getStoreMaterialId)
+                .distinct()
+                .sorted()
+                .toList();
+
+        return mutationExecutor.execute(storeId, smIds, () -> applyReceipt(storeId, req, smIds, at));
+    }
+
+    /** 일괄 입고 1회 시도 (실행기 트랜잭션 안) */
+    private StoreInventoryReceiptResponseDTO applyReceipt(final Long storeId, final StoreInventoryReceiptRequestDTO req,
+                                                          final List<Long> smIds, final LocalDateTime at) {
+        final List<StoreInventoryReceiptRequestDTO.Line> lines = req.getLines();
+
+        // 1) 발주 연결 검증
+        final PurchaseOrder po = req.getPurchaseOrderId() == null ? null : loadReceivablePurchaseOrder(storeId, req.getPurchaseOrderId());
+
+        if (po != null) {
+            final Set<Long> ordered = po.getDetails() == null ? Set.of() : po.getDetails().stream()
+                    .map(d -> d.getMaterial().getId())
+                    .collect(Collectors.toSet());
+            for (Long id : smIds) {
+                if (!ordered.contains(id)) {
+                    throw new IllegalArgumentException("발주에 없는 재료입니다. storeMaterialId=" + id);
+                }
+            }
+        }
+
+        // 2) 재고 행 + 가맹점 재료 로딩
+        final Map<Long, StoreInventory> invBySm = storeInventoryRepository
+                .findAllByStoreIdAndStoreMaterialIdIn(storeId, smIds).stream()
+                .collect(Collectors.toMap(si -> si.getStoreMaterial().getId(), Function.identity()));
+        final Map<Long, StoreMaterial> smById = storeMaterialRepository.findAllById(smIds).stream()
+                .filter(sm -> sm.getStore() != null && storeId.equals(sm.getStore().getId()))
+                .collect(Collectors.toMap(StoreMaterial::getId, Function.identity()));
+        for (Long id : smIds) {
+            if (!smById.containsKey(id)) {
+                throw new IllegalArgumentException("재료가 존재하지 않거나 권한이 없습니다. storeMaterialId=" + id);
+            }
+            if (!invBySm.containsKey(id)) {
+                throw new IllegalArgumentException(
+                        "재고가 존재하지 않습니다. (storeId=%d, storeMaterialId=%d)".formatted(storeId, id));
+            }
+        }
+
+        // 3) 라인별 단가/누적 수량
+        final Long poId = po != null ? po.getId() : null;
+        final List<InRow> inRows = new ArrayList<>(lines.size());
+        for (StoreInventoryReceiptRequestDTO.Line line : lines) {
+            final StoreInventory inv = invBySm.get(line.getStoreMaterialId());
+            final StoreMaterial sm = smById.get(line.getStoreMaterialId());
+
+            final BigDecimal inQty = scale3(line.getQuantity());
+            if (inQty.signum() <= 0) {
+                throw new IllegalArgumentException("입고 수량은 0보다 커야 합니다. storeMaterialId=" + sm.getId());
+            }
+            final BigDecimal unitPrice = resolveUnitPrice(sm, line.getUnitPrice());
+            final BigDecimal after = nz(inv.getQuantity()).add(inQty).setScale(3, RoundingMode.HALF_UP);
+            inv.setQuantity(after);
+
+            inRows.add(new InRow(storeId, sm.getId(), inQty, after, unitPrice, at,
+                    line.getMemo() != null ? line.getMemo() : req.getMemo(), poId));
+        }
+
+        // 4) 입고 이력 → 원장/LOT (JDBC batch)
+        final List<Long> inIds = receiptJdbcRepository.insertInRecords(inRows);
+
+        final List<StoreInventoryLedger> ledger = new ArrayList<>(inRows.size());
+        final List<LotRow> lots = new ArrayList<>(inRows.size());
+        final List<StoreInventoryReceiptResponseDTO.Line> result = new ArrayList<>(inRows.size());
+        for (int i = 0; i < inRows.size(); i++) {
+            final InRow r = inRows.get(i);
+            final Long inId = inIds.get(i);
+            final StoreInventoryReceiptRequestDTO.Line line = lines.get(i);
+            final String lotNo = line.getLotNo() != null && !line.getLotNo().isBlank() ? line.getLotNo().trim() : "IN" + inId;
+
+            ledger.add(StoreInventoryLedger.builder()
+                    .storeId(storeId)
+                    .storeMaterialId(r.storeMaterialId())
+                    .type(InventoryLedgerType.INCOME)
+                    .sourceId(inId)
+                    .logDate(at)
+                    .quantity(r.quantity())
+                    .stockAfter(r.stockAfter())
+                    .unitPrice(r.unitPrice())
+                    .memo(r.memo())
+                    .build());
+            lots.add(new LotRow(invBySm.get(r.storeMaterialId()).getId(), r.storeMaterialId(), r.quantity(),
+                    at, line.getExpirationDate(), lotNo));
+            result.add(new StoreInventoryReceiptResponseDTO.Line(inId, r.storeMaterialId(), r.quantity(),
+                    r.unitPrice(), r.stockAfter(), lotNo, line.getExpirationDate()));
+        }
+        storeInventoryLedgerJdbcRepository.insertAll(ledger);
+        receiptJdbcRepository.insertLots(lots);
+        storeInventoryRepository.saveAll(invBySm.values());
+        menuAvailabilityEngine.onStockChanged(storeId, invBySm.values());
+
+        // 5) 발주 검수완료
+        if (po != null) {
+            po.setStatus(PurchaseOrderStatus.DELIVERED);
+            po.setActualDeliveryDate(at.toLocalDate());
+        }
+
+        return new StoreInventoryReceiptResponseDTO(poId, po != null ? po.getOrderCode() : null, at, result);
+    }
+
+    /** 일괄 입고 대상 발주 검증: 매장 소유 + 취소/검수완료 아님 */
+    private PurchaseOrder loadReceivablePurchaseOrder(final Long storeId, final Long purchaseOrderId) {
+        final PurchaseOrder po = purchaseOrderRepository.findById(purchaseOrderId)
+                .filter(p -> p.getStore() != null && storeId.equals(p.getStore().getId()))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "발주가 존재하지 않거나 권한이 없습니다. purchaseOrderId=" + purchaseOrderId));
+        if (po.getStatus() == PurchaseOrderStatus.CANCELED || po.getStatus() == PurchaseOrderStatus.DELIVERED) {
+            throw new IllegalStateException("이미 검수완료되었거나 취소된 발주입니다. status=" + po.getStatus());
+        }
+        return po;
+    }
+
     /**
      * 입고 단가 결정 규칙:
      * <ol>
@@ -138,7 +309,7 @@ public class StoreInboundService {
      *   <li>자체 재료: 요청 단가(0 이상) 없으면 매장 최근 입고가, 둘 다 없으면 입력 요구</li>
      * </ol>
      */
-    private BigDecimal resolveUnitPrice(final StoreMaterial sm, final StoreInventoryInWriteDTO dto) {
+    private BigDecimal resolveUnitPrice(final StoreMaterial sm, final BigDecimal requested) {
         // 공통: 음수 거절 + 스케일 정규화 헬퍼
         final var toScaled = (java.util.function.Function<BigDecimal, BigDecimal>)
                 v -> v == null ? BigDecimal.ZERO : v.setScale(3, RoundingMode.HALF_UP);
@@ -146,16 +317,16 @@ public class StoreInboundService {
         final boolean isHqMaterial = (sm.getMaterial() != null);
 
         // 0) 요청 단가가 온 경우
-        if (dto.getUnitPrice() != null) {
-            if (dto.getUnitPrice() < 0) {
-                throw new IllegalArgumentException("입고 단가는 0 이상이어야 합니다. unitPrice=" + dto.getUnitPrice());
+        if (requested != null) {
+            if (requested.signum() < 0) {
+                throw new IllegalArgumentException("입고 단가는 0 이상이어야 합니다. unitPrice=" + requested);
             }
-            final BigDecimal req = toScaled.apply(BigDecimal.valueOf(dto.getUnitPrice()));
+            final BigDecimal req = toScaled.apply(requested);
 
             // HQ 재료 정책: 요청 단가 < HQ SELLING 이면 거절
             if (isHqMaterial) {
                 final Optional<BigDecimal> sellingOpt =
-                        unitPriceJdbcRepository.findLatestSellingPriceByMaterialId(sm.getMaterial().getId());
+                        unitPriceResolver.hqSellingPrice(sm.getMaterial().getId(), LocalDateTime.now());
                 if (sellingOpt.isPresent()) {
                     final BigDecimal selling = toScaled.apply(sellingOpt.get());
                     if (req.compareTo(selling) < 0) {
@@ -175,8 +346,8 @@ public class StoreInboundService {
 
         // 1) 요청 단가가 없고, HQ 재료인 경우: HQ SELLING → 매장 최근 입고가
         if (isHqMaterial) {
-            final Optional<BigDecimal> selling = unitPriceJdbcRepository
-                    .findLatestSellingPriceByMaterialId(sm.getMaterial().getId());
+            final Optional<BigDecimal> selling = unitPriceResolver
+                    .hqSellingPrice(sm.getMaterial().getId(), LocalDateTime.now());
             if (selling.isPresent()) {
                 return toScaled.apply(selling.get());
             }
@@ -0,0 +1,59 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.config.InventoryLedgerProperties;
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryLedgerType;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryLedgerJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 재고 원장 1회성 백필 서비스.
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>원장 도입 이전의 입고/출고/조정 이력을 {@code store_inventory_ledger}로 옮긴다.</li>
+ *   <li>원본 PK 구간(청크)마다 별도 트랜잭션으로 커밋하여 긴 잠금을 피한다.</li>
+ *   <li>멱등(INSERT IGNORE)이므로 중단 후 재실행하거나 운영 중 실행해도 안전하다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreInventoryLedgerBackfillService {
+
+    private final StoreInventoryLedgerJdbcRepository ledgerJdbcRepository;
+    private final InventoryLedgerProperties props;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 전체 백필 실행.
+     *
+     * @return 타입별 새로 적재된 행 수
+     */
+    public Map<InventoryLedgerType, Long> backfillAll() {
+        Map<InventoryLedgerType, Long> result = new EnumMap<>(InventoryLedgerType.class);
+        for (InventoryLedgerType type : InventoryLedgerType.values()) {
+            result.put(type, backfill(type));
+        }
+        log.info("[LEDGER] backfill done {}", result);
+        return result;
+    }
+
+    private long backfill(InventoryLedgerType type) {
+        int chunk = Math.max(1, props.getBackfillChunkSize());
+        long max = ledgerJdbcRepository.findMaxSourceId(type);
+        long inserted = 0;
+        for (long after = 0; after < max; after += chunk) {
+            long from = after, upto = Math.min(after + chunk, max);
+            Integer n = transactionTemplate.execute(tx -> ledgerJdbcRepository.backfill(type, from, upto));
+            inserted += n != null ? n : 0;
+            log.debug("[LEDGER] backfill {} ({}, {}] total={}", type, from, upto, inserted);
+        }
+        return inserted;
+    }
+}
@@ -1,22 +1,35 @@
 package com.boot.ict05_final_user.domain.inventory.service;
 
+import com.boot.ict05_final_user.domain.analytics.dto.CursorPage;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryContentionDTO;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryLedgerDTO;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryListDTO;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryRestockRequest;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryRestockResponse;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventorySearchDTO;
+import com.boot.ict05_final_user.domain.inventory.entity.AdjustmentReason;
+import com.boot.ict05_final_user.domain.inventory.entity.InventoryRecordStatus;
 import com.boot.ict05_final_user.domain.inventory.entity.InventoryStatus;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryAdjustment;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventoryLedger;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreMaterial;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryAdjustmentRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryLedgerRepository;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryRepository;
-import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialRepository;
-import com.boot.ict05_final_user.domain.store.entity.Store;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreOnboardingJdbcRepository;
 import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
+import com.boot.ict05_final_user.domain.menu.service.MenuAvailabilityEngine;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -27,7 +40,7 @@ import java.util.List;
  * <ul>
  *   <li>가맹점의 집계 재고({@link StoreInventory}) 목록 조회.</li>
  *   <li>매장에 존재하는 모든 {@link StoreMaterial} 기준으로, 누락된 집계 재고를 0 수량으로 초기 생성.</li>
- *   <li>간단 입고 처리(수량 가산) 및 상태/업데이트 일시 동기화.</li>
+ *   <li>간단 입고 처리(수량 가산) 및 상태/업데이트 일시 동기화. 가산분은 조정 이력 + 원장(ADJUST)에 함께 남긴다.</li>
  * </ul>
  *
  * <p>규칙</p>
@@ -41,7 +54,8 @@ import java.util.List;
  * <p>트랜잭션</p>
  * <ul>
  *   <li>조회는 readOnly 트랜잭션.</li>
- *   <li>쓰기 동작(init, restock)은 단일 트랜잭션으로 커밋.</li>
+ *   <li>쓰기 동작(init, restock)은 단일 트랜잭션으로 커밋.
+ *       restock 은 {@link InventoryMutationExecutor}로 실행(버전 충돌 시 재시도).</li>
  * </ul>
  */
 @Slf4j
@@ -50,12 +64,18 @@ import java.util.List;
 public class StoreInventoryService {
 
     private final StoreRepository storeRepository;
-    private final StoreMaterialRepository storeMaterialRepository;
     private final StoreInventoryRepository storeInventoryRepository;
+    private final StoreInventoryLedgerRepository storeInventoryLedgerRepository;
+    private final StoreInventoryAdjustmentRepository storeInventoryAdjustmentRepository;
+    private final StoreOnboardingJdbcRepository onboardingJdbcRepository;
+    private final InventoryMutationExecutor mutationExecutor;
+    private final MenuAvailabilityEngine menuAvailabilityEngine;
 
     /**
      * 지정 매장의 집계 재고 목록 조회.
      *
+     * <p>재고/가맹점 재료/로트 유통기한 요약을 단일 프로젝션 쿼리로 가져온다(행별 지연 로딩 없음).</p>
+     *
      * <p>주의</p>
      * <ul>
      *   <li>존재하지 않는 매장에 대해서도 Repository가 빈 목록을 반환할 수 있다. 상위 계층에서 매장 존재 검증이 필요하면 별도 처리.</li>
@@ -66,10 +86,43 @@ public class StoreInventoryService {
      */
     @Transactional(readOnly = true)
     public List<StoreInventoryListDTO> getStoreInventoryList(Long storeId) {
-        List<StoreInventory> list = storeInventoryRepository.findByStore_Id(storeId);
-        return list.stream()
-                .map(StoreInventoryListDTO::from)
-                .toList();
+        return storeInventoryRepository.findInventoryList(storeId);
+    }
+
+    /**
+     * 지정 매장의 집계 재고 목록 검색(필터/정렬/페이징).
+     *
+     * @param storeId  매장 ID (검색 조건의 storeId 는 무시하고 이 값으로 강제)
+     * @param cond     검색 조건
+     * @param pageable 페이지/정렬
+     * @return 재고 목록 페이지
+     */
+    @Transactional(readOnly = true)
+    public Page<StoreInventoryListDTO> searchStoreInventory(Long storeId, StoreInventorySearchDTO cond, Pageable pageable) {
+        StoreInventorySearchDTO c = cond != null ? cond : new StoreInventorySearchDTO();
+        c.setStoreId(storeId);
+        return storeInventoryRepository.searchInventory(c, pageable);
+    }
+
+    /**
+     * 지정 매장의 재고 원장(입고/출고/조정 통합 이력) 키셋 페이지.
+     *
+     * @param storeId         매장 ID
+     * @param storeMaterialId 가맹점 재료 ID (null 이면 매장 전체)
+     * @param from            시작일(포함, null 이면 제한 없음)
+     * @param to              종료일(포함, null 이면 제한 없음)
+     * @param cursor          이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size            페이지 크기
+     * @return 최신순 원장 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<StoreInventoryLedgerDTO> getLedger(Long storeId, Long storeMaterialId,
+                                                         LocalDate from, LocalDate to,
+                                                         String cursor, int size) {
+        return storeInventoryLedgerRepository.findLedgerPage(storeId, storeMaterialId,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null,
+                cursor, size);
     }
 
     /**
@@ -78,9 +131,9 @@ public class StoreInventoryService {
      * <p>처리 흐름</p>
      * <ol>
      *   <li>매장 존재 검증.</li>
-     *   <li>매장에 속한 모든 StoreMaterial 조회.</li>
-     *   <li>각 재료마다 StoreInventory 존재 여부 검사 → 없으면 0 수량으로 신규 생성.</li>
-     *   <li>상태/업데이트 일시는 {@link StoreInventory#touchAfterQuantityChange()}로 동기화.</li>
+     *   <li>{@code INSERT ... SELECT ... WHERE NOT EXISTS} 단일 문장으로 누락분만 생성
+     *       (재료별 exists → save 왕복 없음).</li>
+     *   <li>적정 수량은 가맹점 재료 값 복사, 상태는 수량 0 기준({@link InventoryStatus#from}) SHORTAGE.</li>
      * </ol>
      *
      * @param storeId 매장 ID
@@ -89,30 +142,10 @@ public class StoreInventoryService {
      */
     @Transactional
     public int initInventoryForStore(Long storeId) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 매장: " + storeId));
-
-        List<StoreMaterial> materials = storeMaterialRepository.findByStore(store);
-
-        int created = 0;
-        for (StoreMaterial sm : materials) {
-            boolean exists = storeInventoryRepository.existsByStoreAndStoreMaterial(store, sm);
-            if (exists) continue;
-
-            StoreInventory inv = StoreInventory.builder()
-                    .store(store)
-                    .storeMaterial(sm)
-                    .quantity(BigDecimal.ZERO)
-                    .optimalQuantity(sm.getOptimalQuantity())
-                    .status(InventoryStatus.SHORTAGE) // 초기값. 실제 값은 touchAfterQuantityChange에서 재계산.
-                    .build();
-
-            // 상태/업데이트일시 동기화(적정재고 대비 상태 결정)
-            inv.touchAfterQuantityChange();
-            storeInventoryRepository.save(inv);
-            created++;
+        if (storeId == null || !storeRepository.existsById(storeId)) {
+            throw new IllegalArgumentException("존재하지 않는 매장: " + storeId);
         }
-        return created;
+        return onboardingJdbcRepository.insertMissingInventories(storeId, 0L, Long.MAX_VALUE);
     }
 
     /**
@@ -123,6 +156,7 @@ public class StoreInventoryService {
      *   <li>StoreInventory 조회(예외: 미존재).</li>
      *   <li>현재 수량 + 요청 수량 가산.</li>
      *   <li>{@link StoreInventory#touchAfterQuantityChange()} 호출로 상태/업데이트일시 동기화.</li>
+     *   <li>가산분을 조정 이력({@link AdjustmentReason#MANUAL}) + 원장(ADJUST) 1행으로 기록.</li>
      *   <li>응답 DTO에 집계 결과 반환.</li>
      * </ol>
      *
@@ -135,12 +169,30 @@ public class StoreInventoryService {
      * @return 입고 처리 후 집계 결과 응답
      * @throws EntityNotFoundException 대상 집계 재고가 없을 때
      */
-    @Transactional
     public StoreInventoryRestockResponse restock(StoreInventoryRestockRequest request) {
+        // 경합 통계 키(매장/재료) 확인용 선조회
+        StoreInventory target = findInventory(request.getStoreInventoryId());
+        return mutationExecutor.execute(target.getStore().getId(), List.of(target.getStoreMaterial().getId()),
+                () -> applyRestock(request));
+    }
 
-        StoreInventory inventory = storeInventoryRepository.findById(request.getStoreInventoryId())
-                .orElseThrow(() ->
-                        new EntityNotFoundException("가맹점 재고를 찾을 수 없습니다. id=" + request.getStoreInventoryId()));
+    /**
+     * 재료별 재고 갱신 경합 통계 (인스턴스 기동 이후 누적, 충돌 많은 순).
+     *
+     * @param storeId 매장 ID
+     * @return 재료별 통계
+     */
+    public List<StoreInventoryContentionDTO> getContention(Long storeId) {
+        return mutationExecutor.contention(storeId);
+    }
+
+    /** 재입고 가산 조정 이력의 기본 메모 */
+    private static final String RESTOCK_MEMO = "재입고 가산";
+
+    /** 가산 1회 시도 (실행기 트랜잭션 안) */
+    private StoreInventoryRestockResponse applyRestock(StoreInventoryRestockRequest request) {
+
+        StoreInventory inventory = findInventory(request.getStoreInventoryId());
 
         BigDecimal before = inventory.getQuantity() != null
                 ? inventory.getQuantity()
@@ -151,9 +203,25 @@ public class StoreInventoryService {
                 : BigDecimal.ZERO;
 
         // 수량 가산
-        inventory.setQuantity(before.add(add));
+        BigDecimal after = before.add(add);
+        inventory.setQuantity(after);
         // 상태 + updateDate 동기화(적정재고 vs 현재고)
         inventory.touchAfterQuantityChange();
+        menuAvailabilityEngine.onStockChanged(inventory.getStore().getId(), List.of(inventory));
+
+        // 조정 이력 + 원장 기록 (단가가 없으므로 입고가 아닌 ADJUST 로 남긴다, 같은 트랜잭션)
+        StoreInventoryAdjustment adj = StoreInventoryAdjustment.builder()
+                .storeInventory(inventory)
+                .quantityBefore(before)
+                .quantityAfter(after)
+                .difference(add)
+                .memo(request.getMemo() != null && !request.getMemo().isBlank() ? request.getMemo() : RESTOCK_MEMO)
+                .reason(AdjustmentReason.MANUAL)
+                .createdAt(LocalDateTime.now())
+                .status(InventoryRecordStatus.CONFIRMED)
+                .build();
+        storeInventoryAdjustmentRepository.save(adj);
+        storeInventoryLedgerRepository.save(StoreInventoryLedger.fromAdjustment(adj));
 
         StoreMaterial sm = inventory.getStoreMaterial();
 
@@ -166,4 +234,9 @@ public class StoreInventoryService {
         );
     }
 
+    private StoreInventory findInventory(Long storeInventoryId) {
+        return storeInventoryRepository.findById(storeInventoryId)
+                .orElseThrow(() ->
+                        new EntityNotFoundException("가맹점 재고를 찾을 수 없습니다. id=" + storeInventoryId));
+    }
 }
@@ -0,0 +1,155 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryAtDTO;
+import com.boot.ict05_final_user.domain.inventory.entity.SnapshotQuantityVector;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventorySnapshot;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventorySnapshotJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreInventorySnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 가맹점 재고 시점 조회(스냅샷 + 원장 재생) 서비스.
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>일별 스냅샷 생성: 직전 스냅샷 + (직전 기준 ~ 기준일 00:00) 원장 합계 + 소급 기록 보정.
+ *       최초 1회만 원장 전체를 합산하고 이후에는 하루치만 읽는다.
+ *       최초 스냅샷은 원장 백필 전(원장에 없는 이력이 있음)이면 거부한다.</li>
+ *   <li>시점 조회: 시점 이하 가장 가까운 스냅샷 + [스냅샷 기준, 시점) 원장 합계 + 소급 기록 보정.
+ *       이력 길이와 무관하게 최대 하루치(스냅샷 주기) 원장만 읽는다.</li>
+ * </ul>
+ *
+ * <p>소급 기록 보정</p>
+ * <ul>
+ *   <li>출고/조정 일시는 과거로 지정될 수 있으므로, 스냅샷 생성 이후 적재된 원장 행
+ *       (id &gt; ledger_max_id) 중 일시가 스냅샷 기준 이전인 행을 더한다.</li>
+ *   <li>원장 백필로 늦게 적재된 과거 이력도 같은 방식으로 반영된다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreInventorySnapshotService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final StoreInventorySnapshotRepository snapshotRepository;
+    private final StoreInventorySnapshotJdbcRepository snapshotJdbcRepository;
+
+    /**
+     * 기준일 00:00 시점 스냅샷 생성 (이미 있으면 기존 스냅샷 반환).
+     *
+     * @param storeId 매장 ID
+     * @param date    기준일 (오늘 이하)
+     * @return 스냅샷
+     * @throws IllegalArgumentException 기준일이 미래일 때
+     * @throws IllegalStateException    첫 스냅샷인데 원장 백필 전(원장에 없는 이력이 있음)일 때
+     */
+    @Transactional
+    public StoreInventorySnapshot takeSnapshot(Long storeId, LocalDate date) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+        if (date.isAfter(LocalDate.now(KST))) {
+            throw new IllegalArgumentException("미래 기준일 스냅샷은 생성할 수 없습니다. date=" + date);
+        }
+        Optional<StoreInventorySnapshot> existing =
+                snapshotRepository.findFirstByStoreIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(storeId, date);
+        if (existing.isPresent() && existing.get().getSnapshotDate().equals(date)) {
+            return existing.get();
+        }
+
+        LocalDateTime cutoff = date.atStartOfDay();
+        long uptoId = snapshotJdbcRepository.findMaxLedgerId();
+        StoreInventorySnapshot base = existing.orElse(null);
+
+        Map<Long, BigDecimal> acc;
+        if (base == null) {
+            // 첫 스냅샷은 원장 전체 합계이므로, 백필 전이면 배포 이후 이력만 더한 값이 재고로 굳는다
+            if (snapshotJdbcRepository.hasUnledgeredHistory(storeId)) {
+                throw new IllegalStateException(
+                        "원장 백필 전에는 첫 스냅샷을 만들 수 없습니다. (inventory.ledger.backfill-on-startup) storeId=" + storeId);
+            }
+            acc = snapshotJdbcRepository.sumByDateRange(storeId, null, null, cutoff, uptoId);
+        } else {
+            acc = base.vector().toMap();
+            merge(acc, snapshotJdbcRepository.sumByDateRange(storeId, null, base.cutoff(), cutoff, uptoId));
+            merge(acc, snapshotJdbcRepository.sumLateEntries(storeId, null, base.getLedgerMaxId(), uptoId, base.cutoff()));
+        }
+
+        SnapshotQuantityVector vector = SnapshotQuantityVector.of(acc);
+        StoreInventorySnapshot saved = snapshotRepository.save(StoreInventorySnapshot.builder()
+                .storeId(storeId)
+                .snapshotDate(date)
+                .ledgerMaxId(uptoId)
+                .itemCount(vector.size())
+                .payload(vector.encode())
+                .build());
+        log.debug("[SNAPSHOT] storeId={} date={} items={} ledgerMaxId={}", storeId, date, vector.size(), uptoId);
+        return saved;
+    }
+
+    /**
+     * 특정 시점 재고.
+     *
+     * @param storeId         매장 ID
+     * @param storeMaterialId 가맹점 재료 ID (null 이면 매장 전체)
+     * @param at              조회 시점
+     * @return 재료별 시점 수량
+     */
+    @Transactional(readOnly = true)
+    public StoreInventoryAtDTO quantitiesAt(Long storeId, Long storeMaterialId, LocalDateTime at) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+        if (at == null) throw new IllegalArgumentException("at is required");
+
+        StoreInventorySnapshot snap = snapshotRepository
+                .findFirstByStoreIdAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(storeId, at.toLocalDate())
+                .orElse(null);
+
+        Map<Long, BigDecimal> acc = new HashMap<>();
+        if (snap != null) {
+            SnapshotQuantityVector v = snap.vector();
+            if (storeMaterialId != null) acc.put(storeMaterialId, v.get(storeMaterialId));
+            else acc.putAll(v.toMap());
+            merge(acc, snapshotJdbcRepository.sumByDateRange(storeId, storeMaterialId, snap.cutoff(), at, null));
+            merge(acc, snapshotJdbcRepository.sumLateEntries(storeId, storeMaterialId, snap.getLedgerMaxId(), null, snap.cutoff()));
+        } else {
+            merge(acc, snapshotJdbcRepository.sumByDateRange(storeId, storeMaterialId, null, at, null));
+        }
+        if (storeMaterialId != null) acc.putIfAbsent(storeMaterialId, BigDecimal.ZERO);
+
+        List<StoreInventoryAtDTO.Item> items = acc.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new StoreInventoryAtDTO.Item(e.getKey(), e.getValue()))
+                .toList();
+        return new StoreInventoryAtDTO(at, snap != null ? snap.getSnapshotDate() : null, items);
+    }
+
+    /**
+     * 일 마감 재고 (해당일 24:00 시점).
+     *
+     * @param storeId 매장 ID
+     * @param day     마감일
+     * @return 재료별 마감 수량
+     */
+    @Transactional(readOnly = true)
+    public StoreInventoryAtDTO closingQuantities(Long storeId, LocalDate day) {
+        return quantitiesAt(storeId, null, day.plusDays(1).atStartOfDay());
+    }
+
+    private static void merge(Map<Long, BigDecimal> acc, Map<Long, BigDecimal> delta) {
+        delta.forEach((id, q) -> {
+            if (q != null) acc.merge(id, q, BigDecimal::add);
+        });
+    }
+}
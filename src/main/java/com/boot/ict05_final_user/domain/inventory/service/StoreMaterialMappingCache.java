@@ -0,0 +1,72 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialMappingJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장별 본사 재료 ID → 가맹점 재료 ID 매핑 캐시.
+ *
+ * <p><b>용도</b>: 주문 조리 시작 시 레시피(본사 재료 기준)를 가맹점 재고 라인으로 바꾸는 조회를
+ * 재료 수만큼 반복하지 않도록 매장 단위로 한 번 적재해 둔다.</p>
+ *
+ * <p><b>정합성</b></p>
+ * <ul>
+ *   <li>매핑은 온보딩/재동기화로 추가만 되고 삭제·변경되지 않으므로 만료 없이 보관한다.</li>
+ *   <li>캐시에 없는 재료를 요청하면 해당 매장 매핑을 한 번 다시 적재한다(신규 매핑 반영).</li>
+ *   <li>다시 적재해도 없으면 {@link IllegalArgumentException}.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreMaterialMappingCache {
+
+    private final StoreMaterialMappingJdbcRepository mappingJdbcRepository;
+
+    /** 매장 ID → (materialId → storeMaterialId), 값은 불변 맵 */
+    private final ConcurrentHashMap<Long, Map<Long, Long>> stores = new ConcurrentHashMap<>();
+
+    /**
+     * 본사 재료 ID 들을 가맹점 재료 ID 로 변환한다.
+     *
+     * @param storeId     매장 ID
+     * @param materialIds 본사 재료 ID 목록
+     * @return materialId → storeMaterialId
+     * @throws IllegalArgumentException 매장-재료 매핑이 없을 때
+     */
+    public Map<Long, Long> resolve(Long storeId, Collection<Long> materialIds) {
+        Map<Long, Long> mapping = stores.computeIfAbsent(storeId, this::load);
+        if (!mapping.keySet().containsAll(materialIds)) {
+            mapping = load(storeId);
+            stores.put(storeId, mapping);
+        }
+        Map<Long, Long> out = new HashMap<>(materialIds.size() * 2);
+        for (Long materialId : materialIds) {
+            Long smId = mapping.get(materialId);
+            if (smId == null) {
+                throw new IllegalArgumentException(
+                        "StoreMaterial not found. storeId=" + storeId + ", materialId=" + materialId);
+            }
+            out.put(materialId, smId);
+        }
+        return out;
+    }
+
+    /** 매장 매핑 제거 (다음 조회 시 재적재) */
+    public void evict(Long storeId) {
+        if (storeId != null) stores.remove(storeId);
+    }
+
+    private Map<Long, Long> load(Long storeId) {
+        Map<Long, Long> m = Map.copyOf(mappingJdbcRepository.findMaterialMappings(storeId));
+        log.debug("[INVENTORY] material mapping loaded storeId={} size={}", storeId, m.size());
+        return m;
+    }
+}
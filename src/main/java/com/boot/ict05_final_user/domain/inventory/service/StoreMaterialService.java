@@ -5,11 +5,13 @@ import com.boot.ict05_final_user.domain.inventory.dto.StoreMaterialResponse;
 import com.boot.ict05_final_user.domain.inventory.entity.InventoryStatus;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreInventoryRepository;
-import com.boot.ict05_final_user.domain.inventory.entity.Material;
 import com.boot.ict05_final_user.domain.inventory.entity.MaterialStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.OnboardingJobStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreOnboardingJob;
 import com.boot.ict05_final_user.domain.inventory.entity.StoreMaterial;
 import com.boot.ict05_final_user.domain.inventory.repository.MaterialRepository;
 import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreOnboardingJdbcRepository;
 import com.boot.ict05_final_user.domain.store.entity.Store;
 import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -19,16 +21,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * 가맹점 재료(StoreMaterial) 관리 서비스.
  *
  * <p>역할</p>
  * <ul>
- *   <li>본사 재료(Material)를 가맹점에 일괄 매핑하고, 누락된 집계 재고(StoreInventory)를 0으로 생성.</li>
+ *   <li>본사 재료(Material)를 가맹점에 일괄 매핑하고, 누락된 집계 재고(StoreInventory)를 0으로 생성
+ *       (set-based, {@link StoreOnboardingService} 위임).</li>
  *   <li>가맹점 자체 재료 생성(코드 자동 발급, 기본 상태/옵션 부여) 및 초기 재고 자동 생성.</li>
  *   <li>가맹점 재료 목록 조회.</li>
  *   <li>기존 가맹점 재료 전수에 대해 집계 재고 누락분만 0으로 보충 생성.</li>
@@ -53,6 +54,8 @@ public class StoreMaterialService {
     private final MaterialRepository materialRepository;
     private final StoreMaterialRepository storeMaterialRepository;
     private final StoreInventoryRepository storeInventoryRepository;
+    private final StoreOnboardingService storeOnboardingService;
+    private final StoreOnboardingJdbcRepository onboardingJdbcRepository;
 
     /**
      * 선택 가맹점에 대해 "본사 재료 → 가맹점 재료" 일괄 매핑.
@@ -60,70 +63,29 @@ public class StoreMaterialService {
      * <p>처리 흐름</p>
      * <ol>
      *   <li>매장 존재 검증.</li>
-     *   <li>{@link MaterialStatus#USE} 인 본사 재료 목록 조회.</li>
-     *   <li>이미 매핑된 재료는 건너뛰고, 미매핑 재료에 대해 {@link StoreMaterial} 생성:
+     *   <li>{@link MaterialStatus#USE} 인 본사 재료 중 미매핑 재료를 id 구간 단위
+     *       {@code INSERT ... SELECT ... WHERE NOT EXISTS}로 일괄 생성:
      *       <ul>
      *         <li>status=STOP, isHqMaterial=true</li>
      *         <li>코드/이름/단위/카테고리/온도/변환비율 등은 본사 재료 값 복사</li>
      *       </ul>
      *   </li>
-     *   <li>각 신규 StoreMaterial에 대해 집계 재고를 quantity=0으로 생성 후 {@code touchAfterQuantityChange()} 호출.</li>
+     *   <li>집계 재고가 없는 가맹점 재료는 quantity=0 으로 일괄 생성.</li>
      * </ol>
      *
+     * <p>실제 처리는 {@link StoreOnboardingService}의 재개 가능한 작업으로 위임한다.</p>
+     *
      * @param storeId 매장 ID
      * @return 새로 생성된 {@link StoreMaterial} 개수
      * @throws IllegalArgumentException 매장이 존재하지 않을 때
+     * @throws IllegalStateException    작업이 실패했을 때(재개 가능)
      */
     public int mapAllHqMaterialsToStore(Long storeId) {
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 매장: " + storeId));
-
-        // 본사에서 사용 중인 재료만 매핑
-        List<Material> hqMaterials = materialRepository.findByMaterialStatus(MaterialStatus.USE);
-
-        int created = 0;
-
-        for (Material material : hqMaterials) {
-            if (storeMaterialRepository.existsByStoreAndMaterial(store, material)) {
-                continue;   // 이미 매핑된 재료는 스킵
-            }
-
-            // 코드/이름/단위/카테고리는 본사 재료에서 기본값 복사
-            StoreMaterial storeMaterial = StoreMaterial.builder()
-                    .store(store)
-                    .material(material)
-                    .code(material.getCode())                  // 필요 시 점포 prefix 적용 가능
-                    .name(material.getName())
-                    .category(material.getMaterialCategory().name())
-                    .baseUnit(material.getBaseUnit())
-                    .salesUnit(material.getSalesUnit())
-                    .conversionRate(material.getConversionRate())
-                    .supplier(null)                            // 가맹점에서 별도 입력
-                    .temperature(material.getMaterialTemperature())
-                    .status(MaterialStatus.STOP)               // 기본: 미사용
-                    .optimalQuantity(null)                     // 가맹점이 나중에 입력
-                    .purchasePrice(null)                       // 가맹점 최근 단가 저장소와 연계 시 사용
-                    .isHqMaterial(true)
-                    .build();
-
-            storeMaterialRepository.save(storeMaterial);
-
-            // 가맹점 재고도 같이 0으로 생성
-            StoreInventory inventory = StoreInventory.builder()
-                    .store(store)
-                    .storeMaterial(storeMaterial)
-                    .quantity(BigDecimal.ZERO)
-                    .optimalQuantity(null)
-                    .status(InventoryStatus.SUFFICIENT)        // 적정재고 미지정 상태이므로 일단 SUFFICIENT
-                    .build();
-
-            inventory.touchAfterQuantityChange();               // updateDate, status 정합성 유지
-            storeInventoryRepository.save(inventory);
-
-            created++;
+        StoreOnboardingJob job = storeOnboardingService.onboardStore(storeId);
+        if (job.getStatus() == OnboardingJobStatus.FAILED) {
+            throw new IllegalStateException("본사 재료 매핑 실패(jobId=" + job.getId() + "): " + job.getErrorMessage());
         }
-
-        return created;
+        return (int) job.getMaterialsInserted();
     }
 
     /**
@@ -218,7 +180,8 @@ public class StoreMaterialService {
      * <ul>
      *   <li>대상: store_material.store_id_fk = storeId 인 모든 행(HQ/자체 포함).</li>
      *   <li>이미 store_inventory 가 있는 (store, storeMaterial)은 스킵.</li>
-     *   <li>생성 시 quantity=0, status=SUFFICIENT 후 {@code touchAfterQuantityChange()}로 동기화.</li>
+     *   <li>생성 시 quantity=0, 적정재고는 가맹점 재료 값 복사, 상태는 수량 0 기준(SHORTAGE).</li>
+     *   <li>{@code INSERT ... SELECT ... WHERE NOT EXISTS} 단일 문장으로 처리한다.</li>
      * </ul>
      *
      * @param storeId 매장 ID
@@ -227,47 +190,11 @@ public class StoreMaterialService {
      */
     @Transactional
     public int initStoreInventoryForStore(Long storeId) {
-        // 1) 매장 조회
-        Store store = storeRepository.findById(storeId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 매장입니다. id=" + storeId));
-
-        // 2) 이 매장의 모든 가맹점 재료 (HQ/자체 모두 포함)
-        List<StoreMaterial> materials = storeMaterialRepository.findByStore(store);
-        if (materials.isEmpty()) {
-            return 0;
-        }
-
-        // 3) 이미 재고가 있는 StoreMaterial ID 집합
-        List<StoreInventory> existingInventories = storeInventoryRepository.findByStore(store);
-        Set<Long> alreadyHasInventory = new HashSet<>();
-        for (StoreInventory inv : existingInventories) {
-            if (inv.getStoreMaterial() != null) {
-                alreadyHasInventory.add(inv.getStoreMaterial().getId());
-            }
-        }
-
-        int created = 0;
-
-        // 4) 아직 재고 없는 재료만 0 재고로 생성
-        for (StoreMaterial sm : materials) {
-            if (alreadyHasInventory.contains(sm.getId())) {
-                continue;
-            }
-
-            StoreInventory inventory = StoreInventory.builder()
-                    .store(store)
-                    .storeMaterial(sm)
-                    .quantity(BigDecimal.ZERO)     // 모든 재료 재고 0으로 생성
-                    .optimalQuantity(null)         // 적정재고는 여기선 보정하지 않음
-                    .status(InventoryStatus.SUFFICIENT)
-                    .build();
-
-            inventory.touchAfterQuantityChange(); // status + updateDate 동기화
-            storeInventoryRepository.save(inventory);
-            created++;
+        if (storeId == null || !storeRepository.existsById(storeId)) {
+            throw new IllegalArgumentException("존재하지 않는 매장입니다. id=" + storeId);
         }
-
-        return created;
+        // 매장 재료 전체 구간을 한 문장으로 (누락분만 생성)
+        return onboardingJdbcRepository.insertMissingInventories(storeId, 0L, Long.MAX_VALUE);
     }
 
     /* ===== 내부 유틸리티 ===== */
@@ -0,0 +1,172 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.config.StoreOnboardingProperties;
+import com.boot.ict05_final_user.domain.inventory.entity.OnboardingJobStatus;
+import com.boot.ict05_final_user.domain.inventory.entity.OnboardingPhase;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreOnboardingJob;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreOnboardingJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.StoreOnboardingJobRepository;
+import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점 온보딩(본사 재료 매핑 + 집계 재고 0 생성) 작업 서비스.
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>신규 매장: 사용 중 본사 재료 전부를 가맹점 재료로 매핑하고 집계 재고를 0으로 생성.</li>
+ *   <li>전 매장 재동기화: 본사에 새로 추가된 재료를 모든 매장에 한 번에 매핑.</li>
+ *   <li>진행률 조회 및 중단/실패 작업 재개.</li>
+ * </ul>
+ *
+ * <p>처리 방식</p>
+ * <ul>
+ *   <li>단계(MATERIALS → INVENTORY)별로 id 구간(청크) 단위 {@code INSERT ... SELECT ... WHERE NOT EXISTS} 실행.</li>
+ *   <li>청크 INSERT 와 작업 커서 갱신은 같은 트랜잭션으로 커밋 → 중단 시 커서부터 재개.</li>
+ *   <li>같은 대상(매장 또는 전 매장)의 미완료 작업이 있으면 새로 만들지 않고 이어서 실행한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoreOnboardingService {
+
+    private final StoreRepository storeRepository;
+    private final StoreOnboardingJobRepository jobRepository;
+    private final StoreOnboardingJdbcRepository onboardingJdbcRepository;
+    private final StoreOnboardingProperties props;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 지정 매장 온보딩 실행(미완료 작업이 있으면 재개).
+     *
+     * @param storeId 매장 ID
+     * @return 종료 시점 작업 상태
+     * @throws IllegalArgumentException 매장이 존재하지 않을 때
+     */
+    public StoreOnboardingJob onboardStore(Long storeId) {
+        if (storeId == null || !storeRepository.existsById(storeId)) {
+            throw new IllegalArgumentException("존재하지 않는 매장: " + storeId);
+        }
+        StoreOnboardingJob job = jobRepository
+                .findFirstByStoreIdAndStatusNotOrderByIdDesc(storeId, OnboardingJobStatus.COMPLETED)
+                .orElseGet(() -> newJob(storeId));
+        return run(job);
+    }
+
+    /**
+     * 전 매장 본사 재료 재동기화 실행(미완료 작업이 있으면 재개).
+     *
+     * @return 종료 시점 작업 상태
+     */
+    public StoreOnboardingJob resyncAllStores() {
+        StoreOnboardingJob job = jobRepository
+                .findFirstByStoreIdIsNullAndStatusNotOrderByIdDesc(OnboardingJobStatus.COMPLETED)
+                .orElseGet(() -> newJob(null));
+        return run(job);
+    }
+
+    /**
+     * 중단/실패 작업 재개.
+     *
+     * @param storeId 요청 매장 ID (작업 대상 매장과 일치해야 함)
+     * @param jobId   작업 ID
+     * @return 종료 시점 작업 상태
+     * @throws EntityNotFoundException 작업이 없거나 다른 매장 작업일 때
+     */
+    public StoreOnboardingJob resume(Long storeId, Long jobId) {
+        StoreOnboardingJob job = getJob(storeId, jobId);
+        if (job.getStatus() == OnboardingJobStatus.COMPLETED) return job;
+        return run(job);
+    }
+
+    /**
+     * 작업 조회(진행률 폴링용).
+     *
+     * @throws EntityNotFoundException 작업이 없거나 다른 매장 작업일 때
+     */
+    public StoreOnboardingJob getJob(Long storeId, Long jobId) {
+        return jobRepository.findById(jobId)
+                .filter(j -> storeId != null && storeId.equals(j.getStoreId()))
+                .orElseThrow(() -> new EntityNotFoundException("온보딩 작업을 찾을 수 없습니다. id=" + jobId));
+    }
+
+    /* ===== 내부 ===== */
+
+    private StoreOnboardingJob newJob(Long storeId) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobRepository.save(StoreOnboardingJob.builder()
+                .storeId(storeId)
+                .phase(OnboardingPhase.MATERIALS)
+                .status(OnboardingJobStatus.RUNNING)
+                .cursorId(0L)
+                .maxId(onboardingJdbcRepository.findMaxHqMaterialId())
+                .startedAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    /** 단계가 DONE 이 될 때까지 청크 반복. 실패 시 FAILED 로 기록 후 반환 */
+    private StoreOnboardingJob run(StoreOnboardingJob job) {
+        int chunk = Math.max(1, props.getChunkSize());
+        job.setStatus(OnboardingJobStatus.RUNNING);
+        job.setErrorMessage(null);
+
+        try {
+            while (job.getPhase() != OnboardingPhase.DONE) {
+                StoreOnboardingJob current = job;
+                job = transactionTemplate.execute(tx -> step(current, chunk));
+            }
+            job.setStatus(OnboardingJobStatus.COMPLETED);
+            job.setFinishedAt(LocalDateTime.now());
+            job = jobRepository.save(job);
+            log.info("[ONBOARDING] done jobId={} storeId={} materials={} inventories={}",
+                    job.getId(), job.getStoreId(), job.getMaterialsInserted(), job.getInventoriesInserted());
+        } catch (RuntimeException e) {
+            log.error("[ONBOARDING] failed jobId={} storeId={} phase={} cursor={}",
+                    job.getId(), job.getStoreId(), job.getPhase(), job.getCursorId(), e);
+            job.setStatus(OnboardingJobStatus.FAILED);
+            String msg = String.valueOf(e.getMessage());
+            job.setErrorMessage(msg.length() > 500 ? msg.substring(0, 500) : msg);
+            job.setUpdatedAt(LocalDateTime.now());
+            job = jobRepository.save(job);
+        }
+        return job;
+    }
+
+    /** 청크 1개 처리 + 커서 기록 (호출 측 트랜잭션 안) */
+    private StoreOnboardingJob step(StoreOnboardingJob job, int chunk) {
+        Long storeId = job.getStoreId();
+        long after = job.getCursorId();
+
+        if (job.getPhase() == OnboardingPhase.MATERIALS) {
+            long upto = onboardingJdbcRepository.nextHqMaterialBoundary(after, chunk);
+            if (upto <= after) {
+                job.setPhase(OnboardingPhase.INVENTORY);
+                job.setCursorId(0L);
+                job.setMaxId(onboardingJdbcRepository.findMaxStoreMaterialId(storeId));
+            } else {
+                int inserted = onboardingJdbcRepository.insertMissingHqMaterials(storeId, after, upto);
+                job.setMaterialsInserted(job.getMaterialsInserted() + inserted);
+                job.setCursorId(upto);
+            }
+        } else {
+            long upto = onboardingJdbcRepository.nextStoreMaterialBoundary(storeId, after, chunk);
+            if (upto <= after) {
+                job.setPhase(OnboardingPhase.DONE);
+            } else {
+                int inserted = onboardingJdbcRepository.insertMissingInventories(storeId, after, upto);
+                job.setInventoriesInserted(job.getInventoriesInserted() + inserted);
+                job.setCursorId(upto);
+            }
+        }
+        job.setUpdatedAt(LocalDateTime.now());
+        return jobRepository.save(job);
+    }
+}
@@ -0,0 +1,193 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.config.UnitPriceProperties;
+import com.boot.ict05_final_user.domain.inventory.repository.UnitPriceJdbcRepository;
+import com.boot.ict05_final_user.domain.inventory.repository.UnitPriceJdbcRepository.SellingPriceRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HQ 재료 단가 해석기 (유효기간 단가표 메모리 캐시).
+ *
+ * <p>가맹점 입고 단가 기본값과 재료 원가 계산이 같은 규칙으로 단가를 결정하도록 한 곳에 모은다.</p>
+ *
+ * <p><b>단가표</b></p>
+ * <ul>
+ *   <li>{@code unit_price} SELLING 행 전체를 재료별 구간 배열(시작일 오름차순)로 적재한다.</li>
+ *   <li>시점 조회: 시작일 ≤ 시점 ≤ 종료일(없으면 무기한)인 구간 중 시작일이 가장 늦은 구간.
+ *       이진 탐색 후 역방향으로 첫 유효 구간을 찾는다.</li>
+ *   <li>유효 구간이 없으면 기존 규칙(종료일 최신 → 시작일 최신)의 "최신 단가"를 쓴다.</li>
+ * </ul>
+ *
+ * <p><b>무효화</b>: 본사 앱이 단가를 변경하므로 {@link #refreshIfChanged()}가 주기적으로
+ * 테이블 지문을 비교하여 달라졌을 때만 단가표를 다시 적재한다. {@link #invalidate()}는 즉시 폐기.</p>
+ *
+ * <p>{@code inventory.unit-price.cache-enabled=false} 이면 조회마다 DB 폴백 쿼리를 사용한다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UnitPriceResolver {
+
+    private final UnitPriceJdbcRepository unitPriceJdbcRepository;
+    private final UnitPriceProperties props;
+
+    private final AtomicBoolean indexChecked = new AtomicBoolean(false);
+
+    /** 재료 ID → 단가 구간표 (불변, 통째로 교체) */
+    private volatile Map<Long, PriceTable> tables;
+
+    /** 적재 시점 테이블 지문 */
+    private volatile String fingerprint;
+
+    /**
+     * 시점 유효 HQ 판매가.
+     *
+     * @param materialId HQ 재료 ID
+     * @param at         기준 시점
+     * @return 판매가(Optional)
+     */
+    public Optional<BigDecimal> hqSellingPrice(Long materialId, LocalDateTime at) {
+        if (materialId == null) return Optional.empty();
+        if (!props.isCacheEnabled()) {
+            Optional<BigDecimal> p = unitPriceJdbcRepository.findSellingPriceAt(materialId, at);
+            return p.isPresent() ? p : unitPriceJdbcRepository.findLatestSellingPriceByMaterialId(materialId);
+        }
+        PriceTable t = tables().get(materialId);
+        return t == null ? Optional.empty() : Optional.ofNullable(t.at(at));
+    }
+
+    /**
+     * 재료 원가 계산용 단가.
+     *
+     * <p>가맹점이 설정한 매입 단가가 있으면 우선하고, 없으면 HQ 재료의 시점 유효 판매가, 둘 다 없으면 0.</p>
+     *
+     * @param materialId         HQ 재료 ID (자체 재료면 null)
+     * @param storePurchasePrice 가맹점 매입 단가 (nullable)
+     * @param at                 기준 시점
+     * @return 단가 (null 아님)
+     */
+    public BigDecimal costPrice(Long materialId, BigDecimal storePurchasePrice, LocalDateTime at) {
+        if (storePurchasePrice != null) return storePurchasePrice;
+        return hqSellingPrice(materialId, at).orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * 재료 사용량의 원가.
+     *
+     * <p>식: {@code (사용량 ÷ conversionRate) × costPrice}, 원 단위 소수 둘째 자리(HALF_UP).
+     * {@code conversionRate}가 NULL 또는 0 이하면 1 로 본다.</p>
+     *
+     * @param materialId         HQ 재료 ID (자체 재료면 null)
+     * @param storePurchasePrice 가맹점 매입 단가 (nullable)
+     * @param conversionRate     가맹점 재료 환산 비율 (nullable)
+     * @param quantity           사용량 (기본 단위)
+     * @param at                 기준 시점
+     * @return 원가 (null 아님)
+     */
+    public BigDecimal usageCost(Long materialId, BigDecimal storePurchasePrice, Integer conversionRate,
+                                BigDecimal quantity, LocalDateTime at) {
+        if (quantity == null || quantity.signum() == 0) return BigDecimal.ZERO.setScale(2);
+        BigDecimal conv = BigDecimal.valueOf(conversionRate == null || conversionRate <= 0 ? 1 : conversionRate);
+        return quantity.divide(conv, 6, RoundingMode.HALF_UP)
+                .multiply(costPrice(materialId, storePurchasePrice, at))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 단가 테이블 지문이 달라졌으면 단가표를 다시 적재한다.
+     *
+     * @return 재적재 여부
+     */
+    public boolean refreshIfChanged() {
+        if (!props.isCacheEnabled() || tables == null) return false;
+        String now = unitPriceJdbcRepository.fingerprint();
+        if (Objects.equals(now, fingerprint)) return false;
+        reload();
+        return true;
+    }
+
+    /** 단가표 폐기 (다음 조회 시 재적재) */
+    public void invalidate() {
+        tables = null;
+    }
+
+    /* ===== 내부 ===== */
+
+    private Map<Long, PriceTable> tables() {
+        Map<Long, PriceTable> t = tables;
+        return t != null ? t : reload();
+    }
+
+    private synchronized Map<Long, PriceTable> reload() {
+        if (props.isCheckIndex() && indexChecked.compareAndSet(false, true)) {
+            try {
+                if (!unitPriceJdbcRepository.hasEffectiveDateIndex()) {
+                    log.warn("[UNIT_PRICE] index {} missing on unit_price; DB fallback lookups will scan."
+                            + " Apply db/manual/V20261018_01__unit_price_effective_index.sql via HQ",
+                            UnitPriceJdbcRepository.EFFECTIVE_INDEX);
+                }
+            } catch (RuntimeException e) {
+                log.warn("[UNIT_PRICE] index check skipped: {}", e.getMessage());
+            }
+        }
+        String fp = unitPriceJdbcRepository.fingerprint();
+        Map<Long, List<SellingPriceRow>> grouped = new HashMap<>();
+        for (SellingPriceRow r : unitPriceJdbcRepository.findAllSellingPrices()) {
+            grouped.computeIfAbsent(r.materialId(), k -> new ArrayList<>()).add(r);
+        }
+        Map<Long, PriceTable> built = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((id, rows) -> built.put(id, new PriceTable(rows)));
+        tables = Collections.unmodifiableMap(built);
+        fingerprint = fp;
+        log.info("[UNIT_PRICE] loaded materials={} fingerprint={}", built.size(), fp);
+        return tables;
+    }
+
+    /** 재료 1개의 단가 구간표 (불변) */
+    private static final class PriceTable {
+
+        private static final Comparator<SellingPriceRow> LATEST = Comparator
+                .comparing((SellingPriceRow r) -> r.dateTo() == null ? LocalDateTime.MAX : r.dateTo())
+                .thenComparing(r -> r.dateFrom() == null ? LocalDateTime.MIN : r.dateFrom());
+
+        private final LocalDateTime[] from;
+        private final LocalDateTime[] to;
+        private final BigDecimal[] price;
+        private final BigDecimal latest;
+
+        PriceTable(List<SellingPriceRow> rows) {
+            List<SellingPriceRow> sorted = new ArrayList<>(rows);
+            sorted.sort(Comparator.comparing(r -> r.dateFrom() == null ? LocalDateTime.MIN : r.dateFrom()));
+            int n = sorted.size();
+            from = new LocalDateTime[n];
+            to = new LocalDateTime[n];
+            price = new BigDecimal[n];
+            for (int i = 0; i < n; i++) {
+                SellingPriceRow r = sorted.get(i);
+                from[i] = r.dateFrom() == null ? LocalDateTime.MIN : r.dateFrom();
+                to[i] = r.dateTo();
+                price[i] = r.price();
+            }
+            latest = sorted.stream().max(LATEST).map(SellingPriceRow::price).orElse(null);
+        }
+
+        BigDecimal at(LocalDateTime at) {
+            if (at == null) return latest;
+            int i = Arrays.binarySearch(from, at);
+            if (i < 0) i = -i - 2;          // 시작일 ≤ at 인 마지막 구간
+            else while (i + 1 < from.length && from[i + 1].equals(at)) i++;
+            for (; i >= 0; i--) {
+                if (to[i] == null || !at.isAfter(to[i])) return price[i];
+            }
+            return latest;
+        }
+    }
+}
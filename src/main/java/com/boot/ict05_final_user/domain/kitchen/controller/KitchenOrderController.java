@@ -102,7 +102,8 @@ public class KitchenOrderController {
             @ApiResponse(responseCode = "400", description = "잘못된 상태값 또는 요청 형식"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "인가 실패"),
-            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "다른 화면과 동시 변경 충돌(재시도 소진)")
     })
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<KitchenOrderResponseDTO> updateStatus(
@@ -1,5 +1,9 @@
 package com.boot.ict05_final_user.domain.kitchen.service;
 
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsResultCache;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsTimeCube;
+import com.boot.ict05_final_user.domain.home.service.TodayMenuRankingTracker;
+import com.boot.ict05_final_user.domain.inventory.service.InventoryMutationExecutor;
 import com.boot.ict05_final_user.domain.kitchen.dto.KitchenOrderItemDTO;
 import com.boot.ict05_final_user.domain.kitchen.dto.KitchenOrderResponseDTO;
 import com.boot.ict05_final_user.domain.kitchen.dto.UpdateKitchenOrderStatusRequestDTO;
@@ -32,7 +36,7 @@ import java.util.stream.Collectors;
  * <p><b>Transaction Boundary</b></p>
  * <ul>
  *   <li>{@link #getKitchenOrders(Long)}: 읽기 전용 트랜잭션</li>
- *   <li>{@link #updateStatus(Long, UpdateKitchenOrderStatusRequestDTO)}: 쓰기 트랜잭션</li>
+ *   <li>{@link #updateStatus(Long, UpdateKitchenOrderStatusRequestDTO)}: 쓰기 트랜잭션({@link InventoryMutationExecutor#executeBoundary}, 충돌 시 재시도)</li>
  * </ul>
  *
  * <p><i>Note:</i> Swagger(OpenAPI) 문서는 Controller/DTO에 적용됩니다. Service에는 Javadoc만 추가합니다.</p>
@@ -44,6 +48,10 @@ public class KitchenOrderService {
 
     private final CustomerOrderRepository orderRepository;
     private final CustomerOrderDetailRepository orderDetailRepository;
+    private final TodayMenuRankingTracker todayMenuRankingTracker;
+    private final AnalyticsResultCache analyticsResultCache;
+    private final AnalyticsTimeCube analyticsTimeCube;
+    private final InventoryMutationExecutor mutationExecutor;
 
     /**
      * 주방 화면 주문 목록을 조회합니다.
@@ -75,26 +83,40 @@ public class KitchenOrderService {
     /**
      * 주문 상태를 변경합니다.
      *
-     * <p>프론트 상태 문자열(예: "cooking")을 백엔드 {@link OrderStatus}로 변환한 뒤 저장합니다.</p>
+     * <p>프론트 상태 문자열(예: "cooking")을 백엔드 {@link OrderStatus}로 변환한 뒤 저장합니다.
+     * POS 등과 동시에 바뀌어 버전 충돌이 나면 {@link InventoryMutationExecutor#executeBoundary}가 다시 읽어 재적용합니다
+     * (재시도 횟수·대기는 {@code inventory.concurrency.*}).</p>
      *
      * @param orderId 상태를 변경할 주문 ID
      * @param req     변경할 상태 요청 DTO(허용값: preparing | cooking | ready | completed)
      * @return 변경 후 주방 주문 응답 DTO
      * @throws IllegalArgumentException 주문을 찾을 수 없거나 상태 문자열이 허용되지 않은 경우
+     * @throws org.springframework.dao.OptimisticLockingFailureException 충돌 재시도 소진
      */
-    @Transactional
     public KitchenOrderResponseDTO updateStatus(Long orderId, UpdateKitchenOrderStatusRequestDTO req) {
 
-        CustomerOrder order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
-
         // 프론트 상태를 백엔드 상태로 변환
         OrderStatus newStatus = fromFrontStatus(req.getStatus());
 
-        // 상태 업데이트
-        order.setStatus(newStatus);
+        return mutationExecutor.executeBoundary(() -> {
+            CustomerOrder order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+
+            // 상태 업데이트
+            OrderStatus prevStatus = order.getStatus();
+            order.setStatus(newStatus);
+
+            // 대시보드 오늘의 TOP 메뉴 집계 반영 (커밋 후)
+            List<CustomerOrderDetail> details = orderDetailRepository.findByOrder_Id(order.getId());
+            todayMenuRankingTracker.onStatusChanged(
+                    order.getStore().getId(), order.getOrderedAt(), prevStatus, newStatus, details);
 
-        return toDto(order);
+            // 지난 날짜 주문이면 분석 결과 캐시 무효화, 시간대 큐브는 해당 일자 갱신 (커밋 후)
+            analyticsResultCache.onOrderChanged(order.getStore().getId(), order.getOrderedAt());
+            analyticsTimeCube.onOrderChanged(order.getStore().getId(), order.getOrderedAt());
+
+            return toDto(order, details);
+        });
     }
 
     /**
@@ -104,9 +126,17 @@ public class KitchenOrderService {
      * @return 변환된 {@link KitchenOrderResponseDTO}
      */
     private KitchenOrderResponseDTO toDto(CustomerOrder order) {
+        return toDto(order, orderDetailRepository.findByOrder_Id(order.getId()));
+    }
 
-        List<CustomerOrderDetail> details =
-                orderDetailRepository.findByOrder_Id(order.getId());
+    /**
+     * 이미 조회한 주문 상세로 주방 응답 DTO를 만듭니다.
+     *
+     * @param order   주문 엔티티
+     * @param details 주문 상세 목록
+     * @return 변환된 {@link KitchenOrderResponseDTO}
+     */
+    private KitchenOrderResponseDTO toDto(CustomerOrder order, List<CustomerOrderDetail> details) {
 
         List<KitchenOrderItemDTO> items = details.stream()
                 .map(this::toItemDto)
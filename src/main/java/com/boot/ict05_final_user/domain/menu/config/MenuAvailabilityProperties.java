@@ -0,0 +1,40 @@
+package com.boot.ict05_final_user.domain.menu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 기반 메뉴 판매 가능 수량(자동 품절) 설정.
+ *
+ * <p>prefix "menu.availability" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * menu.availability.enabled=true
+ * menu.availability.auto-sold-out=true
+ * menu.availability.refresh-cron=0 * * * * *
+ * menu.availability.state-ttl-minutes=10
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "menu.availability")
+@Getter
+@Setter
+public class MenuAvailabilityProperties {
+
+    /** 메모리 판매 가능 수량 사용 여부 */
+    private boolean enabled = true;
+
+    /** 판매 가능 수량이 0 이 되면 자동 품절, 다시 생기면 자동 해제 */
+    private boolean autoSoldOut = true;
+
+    /** 레시피 변경 감지 주기 */
+    private String refreshCron = "0 * * * * *";
+
+    /**
+     * 가맹점 재고 상태 재적재 주기(분).
+     * <p>이 서비스 밖(본사 앱, 일괄 SQL 등)에서 바뀐 재고와의 차이를 이 주기 안에서 보정합니다.</p>
+     */
+    private long stateTtlMinutes = 10;
+}
@@ -0,0 +1,29 @@
+package com.boot.ict05_final_user.domain.menu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 카탈로그 캐시(본사 메뉴 스냅샷 + 가맹점 품절 오버레이) 설정.
+ *
+ * <p>prefix "menu.catalog" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * menu.catalog.cache-enabled=true
+ * menu.catalog.refresh-cron=0/30 * * * * *
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "menu.catalog")
+@Getter
+@Setter
+public class MenuCatalogProperties {
+
+    /** 카탈로그 캐시 사용 여부 (false 면 매 요청 DB 조회) */
+    private boolean cacheEnabled = true;
+
+    /** 본사 메뉴 카탈로그 변경 감지 주기 */
+    private String refreshCron = "0/30 * * * * *";
+}
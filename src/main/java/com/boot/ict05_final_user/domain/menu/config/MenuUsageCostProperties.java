@@ -0,0 +1,29 @@
+package com.boot.ict05_final_user.domain.menu.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 재료 소진 원가(menu_usage_material_log.cost) 설정.
+ *
+ * <p>prefix "menu.usage-cost" 항목을 바인딩합니다.</p>
+ *
+ * <pre>
+ * menu.usage-cost.backfill-on-startup=false
+ * menu.usage-cost.backfill-chunk-size=5000
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "menu.usage-cost")
+@Getter
+@Setter
+public class MenuUsageCostProperties {
+
+    /** 기동 시 원가 미기록 행 백필 여부 (원가가 NULL 인 행만 대상, 멱등 — 필요할 때 1회만 켜고 완료 후 false 로 되돌린다) */
+    private boolean backfillOnStartup = false;
+
+    /** 백필 청크당 PK 구간 크기 */
+    private int backfillChunkSize = 5000;
+}
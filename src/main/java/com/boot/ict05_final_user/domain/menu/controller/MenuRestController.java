@@ -22,10 +22,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 메뉴 조회/상세/품절 상태 변경을 제공하는 REST 컨트롤러.
  *
@@ -49,12 +52,14 @@ public class MenuRestController {
      * @param menuSearchDTO 검색/필터 조건 DTO
      * @param pageable      페이징/정렬 정보
      * @param storeId       인증 정보에서 추출한 가맹점 ID
-     * @return 메뉴 목록 페이지
+     * @param ifNoneMatch   이전 응답의 ETag (같으면 304)
+     * @return 메뉴 목록 페이지 (ETag 포함)
      * @throws IllegalStateException 인증 정보에 storeId가 없는 경우
      */
     @Operation(
             summary = "메뉴 목록 조회",
-            description = "로그인한 가맹점(storeId) 기준으로 서버 페이징/검색/필터가 적용된 메뉴 목록을 반환합니다."
+            description = "로그인한 가맹점(storeId) 기준으로 서버 페이징/검색/필터가 적용된 메뉴 목록을 반환합니다. "
+                    + "If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
@@ -64,24 +69,66 @@ public class MenuRestController {
                             mediaType = "application/json"
                     )
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "인가 실패")
     })
     @GetMapping("/menu/list")
-    public Page<MenuListDTO> getMenuList(
+    public ResponseEntity<Page<MenuListDTO>> getMenuList(
             @ParameterObject
             MenuSearchDTO menuSearchDTO,
             @PageableDefault(page = 0, size = 10, sort = "menuId", direction = Sort.Direction.DESC)
             @ParameterObject
             Pageable pageable,
             // 로그인한 사용자 객체에서 storeId 뽑기
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal(expression = "storeId") Long storeId,
+            @Parameter(hidden = true)
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
+    ) {
+        if (storeId == null) {
+            throw new IllegalStateException("로그인한 가맹점(storeId)을 찾을 수 없습니다.");
+        }
+        String etag = menuService.menuListEtag(storeId, menuSearchDTO, pageable);
+        if (etag == null) {
+            return ResponseEntity.ok(menuService.selectAllStoreMenu(storeId, menuSearchDTO, pageable));
+        }
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(menuService.selectAllStoreMenu(storeId, menuSearchDTO, pageable));
+    }
+
+    /**
+     * 메뉴 판매 가능 수량 API (로그인 가맹점 기준, POS 용).
+     *
+     * @param storeId 인증 정보에서 추출한 가맹점 ID
+     * @return 메뉴별 판매 가능 수량/품절 상태
+     * @throws IllegalStateException 인증 정보에 storeId가 없는 경우
+     */
+    @Operation(
+            summary = "메뉴 판매 가능 수량 조회",
+            description = "레시피 재료 재고로 만들 수 있는 메뉴별 남은 수량과 품절 상태를 메모리에서 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(
+                            array = @ArraySchema(schema = @Schema(implementation = MenuAvailabilityDTO.class)),
+                            mediaType = "application/json"
+                    )
+            ),
+            @ApiResponse(responseCode = "401", description = "인증 실패"),
+            @ApiResponse(responseCode = "403", description = "인가 실패")
+    })
+    @GetMapping("/menu/availability")
+    public List<MenuAvailabilityDTO> getMenuAvailability(
             @Parameter(hidden = true)
             @AuthenticationPrincipal(expression = "storeId") Long storeId
     ) {
         if (storeId == null) {
             throw new IllegalStateException("로그인한 가맹점(storeId)을 찾을 수 없습니다.");
         }
-        return menuService.selectAllStoreMenu(storeId, menuSearchDTO, pageable);
+        return menuService.selectMenuAvailability(storeId);
     }
 
     /**
@@ -0,0 +1,35 @@
+package com.boot.ict05_final_user.domain.menu.dto;
+
+import com.boot.ict05_final_user.domain.menu.entity.StoreMenuSoldout;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가맹점 메뉴 판매 가능 수량 DTO.
+ *
+ * <p>POS 가 메뉴 목록 위에 덮어 쓰는 용도로, 레시피 재고로 만들 수 있는 남은 수량과 품절 상태를 담습니다.</p>
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "메뉴 판매 가능 수량 DTO")
+public class MenuAvailabilityDTO {
+
+    /** 메뉴 시퀀스 */
+    @Schema(description = "메뉴 ID(시퀀스)", nullable = false)
+    private Long menuId;
+
+    /** 남은 판매 가능 수량 (레시피 재료가 없으면 null = 제한 없음) */
+    @Schema(description = "판매 가능 수량(레시피 재료 재고 ÷ 1인분 사용량의 최솟값)")
+    private Long availableServings;
+
+    /** 품절 상태 */
+    @Schema(description = "가맹점 단위 품절 상태", implementation = StoreMenuSoldout.class)
+    private StoreMenuSoldout storeMenuSoldout;
+
+    /** 자동 품절 여부 */
+    @Schema(description = "재고 소진에 의한 자동 품절 여부")
+    private boolean autoSoldOut;
+}
@@ -65,6 +65,10 @@ public class MenuListDTO {
     @Schema(description = "가맹점 단위 품절 상태", implementation = StoreMenuSoldout.class)
     private StoreMenuSoldout storeMenuSoldout;
 
+    /** 판매 가능 수량 (레시피 재료가 없으면 null) */
+    @Schema(description = "판매 가능 수량(레시피 재고 기준, 메모리 값)")
+    private Long availableServings;
+
     /** 한글 라벨 : 카테고리 */
     @Schema(description = "카테고리 한글 라벨(파생값)")
     public String getMenuCategoryLabel() {
@@ -17,9 +17,18 @@ import java.time.LocalDateTime;
  * 메뉴 재료 소진 기록(menu_usage_material_log) 엔티티.
  *
  * <p>주문 발생 시, 어떤 메뉴로 인해 특정 매장 재료가 얼마나 소진되었는지 추적하기 위한 로그입니다.</p>
+ *
+ * <p>원가({@code cost})는 기록 시점의 유효 단가로 확정하여 저장하며, 재료 원가 분석은 이 값을 합산합니다.
+ * 인덱스 {@code ix_muml_order_sm_cost}는 주문 기준 재료별 사용량/원가 집계를 테이블 접근 없이 처리합니다.</p>
  */
 @Entity
-@Table(name = "menu_usage_material_log")
+@Table(
+        name = "menu_usage_material_log",
+        indexes = @Index(
+                name = "ix_muml_order_sm_cost",
+                columnList = "customer_order_id_fk, store_material_id_fk, menu_usage_material_log_count, menu_usage_material_log_cost"
+        )
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -85,6 +94,15 @@ public class MenuUsageMaterialLog {
     @Schema(description = "재료 소진 단위", nullable = false)
     private String unit;
 
+    @Column(
+            name = "menu_usage_material_log_cost",
+            precision = 15,
+            scale = 2,
+            columnDefinition = "DECIMAL(15,2) COMMENT '재료 원가 (기록 시점 단가 기준)'"
+    )
+    @Schema(description = "재료 원가 (기록 시점 유효 단가 기준, 원)")
+    private BigDecimal cost;
+
     @CreationTimestamp
     @Column(
             name = "menu_usage_material_log_date",
@@ -9,7 +9,9 @@ import lombok.*;
  * 가맹점별 메뉴 설정(StoreMenu) 엔티티.
  *
  * <p>특정 매장에 귀속된 메뉴와 그 품절 상태를 관리합니다.
- * (store × menu) 조합은 유니크하며, 품절 상태는 매장 단위로 독립적으로 관리됩니다.</p>
+ * (store × menu) 조합은 유니크하며, 품절 상태는 매장 단위로 독립적으로 관리됩니다.
+ * 레시피 재고가 바닥나 자동으로 품절된 경우 {@code storeMenuSoldoutAuto}가 표시되며,
+ * 재고가 다시 생기면 자동 해제됩니다.</p>
  */
 @Entity
 @Table(
@@ -55,6 +57,12 @@ public class StoreMenu {
     @Schema(description = "가맹점 단위 품절 상태", implementation = StoreMenuSoldout.class, nullable = false)
     private StoreMenuSoldout storeMenuSoldout = StoreMenuSoldout.ON_SALE;
 
+    /** 자동 품절 여부 (레시피 재고 소진으로 품절된 경우 true, 수동 변경 시 false) */
+    @Builder.Default
+    @Column(name = "store_menu_soldout_auto", nullable = false, columnDefinition = "TINYINT(1) DEFAULT 0")
+    @Schema(description = "재고 소진에 의한 자동 품절 여부")
+    private boolean storeMenuSoldoutAuto = false;
+
     /**
      * 품절/해제 상태를 토글합니다.
      *
@@ -0,0 +1,133 @@
+package com.boot.ict05_final_user.domain.menu.repository;
+
+import com.boot.ict05_final_user.domain.menu.entity.StoreMenuSoldout;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메뉴 판매 가능 수량 계산용 JDBC 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>레시피 전체를 (메뉴, 재료)별 1인분 사용량으로 적재 + 변경 감지(fingerprint)</li>
+ *   <li>가맹점 재고를 HQ 재료 기준으로 적재(가맹점 재료 → HQ 재료 매핑 포함, 매핑 없는 자체 재료는 HQ 재료 null)</li>
+ *   <li>가맹점 품절 상태 적재 및 자동 품절/해제 반영</li>
+ * </ul>
+ *
+ * <p>자동 품절 규칙</p>
+ * <ul>
+ *   <li>판매 중인 메뉴만 자동 품절로 바꾸고 {@code store_menu_soldout_auto=1}로 표시한다
+ *       (수동 품절은 그대로 둔다).</li>
+ *   <li>자동 해제는 {@code store_menu_soldout_auto=1} 인 행만 판매 중으로 되돌린다.</li>
+ * </ul>
+ */
+@Repository
+public class MenuAvailabilityJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public MenuAvailabilityJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** (메뉴, HQ 재료)별 1인분 사용량 */
+    public record RecipeRow(Long menuId, Long materialId, BigDecimal qty) {}
+
+    /** 가맹점 재료 재고 (HQ 재료 매핑, 가맹점 자체 재료면 materialId null) */
+    public record StockRow(Long storeMaterialId, Long materialId, BigDecimal quantity, Long version) {}
+
+    /** 가맹점 메뉴 품절 상태 */
+    public record SoldOutRow(Long menuId, StoreMenuSoldout soldout, boolean auto) {}
+
+    /** 재료가 연결된 레시피 전체 (같은 메뉴·재료 항목은 합산) */
+    public List<RecipeRow> findRecipeRows() {
+        String sql = """
+            SELECT r.menu_id_fk, r.material_id_fk, SUM(r.recipe_qty) AS qty
+              FROM menu_recipe r
+             WHERE r.material_id_fk IS NOT NULL
+          GROUP BY r.menu_id_fk, r.material_id_fk
+        """;
+        return jdbc.query(sql, new MapSqlParameterSource(), (rs, i) -> new RecipeRow(
+                rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3)));
+    }
+
+    /** 레시피 테이블 지문 (행 수 + 행 CRC 합) */
+    public String recipeFingerprint() {
+        String sql = """
+            SELECT CONCAT(COUNT(*), ':',
+                   COALESCE(SUM(CRC32(CONCAT_WS('|', menu_recipe_id, menu_id_fk, material_id_fk, recipe_qty))), 0))
+              FROM menu_recipe
+        """;
+        return jdbc.queryForObject(sql, new MapSqlParameterSource(), String.class);
+    }
+
+    /** 가맹점 재고 전체 (HQ 재료에 연결되지 않은 자체 재료 포함) */
+    public List<StockRow> findStoreStock(Long storeId) {
+        String sql = """
+            SELECT sm.store_material_id, sm.material_id_fk, si.inventory_quantity, si.inventory_version
+              FROM store_material sm
+              JOIN store_inventory si
+                ON si.store_id_fk = sm.store_id_fk
+               AND si.store_material_id_fk = sm.store_material_id
+             WHERE sm.store_id_fk = :storeId
+        """;
+        return jdbc.query(sql, new MapSqlParameterSource("storeId", storeId), (rs, i) -> new StockRow(
+                rs.getLong(1), rs.getObject(2, Long.class), rs.getBigDecimal(3), rs.getLong(4)));
+    }
+
+    /** 가맹점 메뉴 품절 상태 전체 */
+    public List<SoldOutRow> findSoldOutStates(Long storeId) {
+        String sql = """
+            SELECT menu_id_fk, store_menu_soldout, store_menu_soldout_auto
+              FROM store_menu
+             WHERE store_id_fk = :storeId
+        """;
+        return jdbc.query(sql, new MapSqlParameterSource("storeId", storeId), (rs, i) -> new SoldOutRow(
+                rs.getLong(1), StoreMenuSoldout.fromCode(rs.getInt(2)), rs.getBoolean(3)));
+    }
+
+    /**
+     * 자동 품절 반영 (store_menu 행이 없으면 생성).
+     *
+     * <p>ON DUPLICATE KEY UPDATE 의 대입은 왼쪽부터 적용되므로 auto 표시를 먼저 계산한다.</p>
+     */
+    public void markAutoSoldOut(Long storeId, Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) return;
+        String sql = """
+            INSERT INTO store_menu (store_id_fk, menu_id_fk, store_menu_soldout, store_menu_soldout_auto)
+            VALUES (:storeId, :menuId, :soldOut, 1)
+            ON DUPLICATE KEY UPDATE
+                store_menu_soldout_auto = IF(store_menu_soldout = :onSale, 1, store_menu_soldout_auto),
+                store_menu_soldout = :soldOut
+        """;
+        jdbc.batchUpdate(sql, menuIds.stream()
+                .map(id -> new MapSqlParameterSource()
+                        .addValue("storeId", storeId)
+                        .addValue("menuId", id)
+                        .addValue("soldOut", StoreMenuSoldout.SOLD_OUT.getCode())
+                        .addValue("onSale", StoreMenuSoldout.ON_SALE.getCode()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /** 자동 품절 해제 (자동 품절된 행만) */
+    public int clearAutoSoldOut(Long storeId, Collection<Long> menuIds) {
+        if (menuIds.isEmpty()) return 0;
+        String sql = """
+            UPDATE store_menu
+               SET store_menu_soldout = :onSale, store_menu_soldout_auto = 0
+             WHERE store_id_fk = :storeId
+               AND menu_id_fk IN (:menuIds)
+               AND store_menu_soldout_auto = 1
+        """;
+        return jdbc.update(sql, new MapSqlParameterSource()
+                .addValue("onSale", StoreMenuSoldout.ON_SALE.getCode())
+                .addValue("storeId", storeId)
+                .addValue("menuIds", menuIds));
+    }
+}
@@ -0,0 +1,34 @@
+package com.boot.ict05_final_user.domain.menu.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 본사 메뉴 카탈로그 변경 감지(JDBC) 리포지토리.
+ *
+ * <p>메뉴 + 카테고리명 행의 CRC 합으로 카탈로그 지문을 만든다.
+ * 본사 앱이 메뉴/카테고리를 바꾸면 지문이 달라져 카탈로그 캐시가 다시 적재된다.</p>
+ */
+@Repository
+public class MenuCatalogJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public MenuCatalogJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 메뉴 카탈로그 지문 (행 수 + 행 CRC 합) */
+    public String catalogFingerprint() {
+        String sql = """
+            SELECT CONCAT(COUNT(*), ':',
+                   COALESCE(SUM(CRC32(CONCAT_WS('|', m.menu_id, m.menu_name, m.menu_name_english, m.menu_code,
+                                                m.menu_information, m.menu_kcal, m.menu_show, m.menu_price,
+                                                m.menu_category_id_fk, c.menu_category_name))), 0))
+              FROM menu m
+              LEFT JOIN menu_category c ON c.menu_category_id = m.menu_category_id_fk
+        """;
+        return jdbc.queryForObject(sql, new MapSqlParameterSource(), String.class);
+    }
+}
@@ -4,10 +4,14 @@ import com.boot.ict05_final_user.domain.menu.entity.Menu;
 import com.boot.ict05_final_user.domain.menu.entity.MenuRecipe;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MenuRecipeRepository extends JpaRepository<MenuRecipe, Long> {
 
     // 메뉴 기준 레시피 전체 조회
     List<MenuRecipe> findByMenu(Menu menu);
+
+    // 여러 메뉴의 레시피를 한 번에 조회
+    List<MenuRecipe> findByMenu_MenuIdIn(Collection<Long> menuIds);
 }
@@ -6,6 +6,8 @@ import com.boot.ict05_final_user.domain.menu.dto.MenuSearchDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface MenuRepositoryCustom {
 
     // 로그인한 가맹점(storeId) 기준 메뉴 목록
@@ -13,6 +15,9 @@ public interface MenuRepositoryCustom {
 
     // 상세 정보 조회
     MenuDetailDTO getMenuDetail(Long menuId);
+
+    // 본사 메뉴 카탈로그 전체 (가맹점 품절 상태 제외, 카탈로그 캐시 적재용)
+    List<MenuListDTO> findCatalog();
 }
 // MenuRepositoryCustom : MenuRepository에 직접 기능을 추가
 // Page<MenuListDTO> : 리턴 타입 - MenuListDTO를 여러 개 묶어서 한 페이지 단위로 반환
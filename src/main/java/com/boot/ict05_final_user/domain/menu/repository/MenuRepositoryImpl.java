@@ -96,7 +96,7 @@ public class MenuRepositoryImpl implements MenuRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        log.info("[listMenu] storeId={}, pageIds size={}, ids={}", storeId, pageIds.size(), pageIds);
+        log.debug("[listMenu] storeId={}, pageIds size={}", storeId, pageIds.size());
 
         if (pageIds.isEmpty()) {
             return new PageImpl<>(List.of(), pageable, 0);
@@ -126,7 +126,7 @@ public class MenuRepositoryImpl implements MenuRepositoryCustom {
                 .orderBy(toOrderSpec(menu, sort))
                 .fetch();
 
-        log.info("[listMenu] rows fetched={}", rows.size());
+        log.debug("[listMenu] rows fetched={}", rows.size());
 
         Map<Long, MenuListDTO> map = new LinkedHashMap<>();
         for (var t : rows) {
@@ -163,6 +163,37 @@ public class MenuRepositoryImpl implements MenuRepositoryCustom {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
+    /**
+     * 본사 메뉴 카탈로그 전체를 조회합니다 (가맹점 조인 없음).
+     *
+     * <p>카탈로그 캐시({@code MenuCatalogCache}) 적재용이며, 품절 상태는 채우지 않습니다.</p>
+     *
+     * @return 메뉴 ID 내림차순 목록
+     */
+    @Override
+    public List<MenuListDTO> findCatalog() {
+        QMenu menu = QMenu.menu;
+        QMenuCategory category = QMenuCategory.menuCategory;
+
+        return queryFactory
+                .select(Projections.fields(MenuListDTO.class,
+                        menu.menuId,
+                        menu.menuShow,
+                        menu.menuName,
+                        menu.menuCode,
+                        category.menuCategoryId,
+                        category.menuCategoryName,
+                        menu.menuNameEnglish,
+                        menu.menuPrice,
+                        menu.menuKcal,
+                        menu.menuInformation
+                ))
+                .from(menu)
+                .leftJoin(menu.menuCategory, category)
+                .orderBy(menu.menuId.desc())
+                .fetch();
+    }
+
     /**
      * 이름/설명 검색 조건을 생성합니다.
      *
@@ -0,0 +1,139 @@
+package com.boot.ict05_final_user.domain.menu.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 재료 소진 기록(JDBC batch) 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>주문 1건의 (메뉴, 가맹점 재료) 소진 행을 원가와 함께 한 번의 batch 로 적재 (호출 측 트랜잭션 안)</li>
+ *   <li>원가 계산 기준(환산 비율/매입 단가/HQ 재료) 일괄 조회</li>
+ *   <li>원가 컬럼 도입 이전 행의 PK 구간 단위 원가 백필</li>
+ * </ul>
+ */
+@Repository
+public class MenuUsageMaterialLogJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public MenuUsageMaterialLogJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    /** 소진 기록 1행 */
+    public record UsageRow(Long orderId, Long menuId, Long storeMaterialId,
+                           BigDecimal count, BigDecimal cost, String unit, String memo) {}
+
+    /** 가맹점 재료 원가 계산 기준 */
+    public record CostBasis(Long storeMaterialId, Long materialId, Integer conversionRate, BigDecimal purchasePrice) {}
+
+    /** 원가 미기록 행 (백필용) */
+    public record UncostedRow(Long id, Long materialId, Integer conversionRate, BigDecimal purchasePrice,
+                              BigDecimal count, LocalDateTime orderedAt) {}
+
+    /** 소진 기록 일괄 적재 */
+    public void insertAll(List<UsageRow> rows) {
+        if (rows.isEmpty()) return;
+        String sql = """
+            INSERT INTO menu_usage_material_log
+                   (customer_order_id_fk, menu_id_fk, store_material_id_fk,
+                    menu_usage_material_log_count, menu_usage_material_log_cost, menu_usage_material_log_unit,
+                    menu_usage_material_log_date, menu_usage_material_log_memo)
+            VALUES (:orderId, :menuId, :smId, :count, :cost, :unit, NOW(), :memo)
+        """;
+        jdbc.batchUpdate(sql, rows.stream()
+                .map(r -> new MapSqlParameterSource()
+                        .addValue("orderId", r.orderId())
+                        .addValue("menuId", r.menuId())
+                        .addValue("smId", r.storeMaterialId())
+                        .addValue("count", r.count())
+                        .addValue("cost", r.cost())
+                        .addValue("unit", r.unit())
+                        .addValue("memo", r.memo()))
+                .toArray(SqlParameterSource[]::new));
+    }
+
+    /**
+     * 가맹점 재료 원가 계산 기준 일괄 조회.
+     *
+     * @return storeMaterialId → 기준
+     */
+    public Map<Long, CostBasis> findCostBasis(Collection<Long> storeMaterialIds) {
+        Map<Long, CostBasis> out = new HashMap<>();
+        if (storeMaterialIds.isEmpty()) return out;
+        String sql = """
+            SELECT sm.store_material_id, sm.material_id_fk, sm.material_conversion_rate, sm.store_material_purchase_price
+              FROM store_material sm
+             WHERE sm.store_material_id IN (:ids)
+        """;
+        jdbc.query(sql, new MapSqlParameterSource("ids", storeMaterialIds), rs -> {
+            long smId = rs.getLong("store_material_id");
+            out.put(smId, new CostBasis(smId,
+                    rs.getObject("material_id_fk", Long.class),
+                    rs.getObject("material_conversion_rate", Integer.class),
+                    rs.getBigDecimal("store_material_purchase_price")));
+        });
+        return out;
+    }
+
+    /** 원가 미기록 행의 최대 PK (없으면 0) */
+    public long findMaxUncostedId() {
+        Long v = jdbc.queryForObject("""
+            SELECT COALESCE(MAX(menu_usage_material_log_id), 0)
+              FROM menu_usage_material_log
+             WHERE menu_usage_material_log_cost IS NULL
+        """, new MapSqlParameterSource(), Long.class);
+        return v != null ? v : 0L;
+    }
+
+    /** (afterId, uptoId] 구간의 원가 미기록 행 (주문 시각 포함) */
+    public List<UncostedRow> findUncosted(long afterId, long uptoId) {
+        String sql = """
+            SELECT l.menu_usage_material_log_id AS id, sm.material_id_fk, sm.material_conversion_rate,
+                   sm.store_material_purchase_price, l.menu_usage_material_log_count AS cnt, co.customer_order_date AS ordered_at
+              FROM menu_usage_material_log l
+              JOIN store_material sm ON sm.store_material_id = l.store_material_id_fk
+              JOIN customer_order co ON co.customer_order_id = l.customer_order_id_fk
+             WHERE l.menu_usage_material_log_id > :afterId
+               AND l.menu_usage_material_log_id <= :uptoId
+               AND l.menu_usage_material_log_cost IS NULL
+        """;
+        return jdbc.query(sql, new MapSqlParameterSource()
+                        .addValue("afterId", afterId)
+                        .addValue("uptoId", uptoId),
+                (rs, i) -> new UncostedRow(
+                        rs.getLong("id"),
+                        rs.getObject("material_id_fk", Long.class),
+                        rs.getObject("material_conversion_rate", Integer.class),
+                        rs.getBigDecimal("store_material_purchase_price"),
+                        rs.getBigDecimal("cnt"),
+                        rs.getObject("ordered_at", LocalDateTime.class)));
+    }
+
+    /** 원가 일괄 기록 (아직 NULL 인 행만) */
+    public void updateCosts(Map<Long, BigDecimal> costById) {
+        if (costById.isEmpty()) return;
+        String sql = """
+            UPDATE menu_usage_material_log
+               SET menu_usage_material_log_cost = :cost
+             WHERE menu_usage_material_log_id = :id
+               AND menu_usage_material_log_cost IS NULL
+        """;
+        jdbc.batchUpdate(sql, costById.entrySet().stream()
+                .map(e -> new MapSqlParameterSource()
+                        .addValue("id", e.getKey())
+                        .addValue("cost", e.getValue()))
+                .toArray(SqlParameterSource[]::new));
+    }
+}
@@ -0,0 +1,34 @@
+package com.boot.ict05_final_user.domain.menu.scheduler;
+
+import com.boot.ict05_final_user.domain.menu.service.MenuAvailabilityEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 판매 가능 수량 엔진 갱신 스케줄러.
+ *
+ * <p>{@code menu.availability.refresh-cron} 주기로 레시피 테이블 지문을 비교하여
+ * 본사에서 레시피가 바뀌었을 때만 색인을 다시 적재하고, 오래된 가맹점 상태를 비웁니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "menu.availability.enabled", havingValue = "true", matchIfMissing = true)
+public class MenuAvailabilityRefreshScheduler {
+
+    private final MenuAvailabilityEngine menuAvailabilityEngine;
+
+    @Scheduled(cron = "${menu.availability.refresh-cron:0 * * * * *}")
+    public void refresh() {
+        try {
+            if (menuAvailabilityEngine.refreshIfChanged()) {
+                log.info("[AVAILABILITY] recipes changed, index reloaded");
+            }
+        } catch (RuntimeException e) {
+            log.warn("[AVAILABILITY] refresh failed: {}", e.getMessage());
+        }
+    }
+}
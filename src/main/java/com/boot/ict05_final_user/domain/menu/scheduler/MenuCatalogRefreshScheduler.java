@@ -0,0 +1,34 @@
+package com.boot.ict05_final_user.domain.menu.scheduler;
+
+import com.boot.ict05_final_user.domain.menu.service.MenuCatalogCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 카탈로그 캐시 갱신 스케줄러.
+ *
+ * <p>{@code menu.catalog.refresh-cron} 주기로 본사 메뉴/카테고리 테이블 지문을 비교하여
+ * 달라졌을 때만 카탈로그를 다시 적재합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "menu.catalog.cache-enabled", havingValue = "true", matchIfMissing = true)
+public class MenuCatalogRefreshScheduler {
+
+    private final MenuCatalogCache menuCatalogCache;
+
+    @Scheduled(cron = "${menu.catalog.refresh-cron:0/30 * * * * *}")
+    public void refresh() {
+        try {
+            if (menuCatalogCache.refreshIfChanged()) {
+                log.info("[MENU_CATALOG] catalog changed, reloaded");
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MENU_CATALOG] refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.boot.ict05_final_user.domain.menu.scheduler;
+
+import com.boot.ict05_final_user.domain.menu.service.MenuUsageCostBackfillService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메뉴 재료 소진 원가 백필 실행기.
+ *
+ * <p>{@code menu.usage-cost.backfill-on-startup=true} 일 때 기동 직후 한 번 실행합니다.
+ * 원가가 비어 있는 행만 채우므로 재기동 시 다시 실행되어도 기존 원가는 바뀌지 않습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "menu.usage-cost.backfill-on-startup", havingValue = "true")
+public class MenuUsageCostBackfillRunner implements ApplicationRunner {
+
+    private final MenuUsageCostBackfillService backfillService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            backfillService.backfillAll();
+        } catch (RuntimeException e) {
+            log.error("[USAGE_COST] backfill failed", e);
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.boot.ict05_final_user.domain.menu.service;
+
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
+import com.boot.ict05_final_user.domain.menu.config.MenuAvailabilityProperties;
+import com.boot.ict05_final_user.domain.menu.dto.MenuAvailabilityDTO;
+import com.boot.ict05_final_user.domain.menu.entity.StoreMenuSoldout;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.RecipeRow;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.SoldOutRow;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.StockRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레시피 기반 메뉴 판매 가능 수량 엔진 (가맹점별 메모리 상태 + 자동 품절).
+ *
+ * <p><b>계산</b></p>
+ * <ul>
+ *   <li>메뉴 판매 가능 수량 = 레시피 재료별 {@code floor(재고 ÷ 1인분 사용량)}의 최솟값.
+ *       재료가 연결되지 않은 메뉴는 제한 없음(목록에 없음).</li>
+ *   <li>레시피 사용량과 재고는 같은 단위로 본다(판매 소진과 동일, 단위 변환 없음).</li>
+ *   <li>재고 변경 시 재료 → 메뉴 역색인으로 해당 재료를 쓰는 메뉴만 다시 계산한다.
+ *       HQ 재료에 연결되지 않은 가맹점 자체 재료의 변경은 레시피와 무관하므로 건너뛴다.</li>
+ * </ul>
+ *
+ * <p><b>자동 품절</b> ({@code menu.availability.auto-sold-out})</p>
+ * <ul>
+ *   <li>판매 가능 수량이 0 으로 떨어지는 순간 판매 중 메뉴를 품절(자동)로 바꾼다.
+ *       가맹점 상태를 적재할 때 이미 0 인 메뉴도 같은 규칙으로 바꾼다(레시피 재료를 모두 보유한 메뉴만).</li>
+ *   <li>0 에서 다시 양수가 되면 자동 품절된 메뉴만 해제한다. 수동 품절/해제는 건드리지 않는다.</li>
+ *   <li>DB 반영(store_menu)은 별도 트랜잭션으로 수행하며 가맹점 단위로 직렬화한다.</li>
+ * </ul>
+ *
+ * <p><b>정합성</b></p>
+ * <ul>
+ *   <li>재고 반영은 트랜잭션 커밋 이후에 수행하여 롤백/재시도된 시도가 섞이지 않게 한다.
+ *       재고 버전이 알고 있는 값 이하인 변경은 건너뛴다(커밋 순서 역전 방어).</li>
+ *   <li>가맹점 상태는 첫 조회 시 DB 에서 적재하고, {@code state-ttl-minutes}가 지나면 다시 적재한다.</li>
+ *   <li>레시피는 본사 앱이 바꾸므로 {@link #refreshIfChanged()}가 테이블 지문을 비교해 다시 적재한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MenuAvailabilityEngine {
+
+    private final MenuAvailabilityJdbcRepository availabilityJdbcRepository;
+    private final MenuAvailabilityProperties props;
+    private final MenuCatalogCache menuCatalogCache;
+    private final TransactionTemplate requiresNew;
+
+    /** 상태 리비전 발급기 (가맹점 간 중복 없음, ETag 용) */
+    private final AtomicLong revisionSeq = new AtomicLong();
+
+    /** 레시피 색인 (불변, 통째로 교체) */
+    private volatile RecipeIndex index;
+
+    /** 가맹점 ID → 상태 */
+    private final ConcurrentHashMap<Long, StoreState> stores = new ConcurrentHashMap<>();
+
+    public MenuAvailabilityEngine(MenuAvailabilityJdbcRepository availabilityJdbcRepository,
+                                  MenuAvailabilityProperties props,
+                                  MenuCatalogCache menuCatalogCache,
+                                  PlatformTransactionManager transactionManager) {
+        this.availabilityJdbcRepository = availabilityJdbcRepository;
+        this.props = props;
+        this.menuCatalogCache = menuCatalogCache;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /** 메모리 판매 가능 수량 사용 여부 */
+    public boolean isEnabled() {
+        return props.isEnabled();
+    }
+
+    /**
+     * 가맹점 메뉴별 판매 가능 수량.
+     *
+     * @param storeId 가맹점 ID
+     * @return menuId → 판매 가능 수량 (레시피 재료가 없는 메뉴는 없음)
+     */
+    public Map<Long, Long> servings(Long storeId) {
+        if (!isEnabled() || storeId == null) return Map.of();
+        StoreState st = state(storeId);
+        synchronized (st) {
+            return Map.copyOf(st.servings);
+        }
+    }
+
+    /**
+     * 가맹점 판매 가능 수량/품절 상태 리비전. 값이 같으면 {@link #servings(Long)} 결과도 같다.
+     *
+     * @param storeId 가맹점 ID
+     * @return 리비전 (비활성이면 0)
+     */
+    public long revision(Long storeId) {
+        if (!isEnabled() || storeId == null) return 0L;
+        StoreState st = state(storeId);
+        synchronized (st) {
+            return st.revision;
+        }
+    }
+
+    /**
+     * 가맹점 메뉴별 판매 가능 수량 + 품절 상태 (POS 용, 메뉴 ID 오름차순).
+     *
+     * @param storeId 가맹점 ID
+     */
+    public List<MenuAvailabilityDTO> availability(Long storeId) {
+        if (!isEnabled() || storeId == null) return List.of();
+        StoreState st = state(storeId);
+        synchronized (st) {
+            TreeSet<Long> ids = new TreeSet<>(st.servings.keySet());
+            ids.addAll(st.soldout.keySet());
+            List<MenuAvailabilityDTO> out = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                out.add(new MenuAvailabilityDTO(id, st.servings.get(id),
+                        st.soldout.getOrDefault(id, StoreMenuSoldout.ON_SALE), st.auto.contains(id)));
+            }
+            return out;
+        }
+    }
+
+    /**
+     * 집계 재고 변경을 반영한다 (커밋 이후).
+     *
+     * <p>수량/버전은 커밋 시점 엔티티 값을 읽는다.</p>
+     *
+     * @param storeId 가맹점 ID
+     * @param changed 수량이 바뀐 집계 재고
+     */
+    public void onStockChanged(Long storeId, Collection<StoreInventory> changed) {
+        if (!isEnabled() || storeId == null || changed == null || changed.isEmpty()) return;
+        List<StoreInventory> refs = List.copyOf(changed);
+        afterCommit(() -> {
+            StoreState st = stores.get(storeId);
+            if (st == null) return; // 미적재 → 다음 조회 시 DB 에서 함께 적재됨
+            List<StockRow> rows = new ArrayList<>(refs.size());
+            for (StoreInventory inv : refs) {
+                rows.add(new StockRow(inv.getStoreMaterial().getId(), null, inv.getQuantity(), inv.getVersion()));
+            }
+            apply(storeId, st, rows);
+        });
+    }
+
+    /**
+     * 수동 품절/해제를 반영한다 (커밋 이후). 자동 품절 표시는 지운다.
+     */
+    public void onSoldOutChanged(Long storeId, Long menuId, StoreMenuSoldout status) {
+        if (!isEnabled() || storeId == null || menuId == null) return;
+        afterCommit(() -> {
+            StoreState st = stores.get(storeId);
+            if (st == null) return;
+            synchronized (st) {
+                st.soldout.put(menuId, status == null ? StoreMenuSoldout.ON_SALE : status);
+                st.auto.remove(menuId);
+                st.revision = revisionSeq.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 레시피 지문이 바뀌었으면 색인을 다시 적재하고 가맹점 상태를 비운다.
+     * 적재 후 {@code state-ttl-minutes}가 지난 가맹점 상태도 함께 비운다.
+     *
+     * @return 레시피 재적재 여부
+     */
+    public boolean refreshIfChanged() {
+        if (!isEnabled()) return false;
+        long now = System.nanoTime();
+        stores.values().removeIf(st -> st.expired(now, ttlNanos()));
+        RecipeIndex cur = index;
+        if (cur == null) return false;
+        String fp = availabilityJdbcRepository.recipeFingerprint();
+        if (Objects.equals(fp, cur.fingerprint)) return false;
+        loadIndex();
+        stores.clear();
+        return true;
+    }
+
+    /** 가맹점 상태 제거 (다음 조회 시 재적재) */
+    public void evict(Long storeId) {
+        if (storeId != null) stores.remove(storeId);
+    }
+
+    /* ===== 내부 ===== */
+
+    private long ttlNanos() {
+        return TimeUnit.MINUTES.toNanos(Math.max(1, props.getStateTtlMinutes()));
+    }
+
+    private static void afterCommit(Runnable r) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    r.run();
+                }
+            });
+        } else {
+            r.run();
+        }
+    }
+
+    private RecipeIndex index() {
+        RecipeIndex i = index;
+        return i != null ? i : loadIndex();
+    }
+
+    private synchronized RecipeIndex loadIndex() {
+        String fp = availabilityJdbcRepository.recipeFingerprint();
+        RecipeIndex built = new RecipeIndex(fp, availabilityJdbcRepository.findRecipeRows());
+        index = built;
+        log.info("[AVAILABILITY] recipe index loaded menus={} materials={} fingerprint={}",
+                built.byMenu.size(), built.menusByMaterial.size(), fp);
+        return built;
+    }
+
+    private StoreState state(Long storeId) {
+        RecipeIndex idx = index();
+        StoreState st = stores.get(storeId);
+        if (st != null && st.index == idx && !st.expired(System.nanoTime(), ttlNanos())) return st;
+
+        StoreState seeded = new StoreState(idx, revisionSeq.incrementAndGet(),
+                availabilityJdbcRepository.findStoreStock(storeId),
+                availabilityJdbcRepository.findSoldOutStates(storeId));
+        reconcileAutoSoldOut(storeId, seeded);
+        stores.put(storeId, seeded);
+        return seeded;
+    }
+
+    /**
+     * 적재 시점 자동 품절 보정 (반영 누락 보정).
+     * <ul>
+     *   <li>재고가 이미 돌아온 자동 품절 메뉴는 해제한다.</li>
+     *   <li>판매 중인데 이미 0 인 메뉴는 자동 품절한다. 레시피 재료를 하나라도 취급하지 않는 메뉴는
+     *       그 가맹점이 팔지 않는 메뉴로 보고 건드리지 않는다.</li>
+     * </ul>
+     */
+    private void reconcileAutoSoldOut(Long storeId, StoreState st) {
+        if (!props.isAutoSoldOut()) return;
+        List<Long> restore = new ArrayList<>();
+        for (Long menuId : st.auto) {
+            Long s = st.servings.get(menuId);
+            if (s == null || s > 0) restore.add(menuId);
+        }
+        List<Long> soldOut = new ArrayList<>();
+        st.servings.forEach((menuId, s) -> {
+            if (s == 0 && st.carries(menuId)
+                    && st.soldout.getOrDefault(menuId, StoreMenuSoldout.ON_SALE) == StoreMenuSoldout.ON_SALE) {
+                soldOut.add(menuId);
+            }
+        });
+        if (restore.isEmpty() && soldOut.isEmpty()) return;
+        try {
+            requiresNew.executeWithoutResult(tx -> {
+                availabilityJdbcRepository.markAutoSoldOut(storeId, soldOut);
+                availabilityJdbcRepository.clearAutoSoldOut(storeId, restore);
+            });
+            for (Long menuId : restore) {
+                st.soldout.put(menuId, StoreMenuSoldout.ON_SALE);
+                st.auto.remove(menuId);
+            }
+            for (Long menuId : soldOut) {
+                st.soldout.put(menuId, StoreMenuSoldout.SOLD_OUT);
+                st.auto.add(menuId);
+            }
+            menuCatalogCache.evictOverlay(storeId);
+            log.info("[AVAILABILITY] storeId={} seed autoSoldOut={} restored={}", storeId, soldOut, restore);
+        } catch (RuntimeException e) {
+            log.warn("[AVAILABILITY] auto sold-out reconcile failed storeId={} soldOut={} restore={}: {}",
+                    storeId, soldOut, restore, e.getMessage());
+        }
+    }
+
+    /** 재고 변경 반영 + 영향 메뉴 재계산 + 자동 품절/해제 (가맹점 단위 직렬화) */
+    private void apply(Long storeId, StoreState st, List<StockRow> changes) {
+        synchronized (st) {
+            Set<Long> affected = new HashSet<>();
+            for (StockRow c : changes) {
+                if (st.unmappedSm.contains(c.storeMaterialId())) continue; // 가맹점 자체 재료 (레시피 무관)
+                Long materialId = st.materialBySm.get(c.storeMaterialId());
+                if (materialId == null) {
+                    // 적재 이후 새로 생긴 재료 → 다음 조회 시 재적재
+                    stores.remove(storeId, st);
+                    return;
+                }
+                Long known = st.versionBySm.get(c.storeMaterialId());
+                if (c.version() != null && known != null && c.version() <= known) continue;
+                st.versionBySm.put(c.storeMaterialId(), c.version());
+                st.stock.put(materialId, c.quantity() == null ? BigDecimal.ZERO : c.quantity());
+                affected.addAll(st.index.menusOf(materialId));
+            }
+
+            List<Long> soldOut = new ArrayList<>();
+            List<Long> restore = new ArrayList<>();
+            boolean changed = false;
+            for (Long menuId : affected) {
+                long before = st.servings.getOrDefault(menuId, 0L);
+                long after = st.compute(menuId);
+                st.servings.put(menuId, after);
+                changed |= before != after;
+                if (!props.isAutoSoldOut()) continue;
+                if (before > 0 && after == 0
+                        && st.soldout.getOrDefault(menuId, StoreMenuSoldout.ON_SALE) == StoreMenuSoldout.ON_SALE) {
+                    soldOut.add(menuId);
+                } else if (before == 0 && after > 0 && st.auto.contains(menuId)) {
+                    restore.add(menuId);
+                }
+            }
+            if (changed) st.revision = revisionSeq.incrementAndGet();
+            if (soldOut.isEmpty() && restore.isEmpty()) return;
+
+            try {
+                requiresNew.executeWithoutResult(tx -> {
+                    availabilityJdbcRepository.markAutoSoldOut(storeId, soldOut);
+                    availabilityJdbcRepository.clearAutoSoldOut(storeId, restore);
+                });
+            } catch (RuntimeException e) {
+                log.warn("[AVAILABILITY] auto sold-out update failed storeId={} soldOut={} restore={}: {}",
+                        storeId, soldOut, restore, e.getMessage());
+                stores.remove(storeId, st);
+                return;
+            }
+            for (Long menuId : soldOut) {
+                st.soldout.put(menuId, StoreMenuSoldout.SOLD_OUT);
+                st.auto.add(menuId);
+            }
+            for (Long menuId : restore) {
+                st.soldout.put(menuId, StoreMenuSoldout.ON_SALE);
+                st.auto.remove(menuId);
+            }
+            st.revision = revisionSeq.incrementAndGet();
+            menuCatalogCache.evictOverlay(storeId);
+            log.info("[AVAILABILITY] storeId={} autoSoldOut={} restored={}", storeId, soldOut, restore);
+        }
+    }
+
+    /** 레시피 색인: 메뉴 → (재료, 1인분 사용량), 재료 → 메뉴 */
+    private static final class RecipeIndex {
+
+        private final String fingerprint;
+        private final Map<Long, long[]> materialsByMenu;
+        private final Map<Long, BigDecimal[]> qtyByMenu;
+        private final Map<Long, List<Long>> menusByMaterial;
+        private final Set<Long> byMenu;
+
+        RecipeIndex(String fingerprint, List<RecipeRow> rows) {
+            this.fingerprint = fingerprint;
+            Map<Long, List<RecipeRow>> grouped = new HashMap<>();
+            Map<Long, List<Long>> reverse = new HashMap<>();
+            for (RecipeRow r : rows) {
+                if (r.qty() == null || r.qty().signum() <= 0) continue;
+                grouped.computeIfAbsent(r.menuId(), k -> new ArrayList<>()).add(r);
+                reverse.computeIfAbsent(r.materialId(), k -> new ArrayList<>()).add(r.menuId());
+            }
+            Map<Long, long[]> mats = new HashMap<>(grouped.size() * 2);
+            Map<Long, BigDecimal[]> qtys = new HashMap<>(grouped.size() * 2);
+            grouped.forEach((menuId, list) -> {
+                long[] m = new long[list.size()];
+                BigDecimal[] q = new BigDecimal[list.size()];
+                for (int i = 0; i < list.size(); i++) {
+                    m[i] = list.get(i).materialId();
+                    q[i] = list.get(i).qty();
+                }
+                mats.put(menuId, m);
+                qtys.put(menuId, q);
+            });
+            Map<Long, List<Long>> rev = new HashMap<>(reverse.size() * 2);
+            reverse.forEach((k, v) -> rev.put(k, List.copyOf(v)));
+            this.materialsByMenu = Collections.unmodifiableMap(mats);
+            this.qtyByMenu = Collections.unmodifiableMap(qtys);
+            this.menusByMaterial = Collections.unmodifiableMap(rev);
+            this.byMenu = mats.keySet();
+        }
+
+        List<Long> menusOf(Long materialId) {
+            return menusByMaterial.getOrDefault(materialId, List.of());
+        }
+    }
+
+    /** 가맹점 1곳의 재고/판매 가능 수량/품절 상태 (인스턴스 모니터로 보호) */
+    private static final class StoreState {
+
+        private final RecipeIndex index;
+        private final long loadedAt = System.nanoTime();
+        private final Map<Long, Long> materialBySm = new HashMap<>();
+        /** HQ 재료에 연결되지 않은 가맹점 자체 재료 */
+        private final Set<Long> unmappedSm = new HashSet<>();
+        private final Map<Long, Long> versionBySm = new HashMap<>();
+        private final Map<Long, BigDecimal> stock = new HashMap<>();
+        private final Map<Long, Long> servings = new HashMap<>();
+        private final Map<Long, StoreMenuSoldout> soldout = new HashMap<>();
+        private final Set<Long> auto = new HashSet<>();
+        private long revision;
+
+        StoreState(RecipeIndex index, long revision, List<StockRow> stockRows, List<SoldOutRow> soldOutRows) {
+            this.index = index;
+            this.revision = revision;
+            for (StockRow r : stockRows) {
+                if (r.materialId() == null) {
+                    unmappedSm.add(r.storeMaterialId());
+                    continue;
+                }
+                materialBySm.put(r.storeMaterialId(), r.materialId());
+                versionBySm.put(r.storeMaterialId(), r.version());
+                stock.put(r.materialId(), r.quantity() == null ? BigDecimal.ZERO : r.quantity());
+            }
+            for (SoldOutRow r : soldOutRows) {
+                soldout.put(r.menuId(), r.soldout());
+                if (r.auto() && r.soldout() == StoreMenuSoldout.SOLD_OUT) auto.add(r.menuId());
+            }
+            for (Long menuId : index.byMenu) {
+                servings.put(menuId, compute(menuId));
+            }
+        }
+
+        boolean expired(long now, long ttl) {
+            return now - loadedAt > ttl;
+        }
+
+        /** 레시피 재료를 모두 취급(재고 행 보유)하는지 */
+        boolean carries(Long menuId) {
+            long[] mats = index.materialsByMenu.get(menuId);
+            if (mats == null) return false;
+            for (long m : mats) {
+                if (!stock.containsKey(m)) return false;
+            }
+            return true;
+        }
+
+        long compute(Long menuId) {
+            long[] mats = index.materialsByMenu.get(menuId);
+            BigDecimal[] qtys = index.qtyByMenu.get(menuId);
+            if (mats == null) return 0L;
+            long min = Long.MAX_VALUE;
+            for (int i = 0; i < mats.length; i++) {
+                BigDecimal have = stock.get(mats[i]);
+                if (have == null || have.signum() <= 0) return 0L;
+                long n = have.divide(qtys[i], 0, RoundingMode.FLOOR).longValue();
+                if (n < min) min = n;
+            }
+            return min;
+        }
+    }
+}
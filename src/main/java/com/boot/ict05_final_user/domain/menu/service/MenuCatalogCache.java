@@ -0,0 +1,260 @@
+package com.boot.ict05_final_user.domain.menu.service;
+
+import com.boot.ict05_final_user.domain.menu.config.MenuCatalogProperties;
+import com.boot.ict05_final_user.domain.menu.dto.MenuListDTO;
+import com.boot.ict05_final_user.domain.menu.dto.MenuSearchDTO;
+import com.boot.ict05_final_user.domain.menu.entity.MenuShow;
+import com.boot.ict05_final_user.domain.menu.entity.StoreMenuSoldout;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.SoldOutRow;
+import com.boot.ict05_final_user.domain.menu.repository.MenuCatalogJdbcRepository;
+import com.boot.ict05_final_user.domain.menu.repository.MenuRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 가맹점 메뉴 목록 캐시 (본사 카탈로그 스냅샷 + 가맹점 품절 오버레이).
+ *
+ * <p><b>2단 구조</b></p>
+ * <ul>
+ *   <li>카탈로그: 본사 메뉴 + 카테고리명 전체를 불변 목록으로 적재하여 모든 가맹점이 공유한다.
+ *       본사 앱이 바꾸므로 {@link #refreshIfChanged()}가 테이블 지문을 비교해 달라졌을 때만 다시 적재한다.</li>
+ *   <li>오버레이: 가맹점별 {@code store_menu} 품절 상태(메뉴 ID → 상태)만 따로 보관한다.
+ *       수동 품절 변경/자동 품절 전환 시 {@link #evictOverlay(Long)}로 폐기된다.</li>
+ * </ul>
+ *
+ * <p><b>조회</b>: 필터/정렬/페이징은 {@code MenuRepositoryImpl.listMenu}와 같은 규칙을 메모리에서 적용한다
+ * (이름 부분 일치, 카테고리 ID 우선 → 카테고리명 부분 일치, 기본 SHOW, 가맹점 품절 필터, 기본 menuId DESC).</p>
+ *
+ * <p><b>ETag</b>: 카탈로그 지문 + 오버레이 버전 + 판매 가능 수량 리비전 + 요청 파라미터로 만든다.
+ * 값이 같으면 응답 본문도 같으므로 POS 는 {@code If-None-Match}로 304 를 받는다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuCatalogCache {
+
+    private final MenuRepository menuRepository;
+    private final MenuCatalogJdbcRepository catalogJdbcRepository;
+    private final MenuAvailabilityJdbcRepository availabilityJdbcRepository;
+    private final MenuCatalogProperties props;
+
+    /** 오버레이 버전 발급기 (가맹점 간 중복 없음) */
+    private final AtomicLong overlaySeq = new AtomicLong();
+
+    /** 오버레이 폐기 횟수 */
+    private final AtomicLong evictSeq = new AtomicLong();
+
+    /** 카탈로그 (불변, 통째로 교체) */
+    private volatile Catalog catalog;
+
+    /** 가맹점 ID → 품절 오버레이 */
+    private final ConcurrentHashMap<Long, Overlay> overlays = new ConcurrentHashMap<>();
+
+    /** 카탈로그 항목 (불변) */
+    private record Item(Long menuId, MenuShow menuShow, String menuName, String menuCode,
+                        Long menuCategoryId, String menuCategoryName, String menuNameEnglish,
+                        BigDecimal menuPrice, Integer menuKcal, String menuInformation) {}
+
+    private record Catalog(String fingerprint, List<Item> items) {}
+
+    private record Overlay(long version, Map<Long, StoreMenuSoldout> soldout) {}
+
+    /** 캐시 사용 여부 */
+    public boolean isEnabled() {
+        return props.isCacheEnabled();
+    }
+
+    /**
+     * 메뉴 목록 ETag.
+     *
+     * @param storeId             가맹점 ID
+     * @param dto                 검색/필터 파라미터(Null 허용)
+     * @param pageable            페이지 정보
+     * @param availabilityVersion 판매 가능 수량 리비전
+     * @return 따옴표 포함 ETag
+     */
+    public String etag(Long storeId, MenuSearchDTO dto, Pageable pageable, long availabilityVersion) {
+        MenuSearchDTO d = dto != null ? dto : new MenuSearchDTO();
+        int query = Objects.hash(d.getS(), d.getType(), d.getStoreMenuSoldout(), d.getMenuShow(),
+                d.getMenuCategoryId(), d.getCategoryName(),
+                pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        return "\"m" + Integer.toHexString(catalog().fingerprint().hashCode())
+                + "-" + overlay(storeId).version()
+                + "-" + availabilityVersion
+                + "-" + Integer.toHexString(query) + "\"";
+    }
+
+    /**
+     * 로그인한 가맹점 기준 메뉴 목록 (메모리).
+     *
+     * @param storeId  가맹점 ID
+     * @param dto      검색/필터 파라미터(Null 허용)
+     * @param pageable 페이지 정보
+     * @return 메뉴 목록 페이지
+     */
+    public Page<MenuListDTO> list(Long storeId, MenuSearchDTO dto, Pageable pageable) {
+        MenuSearchDTO d = dto != null ? dto : new MenuSearchDTO();
+        Map<Long, StoreMenuSoldout> soldout = overlay(storeId).soldout();
+
+        String kw = StringUtils.hasText(d.getS()) ? d.getS().toLowerCase(Locale.ROOT) : null;
+        Long categoryId = d.getMenuCategoryId() != null && d.getMenuCategoryId() != 0 ? d.getMenuCategoryId() : null;
+        String categoryName = categoryId == null && StringUtils.hasText(d.getCategoryName())
+                ? d.getCategoryName().toLowerCase(Locale.ROOT) : null;
+        MenuShow show = d.getMenuShow() != null ? d.getMenuShow() : MenuShow.SHOW;
+
+        List<Item> filtered = new ArrayList<>();
+        for (Item it : catalog().items()) {
+            if (it.menuShow() != show) continue;
+            if (kw != null && (it.menuName() == null || !it.menuName().toLowerCase(Locale.ROOT).contains(kw))) continue;
+            if (categoryId != null && !categoryId.equals(it.menuCategoryId())) continue;
+            if (categoryName != null && (it.menuCategoryName() == null
+                    || !it.menuCategoryName().toLowerCase(Locale.ROOT).contains(categoryName))) continue;
+            if (d.getStoreMenuSoldout() != null && d.getStoreMenuSoldout() != soldout.get(it.menuId())) continue;
+            filtered.add(it);
+        }
+
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by(Sort.Direction.DESC, "menuId");
+        filtered.sort(comparator(sort));
+
+        int from = (int) Math.min(pageable.getOffset(), filtered.size());
+        int to = Math.min(from + pageable.getPageSize(), filtered.size());
+        List<MenuListDTO> content = new ArrayList<>(to - from);
+        for (Item it : filtered.subList(from, to)) {
+            content.add(toDto(it, soldout.get(it.menuId())));
+        }
+        return new PageImpl<>(content, pageable, filtered.size());
+    }
+
+    /**
+     * 가맹점 품절 오버레이 폐기 (트랜잭션 안이면 커밋 이후).
+     *
+     * @param storeId 가맹점 ID
+     */
+    public void evictOverlay(Long storeId) {
+        if (storeId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictSeq.incrementAndGet();
+                    overlays.remove(storeId);
+                }
+            });
+        } else {
+            evictSeq.incrementAndGet();
+            overlays.remove(storeId);
+        }
+    }
+
+    /**
+     * 카탈로그 지문이 달라졌으면 다시 적재한다.
+     *
+     * @return 재적재 여부
+     */
+    public boolean refreshIfChanged() {
+        Catalog cur = catalog;
+        if (!isEnabled() || cur == null) return false;
+        String now = catalogJdbcRepository.catalogFingerprint();
+        if (Objects.equals(now, cur.fingerprint())) return false;
+        reload();
+        return true;
+    }
+
+    /** 카탈로그/오버레이 전체 폐기 (다음 조회 시 재적재) */
+    public void invalidate() {
+        catalog = null;
+        evictSeq.incrementAndGet();
+        overlays.clear();
+    }
+
+    /* ===== 내부 ===== */
+
+    private Catalog catalog() {
+        Catalog c = catalog;
+        return c != null ? c : reload();
+    }
+
+    private synchronized Catalog reload() {
+        String fp = catalogJdbcRepository.catalogFingerprint();
+        List<Item> items = menuRepository.findCatalog().stream()
+                .map(m -> new Item(m.getMenuId(), m.getMenuShow(), m.getMenuName(), m.getMenuCode(),
+                        m.getMenuCategoryId(), m.getMenuCategoryName(), m.getMenuNameEnglish(),
+                        m.getMenuPrice(), m.getMenuKcal(), m.getMenuInformation()))
+                .toList();
+        Catalog built = new Catalog(fp, items);
+        catalog = built;
+        log.info("[MENU_CATALOG] loaded menus={} fingerprint={}", items.size(), fp);
+        return built;
+    }
+
+    /** 적재 도중 폐기가 끼어들면 적재 결과를 캐시에 넣지 않는다(커밋 전 값이 남지 않도록) */
+    private Overlay overlay(Long storeId) {
+        Overlay o = overlays.get(storeId);
+        if (o != null) return o;
+        long epoch = evictSeq.get();
+        Map<Long, StoreMenuSoldout> m = new HashMap<>();
+        for (SoldOutRow r : availabilityJdbcRepository.findSoldOutStates(storeId)) {
+            m.put(r.menuId(), r.soldout());
+        }
+        Overlay built = new Overlay(overlaySeq.incrementAndGet(), Collections.unmodifiableMap(m));
+        if (evictSeq.get() != epoch) return built;
+        Overlay prev = overlays.putIfAbsent(storeId, built);
+        return prev != null ? prev : built;
+    }
+
+    private static MenuListDTO toDto(Item it, StoreMenuSoldout soldout) {
+        MenuListDTO d = new MenuListDTO();
+        d.setMenuId(it.menuId());
+        d.setMenuName(it.menuName());
+        d.setMenuNameEnglish(it.menuNameEnglish());
+        d.setMenuCategoryId(it.menuCategoryId());
+        d.setMenuCategoryName(it.menuCategoryName());
+        d.setMenuPrice(it.menuPrice());
+        d.setMenuKcal(it.menuKcal());
+        d.setMenuInformation(it.menuInformation());
+        d.setMenuCode(it.menuCode());
+        d.setStoreMenuSoldout(soldout);
+        d.setMenuShow(it.menuShow());
+        return d;
+    }
+
+    /**
+     * {@link Sort} → 비교자. 지원 필드: menuId, menuName, menuPrice, menuKcal (기타는 menuId DESC).
+     * DB 와 같이 오름차순은 null 먼저, 내림차순은 null 나중. 동률은 menuId DESC 로 고정한다.
+     */
+    private static Comparator<Item> comparator(Sort sort) {
+        Comparator<Item> cmp = null;
+        for (Sort.Order order : sort) {
+            Comparator<Item> c = switch (order.getProperty()) {
+                case "menuId" -> by(Item::menuId, Comparator.naturalOrder(), order.isAscending());
+                case "menuName" -> by(Item::menuName, String.CASE_INSENSITIVE_ORDER, order.isAscending());
+                case "menuPrice" -> by(Item::menuPrice, Comparator.naturalOrder(), order.isAscending());
+                case "menuKcal" -> by(Item::menuKcal, Comparator.naturalOrder(), order.isAscending());
+                default -> by(Item::menuId, Comparator.naturalOrder(), false);
+            };
+            cmp = cmp == null ? c : cmp.thenComparing(c);
+        }
+        Comparator<Item> tie = by(Item::menuId, Comparator.<Long>naturalOrder(), false);
+        return cmp == null ? tie : cmp.thenComparing(tie);
+    }
+
+    private static <T> Comparator<Item> by(Function<Item, T> key, Comparator<? super T> natural, boolean asc) {
+        Comparator<Item> c = Comparator.comparing(key, Comparator.nullsFirst(natural));
+        return asc ? c : c.reversed();
+    }
+}
@@ -1,5 +1,6 @@
 package com.boot.ict05_final_user.domain.menu.service;
 
+import com.boot.ict05_final_user.domain.menu.dto.MenuAvailabilityDTO;
 import com.boot.ict05_final_user.domain.menu.dto.MenuDetailDTO;
 import com.boot.ict05_final_user.domain.menu.dto.MenuListDTO;
 import com.boot.ict05_final_user.domain.menu.dto.MenuSearchDTO;
@@ -15,13 +16,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * 메뉴 도메인의 비즈니스 로직을 담당하는 서비스.
  *
  * <p>
  * - 가맹점 기준의 메뉴 목록 조회(검색/필터/페이징/정렬 연계)<br>
  * - 단일 메뉴 상세 조회<br>
- * - 가맹점 단위 품절 상태 갱신
+ * - 가맹점 단위 품절 상태 갱신<br>
+ * - 레시피 재고 기준 판매 가능 수량 조회({@link MenuAvailabilityEngine})
  * </p>
  *
  * <p><b>트랜잭션 경계</b></p>
@@ -39,12 +44,14 @@ public class MenuService {
     private final MenuRepository menuRepository;
     private final StoreMenuRepository storeMenuRepository;
     private final StoreRepository storeRepository;
+    private final MenuAvailabilityEngine menuAvailabilityEngine;
+    private final MenuCatalogCache menuCatalogCache;
 
     /**
      * 로그인한 가맹점 기준으로 메뉴 목록을 페이지 단위로 조회합니다.
      *
      * <p>검색/필터 값({@link MenuSearchDTO})과 페이징/정렬({@link Pageable})을 그대로 위임하여
-     * DTO 페이지를 반환합니다.</p>
+     * DTO 페이지를 반환합니다. 카탈로그 캐시가 켜져 있으면 {@link MenuCatalogCache}에서 조회합니다.</p>
      *
      * @param storeId       가맹점 ID
      * @param menuSearchDTO 검색/필터 파라미터(Null 허용)
@@ -52,16 +59,43 @@ public class MenuService {
      * @return 페이징 처리된 메뉴 리스트 DTO
      */
     public Page<MenuListDTO> selectAllStoreMenu(Long storeId, MenuSearchDTO menuSearchDTO, Pageable pageable) {
-        var menus = menuRepository.listMenu(storeId, menuSearchDTO, pageable);
+        var menus = menuCatalogCache.isEnabled()
+                ? menuCatalogCache.list(storeId, menuSearchDTO, pageable)
+                : menuRepository.listMenu(storeId, menuSearchDTO, pageable);
 
-        log.info("storeId={}, rows={}", storeId, menus.getNumberOfElements());
-        menus.getContent().forEach(m ->
-                log.info("id={}, name={}", m.getMenuId(), m.getMenuName())
-        );
+        // 판매 가능 수량은 메모리 엔진 값으로 덮어쓴다
+        Map<Long, Long> servings = menuAvailabilityEngine.servings(storeId);
+        menus.getContent().forEach(m -> m.setAvailableServings(servings.get(m.getMenuId())));
 
+        log.debug("storeId={}, rows={}", storeId, menus.getNumberOfElements());
         return menus;
     }
 
+    /**
+     * 메뉴 목록 ETag 를 계산합니다 (조건부 요청용).
+     *
+     * @param storeId       가맹점 ID
+     * @param menuSearchDTO 검색/필터 파라미터(Null 허용)
+     * @param pageable      페이지 정보
+     * @return ETag (카탈로그 캐시 비활성 시 {@code null})
+     */
+    @Transactional(readOnly = true)
+    public String menuListEtag(Long storeId, MenuSearchDTO menuSearchDTO, Pageable pageable) {
+        if (!menuCatalogCache.isEnabled()) return null;
+        return menuCatalogCache.etag(storeId, menuSearchDTO, pageable, menuAvailabilityEngine.revision(storeId));
+    }
+
+    /**
+     * 가맹점 메뉴별 판매 가능 수량과 품절 상태를 메모리에서 조회합니다 (POS 용).
+     *
+     * @param storeId 가맹점 ID
+     * @return 메뉴 ID 오름차순 판매 가능 수량 목록
+     */
+    @Transactional(readOnly = true)
+    public List<MenuAvailabilityDTO> selectMenuAvailability(Long storeId) {
+        return menuAvailabilityEngine.availability(storeId);
+    }
+
     /**
      * 단일 메뉴의 상세 정보를 조회합니다.
      *
@@ -80,7 +114,8 @@ public class MenuService {
      *
      * <p>
      * - 기존 매핑이 없으면 {@link StoreMenu}를 생성한 뒤 기본값을 적용하여 저장합니다.<br>
-     * - 이후 품절 상태를 요청 상태로 갱신하며, JPA Dirty Checking으로 반영됩니다.
+     * - 이후 품절 상태를 요청 상태로 갱신하며, JPA Dirty Checking으로 반영됩니다.<br>
+     * - 수동 변경이므로 자동 품절 표시는 해제합니다(재고가 다시 0 으로 떨어질 때까지 자동 전환 없음).
      * </p>
      *
      * @param storeId 가맹점 ID
@@ -105,5 +140,8 @@ public class MenuService {
                 });
 
         storeMenu.setStoreMenuSoldout(status);
+        storeMenu.setStoreMenuSoldoutAuto(false);
+        menuAvailabilityEngine.onSoldOutChanged(storeId, menuId, status);
+        menuCatalogCache.evictOverlay(storeId);
     }
 }
@@ -11,6 +11,7 @@ import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +39,11 @@ import java.util.Map;
  *
  * <p>
  * 반환 형태: {@code materialId → 총 필요 수량}. 재료 ID 기준으로 합산됩니다.
+ * 메뉴별 소진 기록이 필요하면 {@link #calcMaterialsByMenu(CustomerOrder)}로 메뉴 단위 집계를 받습니다.
+ * </p>
+ *
+ * <p>
+ * 조회: 주문에 포함된 메뉴 전체의 레시피를 한 번의 쿼리로 가져옵니다(메뉴 수와 무관).
  * </p>
  */
 @Component
@@ -63,32 +69,51 @@ public class MenuUsageCalculator {
      */
     public Map<Long, BigDecimal> calcMaterialsForOrder(CustomerOrder order) {   // 주문 전체의 필요 재료 합계
         Map<Long, BigDecimal> need = new HashMap<>();                           // materialId -> 총 필요수량
+        for (Map<Long, BigDecimal> perMenu : calcMaterialsByMenu(order).values()) {
+            perMenu.forEach((materialId, qty) -> need.merge(materialId, qty, BigDecimal::add)); // 같은 재료가 여러 메뉴에 있으면 누적
+        }
+        return need;                                                            // materialId -> 총 필요수량
+    }
 
+    /**
+     * 주문에 대해 메뉴별·재료별 필요 수량을 계산합니다.
+     *
+     * <p>
+     * 같은 메뉴가 여러 디테일에 나뉘어 있으면 주문 수량을 먼저 합친 뒤 레시피를 곱합니다.
+     * 처리 규칙(수량 null → 1, 재료 null 제외)은 {@link #calcMaterialsForOrder(CustomerOrder)}와 같습니다.
+     * </p>
+     *
+     * @param order 계산 대상 주문
+     * @return menuId → (materialId → 필요 수량), 주문 디테일 순서 유지
+     */
+    public Map<Long, Map<Long, BigDecimal>> calcMaterialsByMenu(CustomerOrder order) {
+        Map<Long, Integer> qtyByMenu = new LinkedHashMap<>();                   // menuId -> 주문 수량 합계
         for (CustomerOrderDetail d : order.getDetails()) {                      // 주문의 각 디테일(메뉴, 수량) 순회
             Menu menu = d.getMenuIdFk();                          // 주문 디테일에 연결된 메뉴 엔티티
             if (menu == null) continue;                           // (방어) 메뉴가 없으면 스킵
 
-            Long menuId = menu.getMenuId();                           // 메뉴 PK
             int qty = (d.getQuantity() == null) ? 1               // 주문 수량 (null이면 1로 처리)
                     : d.getQuantity();
-            // 주문 수량
+            qtyByMenu.merge(menu.getMenuId(), qty, Integer::sum);
+        }
 
-            List<MenuRecipe> recipe = recipeRepo.findByMenu(menu);          // 해당 메뉴의 레시피 전부 가져옴
-            for (MenuRecipe r : recipe) {                                       // 레시피의 각 재료
-                Material mat = r.getMaterial();                   // 레시피에 연결된 재료(재고 대상)
-                if (mat == null) continue;                        // (옵션) 가공-only 항목이면 스킵
+        Map<Long, Map<Long, BigDecimal>> need = new LinkedHashMap<>();
+        if (qtyByMenu.isEmpty()) return need;
 
-                Long materialId = mat.getId();                    // 재료 PK
-                BigDecimal perOne = r.getRecipeQty();             // 1개 만들 때 필요한 수량 (필드명: recipeQty)
-                BigDecimal total = perOne                         // 총 필요 수량 = 1개 필요량 × 주문 수량
-                        .multiply(BigDecimal.valueOf(qty));
+        List<MenuRecipe> recipes = recipeRepo.findByMenu_MenuIdIn(qtyByMenu.keySet()); // 주문 메뉴 레시피를 한 번에 조회
+        for (MenuRecipe r : recipes) {                                          // 레시피의 각 재료
+            Material mat = r.getMaterial();                       // 레시피에 연결된 재료(재고 대상)
+            if (mat == null) continue;                            // (옵션) 가공-only 항목이면 스킵
 
-                // (단위 변환 필요시) 여기서 Material 기본단위로 변환 후 합산하면 됨.
+            Long menuId = r.getMenu().getMenuId();
+            BigDecimal total = r.getRecipeQty()                   // 총 필요 수량 = 1개 필요량 × 주문 수량
+                    .multiply(BigDecimal.valueOf(qtyByMenu.get(menuId)));
 
-                // 같은 재료가 여러 메뉴/항목에 걸쳐 나오면 누적
-                need.merge(materialId, total, BigDecimal::add);                // 같은 재료가 여러 메뉴에 있으면 누적
-            }
+            // (단위 변환 필요시) 여기서 Material 기본단위로 변환 후 합산하면 됨.
+
+            need.computeIfAbsent(menuId, k -> new LinkedHashMap<>())
+                    .merge(mat.getId(), total, BigDecimal::add);  // 같은 메뉴에 같은 재료가 여러 줄이면 누적
         }
-        return need;                                                            // materialId -> 총 필요수량
+        return need;
     }
 }
@@ -0,0 +1,65 @@
+package com.boot.ict05_final_user.domain.menu.service;
+
+import com.boot.ict05_final_user.domain.inventory.service.UnitPriceResolver;
+import com.boot.ict05_final_user.domain.menu.config.MenuUsageCostProperties;
+import com.boot.ict05_final_user.domain.menu.repository.MenuUsageMaterialLogJdbcRepository;
+import com.boot.ict05_final_user.domain.menu.repository.MenuUsageMaterialLogJdbcRepository.UncostedRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메뉴 재료 소진 원가 백필 서비스.
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>원가 컬럼 도입 이전의 소진 기록에 주문 시각 기준 원가를 채운다
+ *       (신규 기록과 같은 {@link UnitPriceResolver#usageCost} 규칙).</li>
+ *   <li>PK 구간(청크)마다 별도 트랜잭션으로 커밋하여 긴 잠금을 피한다.</li>
+ *   <li>원가가 NULL 인 행만 갱신하므로 중단 후 재실행하거나 운영 중 실행해도 안전하다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MenuUsageCostBackfillService {
+
+    private final MenuUsageMaterialLogJdbcRepository logJdbcRepository;
+    private final UnitPriceResolver unitPriceResolver;
+    private final MenuUsageCostProperties props;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 전체 백필 실행.
+     *
+     * @return 원가를 기록한 행 수
+     */
+    public long backfillAll() {
+        int chunk = Math.max(1, props.getBackfillChunkSize());
+        long max = logJdbcRepository.findMaxUncostedId();
+        long updated = 0;
+        for (long after = 0; after < max; after += chunk) {
+            long from = after, upto = Math.min(after + chunk, max);
+            Integer n = transactionTemplate.execute(tx -> backfill(from, upto));
+            updated += n != null ? n : 0;
+            log.debug("[USAGE_COST] backfill ({}, {}] total={}", from, upto, updated);
+        }
+        log.info("[USAGE_COST] backfill done rows={}", updated);
+        return updated;
+    }
+
+    private int backfill(long afterId, long uptoId) {
+        Map<Long, BigDecimal> costById = new HashMap<>();
+        for (UncostedRow r : logJdbcRepository.findUncosted(afterId, uptoId)) {
+            costById.put(r.id(), unitPriceResolver.usageCost(
+                    r.materialId(), r.purchasePrice(), r.conversionRate(), r.count(), r.orderedAt()));
+        }
+        logJdbcRepository.updateCosts(costById);
+        return costById.size();
+    }
+}
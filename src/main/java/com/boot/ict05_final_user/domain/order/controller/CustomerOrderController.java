@@ -20,10 +20,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 /**
  * 가맹점 주문(Customer Orders) API 컨트롤러.
@@ -174,7 +176,8 @@ public class CustomerOrderController {
             @ApiResponse(responseCode = "400", description = "요청 형식 오류"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
             @ApiResponse(responseCode = "403", description = "인가 실패"),
-            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음"),
+            @ApiResponse(responseCode = "409", description = "다른 화면과 동시 변경 충돌(재시도 소진)")
     })
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<Void> updateStatus(
@@ -195,27 +198,37 @@ public class CustomerOrderController {
     /**
      * 주문 상세를 조회합니다(가맹점 기준 접근 제어).
      *
-     * @param user    인증 사용자
-     * @param orderId 주문 ID
-     * @return 주문 상세 DTO
+     * <p>응답에 주문 행 버전 기반 ETag를 포함하며, 폴링 클라이언트가 {@code If-None-Match}로
+     * 같은 값을 보내면 품목 조회 없이 304를 반환합니다.</p>
+     *
+     * @param user        인증 사용자
+     * @param orderId     주문 ID
+     * @param ifNoneMatch 이전 응답의 ETag (선택)
+     * @param webRequest  조건부 요청 판단용
+     * @return 주문 상세 DTO 또는 304
      */
     @Operation(
             summary = "주문 상세 조회",
-            description = "로그인한 가맹점(storeId) 기준으로 단일 주문 상세를 조회합니다. 소유 매장이 아닌 경우 403을 반환합니다."
+            description = "로그인한 가맹점(storeId) 기준으로 단일 주문 상세를 조회합니다. 소유 매장이 아닌 주문은 404를 반환합니다. "
+                    + "If-None-Match가 현재 ETag와 같으면 304를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = CustomerOrderDetailDTO.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "변경 없음(ETag 일치)"),
             @ApiResponse(responseCode = "401", description = "인증 실패"),
-            @ApiResponse(responseCode = "403", description = "인가 실패(다른 매장 주문 접근)"),
-            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "주문을 찾을 수 없음(다른 매장 주문 포함)")
     })
     @GetMapping("/{orderId}")
     public ResponseEntity<CustomerOrderDetailDTO> getOrderDetail(
             @Parameter(hidden = true)
             @AuthenticationPrincipal AppUser user,
             @Parameter(description = "주문 ID", required = true)
-            @PathVariable Long orderId
+            @PathVariable Long orderId,
+            @Parameter(description = "이전 응답의 ETag (여러 개 또는 * 가능)")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true)
+            ServletWebRequest webRequest
     ) {
         if (user == null) {
             log.warn("Unauthenticated GET /api/customer-orders/{} 요청", orderId);
@@ -223,13 +236,23 @@ public class CustomerOrderController {
         }
 
         Long storeId = user.getStoreId();
-        log.info("get order detail orderId={}, storeId={}", orderId, storeId);
+
+        if (ifNoneMatch != null) {
+            String current = orderService.getOrderDetailETag(storeId, orderId);
+            if (current == null) {
+                return ResponseEntity.notFound().build();
+            }
+            // 약한 비교, 쉼표로 나열한 ETag 목록, * 를 모두 처리하며 일치하면 304 + ETag 를 응답에 쓴다
+            if (webRequest.checkNotModified(current)) {
+                return null;
+            }
+        }
 
         try {
             CustomerOrderDetailDTO dto = orderService.getOrderDetail(storeId, orderId);
-            return ResponseEntity.ok(dto);
-        } catch (IllegalStateException e) {
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            return ResponseEntity.ok()
+                    .eTag(CustomerOrderService.orderETag(dto.getOrderId(), dto.getVersion()))
+                    .body(dto);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -5,6 +5,7 @@ import com.boot.ict05_final_user.domain.order.entity.CustomerOrderDetail;
 import com.boot.ict05_final_user.domain.order.entity.OrderStatus;
 import com.boot.ict05_final_user.domain.order.entity.OrderType;
 import com.boot.ict05_final_user.domain.order.entity.PaymentType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -55,6 +56,11 @@ public class CustomerOrderDetailDTO {
     @Schema(description = "할인 전 금액(총액+할인)")
     private int originalTotal;
 
+    /** 주문 행 버전 (응답 본문 제외, ETag 계산용) */
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Long version;
+
     @ArraySchema(arraySchema = @Schema(description = "주문 품목 목록"),
             schema = @Schema(implementation = ItemDTO.class))
     private List<ItemDTO> items;
@@ -116,6 +122,7 @@ public class CustomerOrderDetailDTO {
         dto.setTotalPrice(order.getTotalPrice().intValue());
         dto.setDiscount(order.getDiscount().intValue());
         dto.setOriginalTotal(order.getTotalPrice().intValue() + order.getDiscount().intValue());
+        dto.setVersion(order.getVersion());
 
         dto.setItems(details.stream()
                 .map(ItemDTO::from)
@@ -90,6 +90,12 @@ public class CustomerOrder {
     @Schema(description = "배달 주소")
     private String deliveryAddress;
 
+    /** 행 버전 (낙관적 락 + 주문 상세 ETag 기준) */
+    @Version
+    @Column(name = "customer_order_version", nullable = false, columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    @Schema(description = "행 버전", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     /** 주문 상세 목록 */
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     @Schema(description = "주문 품목 목록", implementation = CustomerOrderDetail.class)
@@ -1,14 +1,23 @@
 package com.boot.ict05_final_user.domain.order.repository;
 
+import com.boot.ict05_final_user.domain.order.dto.CustomerOrderDetailDTO;
 import com.boot.ict05_final_user.domain.order.dto.CustomerOrderSearchDTO;
 import com.boot.ict05_final_user.domain.order.entity.CustomerOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
+
 public interface CustomerOrderRepositoryCustom {
 
     // 로그인한 가맹점 기준 주문 검색 + 페이징
     Page<CustomerOrder> searchOrders(Long storeId,
                                      CustomerOrderSearchDTO cond,
                                      Pageable pageable);
+
+    // 주문 헤더 + 품목 + 메뉴명을 한 번의 조인 조회로 (storeId를 WHERE에서 강제)
+    Optional<CustomerOrderDetailDTO> findOrderDetail(Long storeId, Long orderId);
+
+    // 주문 행 버전만 조회 (ETag 비교용, storeId를 WHERE에서 강제)
+    Optional<Long> findOrderVersion(Long storeId, Long orderId);
 }
@@ -1,11 +1,13 @@
 package com.boot.ict05_final_user.domain.order.repository;
 
+import com.boot.ict05_final_user.domain.order.dto.CustomerOrderDetailDTO;
 import com.boot.ict05_final_user.domain.order.dto.CustomerOrderSearchDTO;
 import com.boot.ict05_final_user.domain.order.entity.CustomerOrder;
 import com.boot.ict05_final_user.domain.order.entity.QCustomerOrder;
 import com.boot.ict05_final_user.domain.order.entity.QCustomerOrderDetail;
 import com.boot.ict05_final_user.domain.menu.entity.QMenu;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -14,8 +16,11 @@ import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * {@link CustomerOrderRepositoryCustom} 구현체.
@@ -115,6 +120,105 @@ public class CustomerOrderRepositoryImpl implements CustomerOrderRepositoryCusto
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
+    /**
+     * 주문 상세(헤더 + 품목 + 메뉴명)를 단일 조인 조회로 가져옵니다.
+     *
+     * <p>가맹점 소유 여부는 WHERE 절({@code store_id_fk = :storeId})에서 판단하므로
+     * 다른 매장의 주문은 존재하지 않는 주문과 동일하게 빈 결과가 됩니다.
+     * 품목이 없는 주문도 헤더는 반환되도록 LEFT JOIN을 사용합니다.</p>
+     *
+     * @param storeId 가맹점 ID(필수)
+     * @param orderId 주문 ID
+     * @return 주문 상세 DTO (없거나 다른 매장 주문이면 empty)
+     */
+    @Override
+    public Optional<CustomerOrderDetailDTO> findOrderDetail(Long storeId, Long orderId) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+
+        QCustomerOrder order = QCustomerOrder.customerOrder;
+        QCustomerOrderDetail detail = QCustomerOrderDetail.customerOrderDetail;
+        QMenu menu = QMenu.menu;
+
+        List<Tuple> rows = queryFactory
+                .select(
+                        order.id, order.orderCode, order.orderedAt, order.memo, order.customerPhone,
+                        order.status, order.orderType, order.paymentType,
+                        order.totalPrice, order.discount, order.version,
+                        detail.id, menu.menuId, menu.menuName, detail.unitPrice, detail.quantity
+                )
+                .from(order)
+                .leftJoin(order.details, detail)
+                .leftJoin(detail.menuIdFk, menu)
+                .where(
+                        order.id.eq(orderId),
+                        order.store.id.eq(storeId)
+                )
+                .orderBy(detail.id.asc())
+                .fetch();
+
+        if (rows.isEmpty()) return Optional.empty();
+
+        Tuple head = rows.get(0);
+        BigDecimal totalPrice = head.get(order.totalPrice);
+        BigDecimal discount = head.get(order.discount);
+        int total = totalPrice == null ? 0 : totalPrice.intValue();
+        int disc = discount == null ? 0 : discount.intValue();
+
+        CustomerOrderDetailDTO dto = new CustomerOrderDetailDTO();
+        dto.setOrderId(head.get(order.id));
+        dto.setOrderCode(head.get(order.orderCode));
+        dto.setOrderedAt(head.get(order.orderedAt));
+        dto.setCustomerName(head.get(order.memo));
+        dto.setCustomerPhone(head.get(order.customerPhone));
+        dto.setStatus(head.get(order.status));
+        dto.setOrderType(head.get(order.orderType));
+        dto.setPaymentType(head.get(order.paymentType));
+        dto.setTotalPrice(total);
+        dto.setDiscount(disc);
+        dto.setOriginalTotal(total + disc);
+        dto.setVersion(head.get(order.version));
+
+        List<CustomerOrderDetailDTO.ItemDTO> items = new ArrayList<>(rows.size());
+        for (Tuple t : rows) {
+            if (t.get(detail.id) == null) continue; // 품목 없는 주문
+            BigDecimal unitPrice = t.get(detail.unitPrice);
+            Integer quantity = t.get(detail.quantity);
+
+            CustomerOrderDetailDTO.ItemDTO item = new CustomerOrderDetailDTO.ItemDTO();
+            item.setMenuId(t.get(menu.menuId));
+            item.setMenuName(t.get(menu.menuName));
+            item.setUnitPrice(unitPrice == null ? 0 : unitPrice.intValue());
+            item.setQuantity(quantity == null ? 0 : quantity);
+            item.setLineTotal(item.getUnitPrice() * item.getQuantity());
+            items.add(item);
+        }
+        dto.setItems(items);
+
+        return Optional.of(dto);
+    }
+
+    /**
+     * 주문 행 버전만 조회합니다. (PK 조회, 품목 조인 없음)
+     *
+     * @param storeId 가맹점 ID(필수)
+     * @param orderId 주문 ID
+     * @return 행 버전 (없거나 다른 매장 주문이면 empty)
+     */
+    @Override
+    public Optional<Long> findOrderVersion(Long storeId, Long orderId) {
+        if (storeId == null) throw new IllegalArgumentException("storeId is required");
+
+        QCustomerOrder order = QCustomerOrder.customerOrder;
+        return Optional.ofNullable(queryFactory
+                .select(order.version)
+                .from(order)
+                .where(
+                        order.id.eq(orderId),
+                        order.store.id.eq(storeId)
+                )
+                .fetchOne());
+    }
+
     /**
      * 기간 프리셋(today/week/month/all)에 따른 주문일시 필터식을 생성합니다.
      *
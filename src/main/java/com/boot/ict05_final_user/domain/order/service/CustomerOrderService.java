@@ -1,5 +1,9 @@
 package com.boot.ict05_final_user.domain.order.service;
 
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsResultCache;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsTimeCube;
+import com.boot.ict05_final_user.domain.home.service.TodayMenuRankingTracker;
+import com.boot.ict05_final_user.domain.inventory.service.InventoryMutationExecutor;
 import com.boot.ict05_final_user.domain.menu.entity.Menu;
 import com.boot.ict05_final_user.domain.menu.repository.MenuRepository;
 import com.boot.ict05_final_user.domain.order.dto.*;
@@ -41,6 +45,10 @@ public class CustomerOrderService {
     private final CustomerOrderDetailRepository detailRepository;
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
+    private final TodayMenuRankingTracker todayMenuRankingTracker;
+    private final AnalyticsResultCache analyticsResultCache;
+    private final AnalyticsTimeCube analyticsTimeCube;
+    private final InventoryMutationExecutor mutationExecutor;
 
     /**
      * 주문을 생성합니다.
@@ -97,46 +105,77 @@ public class CustomerOrderService {
     /**
      * 주문 상태를 변경합니다.
      *
-     * <p>영문 상수 또는 DB 라벨 문자열을 입력받아 {@link OrderStatus}로 변환 후 반영합니다.</p>
+     * <p>영문 상수 또는 DB 라벨 문자열을 입력받아 {@link OrderStatus}로 변환 후 반영합니다.
+     * 다른 화면(주방 등)과 동시에 바뀌어 버전 충돌이 나면 {@link InventoryMutationExecutor#executeBoundary}가 다시 읽어 재적용합니다
+     * (재시도 횟수·대기는 {@code inventory.concurrency.*}).</p>
      *
      * @param orderId    주문 ID
      * @param statusText 상태 문자열
      * @throws IllegalArgumentException 주문이 없거나 상태 문자열이 유효하지 않을 때
+     * @throws org.springframework.dao.OptimisticLockingFailureException 충돌 재시도 소진
      */
-    @Transactional
     public void updateStatus(Long orderId, String statusText) {
-        CustomerOrder order = orderRepository.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
-
         OrderStatus newStatus;
         try {
             newStatus = OrderStatus.valueOf(statusText.toUpperCase());
         } catch (Exception ignore) {
             newStatus = OrderStatus.from(statusText);
         }
-        order.setStatus(newStatus);
+        OrderStatus target = newStatus;
+
+        mutationExecutor.executeBoundary(() -> {
+            CustomerOrder order = orderRepository.findById(orderId)
+                    .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+
+            OrderStatus prevStatus = order.getStatus();
+            order.setStatus(target);
+
+            // 대시보드 오늘의 TOP 메뉴 집계 반영 (커밋 후)
+            todayMenuRankingTracker.onStatusChanged(
+                    order.getStore().getId(), order.getOrderedAt(), prevStatus, target,
+                    detailRepository.findByOrder_Id(orderId));
+
+            // 지난 날짜 주문이면 분석 결과 캐시 무효화, 시간대 큐브는 해당 일자 갱신 (커밋 후)
+            analyticsResultCache.onOrderChanged(order.getStore().getId(), order.getOrderedAt());
+            analyticsTimeCube.onOrderChanged(order.getStore().getId(), order.getOrderedAt());
+            return null;
+        });
     }
 
     /**
      * 주문 상세를 조회합니다(가맹점 기준 접근 제어).
      *
+     * <p>헤더/품목/메뉴명을 단일 조인 조회로 가져오며, 가맹점 소유 여부는 WHERE 절에서 판단합니다.
+     * 다른 가맹점의 주문은 존재하지 않는 주문과 동일하게 처리합니다.</p>
+     *
      * @param storeId 로그인 가맹점 ID
      * @param orderId 주문 ID
      * @return 주문 상세 DTO
-     * @throws IllegalArgumentException 주문이 존재하지 않을 때
-     * @throws IllegalStateException    다른 가맹점의 주문일 때
+     * @throws IllegalArgumentException 주문이 없거나 다른 가맹점의 주문일 때
      */
     public CustomerOrderDetailDTO getOrderDetail(Long storeId, Long orderId) {
-        CustomerOrder order = orderRepository.findById(orderId)
+        return orderRepository.findOrderDetail(storeId, orderId)
                 .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+    }
 
-        if (!order.getStore().getId().equals(storeId)) {
-            throw new IllegalStateException("다른 매장의 주문에 접근할 수 없습니다.");
-        }
-
-        List<CustomerOrderDetail> details = detailRepository.findByOrder_Id(orderId);
+    /**
+     * 주문 상세 ETag 값을 계산합니다. (행 버전만 조회)
+     *
+     * <p>형식: {@code W/"{orderId}-{version}"}. 상태 변경 등 주문 행이 갱신되면 버전이 올라갑니다.</p>
+     *
+     * @param storeId 로그인 가맹점 ID
+     * @param orderId 주문 ID
+     * @return ETag (없거나 다른 가맹점의 주문이면 null)
+     */
+    public String getOrderDetailETag(Long storeId, Long orderId) {
+        return orderRepository.findOrderVersion(storeId, orderId)
+                .map(v -> orderETag(orderId, v))
+                .orElse(null);
+    }
 
-        return CustomerOrderDetailDTO.from(order, details);
+    /** 주문 ID + 행 버전 기반 약한 ETag */
+    public static String orderETag(Long orderId, Long version) {
+        return "W/\"" + orderId + "-" + (version == null ? 0L : version) + "\"";
     }
 
     /**
@@ -1,20 +1,23 @@
 package com.boot.ict05_final_user.domain.order.service;
 
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsResultCache;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsTimeCube;
 import com.boot.ict05_final_user.domain.inventory.dto.StoreConsumeRequestDTO;
-import com.boot.ict05_final_user.domain.inventory.repository.StoreMaterialRepository;
+import com.boot.ict05_final_user.domain.inventory.service.InventoryMutationExecutor;
 import com.boot.ict05_final_user.domain.inventory.service.StoreConsumptionService;
+import com.boot.ict05_final_user.domain.inventory.service.StoreMaterialMappingCache;
 import com.boot.ict05_final_user.domain.menu.service.MenuUsageCalculator;
 import com.boot.ict05_final_user.domain.menu.service.MenuUsageMaterialLogService;
 import com.boot.ict05_final_user.domain.order.entity.CustomerOrder;
 import com.boot.ict05_final_user.domain.order.entity.OrderStatus;
 import com.boot.ict05_final_user.domain.order.repository.CustomerOrderRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -33,6 +36,9 @@ import java.util.Map;
  *   <li>소비 요청 DTO 변환 후 판매 소진 처리({@link StoreConsumptionService})</li>
  *   <li>사용 로그 기록({@link MenuUsageMaterialLogService})</li>
  * </ol>
+ *
+ * <p><b>쿼리 수</b>: 레시피 조회 1회, 매장-재료 매핑은 캐시({@link StoreMaterialMappingCache}),
+ * 재고 차감/이력/원장/사용 로그는 batch 로 처리하여 레시피 재료 수와 무관하게 일정하다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -41,29 +47,43 @@ public class OrderStatusService {
     private final CustomerOrderRepository orderRepo;                 // 주문 저장소
     private final MenuUsageCalculator usageCalculator;               // 레시피 기반 필요 수량 계산기
     private final StoreConsumptionService storeConsumptionService;   // 재고 차감(판매 소진)
-    private final StoreMaterialRepository storeMaterialRepository;   // materialId -> storeMaterialId 매핑
+    private final StoreMaterialMappingCache materialMappingCache;     // materialId -> storeMaterialId 매핑
     private final MenuUsageMaterialLogService usageLogService;       // 사용 로그 기록
+    private final AnalyticsResultCache analyticsResultCache;         // 분석 결과 캐시 무효화
+    private final AnalyticsTimeCube analyticsTimeCube;               // 시간대 큐브 일자 갱신
+    private final InventoryMutationExecutor mutationExecutor;        // 전이 단위 트랜잭션 + 충돌 재시도
 
     /**
      * 주문 상태를 갱신한다. 필요 시 재고 차감을 수행한다.
      *
      * <p>규칙: {@code PREPARING → COOKING} 전이에서만 재고 차감/로그 기록을 트리거한다.</p>
      *
+     * <p>상태 변경·재고 차감·사용 로그를 {@link InventoryMutationExecutor#executeBoundary}로 한 트랜잭션에 묶는다.
+     * 재고/주문 버전 충돌은 커밋 시점에 드러나므로 이 경계에서 전이 전체를 처음부터 재시도하며,
+     * 충돌·재시도 횟수는 차감한 재료별 경합 통계에 집계된다.</p>
+     *
      * @param orderId 주문 ID
      * @param next    다음 상태
      * @throws IllegalArgumentException 주문이 존재하지 않을 때
+     * @throws org.springframework.dao.OptimisticLockingFailureException 충돌 재시도 소진
      */
-    @Transactional
     public void updateStatus(Long orderId, OrderStatus next) {
-        CustomerOrder order = orderRepo.findById(orderId)
-                .orElseThrow(() -> new IllegalArgumentException("order not found: " + orderId));
-
-        OrderStatus prev = order.getStatus();
-        order.setStatus(next);
-
-        if (prev == OrderStatus.PREPARING && next == OrderStatus.COOKING) {
-            applyUsage(order); // 조리 시작 시 재고 차감
-        }
+        mutationExecutor.executeBoundary(() -> {
+            CustomerOrder order = orderRepo.findById(orderId)
+                    .orElseThrow(() -> new IllegalArgumentException("order not found: " + orderId));
+
+            OrderStatus prev = order.getStatus();
+            order.setStatus(next);
+
+            if (prev == OrderStatus.PREPARING && next == OrderStatus.COOKING) {
+                applyUsage(order); // 조리 시작 시 재고 차감
+            }
+
+            // 지난 날짜 주문이면 분석 결과 캐시 무효화, 시간대 큐브는 해당 일자 갱신 (커밋 후)
+            analyticsResultCache.onOrderChanged(order.getStore().getId(), order.getOrderedAt());
+            analyticsTimeCube.onOrderChanged(order.getStore().getId(), order.getOrderedAt());
+            return null;
+        });
     }
 
     /**
@@ -71,7 +91,7 @@ public class OrderStatusService {
      *
      * <p>처리 순서:</p>
      * <ol>
-     *   <li>필요 수량 집계: materialId → 총 필요 수량</li>
+     *   <li>필요 수량 집계: menuId → materialId → 수량, materialId → 총 필요 수량</li>
      *   <li>상관키 생성</li>
      *   <li>소비 서비스 호출</li>
      *   <li>사용 로그 기록</li>
@@ -80,8 +100,10 @@ public class OrderStatusService {
      * @param order 대상 주문
      */
     private void applyUsage(CustomerOrder order) {
-        // 1) 주문 전체 필요 재료 합계 (materialId -> 총필요수량)
-        Map<Long, BigDecimal> need = usageCalculator.calcMaterialsForOrder(order);
+        // 1) 메뉴별 필요 재료 (menuId -> materialId -> 수량) 및 주문 전체 합계 (materialId -> 총필요수량)
+        Map<Long, Map<Long, BigDecimal>> needByMenu = usageCalculator.calcMaterialsByMenu(order);
+        Map<Long, BigDecimal> need = new HashMap<>();
+        needByMenu.values().forEach(m -> m.forEach((materialId, qty) -> need.merge(materialId, qty, BigDecimal::add)));
 
         // 2) 상관키 (멱등/추적용)
         String corr = "ORDER-" + order.getId();
@@ -92,7 +114,7 @@ public class OrderStatusService {
         storeConsumptionService.consume(storeId, req);
 
         // 4) 사용 로그 기록
-        usageLogService.logDeduct(order, need, corr);
+        usageLogService.logDeduct(order, needByMenu, corr);
     }
 
     /**
@@ -115,18 +137,13 @@ public class OrderStatusService {
 
         List<StoreConsumeRequestDTO.Line> lines = new ArrayList<>();
 
+        // storeId + materialId -> storeMaterialId 일괄 변환 (캐시)
+        Map<Long, Long> smIdByMaterialId = materialMappingCache.resolve(storeId, need.keySet());
+
         for (Map.Entry<Long, BigDecimal> e : need.entrySet()) {
-            Long materialId = e.getKey();                  // 본사 재료 PK
+            Long storeMaterialId = smIdByMaterialId.get(e.getKey()); // 본사 재료 PK -> 가맹점 재료 PK
             BigDecimal qty = e.getValue();                 // 필요 수량
 
-            // storeId + materialId -> storeMaterialId 조회
-            Long storeMaterialId = storeMaterialRepository
-                    .findByStore_IdAndMaterial_Id(storeId, materialId)
-                    .orElseThrow(() ->
-                            new IllegalArgumentException("StoreMaterial not found. storeId="
-                                    + storeId + ", materialId=" + materialId))
-                    .getId();
-
             // DTO 라인 구성
             StoreConsumeRequestDTO.Line line = new StoreConsumeRequestDTO.Line();
             line.setStoreMaterialId(storeMaterialId);
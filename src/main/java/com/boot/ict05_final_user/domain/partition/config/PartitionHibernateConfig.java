@@ -0,0 +1,22 @@
+package com.boot.ict05_final_user.domain.partition.config;
+
+import com.boot.ict05_final_user.domain.partition.support.ArchiveAwareStatementInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 아카이브 폴백 조회를 위한 Hibernate 설정.
+ *
+ * <p>{@link ArchiveAwareStatementInspector}를 세션 팩토리 단위로 등록한다.
+ * 폴백 컨텍스트가 없는 일반 조회/쓰기에는 영향을 주지 않는다.</p>
+ */
+@Configuration
+public class PartitionHibernateConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer archiveStatementInspectorCustomizer() {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, new ArchiveAwareStatementInspector());
+    }
+}
@@ -0,0 +1,84 @@
+package com.boot.ict05_final_user.domain.partition.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월 단위 RANGE 파티션 및 콜드 아카이브 관련 설정.
+ *
+ * <p>prefix {@code partition} 으로 시작하는 설정 항목을 바인딩합니다.</p>
+ *
+ * <p>예시 (application.properties):
+ * <pre>
+ * partition.enabled=true
+ * partition.future-months=3
+ * partition.auto-convert=false
+ * partition.archive.enabled=true
+ * partition.archive.after-months=24
+ * partition.archive.batch-size=5000
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "partition")
+@Getter
+@Setter
+public class PartitionProperties {
+
+    /**
+     * 파티션 관리 기능 활성화 여부.
+     * <p>{@code false}이면 스케줄러가 등록되지 않고, 아카이브 폴백 조회도 수행하지 않습니다.</p>
+     */
+    private boolean enabled = false;
+
+    /**
+     * 미리 만들어 둘 미래 월 파티션 개수.
+     * <p>예: 3이면 이번 달 기준 3개월 뒤 월까지 파티션을 보장합니다.</p>
+     */
+    private int futureMonths = 3;
+
+    /**
+     * 파티션이 없는 테이블을 RANGE 파티션 테이블로 자동 전환할지 여부.
+     * <p>사전 점검(FK, 유니크 키 구성)을 통과한 테이블만 전환합니다.</p>
+     */
+    private boolean autoConvert = false;
+
+    /**
+     * 파티션 사전 생성 스케줄 (cron 형식).
+     * <p>기본값: 매일 04:10</p>
+     */
+    private String maintainCron = "0 10 4 * * *";
+
+    /**
+     * 콜드 아카이브 정책.
+     */
+    private Archive archive = new Archive();
+
+    /**
+     * 콜드 아카이브 정책 클래스.
+     * <p>보관 기간이 지난 월 데이터를 압축 아카이브 테이블로 이동합니다.</p>
+     */
+    @Getter
+    @Setter
+    public static class Archive {
+
+        /** 아카이브 이동 활성화 여부 */
+        private boolean enabled = false;
+
+        /**
+         * 운영 테이블에 남겨 둘 개월 수.
+         * <p>이번 달 1일 기준 N개월 이전의 월 데이터가 아카이브 대상이 됩니다. 최소 2개월.</p>
+         */
+        private int afterMonths = 24;
+
+        /** 파티션이 없는 테이블을 행 단위로 옮길 때의 한 번에 처리할 행 수 */
+        private int batchSize = 5000;
+
+        /**
+         * 아카이브 이동 스케줄 (cron 형식).
+         * <p>기본값: 매월 1일 04:40</p>
+         */
+        private String cron = "0 40 4 1 * *";
+    }
+}
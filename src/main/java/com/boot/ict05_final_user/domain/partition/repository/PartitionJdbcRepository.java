@@ -0,0 +1,187 @@
+package com.boot.ict05_final_user.domain.partition.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 파티션/아카이브 관리용 JDBC 리포지토리.
+ *
+ * <p>의도/역할</p>
+ * <ul>
+ *   <li>information_schema 조회로 파티션 현황, 컬럼 구성, FK/유니크 키 제약을 확인</li>
+ *   <li>파티션 DDL(ADD / REORGANIZE / DROP) 및 아카이브 복사/삭제 SQL 실행</li>
+ * </ul>
+ *
+ * <p>주의</p>
+ * <ul>
+ *   <li>테이블/컬럼/파티션 이름은 {@code PartitionedTable} 열거형과 서비스에서 생성한 값만 전달된다고 가정한다.
+ *       (식별자는 바인딩 파라미터로 넘길 수 없으므로 SQL 문자열에 직접 포함)</li>
+ *   <li>MariaDB DDL은 암묵적으로 커밋되므로 트랜잭션 경계에 포함되지 않는다.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /** 파티션 1건 (RANGE COLUMNS 상한이 MAXVALUE이면 lessThan = null) */
+    public record RangePartition(String name, LocalDate lessThan, long rows) {
+        public boolean isMaxValue() { return lessThan == null; }
+    }
+
+    /** 컬럼 정의 (이름 + COLUMN_TYPE) */
+    public record ColumnDef(String name, String columnType) {}
+
+    /** 현재 스키마에 테이블이 존재하는지 여부 */
+    public boolean tableExists(String table) {
+        Integer cnt = jdbc.queryForObject("""
+            SELECT COUNT(*)
+              FROM information_schema.TABLES
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = :table
+        """, new MapSqlParameterSource("table", table), Integer.class);
+        return cnt != null && cnt > 0;
+    }
+
+    /** 컬럼 정의 목록 (ORDINAL_POSITION 순) */
+    public List<ColumnDef> findColumns(String table) {
+        return jdbc.query("""
+            SELECT COLUMN_NAME, COLUMN_TYPE
+              FROM information_schema.COLUMNS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = :table
+          ORDER BY ORDINAL_POSITION
+        """, new MapSqlParameterSource("table", table),
+                (rs, i) -> new ColumnDef(rs.getString(1), rs.getString(2)));
+    }
+
+    /**
+     * RANGE 파티션 목록 조회.
+     *
+     * @return 파티션이 없는 테이블이면 빈 리스트
+     */
+    public List<RangePartition> findPartitions(String table) {
+        return jdbc.query("""
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS
+              FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = :table
+               AND PARTITION_NAME IS NOT NULL
+          ORDER BY PARTITION_ORDINAL_POSITION
+        """, new MapSqlParameterSource("table", table),
+                (rs, i) -> new RangePartition(
+                        rs.getString(1),
+                        parseLessThan(rs.getString(2)),
+                        rs.getLong(3)));
+    }
+
+    /**
+     * RANGE COLUMNS 전환 가능 여부 사전 점검.
+     *
+     * <p>MariaDB 제약: 파티션 테이블은 FK를 가질 수도, 참조될 수도 없으며
+     * 모든 유니크 키(PK 포함)에 파티션 컬럼이 포함되어야 한다.</p>
+     *
+     * @return 전환을 막는 사유 목록 (비어 있으면 전환 가능)
+     */
+    public List<String> findConversionBlockers(String table, String dateColumn) {
+        MapSqlParameterSource p = new MapSqlParameterSource()
+                .addValue("table", table)
+                .addValue("col", dateColumn);
+        List<String> blockers = new ArrayList<>();
+
+        blockers.addAll(jdbc.queryForList("""
+            SELECT CONCAT('FK ', CONSTRAINT_NAME, ' (', TABLE_NAME, ' -> ', REFERENCED_TABLE_NAME, ')')
+              FROM information_schema.REFERENTIAL_CONSTRAINTS
+             WHERE CONSTRAINT_SCHEMA = DATABASE()
+               AND (TABLE_NAME = :table OR REFERENCED_TABLE_NAME = :table)
+        """, p, String.class));
+
+        blockers.addAll(jdbc.queryForList("""
+            SELECT CONCAT('UNIQUE ', s.INDEX_NAME, ' without ', :col)
+              FROM information_schema.STATISTICS s
+             WHERE s.TABLE_SCHEMA = DATABASE()
+               AND s.TABLE_NAME = :table
+               AND s.NON_UNIQUE = 0
+          GROUP BY s.INDEX_NAME
+            HAVING SUM(s.COLUMN_NAME = :col) = 0
+        """, p, String.class));
+
+        return blockers;
+    }
+
+    /** 날짜 컬럼의 최솟값 (데이터가 없으면 null) */
+    public LocalDateTime findMinDate(String table, String dateColumn) {
+        return jdbc.getJdbcOperations().queryForObject(
+                "SELECT MIN(" + dateColumn + ") FROM " + table, LocalDateTime.class);
+    }
+
+    /** 날짜 컬럼의 최댓값 (데이터가 없으면 null) */
+    public LocalDateTime findMaxDate(String table, String dateColumn) {
+        return jdbc.getJdbcOperations().queryForObject(
+                "SELECT MAX(" + dateColumn + ") FROM " + table, LocalDateTime.class);
+    }
+
+    /** DDL 실행 */
+    public void execute(String ddl) {
+        jdbc.getJdbcOperations().execute(ddl);
+    }
+
+    /**
+     * 아카이브 대상 PK 한 묶음 조회.
+     *
+     * @param predicate {@code :cutoff}를 사용하는 WHERE 절
+     */
+    public List<Long> findArchiveIds(String table, String idColumn, String predicate,
+                                     LocalDateTime cutoff, int limit) {
+        return jdbc.queryForList(
+                "SELECT " + idColumn + " FROM " + table
+                        + " WHERE " + predicate
+                        + " ORDER BY " + idColumn + " LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", limit),
+                Long.class);
+    }
+
+    /** PK 목록의 행을 아카이브 테이블로 복사 (중복 PK는 무시) */
+    public int copyRowsToArchive(String table, String archiveTable, String columns,
+                                 String idColumn, List<Long> ids) {
+        return jdbc.update(
+                "INSERT IGNORE INTO " + archiveTable + " (" + columns + ")"
+                        + " SELECT " + columns + " FROM " + table
+                        + " WHERE " + idColumn + " IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /** PK 목록의 행 삭제 */
+    public int deleteRows(String table, String idColumn, List<Long> ids) {
+        return jdbc.update(
+                "DELETE FROM " + table + " WHERE " + idColumn + " IN (:ids)",
+                new MapSqlParameterSource("ids", ids));
+    }
+
+    /** 파티션 하나를 통째로 아카이브 테이블로 복사 (중복 PK는 무시) */
+    public int copyPartitionToArchive(String table, String archiveTable, String columns, String partition) {
+        return jdbc.getJdbcOperations().update(
+                "INSERT IGNORE INTO " + archiveTable + " (" + columns + ")"
+                        + " SELECT " + columns + " FROM " + table + " PARTITION (" + partition + ")");
+    }
+
+    /**
+     * PARTITION_DESCRIPTION 파싱.
+     * <p>RANGE COLUMNS(DATETIME)는 {@code '2025-12-01 00:00:00'} 또는 {@code MAXVALUE} 형태로 기록된다.</p>
+     */
+    private static LocalDate parseLessThan(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) return null;
+        String v = description.replace("'", "").trim();
+        return LocalDate.parse(v.substring(0, 10));
+    }
+}
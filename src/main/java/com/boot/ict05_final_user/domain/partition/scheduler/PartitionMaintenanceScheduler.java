@@ -0,0 +1,54 @@
+package com.boot.ict05_final_user.domain.partition.scheduler;
+
+import com.boot.ict05_final_user.domain.partition.config.PartitionProperties;
+import com.boot.ict05_final_user.domain.partition.service.PartitionMaintenanceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 파티션 사전 생성 / 콜드 아카이브 스케줄러.
+ *
+ * <p>{@code partition.enabled=true} 일 때만 동작합니다.</p>
+ *
+ * <ul>
+ *   <li>파티션 사전 생성: {@code partition.maintain-cron} (기본 매일 04:10)</li>
+ *   <li>콜드 아카이브: {@code partition.archive.cron} (기본 매월 1일 04:40),
+ *       {@code partition.archive.enabled=true} 일 때만 실행</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "partition.enabled", havingValue = "true")
+public class PartitionMaintenanceScheduler {
+
+	private final PartitionMaintenanceService partitionMaintenanceService;
+	private final PartitionProperties props;
+
+	/**
+	 * 미래 월 파티션을 미리 생성합니다.
+	 */
+	@Scheduled(cron = "${partition.maintain-cron:0 10 4 * * *}")
+	public void ensureFuturePartitions() {
+		partitionMaintenanceService.ensureFuturePartitions();
+	}
+
+	/**
+	 * 보관 기간이 지난 월 데이터를 아카이브 테이블로 이동합니다.
+	 */
+	@Scheduled(cron = "${partition.archive.cron:0 40 4 1 * *}")
+	public void archiveColdMonths() {
+		if (!props.getArchive().isEnabled()) return;
+		try {
+			Map<String, Long> moved = partitionMaintenanceService.archiveColdMonths();
+			log.info("[ARCHIVE] scheduled run moved={}", moved);
+		} catch (RuntimeException e) {
+			log.error("[ARCHIVE] scheduled run failed", e);
+		}
+	}
+}
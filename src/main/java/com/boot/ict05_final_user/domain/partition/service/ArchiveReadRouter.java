@@ -0,0 +1,43 @@
+package com.boot.ict05_final_user.domain.partition.service;
+
+import com.boot.ict05_final_user.domain.partition.config.PartitionProperties;
+import com.boot.ict05_final_user.domain.partition.service.PartitionMaintenanceService.ArchiveState;
+import com.boot.ict05_final_user.domain.partition.support.ArchiveReadContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * 조회 구간에 따라 아카이브 폴백 여부를 결정하는 라우터.
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>조회 시작일이 아카이브 경계(운영 데이터 첫 월) 이전이면
+ *       {@link ArchiveReadContext}를 켜고 본문을 실행한다.</li>
+ *   <li>그 외(최근 구간)는 운영 테이블만 조회하여 파티션 프루닝 효과를 그대로 유지한다.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class ArchiveReadRouter {
+
+    private final PartitionProperties props;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+
+    /**
+     * 조회 시작일 기준으로 필요 시 아카이브까지 포함하여 조회한다.
+     *
+     * @param startDate 조회 시작일 (inclusive)
+     * @param body      실제 조회
+     */
+    public <T> T read(LocalDate startDate, Supplier<T> body) {
+        if (!props.isEnabled() || startDate == null) return body.get();
+
+        ArchiveState state = partitionMaintenanceService.archiveState();
+        if (state.horizon() == null || !startDate.isBefore(state.horizon())) return body.get();
+
+        return ArchiveReadContext.with(state.replacements(), body);
+    }
+}
@@ -0,0 +1,313 @@
+package com.boot.ict05_final_user.domain.partition.service;
+
+import com.boot.ict05_final_user.domain.partition.config.PartitionProperties;
+import com.boot.ict05_final_user.domain.partition.repository.PartitionJdbcRepository;
+import com.boot.ict05_final_user.domain.partition.repository.PartitionJdbcRepository.ColumnDef;
+import com.boot.ict05_final_user.domain.partition.repository.PartitionJdbcRepository.RangePartition;
+import com.boot.ict05_final_user.domain.partition.support.PartitionedTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 월 단위 RANGE 파티션 관리 및 콜드 아카이브 서비스.
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>파티션 사전 생성: 이번 달 + {@code futureMonths}개월까지 월 파티션(pYYYYMM)을 보장</li>
+ *   <li>파티션 전환(선택): 사전 점검을 통과한 테이블만 {@code RANGE COLUMNS(date)}로 전환</li>
+ *   <li>콜드 아카이브: {@code afterMonths}개월 이전 데이터를 {@code <table>_archive}(ROW_FORMAT=COMPRESSED)로 이동</li>
+ *   <li>아카이브 경계/치환 SQL 제공: {@link ArchiveReadRouter}의 폴백 조회에 사용</li>
+ * </ul>
+ *
+ * <p>규칙</p>
+ * <ul>
+ *   <li>파티션 테이블: 파티션 단위 복사 후 {@code DROP PARTITION} (프루닝으로 최근 구간 조회 비용 일정)</li>
+ *   <li>일반 테이블: PK 묶음 단위로 복사 + 삭제를 한 트랜잭션에서 수행</li>
+ *   <li>자식 테이블(주문 상세, 재료 소진 로그)을 주문 헤더보다 먼저 이동한다.</li>
+ *   <li>아카이브 복사는 {@code INSERT IGNORE}라 중단 후 재실행해도 중복되지 않는다.</li>
+ * </ul>
+ *
+ * <p>트랜잭션</p>
+ * <ul>
+ *   <li>DDL은 MariaDB에서 암묵 커밋되므로 트랜잭션 밖에서 실행한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String MAX_PARTITION = "pmax";
+    private static final int MIN_ARCHIVE_MONTHS = 2;
+
+    private final PartitionJdbcRepository partitionRepository;
+    private final PartitionProperties props;
+    private final TransactionTemplate transactionTemplate;
+
+    /** 아카이브 경계/치환 SQL 캐시 (아카이브 실행 후 갱신) */
+    private volatile ArchiveState archiveState;
+
+    /**
+     * 아카이브 상태.
+     *
+     * @param horizon      운영 테이블에 데이터가 남아 있는 첫 월의 1일 (아카이브가 없으면 null)
+     * @param replacements 테이블명 → "운영 ∪ 아카이브" 파생 테이블 SQL
+     */
+    public record ArchiveState(LocalDate horizon, Map<String, String> replacements) {
+        static final ArchiveState EMPTY = new ArchiveState(null, Map.of());
+    }
+
+    // =========================
+    // 파티션 사전 생성
+    // =========================
+
+    /**
+     * 대상 테이블의 미래 월 파티션을 보장한다.
+     *
+     * <p>처리 흐름</p>
+     * <ol>
+     *   <li>파티션이 없는 테이블: {@code autoConvert}이면 사전 점검 후 전환, 아니면 건너뜀</li>
+     *   <li>파티션 테이블: 마지막 월 상한부터 목표 월까지 파티션 추가
+     *       ({@code pmax}가 있으면 REORGANIZE, 없으면 ADD)</li>
+     * </ol>
+     */
+    public void ensureFuturePartitions() {
+        LocalDate targetEx = LocalDate.now(KST).withDayOfMonth(1).plusMonths(props.getFutureMonths() + 1L);
+
+        for (PartitionedTable table : PartitionedTable.values()) {
+            if (!table.isPartitionable()) continue;
+            try {
+                List<RangePartition> parts = partitionRepository.findPartitions(table.getTableName());
+                if (parts.isEmpty()) {
+                    if (props.isAutoConvert()) convertToPartitioned(table, targetEx);
+                    continue;
+                }
+                addMissingPartitions(table, parts, targetEx);
+            } catch (RuntimeException e) {
+                log.warn("[PARTITION] ensure failed table={} cause={}", table.getTableName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 일반 테이블을 월 RANGE COLUMNS 파티션 테이블로 전환한다.
+     *
+     * <p>FK를 갖거나 참조되는 테이블, 날짜 컬럼이 빠진 유니크 키가 있는 테이블은 전환하지 않고 사유를 남긴다.
+     * (MariaDB 파티션 제약)</p>
+     *
+     * @return 전환 여부
+     */
+    public boolean convertToPartitioned(PartitionedTable table, LocalDate targetEx) {
+        List<String> blockers = partitionRepository.findConversionBlockers(table.getTableName(), table.getDateColumn());
+        if (!blockers.isEmpty()) {
+            log.warn("[PARTITION] skip convert table={} blockers={}", table.getTableName(), blockers);
+            return false;
+        }
+
+        LocalDateTime min = partitionRepository.findMinDate(table.getTableName(), table.getDateColumn());
+        LocalDate from = (min != null ? min.toLocalDate() : LocalDate.now(KST)).withDayOfMonth(1);
+
+        List<String> defs = new ArrayList<>();
+        for (LocalDate m = from; m.isBefore(targetEx); m = m.plusMonths(1)) {
+            defs.add(partitionDef(m));
+        }
+        defs.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        partitionRepository.execute("ALTER TABLE " + table.getTableName()
+                + " PARTITION BY RANGE COLUMNS(" + table.getDateColumn() + ") ("
+                + String.join(", ", defs) + ")");
+        log.info("[PARTITION] converted table={} partitions={}", table.getTableName(), defs.size());
+        return true;
+    }
+
+    private void addMissingPartitions(PartitionedTable table, List<RangePartition> parts, LocalDate targetEx) {
+        boolean hasMax = parts.stream().anyMatch(RangePartition::isMaxValue);
+        LocalDate covered = parts.stream()
+                .map(RangePartition::lessThan)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(LocalDate.now(KST).withDayOfMonth(1));
+
+        List<String> defs = new ArrayList<>();
+        for (LocalDate m = covered; m.isBefore(targetEx); m = m.plusMonths(1)) {
+            defs.add(partitionDef(m));
+        }
+        if (defs.isEmpty()) return;
+
+        if (hasMax) {
+            String maxName = parts.stream().filter(RangePartition::isMaxValue).findFirst().orElseThrow().name();
+            partitionRepository.execute("ALTER TABLE " + table.getTableName()
+                    + " REORGANIZE PARTITION " + maxName + " INTO ("
+                    + String.join(", ", defs)
+                    + ", PARTITION " + maxName + " VALUES LESS THAN (MAXVALUE))");
+        } else {
+            partitionRepository.execute("ALTER TABLE " + table.getTableName()
+                    + " ADD PARTITION (" + String.join(", ", defs) + ")");
+        }
+        log.info("[PARTITION] added table={} count={} until={}", table.getTableName(), defs.size(), targetEx);
+    }
+
+    /** 월 파티션 정의: {@code PARTITION p202512 VALUES LESS THAN ('2026-01-01')} */
+    private static String partitionDef(LocalDate monthStart) {
+        return "PARTITION p" + monthStart.format(PARTITION_SUFFIX)
+                + " VALUES LESS THAN ('" + monthStart.plusMonths(1) + "')";
+    }
+
+    // =========================
+    // 콜드 아카이브
+    // =========================
+
+    /**
+     * 보관 기간이 지난 월 데이터를 아카이브 테이블로 이동한다.
+     *
+     * <p>처리 흐름</p>
+     * <ol>
+     *   <li>경계 계산: 이번 달 1일 - {@code afterMonths}개월 (최소 2개월)</li>
+     *   <li>테이블별 아카이브 테이블 보장(없으면 생성, 컬럼 추가분 동기화)</li>
+     *   <li>파티션 테이블은 경계 이전 파티션을 복사 후 DROP, 일반 테이블은 PK 묶음 단위 이동</li>
+     *   <li>아카이브 경계/치환 SQL 캐시 갱신</li>
+     * </ol>
+     *
+     * @return 테이블별 이동 행 수
+     */
+    public Map<String, Long> archiveColdMonths() {
+        int months = Math.max(MIN_ARCHIVE_MONTHS, props.getArchive().getAfterMonths());
+        LocalDate cutoff = LocalDate.now(KST).withDayOfMonth(1).minusMonths(months);
+
+        Map<String, Long> moved = new LinkedHashMap<>();
+        for (PartitionedTable table : PartitionedTable.archiveOrder()) {
+            ensureArchiveTable(table);
+            String columns = columnList(table.getTableName());
+
+            List<RangePartition> parts = table.isPartitionable()
+                    ? partitionRepository.findPartitions(table.getTableName())
+                    : List.of();
+
+            long count = parts.isEmpty()
+                    ? archiveRows(table, columns, cutoff.atStartOfDay())
+                    : archivePartitions(table, columns, parts, cutoff);
+            moved.put(table.getTableName(), count);
+        }
+
+        refreshArchiveState();
+        log.info("[ARCHIVE] done cutoff={} moved={}", cutoff, moved);
+        return moved;
+    }
+
+    private long archivePartitions(PartitionedTable table, String columns, List<RangePartition> parts, LocalDate cutoff) {
+        long total = 0;
+        for (RangePartition p : parts) {
+            if (p.isMaxValue() || p.lessThan().isAfter(cutoff)) continue;
+            total += partitionRepository.copyPartitionToArchive(
+                    table.getTableName(), table.archiveTableName(), columns, p.name());
+            partitionRepository.execute("ALTER TABLE " + table.getTableName() + " DROP PARTITION " + p.name());
+        }
+        return total;
+    }
+
+    private long archiveRows(PartitionedTable table, String columns, LocalDateTime cutoff) {
+        int batchSize = Math.max(100, props.getArchive().getBatchSize());
+        long total = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<Long> ids = partitionRepository.findArchiveIds(
+                        table.getTableName(), table.getIdColumn(), table.getArchivePredicate(), cutoff, batchSize);
+                if (ids.isEmpty()) return 0;
+                partitionRepository.copyRowsToArchive(
+                        table.getTableName(), table.archiveTableName(), columns, table.getIdColumn(), ids);
+                partitionRepository.deleteRows(table.getTableName(), table.getIdColumn(), ids);
+                return ids.size();
+            });
+            if (moved == null || moved == 0) break;
+            total += moved;
+        }
+        return total;
+    }
+
+    /**
+     * 아카이브 테이블 보장.
+     *
+     * <p>없으면 {@code CREATE TABLE ... LIKE} 후 파티션 제거 + 압축 행 형식으로 바꾼다.
+     * (LIKE는 FK를 복사하지 않는다) 운영 테이블에 추가된 컬럼은 아카이브에도 NULL 허용으로 추가한다.</p>
+     */
+    private void ensureArchiveTable(PartitionedTable table) {
+        String archive = table.archiveTableName();
+        if (!partitionRepository.tableExists(archive)) {
+            partitionRepository.execute("CREATE TABLE " + archive + " LIKE " + table.getTableName());
+            if (!partitionRepository.findPartitions(archive).isEmpty()) {
+                partitionRepository.execute("ALTER TABLE " + archive + " REMOVE PARTITIONING");
+            }
+            partitionRepository.execute("ALTER TABLE " + archive + " ROW_FORMAT=COMPRESSED");
+            log.info("[ARCHIVE] created {}", archive);
+            return;
+        }
+
+        Set<String> archived = partitionRepository.findColumns(archive).stream()
+                .map(ColumnDef::name)
+                .collect(Collectors.toSet());
+        for (ColumnDef c : partitionRepository.findColumns(table.getTableName())) {
+            if (!archived.contains(c.name())) {
+                partitionRepository.execute("ALTER TABLE " + archive + " ADD COLUMN " + c.name() + " " + c.columnType() + " NULL");
+            }
+        }
+    }
+
+    private String columnList(String table) {
+        return partitionRepository.findColumns(table).stream()
+                .map(ColumnDef::name)
+                .collect(Collectors.joining(", "));
+    }
+
+    // =========================
+    // 아카이브 경계 (폴백 조회용)
+    // =========================
+
+    /** 현재 아카이브 상태 (최초 호출 시 DB에서 계산) */
+    public ArchiveState archiveState() {
+        ArchiveState s = archiveState;
+        return s != null ? s : refreshArchiveState();
+    }
+
+    /**
+     * 아카이브 경계와 치환 SQL을 다시 계산한다.
+     *
+     * <p>치환 SQL은 운영 테이블의 컬럼 목록을 명시하여 {@code UNION ALL} 컬럼 순서를 맞춘다.</p>
+     */
+    public synchronized ArchiveState refreshArchiveState() {
+        PartitionedTable header = PartitionedTable.CUSTOMER_ORDER;
+        if (!partitionRepository.tableExists(header.archiveTableName())) {
+            archiveState = ArchiveState.EMPTY;
+            return archiveState;
+        }
+
+        LocalDateTime maxArchived = partitionRepository.findMaxDate(header.archiveTableName(), header.getDateColumn());
+        if (maxArchived == null) {
+            archiveState = ArchiveState.EMPTY;
+            return archiveState;
+        }
+
+        Map<String, String> replacements = new LinkedHashMap<>();
+        for (PartitionedTable table : PartitionedTable.values()) {
+            if (!partitionRepository.tableExists(table.archiveTableName())) continue;
+            String columns = columnList(table.getTableName());
+            replacements.put(table.getTableName(),
+                    "(SELECT " + columns + " FROM " + table.getTableName()
+                            + " UNION ALL SELECT " + columns + " FROM " + table.archiveTableName() + ")");
+        }
+
+        LocalDate horizon = maxArchived.toLocalDate().withDayOfMonth(1).plusMonths(1);
+        archiveState = new ArchiveState(horizon, Map.copyOf(replacements));
+        return archiveState;
+    }
+}
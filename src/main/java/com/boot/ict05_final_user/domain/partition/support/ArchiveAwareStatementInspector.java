@@ -0,0 +1,82 @@
+package com.boot.ict05_final_user.domain.partition.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 아카이브 폴백용 Hibernate StatementInspector.
+ *
+ * <p>{@link ArchiveReadContext}가 활성화된 스레드의 SELECT 문에서
+ * {@code customer_order} 등 운영 테이블 참조를 {@code (SELECT ... UNION ALL SELECT ... ) alias} 형태의
+ * 파생 테이블로 바꿔, 기존 QueryDSL 조회를 수정하지 않고 아카이브까지 함께 읽도록 한다.</p>
+ *
+ * <p>규칙</p>
+ * <ul>
+ *   <li>컨텍스트가 없거나 SELECT 문이 아니면 SQL을 그대로 반환한다.</li>
+ *   <li>{@code FROM} / {@code JOIN} 바로 뒤의 테이블 참조만 치환한다.
+ *       (별칭, {@code customer_order.col} 같은 컬럼 접두어, 문자열 리터럴, {@code customer_order_detail} 등은 제외)</li>
+ *   <li>별칭이 없는 참조는 파생 테이블 뒤에 원래 테이블명을 별칭으로 붙여 컬럼 접두어가 그대로 동작하게 한다.</li>
+ *   <li>SQL은 한 번만 훑으므로 치환 결과 안의 테이블명이 다시 치환되지 않는다.</li>
+ * </ul>
+ */
+public class ArchiveAwareStatementInspector implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 문자열 리터럴(그룹 없음) 또는 FROM/JOIN + 테이블 참조(그룹 1: 키워드+공백, 그룹 2: 테이블명) */
+    private static final Pattern TOKEN = Pattern.compile(
+            "'(?:[^'\\\\]|\\\\.|'')*'"
+                    + "|\"(?:[^\"\\\\]|\\\\.)*\""
+                    + "|(?i)(?<![\\w$])((?:from|join)\\s+)`?([a-z_][\\w$]*)`?(?![\\w$.`])");
+
+    /** 테이블 참조 뒤의 별칭 (AS 생략 가능) */
+    private static final Pattern ALIAS = Pattern.compile("(?i)\\s+(?:as\\s+)?`?([a-z_][\\w$]*)");
+
+    /** 별칭 자리에 올 수 있는 SQL 키워드 (이 경우 별칭 없음으로 본다) */
+    private static final Set<String> KEYWORDS = Set.of(
+            "where", "join", "inner", "left", "right", "cross", "natural", "straight_join", "on", "using",
+            "group", "order", "having", "limit", "union", "for", "lock", "window", "partition", "use",
+            "force", "ignore", "into", "procedure");
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, String> replacements = ArchiveReadContext.current();
+        if (replacements == null || replacements.isEmpty() || sql == null) return sql;
+        if (!sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) return sql;
+        return rewrite(sql, replacements);
+    }
+
+    /**
+     * FROM/JOIN 뒤의 테이블 참조를 치환한다.
+     *
+     * @param sql          원본 SQL
+     * @param replacements 테이블명(소문자) → 파생 테이블 SQL
+     * @return 치환된 SQL (치환 대상이 없으면 원본)
+     */
+    static String rewrite(String sql, Map<String, String> replacements) {
+        Matcher m = TOKEN.matcher(sql);
+        StringBuilder out = null;
+        int last = 0;
+        while (m.find()) {
+            if (m.group(2) == null) continue; // 문자열 리터럴
+            String derived = replacements.get(m.group(2).toLowerCase());
+            if (derived == null) continue;
+
+            if (out == null) out = new StringBuilder(sql.length() + derived.length());
+            out.append(sql, last, m.start()).append(m.group(1)).append(derived);
+            if (!hasAlias(sql, m.end())) out.append(' ').append(m.group(2));
+            last = m.end();
+        }
+        if (out == null) return sql;
+        return out.append(sql, last, sql.length()).toString();
+    }
+
+    private static boolean hasAlias(String sql, int from) {
+        Matcher a = ALIAS.matcher(sql).region(from, sql.length());
+        return a.lookingAt() && !KEYWORDS.contains(a.group(1).toLowerCase());
+    }
+}
@@ -0,0 +1,49 @@
+package com.boot.ict05_final_user.domain.partition.support;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 아카이브 폴백 조회 컨텍스트 (스레드 로컬).
+ *
+ * <p>역할</p>
+ * <ul>
+ *   <li>조회 구간이 아카이브 경계 이전을 포함할 때, 현재 스레드에서 실행되는 SELECT 문에 한해
+ *       운영 테이블 참조를 "운영 ∪ 아카이브" 파생 테이블로 치환하도록 표시한다.</li>
+ *   <li>실제 치환은 {@link ArchiveAwareStatementInspector}가 수행한다.</li>
+ * </ul>
+ *
+ * <p>동시성</p>
+ * <ul>
+ *   <li>요청 스레드 단위로만 유효하며, {@link #with}가 끝나면 항상 이전 상태로 복원한다.</li>
+ *   <li>다른 스레드에서 조회를 이어 실행할 때는 {@link #current()}로 읽은 규칙을 그 스레드에서 {@link #with}로 다시 건다.</li>
+ * </ul>
+ */
+public final class ArchiveReadContext {
+
+    private static final ThreadLocal<Map<String, String>> REPLACEMENTS = new ThreadLocal<>();
+
+    private ArchiveReadContext() {}
+
+    /**
+     * 치환 규칙을 활성화한 상태로 본문을 실행한다.
+     *
+     * @param replacements 테이블명 → 치환할 파생 테이블 SQL
+     * @param body         실행할 조회
+     */
+    public static <T> T with(Map<String, String> replacements, Supplier<T> body) {
+        Map<String, String> prev = REPLACEMENTS.get();
+        REPLACEMENTS.set(replacements);
+        try {
+            return body.get();
+        } finally {
+            if (prev == null) REPLACEMENTS.remove();
+            else REPLACEMENTS.set(prev);
+        }
+    }
+
+    /** 현재 스레드의 치환 규칙 (없으면 null). 작업 스레드로 넘길 때 {@link #with}와 함께 사용한다. */
+    public static Map<String, String> current() {
+        return REPLACEMENTS.get();
+    }
+}
@@ -0,0 +1,80 @@
+package com.boot.ict05_final_user.domain.partition.support;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 월 단위 파티션/아카이브 관리 대상 테이블 목록.
+ *
+ * <p>규칙</p>
+ * <ul>
+ *   <li>{@code dateColumn}이 있는 테이블만 RANGE COLUMNS 파티션 대상이 된다.</li>
+ *   <li>{@code archivePredicate}는 파티션이 없는 테이블을 행 단위로 옮길 때 사용하는 WHERE 절이며,
+ *       {@code :cutoff}(배타 상한) 파라미터를 받는다.</li>
+ *   <li>주문 상세/재료 소진 로그는 주문 헤더의 주문일시를 기준으로 함께 이동한다.</li>
+ * </ul>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PartitionedTable {
+
+    /** 주문 상세 (날짜 컬럼 없음 → 주문 헤더 기준 행 이동만 지원) */
+    CUSTOMER_ORDER_DETAIL(
+            "customer_order_detail",
+            "customer_order_detail_id",
+            null,
+            "customer_order_id_fk IN (SELECT customer_order_id FROM customer_order WHERE customer_order_date < :cutoff)"
+    ),
+
+    /** 메뉴 재료 소진 로그 */
+    MENU_USAGE_MATERIAL_LOG(
+            "menu_usage_material_log",
+            "menu_usage_material_log_id",
+            "menu_usage_material_log_date",
+            "customer_order_id_fk IN (SELECT customer_order_id FROM customer_order WHERE customer_order_date < :cutoff)"
+    ),
+
+    /** 주문 헤더 */
+    CUSTOMER_ORDER(
+            "customer_order",
+            "customer_order_id",
+            "customer_order_date",
+            "customer_order_date < :cutoff"
+    ),
+
+    /** 가맹점 출고 */
+    STORE_INVENTORY_OUT(
+            "store_inventory_out",
+            "store_inventory_out_id",
+            "store_inventory_out_date",
+            "store_inventory_out_date < :cutoff"
+    );
+
+    /** 아카이브 테이블 접미사 */
+    public static final String ARCHIVE_SUFFIX = "_archive";
+
+    private final String tableName;
+    private final String idColumn;
+    private final String dateColumn;
+    private final String archivePredicate;
+
+    /** 아카이브 테이블명 */
+    public String archiveTableName() {
+        return tableName + ARCHIVE_SUFFIX;
+    }
+
+    /** 월 RANGE 파티션 대상 여부 */
+    public boolean isPartitionable() {
+        return dateColumn != null;
+    }
+
+    /**
+     * 아카이브 이동 순서.
+     * <p>주문 헤더를 참조하는 자식 테이블을 먼저 옮겨 FK 위반을 피한다(선언 순서와 동일).</p>
+     */
+    public static List<PartitionedTable> archiveOrder() {
+        return List.of(values());
+    }
+}
@@ -1,7 +1,12 @@
 package com.boot.ict05_final_user.domain.store.repository;
 
 import com.boot.ict05_final_user.domain.store.entity.Store;
+import com.boot.ict05_final_user.domain.store.entity.StoreStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Store 엔티티용 Spring Data JPA 리포지토리 인터페이스.
@@ -13,4 +18,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * </ul>
  */
 public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom {
+
+    /** 상태별 가맹점 ID (ID 오름차순) */
+    @Query("select s.id from Store s where s.status = :status order by s.id")
+    List<Long> findIdsByStatus(@Param("status") StoreStatus status);
 }
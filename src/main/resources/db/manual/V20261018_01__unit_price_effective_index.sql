@@ -0,0 +1,13 @@
+-- =====================================================================
+-- unit_price 시점 조회 인덱스 (본사 소유 테이블 — 본사 DDL 검토 후 적용)
+--
+-- 용도: UnitPriceJdbcRepository.findSellingPriceAt (단가 캐시를 끈 경우의 DB 폴백)
+--       WHERE material_id_fk = ? AND unit_price_type = 'SELLING' AND unit_price_date_from <= ?
+-- 앱은 이 인덱스를 만들지 않는다. inventory.unit-price.check-index=true 이면 없을 때 경고만 남긴다.
+--
+-- 적용 전: 운영 반영은 본사 DBA 와 일정 협의 (대형 테이블이면 ONLINE DDL 확인)
+-- 되돌리기: DROP INDEX ix_unit_price_material_type_from ON unit_price;
+-- =====================================================================
+
+CREATE INDEX IF NOT EXISTS ix_unit_price_material_type_from
+    ON unit_price (material_id_fk, unit_price_type, unit_price_date_from);
@@ -0,0 +1,51 @@
+-- =====================================================================
+-- fcm_device_token 중복 token 정리 + token 유니크 인덱스 (1회성, 수동 적용)
+--
+-- 용도: FcmDeviceTokenQueryRepositoryImpl.upsert 의 INSERT ... ON DUPLICATE KEY UPDATE 전제 (uq_fcm_token)
+-- 앱은 중복 행을 지우거나 인덱스를 만들지 않는다. 인덱스가 없는 동안 토큰 등록은 조회 후 갱신/삽입으로
+-- 처리하고(fcm.token.check-unique-index=true 이면 기동 시 중복 행 수를 경고), 적용 후 5분 안에 단일 문장 Upsert 로 바뀐다.
+--
+-- 범위: 이 테이블에는 본사 앱(app_type='HQ') 행도 있다. 이 스크립트는 가맹점 앱(app_type='STORE') 안의
+--       중복만 정리하고(같은 token 중 ID 가 가장 큰 행만 남김), HQ 행은 건드리지 않는다.
+--       1-2 결과가 남아 있으면(HQ 끼리 또는 HQ/STORE 간 중복) 본사와 정리 방법을 협의한 뒤 4 를 실행한다.
+--
+-- 적용 순서: 1(점검) → 2(백업) → 3(정리) → 1 재실행으로 0건 확인 → 4(인덱스)
+-- 되돌리기: INSERT INTO fcm_device_token SELECT * FROM fcm_device_token_dup_backup_20261018;
+--           DROP INDEX uq_fcm_token ON fcm_device_token;
+-- =====================================================================
+
+-- 1-1. 점검 (dry-run): 지워질 STORE 중복 행
+SELECT t.fcm_device_token_id, t.token, t.member_id_fk, t.store_id_fk, t.is_active, t.updated_at
+  FROM fcm_device_token t
+  JOIN fcm_device_token k
+    ON k.token = t.token
+   AND k.app_type = 'STORE'
+   AND k.fcm_device_token_id > t.fcm_device_token_id
+ WHERE t.app_type = 'STORE';
+
+-- 1-2. 점검: 이 스크립트가 정리하지 않는 중복 (HQ 가 끼어 있는 token)
+SELECT token, COUNT(*) AS cnt, GROUP_CONCAT(app_type ORDER BY fcm_device_token_id) AS app_types
+  FROM fcm_device_token
+ GROUP BY token
+HAVING COUNT(*) > 1
+   AND SUM(app_type <> 'STORE') > 0;
+
+-- 2. 백업
+CREATE TABLE IF NOT EXISTS fcm_device_token_dup_backup_20261018 AS
+SELECT t.*
+  FROM fcm_device_token t
+  JOIN fcm_device_token k
+    ON k.token = t.token
+   AND k.app_type = 'STORE'
+   AND k.fcm_device_token_id > t.fcm_device_token_id
+ WHERE t.app_type = 'STORE';
+
+-- 3. 정리 (STORE 행만, 백업된 행만)
+DELETE t
+  FROM fcm_device_token t
+  JOIN fcm_device_token_dup_backup_20261018 b
+    ON b.fcm_device_token_id = t.fcm_device_token_id
+ WHERE t.app_type = 'STORE';
+
+-- 4. 유니크 인덱스 (1-1, 1-2 가 모두 0건일 때만. 중복이 남아 있으면 실패하므로 안전)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_fcm_token ON fcm_device_token (token);
@@ -0,0 +1,148 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsCacheProperties;
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsPrerenderProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto.ViewBy;
+import com.boot.ict05_final_user.domain.analytics.dto.CursorPage;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportStore.ReportType;
+import com.boot.ict05_final_user.domain.store.entity.StoreStatus;
+import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
+import com.boot.ict05_final_user.domain.store.service.StoreService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsReportStoreTest {
+
+    private static final Long STORE_ID = 7L;
+    private static final byte[] STORED = {'%', 'P', 'D', 'F', 1};
+    private static final byte[] RENDERED = {'%', 'P', 'D', 'F', 2};
+
+    /** 지난 달이어야 주문 변경 무효화가 적용된다 */
+    private static final YearMonth MONTH = YearMonth.now(ZoneId.of("Asia/Seoul")).minusMonths(2);
+    private static final LocalDate START = MONTH.atDay(1);
+    private static final LocalDate END = MONTH.atEndOfMonth();
+
+    @TempDir
+    Path dir;
+
+    private final AnalyticsPrerenderProperties props = new AnalyticsPrerenderProperties();
+    private final AnalyticsService analyticsService = mock(AnalyticsService.class);
+    private final ReportRendererRouter reportRenderer = mock(ReportRendererRouter.class);
+    private final StoreService storeService = mock(StoreService.class);
+    private AnalyticsReportStore store;
+    private AnalyticsReportService reportService;
+    private AnalyticsResultCache resultCache;
+
+    @BeforeEach
+    void setUp() {
+        props.setDir(dir.toString());
+        store = new AnalyticsReportStore(props);
+        reportService = new AnalyticsReportService(analyticsService, reportRenderer, storeService, store);
+        resultCache = new AnalyticsResultCache(new AnalyticsCacheProperties(), store);
+
+        when(analyticsService.getKpiRows(any(), any())).thenReturn(new CursorPage<>(List.of(), null));
+        when(reportRenderer.render(eq(ReportType.KPI), any())).thenReturn(RENDERED);
+    }
+
+    @Test
+    @DisplayName("저장본이 있으면 렌더링 없이 그대로 반환")
+    void hitReturnsStored() {
+        store.save(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY, STORED);
+
+        byte[] pdf = reportService.generateKpiReport(STORE_ID, START, END, ViewBy.DAY);
+
+        assertThat(pdf).isEqualTo(STORED);
+        verify(reportRenderer, never()).render(any(), any());
+        verify(analyticsService, never()).getKpiRows(any(), any());
+    }
+
+    @Test
+    @DisplayName("저장본이 없으면(다른 기간/집계 단위 포함) 새로 렌더링")
+    void missRenders() {
+        store.save(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY, STORED);
+
+        assertThat(reportService.generateKpiReport(STORE_ID, START, END, ViewBy.MONTH)).isEqualTo(RENDERED);
+        assertThat(reportService.generateKpiReport(STORE_ID, START, END.minusDays(1), ViewBy.DAY)).isEqualTo(RENDERED);
+        assertThat(reportService.generateKpiReport(STORE_ID + 1, START, END, ViewBy.DAY)).isEqualTo(RENDERED);
+
+        verify(reportRenderer, times(3)).render(eq(ReportType.KPI), any());
+    }
+
+    @Test
+    @DisplayName("지난 날짜 주문이 바뀌면 그 달 저장본만 지워지고 다음 다운로드는 새로 렌더링")
+    void orderChangeInvalidates() {
+        YearMonth other = MONTH.minusMonths(1);
+        store.save(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY, STORED);
+        store.save(STORE_ID, ReportType.KPI, other.atDay(1), other.atEndOfMonth(), ViewBy.DAY, STORED);
+        store.save(STORE_ID + 1, ReportType.KPI, START, END, ViewBy.DAY, STORED);
+
+        resultCache.onOrderChanged(STORE_ID, START.plusDays(9).atTime(13, 0));
+
+        assertThat(store.exists(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY)).isFalse();
+        assertThat(store.exists(STORE_ID, ReportType.KPI, other.atDay(1), other.atEndOfMonth(), ViewBy.DAY)).isTrue();
+        assertThat(store.exists(STORE_ID + 1, ReportType.KPI, START, END, ViewBy.DAY)).isTrue();
+        assertThat(reportService.generateKpiReport(STORE_ID, START, END, ViewBy.DAY)).isEqualTo(RENDERED);
+        verify(reportRenderer).render(eq(ReportType.KPI), any());
+    }
+
+    @Test
+    @DisplayName("사전 생성은 없는 것만 만들고, 무효화된 달은 다음 실행에서 다시 만든다")
+    void prerenderSkipsExistingAndRefillsAfterEviction() throws Exception {
+        AnalyticsReportService renderer = mock(AnalyticsReportService.class, inv -> RENDERED);
+        StoreRepository storeRepository = mock(StoreRepository.class);
+        when(storeRepository.findIdsByStatus(StoreStatus.OPERATING)).thenReturn(List.of(STORE_ID));
+        AnalyticsReportPrerenderService prerender = new AnalyticsReportPrerenderService(props, renderer, store, storeRepository);
+        store.save(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY, STORED);
+
+        assertThat(prerender.prerenderMonth(MONTH)).isEqualTo(ReportType.values().length - 1);
+        verify(renderer, never()).generateKpiReport(any(), any(), any(), any());
+        assertThat(store.find(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY)).isEqualTo(STORED);
+        assertThat(store.find(STORE_ID, ReportType.MENUS, START, END, ViewBy.DAY)).isEqualTo(RENDERED);
+
+        clearInvocations(renderer);
+        assertThat(prerender.prerenderMonth(MONTH)).isZero();
+
+        resultCache.onOrderChanged(STORE_ID, END.atTime(21, 0));
+        assertThat(prerender.prerenderMonth(MONTH)).isEqualTo(ReportType.values().length);
+        assertThat(store.find(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY)).isEqualTo(RENDERED);
+
+        // 임시 파일이 남지 않는다
+        try (Stream<Path> files = Files.walk(dir)) {
+            assertThat(files.filter(Files::isRegularFile).map(p -> p.getFileName().toString()))
+                    .allMatch(name -> name.endsWith(".pdf"));
+        }
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 달 디렉터리만 정리")
+    void purgeBefore() {
+        store.save(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY, STORED);
+        YearMonth old = MONTH.minusMonths(3);
+        store.save(STORE_ID, ReportType.KPI, old.atDay(1), old.atEndOfMonth(), ViewBy.DAY, STORED);
+        store.save(STORE_ID, ReportType.ORDERS, old.atDay(1), old.atEndOfMonth(), ViewBy.DAY, STORED);
+
+        assertThat(store.purgeBefore(MONTH)).isEqualTo(2);
+        assertThat(store.exists(STORE_ID, ReportType.KPI, old.atDay(1), old.atEndOfMonth(), ViewBy.DAY)).isFalse();
+        assertThat(store.find(STORE_ID, ReportType.KPI, START, END, ViewBy.DAY)).isEqualTo(STORED);
+    }
+}
@@ -0,0 +1,278 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsCubeProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.AnalyticsSearchDto;
+import com.boot.ict05_final_user.domain.analytics.dto.CursorPage;
+import com.boot.ict05_final_user.domain.analytics.dto.TimeDayDailyRowDto;
+import com.boot.ict05_final_user.domain.analytics.dto.TimeDayMonthlyRowDto;
+import com.boot.ict05_final_user.domain.analytics.dto.TimeHourlyPointDto;
+import com.boot.ict05_final_user.domain.analytics.dto.TimeHourlyRollupDto;
+import com.boot.ict05_final_user.domain.analytics.dto.WeekdaySalesPointDto;
+import com.boot.ict05_final_user.domain.analytics.repository.AnalyticsRespositoryCustom;
+import com.boot.ict05_final_user.domain.order.entity.OrderType;
+import com.boot.ict05_final_user.domain.partition.service.ArchiveReadRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnalyticsTimeCubeTest {
+
+    private static final Long STORE_ID = 1L;
+    private static final int OPEN_HOUR = 7;
+    private static final int CLOSE_HOUR = 20;
+    private static final long BYTES_PER_DAY = 24 * 4 * 12L;
+
+    /** 닫히지 않은 구간 재적재가 끼어들지 않도록 지난 세 달을 쓴다 */
+    private static final YearMonth FIRST_MONTH = YearMonth.now(ZoneId.of("Asia/Seoul")).minusMonths(3);
+    private static final LocalDate START = FIRST_MONTH.atDay(1);
+    private static final LocalDate END = FIRST_MONTH.plusMonths(2).atEndOfMonth();
+
+    private final AnalyticsCubeProperties props = new AnalyticsCubeProperties();
+    private final AnalyticsRespositoryCustom repo = mock(AnalyticsRespositoryCustom.class);
+    private final ArchiveReadRouter archiveReadRouter = mock(ArchiveReadRouter.class);
+    private final List<TimeHourlyRollupDto> rollup = new ArrayList<>();
+    private AnalyticsTimeCube cube;
+
+    @BeforeEach
+    void setUp() {
+        when(archiveReadRouter.read(any(), any())).thenAnswer(inv -> ((Supplier<?>) inv.getArgument(1)).get());
+        when(repo.fetchTimeHourlyRollup(anyLong(), any(), any())).thenAnswer(inv -> {
+            LocalDate from = inv.getArgument(1);
+            LocalDate to = inv.getArgument(2);
+            return rollup.stream()
+                    .filter(r -> !LocalDate.parse(r.orderDate()).isBefore(from) && !LocalDate.parse(r.orderDate()).isAfter(to))
+                    .toList();
+        });
+        cube = new AnalyticsTimeCube(props, repo, archiveReadRouter);
+
+        // 사흘에 하루는 주문 없음, 영업시간 밖(6시, 21시)과 유형 없는 주문도 섞는다
+        int n = 0;
+        for (LocalDate d = START; !d.isAfter(END); d = d.plusDays(1), n++) {
+            if (n % 3 == 2) continue;
+            rollup.add(row(d, 6, OrderType.VISIT, 1_000, 1));
+            rollup.add(row(d, 7, OrderType.VISIT, 10_000 + n, 2));
+            rollup.add(row(d, 7, OrderType.DELIVERY, 7_000, 1));
+            rollup.add(row(d, 12, OrderType.TAKEOUT, 5_000 * (n % 4 + 1), n % 4 + 1));
+            rollup.add(row(d, 12, null, 3_000, 1));
+            if (n % 2 == 0) rollup.add(row(d, 20, OrderType.DELIVERY, 20_000, 3));
+            rollup.add(row(d, 21, OrderType.TAKEOUT, 9_000, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("시간대/요일 합계가 SQL 집계(영업시간 7~20시, 월=1)와 같다")
+    void hourlyAndWeekdaySums() {
+        LocalDate s = START.plusDays(10);
+        LocalDate e = END.minusDays(10);
+
+        List<TimeHourlyPointDto> hourly = cube.hourlyChart(STORE_ID, s, e);
+        List<WeekdaySalesPointDto> weekday = cube.weekdayChart(STORE_ID, s, e);
+
+        List<TimeHourlyPointDto> expectedHourly = new ArrayList<>();
+        for (int h = OPEN_HOUR; h <= CLOSE_HOUR; h++) {
+            long sales = 0, orders = 0, visit = 0, takeout = 0, delivery = 0;
+            for (TimeHourlyRollupDto r : inRange(s, e)) {
+                if (r.hour() != h) continue;
+                sales += r.sales();
+                orders += r.orders();
+                if (r.orderType() == OrderType.VISIT) visit += r.orders();
+                if (r.orderType() == OrderType.TAKEOUT) takeout += r.orders();
+                if (r.orderType() == OrderType.DELIVERY) delivery += r.orders();
+            }
+            expectedHourly.add(new TimeHourlyPointDto(h, sales, orders, visit, takeout, delivery));
+        }
+        List<WeekdaySalesPointDto> expectedWeekday = new ArrayList<>();
+        for (int wd = 1; wd <= 7; wd++) {
+            long sales = 0, orders = 0;
+            for (TimeHourlyRollupDto r : inRange(s, e)) {
+                if (LocalDate.parse(r.orderDate()).getDayOfWeek().getValue() != wd || !businessHour(r.hour())) continue;
+                sales += r.sales();
+                orders += r.orders();
+            }
+            expectedWeekday.add(new WeekdaySalesPointDto(wd, sales, orders));
+        }
+
+        assertThat(hourly).containsExactlyElementsOf(expectedHourly);
+        assertThat(weekday).containsExactlyElementsOf(expectedWeekday);
+        assertThat(hourly.get(12 - OPEN_HOUR).orders()).isGreaterThan(hourly.get(12 - OPEN_HOUR).takeoutOrders());
+    }
+
+    @Test
+    @DisplayName("일별 테이블: 커서 경계를 넘겨 이어 받은 결과가 전체 정렬 결과와 같다")
+    void dailyPagingAcrossCursor() {
+        List<TimeDayDailyRowDto> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<TimeDayDailyRowDto> page = cube.dailyRows(STORE_ID, cond(AnalyticsSearchDto.ViewBy.DAY, 7, cursor));
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(7);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 1_000);
+
+        assertThat(cursor).isNull();
+        assertThat(all).containsExactlyElementsOf(expectedDaily());
+    }
+
+    @Test
+    @DisplayName("월별 테이블: 커서 경계를 넘겨 이어 받은 결과가 전체 정렬 결과와 같다")
+    void monthlyPagingAcrossCursor() {
+        List<TimeDayMonthlyRowDto> all = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<TimeDayMonthlyRowDto> page = cube.monthlyRows(STORE_ID, cond(AnalyticsSearchDto.ViewBy.MONTH, 5, cursor));
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(5);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 1_000);
+
+        assertThat(cursor).isNull();
+        assertThat(all).containsExactlyElementsOf(expectedMonthly());
+        assertThat(all).extracting(TimeDayMonthlyRowDto::yearMonth).containsOnly(
+                FIRST_MONTH.toString(), FIRST_MONTH.plusMonths(1).toString(), FIRST_MONTH.plusMonths(2).toString());
+    }
+
+    @Test
+    @DisplayName("커서가 큐브 첫 일자보다 앞이면 빈 페이지")
+    void cursorBeforeFirst() {
+        CursorPage<TimeDayDailyRowDto> daily = cube.dailyRows(STORE_ID,
+                cond(AnalyticsSearchDto.ViewBy.DAY, 10, START.minusDays(3) + "|12"));
+        CursorPage<TimeDayMonthlyRowDto> monthly = cube.monthlyRows(STORE_ID,
+                cond(AnalyticsSearchDto.ViewBy.MONTH, 10, FIRST_MONTH.minusMonths(1) + "|3|12"));
+
+        assertThat(daily.items()).isEmpty();
+        assertThat(daily.nextCursor()).isNull();
+        assertThat(monthly.items()).isEmpty();
+        assertThat(monthly.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("앞쪽으로 넓힐 때 더티 일자가 옮겨진 위치에서 다시 읽힌다")
+    void resizeKeepsDirtyDays() {
+        LocalDate s = START.plusDays(30);
+        LocalDate dirtyDay = START.plusDays(40);
+        cube.hourlyChart(STORE_ID, s, END);
+
+        rollup.removeIf(r -> r.orderDate().equals(dirtyDay.toString()));
+        rollup.add(row(dirtyDay, 15, OrderType.VISIT, 777_000, 7));
+        cube.onOrderChanged(STORE_ID, dirtyDay.atTime(15, 30));
+        clearInvocations(repo);
+
+        List<TimeHourlyPointDto> hourly = cube.hourlyChart(STORE_ID, START, END);
+
+        verify(repo).fetchTimeHourlyRollup(STORE_ID, START, s.minusDays(1));
+        verify(repo).fetchTimeHourlyRollup(STORE_ID, dirtyDay, dirtyDay);
+        assertThat(hourly.get(15 - OPEN_HOUR).sales()).isEqualTo(777_000L);
+        assertThat(cube.dailyRows(STORE_ID, new AnalyticsSearchDto(dirtyDay, dirtyDay, AnalyticsSearchDto.ViewBy.DAY, 50, null)).items())
+                .extracting(TimeDayDailyRowDto::hour, TimeDayDailyRowDto::orderCount)
+                .containsExactly(tuple(15, 7L));
+        assertThat(cube.hourlyChart(STORE_ID, START, END)).containsExactlyElementsOf(hourly);
+        verify(repo, times(2)).fetchTimeHourlyRollup(eq(STORE_ID), any(), any());
+    }
+
+    @Test
+    @DisplayName("메모리 상한을 넘으면 오래 안 쓴 가맹점만 제거하고 방금 쓴 가맹점은 남긴다")
+    void trimKeepsCurrentStore() {
+        props.setMaxBytes(BYTES_PER_DAY * 10);
+        LocalDate s = START.plusDays(10);
+
+        cube.hourlyChart(1L, s, s.plusDays(4));
+        cube.hourlyChart(2L, s, s.plusDays(4));
+        // 상한보다 큰 큐브라도 방금 요청한 가맹점은 남는다
+        cube.hourlyChart(3L, s, s.plusDays(11));
+        clearInvocations(repo);
+
+        cube.hourlyChart(3L, s, s.plusDays(11));
+        verify(repo, never()).fetchTimeHourlyRollup(eq(3L), any(), any());
+
+        cube.hourlyChart(1L, s, s.plusDays(4));
+        verify(repo).fetchTimeHourlyRollup(1L, s, s.plusDays(4));
+    }
+
+    private List<TimeDayDailyRowDto> expectedDaily() {
+        Map<LocalDate, Map<Integer, long[]>> cells = new TreeMap<>(Comparator.reverseOrder());
+        for (TimeHourlyRollupDto r : inRange(START, END)) {
+            if (!businessHour(r.hour())) continue;
+            long[] k = cells.computeIfAbsent(LocalDate.parse(r.orderDate()), d -> new TreeMap<>())
+                    .computeIfAbsent(r.hour(), h -> new long[5]);
+            accumulate(k, r);
+        }
+        List<TimeDayDailyRowDto> rows = new ArrayList<>();
+        cells.forEach((date, hours) -> hours.forEach((h, k) -> rows.add(new TimeDayDailyRowDto(
+                date.toString(), date.getDayOfWeek().getValue(), h, k[0], k[1], k[2], k[3], k[4],
+                rate(k[2], k[0]), rate(k[3], k[0]), rate(k[4], k[0])))));
+        return rows;
+    }
+
+    private List<TimeDayMonthlyRowDto> expectedMonthly() {
+        Map<YearMonth, Map<Integer, long[]>> cells = new TreeMap<>(Comparator.reverseOrder());
+        for (TimeHourlyRollupDto r : inRange(START, END)) {
+            if (!businessHour(r.hour())) continue;
+            LocalDate d = LocalDate.parse(r.orderDate());
+            long[] k = cells.computeIfAbsent(YearMonth.from(d), m -> new TreeMap<>())
+                    .computeIfAbsent(d.getDayOfWeek().getValue() * 100 + r.hour(), h -> new long[5]);
+            accumulate(k, r);
+        }
+        List<TimeDayMonthlyRowDto> rows = new ArrayList<>();
+        cells.forEach((ym, keys) -> keys.forEach((key, k) -> rows.add(new TimeDayMonthlyRowDto(
+                ym.toString(), key / 100, key % 100, k[0], k[1], k[2], k[3], k[4],
+                rate(k[2], k[0]), rate(k[3], k[0]), rate(k[4], k[0])))));
+        return rows;
+    }
+
+    /** [주문수, 매출, 매장, 포장, 배달] */
+    private static void accumulate(long[] k, TimeHourlyRollupDto r) {
+        k[0] += r.orders();
+        k[1] += r.sales();
+        if (r.orderType() == OrderType.VISIT) k[2] += r.orders();
+        if (r.orderType() == OrderType.TAKEOUT) k[3] += r.orders();
+        if (r.orderType() == OrderType.DELIVERY) k[4] += r.orders();
+    }
+
+    private List<TimeHourlyRollupDto> inRange(LocalDate s, LocalDate e) {
+        return rollup.stream()
+                .filter(r -> !LocalDate.parse(r.orderDate()).isBefore(s) && !LocalDate.parse(r.orderDate()).isAfter(e))
+                .toList();
+    }
+
+    private static boolean businessHour(int hour) {
+        return hour >= OPEN_HOUR && hour <= CLOSE_HOUR;
+    }
+
+    private static double rate(long num, long den) {
+        return den == 0L ? 0.0 : (double) num / (double) den;
+    }
+
+    private static AnalyticsSearchDto cond(AnalyticsSearchDto.ViewBy viewBy, int size, String cursor) {
+        return new AnalyticsSearchDto(START, END, viewBy, size, cursor);
+    }
+
+    private static TimeHourlyRollupDto row(LocalDate d, int hour, OrderType type, long sales, long orders) {
+        return new TimeHourlyRollupDto(d.toString(), hour, type, sales, orders);
+    }
+}
@@ -0,0 +1,180 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsRendererProperties;
+import com.boot.ict05_final_user.domain.analytics.dto.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.InflaterOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JavaReportRendererTest {
+
+    private static final Pattern STARTXREF = Pattern.compile("startxref\n(\\d+)\n%%EOF\n$");
+    private static final Pattern STREAM = Pattern.compile("(\\d+) 0 obj\n<< /Length (\\d+) /Filter /FlateDecode >>\nstream\n");
+    private static final Pattern PAGE_COUNT = Pattern.compile("/Type /Pages /Kids \\[[^]]*] /Count (\\d+)");
+
+    private final JavaReportRenderer renderer = new JavaReportRenderer(new AnalyticsRendererProperties());
+
+    @Test
+    @DisplayName("KPI 리포트 (일별/월별)")
+    void kpi() {
+        List<KpiRowDto> rows = new ArrayList<>();
+        for (int i = 1; i <= 31; i++) {
+            rows.add(new KpiRowDto("2025-01-" + (i < 10 ? "0" : "") + i, 1_000_000L * i, 50 + i, 1.5, 20_000, 13_000,
+                    null, 0.1, 0.5, 0.3, 0.2));
+        }
+        Parsed day = verify(renderer.renderKpi(new KpiPdfPayload(criteria("DAY"), rows)));
+        Parsed month = verify(renderer.renderKpi(new KpiPdfPayload(criteria("MONTH"), List.of())));
+
+        assertThat(day.text()).contains(hex("[KPI 분석 리포트] 강남점"));
+        assertThat(month.pages()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("주문 리포트: 여러 페이지에 걸친 표 (페이지마다 헤더 재출력)")
+    void ordersMultiPage() {
+        List<OrderDailyRowDto> rows = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            rows.add(new OrderDailyRowDto("2025-01-01", (long) i, "C" + i, i % 2 == 0 ? "DELIVERY" : "visit",
+                    12_000, 2, "CARD", i % 3 == 0 ? "" : "메모 (괄호) \\ 역슬래시"));
+        }
+        Parsed day = verify(renderer.renderOrders(new OrdersPdfPayload(criteria("DAY"), rows, List.of())));
+        Parsed month = verify(renderer.renderOrders(new OrdersPdfPayload(criteria("MONTH"), List.of(),
+                List.of(new OrderMonthlyRowDto("2025-01", 1_000_000, 80, 12_500, 400_000, 300_000, 300_000)))));
+
+        assertThat(day.pages()).isGreaterThan(5);
+        assertThat(count(day.text(), hex("주문일자"))).isEqualTo(day.pages());
+        assertThat(day.text()).contains(hex("배달"), hex("매장"));
+        assertThat(month.pages()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메뉴 리포트 (일별/월별)")
+    void menus() {
+        verify(renderer.renderMenus(new MenuPdfPayload(criteria("DAY"),
+                List.of(new MenuDailyRowDto("2025-01-01", "토스트", "햄치즈 토스트", 3, 12_000, 3)), List.of())));
+        Parsed month = verify(renderer.renderMenus(new MenuPdfPayload(criteria("MONTH"), List.of(),
+                List.of(new MenuMonthlyRowDto("2025-01", "아주 긴 메뉴 이름이 칸을 넘어가면 잘려서 표시된다", "음료", 3, 12_000, 3)))));
+
+        assertThat(month.text()).contains(hex(".."));
+    }
+
+    @Test
+    @DisplayName("시간·요일 리포트 (요약 + 막대 차트 + 표)")
+    void timeDay() {
+        List<TimeHourlyPointDto> hourly = new ArrayList<>();
+        for (int h = 0; h < 24; h++) hourly.add(new TimeHourlyPointDto(h, h * 10_000L, h, 0, 0, 0));
+        List<WeekdaySalesPointDto> weekdays = new ArrayList<>();
+        for (int d = 1; d <= 7; d++) weekdays.add(new WeekdaySalesPointDto(d, d * 100_000L, d));
+        TimeDaySummaryDto summary = new TimeDaySummaryDto(12, 500_000, 3, 0, 5, 900_000, 3_000_000, 1_500_000);
+
+        verify(renderer.renderTimeDay(new TimeDayReportPayload(1L, "강남점", "2025-01", summary, hourly, weekdays, "DAY",
+                List.of(new TimeDayDailyRowDto("2025-01-01", 3, 12, 10, 100_000, 5, 3, 2, 0.5, 0.3, 0.2)),
+                List.of(), "2025-02-01 09:00")));
+        Parsed month = verify(renderer.renderTimeDay(new TimeDayReportPayload(1L, "강남점", "2025", null, List.of(), List.of(),
+                "MONTH", List.of(),
+                List.of(new TimeDayMonthlyRowDto("2025-01", 7, 9, 10, 100_000, 5, 3, 2, 0.5, 0.3, 0.2)),
+                "2025-02-01 09:00")));
+
+        assertThat(month.text()).contains(hex("일"));
+    }
+
+    @Test
+    @DisplayName("재료 리포트 (요약 후 새 페이지, 데이터 없음 포함)")
+    void materials() {
+        List<MaterialTopItemDto> top = List.of(new MaterialTopItemDto(1L, "식빵", "개", 120.5, 60_000));
+        MaterialSummaryDto summary = new MaterialSummaryDto(top, top, 31.2, 29.8, 1.4, 2, 1);
+
+        Parsed day = verify(renderer.renderMaterial(new MaterialReportPayload(1L, "강남점", "2025-01", summary, "DAY",
+                List.of(new MaterialDailyRowDto("2025-01-01", "식빵", 10.25, "개", 5_000, 12.5, "2024-12-30")),
+                List.of(), "2025-02-01 09:00")));
+        Parsed empty = verify(renderer.renderMaterial(new MaterialReportPayload(1L, "강남점", "2025", null, "MONTH",
+                List.of(), List.of(), "2025-02-01 09:00")));
+
+        assertThat(day.pages()).isEqualTo(2);
+        assertThat(empty.text()).contains(hex("데이터 없음"));
+    }
+
+    /** 파싱 결과: 페이지 수, 압축 해제한 전체 페이지 내용 */
+    private record Parsed(int pages, String text) {}
+
+    /**
+     * 구조 검증: 헤더, xref 의 모든 오프셋이 "N 0 obj" 를 가리키는지,
+     * 스트림 /Length 가 실제 바이트 수와 같은지, 페이지 수 일치.
+     */
+    private static Parsed verify(byte[] pdf) {
+        String s = new String(pdf, StandardCharsets.ISO_8859_1);
+        assertThat(s).startsWith("%PDF-1.4\n");
+
+        Matcher sx = STARTXREF.matcher(s);
+        assertThat(sx.find()).as("startxref").isTrue();
+        int xref = Integer.parseInt(sx.group(1));
+        assertThat(s.startsWith("xref\n0 ", xref)).as("startxref → xref").isTrue();
+
+        String[] lines = s.substring(xref).split("\n");
+        int size = Integer.parseInt(lines[1].split(" ")[1]);
+        assertThat(lines[2]).isEqualTo("0000000000 65535 f ");
+        for (int id = 1; id < size; id++) {
+            String entry = lines[2 + id];
+            assertThat(entry).matches("\\d{10} 00000 n ");
+            int off = Integer.parseInt(entry.substring(0, 10));
+            assertThat(s.startsWith(id + " 0 obj\n", off)).as("xref offset of object %d", id).isTrue();
+        }
+        assertThat(lines[2 + size]).isEqualTo("trailer");
+        assertThat(lines[3 + size]).isEqualTo("<< /Size " + size + " /Root 1 0 R >>");
+
+        StringBuilder text = new StringBuilder();
+        Matcher m = STREAM.matcher(s);
+        int streams = 0;
+        while (m.find()) {
+            int len = Integer.parseInt(m.group(2));
+            int start = m.end();
+            assertThat(s.startsWith("\nendstream\nendobj\n", start + len))
+                    .as("/Length of object %s", m.group(1)).isTrue();
+            text.append(inflate(pdf, start, len));
+            streams++;
+        }
+
+        Matcher pc = PAGE_COUNT.matcher(s);
+        assertThat(pc.find()).isTrue();
+        int pages = Integer.parseInt(pc.group(1));
+        assertThat(streams).isEqualTo(pages);
+        assertThat(count(s, "/Type /Page ")).isEqualTo(pages);
+        return new Parsed(pages, text.toString());
+    }
+
+    private static String inflate(byte[] pdf, int start, int len) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InflaterOutputStream in = new InflaterOutputStream(out)) {
+            in.write(pdf, start, len);
+        } catch (java.io.IOException e) {
+            throw new AssertionError("content stream inflate failed", e);
+        }
+        return out.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    /** 본문 문자열이 콘텐츠 스트림에 쓰이는 형태 (UCS-2 hex) */
+    private static String hex(String s) {
+        StringBuilder sb = new StringBuilder();
+        for (char c : s.toCharArray()) sb.append(String.format("%04X", (int) c));
+        return sb.toString();
+    }
+
+    private static int count(String s, String needle) {
+        int n = 0;
+        for (int i = s.indexOf(needle); i >= 0; i = s.indexOf(needle, i + needle.length())) n++;
+        return n;
+    }
+
+    private static PdfCriteria criteria(String viewBy) {
+        return new PdfCriteria(1L, "강남점", "2025-01-01", "2025-01-31", viewBy);
+    }
+}
@@ -0,0 +1,56 @@
+package com.boot.ict05_final_user.domain.analytics.service;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsRendererProperties;
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsRendererProperties.Engine;
+import com.boot.ict05_final_user.domain.analytics.dto.KpiPdfPayload;
+import com.boot.ict05_final_user.domain.analytics.service.AnalyticsReportStore.ReportType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportRendererRouterTest {
+
+    private static final byte[] PYTHON_PDF = {1, 2, 3};
+
+    private final AnalyticsRendererProperties props = new AnalyticsRendererProperties();
+    private final JavaReportRenderer javaRenderer = mock(JavaReportRenderer.class);
+    private final PythonReportRenderer pythonRenderer = mock(PythonReportRenderer.class);
+    private final SimpleMeterRegistry meters = new SimpleMeterRegistry();
+    private ReportRendererRouter router;
+
+    @BeforeEach
+    void setUp() {
+        props.getEngines().put(ReportType.KPI, Engine.JAVA);
+        when(javaRenderer.renderKpi(any())).thenThrow(new IllegalStateException("broken"));
+        when(pythonRenderer.renderKpi(any())).thenReturn(PYTHON_PDF);
+        router = new ReportRendererRouter(props, javaRenderer, pythonRenderer, meters);
+    }
+
+    @Test
+    @DisplayName("내부 렌더링 실패 시 Python 으로 폴백하고 실패 카운터 증가")
+    void fallbackIsMetered() {
+        byte[] pdf = router.render(ReportType.KPI, r -> r.renderKpi((KpiPdfPayload) null));
+
+        assertThat(pdf).isEqualTo(PYTHON_PDF);
+        assertThat(meters.counter(ReportRendererRouter.FAILURE_METER, "type", "KPI", "fallback", "true").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("폴백이 꺼져 있으면 예외를 그대로 던지고 실패 카운터 증가")
+    void noFallbackRethrows() {
+        props.setFallbackToPython(false);
+
+        assertThatThrownBy(() -> router.render(ReportType.KPI, r -> r.renderKpi((KpiPdfPayload) null)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meters.counter(ReportRendererRouter.FAILURE_METER, "type", "KPI", "fallback", "false").count())
+                .isEqualTo(1.0);
+    }
+}
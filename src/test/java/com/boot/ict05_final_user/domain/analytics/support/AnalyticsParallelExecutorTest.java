@@ -0,0 +1,95 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import com.boot.ict05_final_user.domain.analytics.config.AnalyticsParallelProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AnalyticsParallelExecutorTest {
+
+    private final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+    private final AnalyticsParallelProperties props = new AnalyticsParallelProperties();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AnalyticsParallelExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        props.setPoolSize(1);
+        props.setQueueCapacity(1);
+        props.setDeadlineMs(3_000);
+        executor = new AnalyticsParallelExecutor(props, txManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 넘친 하위 쿼리는 호출 스레드에서 실행하지 않고 기본값 사용")
+    void rejectsOverflowWithFallback() {
+        AnalyticsParallelExecutor.Scope scope = executor.open("test");
+        AnalyticsParallelExecutor.Subtask<Long> running = scope.fork("running", this::blocked, -1L);
+        AnalyticsParallelExecutor.Subtask<Long> queued = scope.fork("queued", () -> 2L, -1L);
+        Thread caller = Thread.currentThread();
+        boolean[] ranOnCaller = {false};
+        AnalyticsParallelExecutor.Subtask<Long> overflow = scope.fork("overflow", () -> {
+            ranOnCaller[0] = Thread.currentThread() == caller;
+            return 3L;
+        }, -1L);
+
+        release.countDown();
+        scope.join();
+
+        assertThat(running.get()).isEqualTo(1L);
+        assertThat(queued.get()).isEqualTo(2L);
+        assertThat(overflow.get()).isEqualTo(-1L);
+        assertThat(ranOnCaller[0]).isFalse();
+        assertThat(scope.isPartial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("하위 쿼리 트랜잭션 타임아웃은 마감 시간 이하 (초 단위 내림, 최소 1초)")
+    void transactionTimeoutWithinDeadline() {
+        release.countDown();
+        AnalyticsParallelExecutor.Scope scope = executor.open("test");
+        AnalyticsParallelExecutor.Subtask<Long> a = scope.fork("a", () -> 1L, 0L);
+        scope.join();
+
+        assertThat(a.get()).isEqualTo(1L);
+        assertThat(scope.isPartial()).isFalse();
+        ArgumentCaptor<TransactionDefinition> def = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(txManager, atLeastOnce()).getTransaction(def.capture());
+        assertThat(def.getValue().isReadOnly()).isTrue();
+        assertThat(def.getValue().getTimeout()).isBetween(1, 3);
+
+        props.setDeadlineMs(500);
+        AnalyticsParallelExecutor.Scope shortScope = executor.open("short");
+        shortScope.fork("b", () -> 1L, 0L);
+        shortScope.join();
+        verify(txManager, atLeastOnce()).getTransaction(def.capture());
+        assertThat(def.getValue().getTimeout()).isEqualTo(1);
+    }
+
+    private Long blocked() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return 1L;
+    }
+}
@@ -0,0 +1,138 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import com.boot.ict05_final_user.domain.analytics.dto.OrderDailyRowDto;
+import com.boot.ict05_final_user.domain.analytics.dto.OrdersPdfPayload;
+import com.boot.ict05_final_user.domain.analytics.dto.PdfCriteria;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 주문 리포트(DAY) 페이로드 직렬화 비교 벤치마크.
+ *
+ * <p>기존 방식(행마다 LinkedHashMap + ObjectMapper)과 {@link PdfPayloadEncoder}의
+ * 행 / 컬럼 / 컬럼+gzip 형식을 본문 크기, 1회 소요 시간, 1회 할당 바이트로 비교한다.
+ * 스프링 컨텍스트 없이 {@code main} 으로 실행한다 (JUnit 테스트 아님).</p>
+ *
+ * <pre>
+ * 인자: [행 수=20000] [반복=30]
+ * </pre>
+ */
+public class PdfPayloadEncodingBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+        ObjectMapper om = new ObjectMapper();
+        PdfPayloadEncoder encoder = new PdfPayloadEncoder(om);
+
+        PdfCriteria criteria = new PdfCriteria(10L, "토스트랩 강남점", "2025-01-01", "2025-12-31", "DAY");
+        List<OrderDailyRowDto> rows = sampleRows(rowCount);
+        OrdersPdfPayload payload = new OrdersPdfPayload(criteria, rows, List.of());
+
+        System.out.printf("rows=%d iterations=%d%n", rowCount, iterations);
+        System.out.printf("%-16s %12s %10s %14s%n", "format", "bytes", "ms/op", "alloc KB/op");
+        run("legacy-map", iterations, () -> {
+            try {
+                return om.writeValueAsBytes(legacyPayload(criteria, rows));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        run("legacy-map+gzip", iterations, () -> {
+            try {
+                return gzip(om.writeValueAsBytes(legacyPayload(criteria, rows)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        run("rows", iterations, () -> encoder.encode(payload, false, false));
+        run("columnar", iterations, () -> encoder.encode(payload, true, false));
+        run("columnar+gzip", iterations, () -> encoder.encode(payload, true, true));
+    }
+
+    private static void run(String label, int iterations, Supplier<byte[]> op) {
+        com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().getId();
+
+        int size = 0;
+        for (int i = 0; i < Math.max(5, iterations / 3); i++) size = op.get().length; // 워밍업
+
+        long alloc0 = mx.getThreadAllocatedBytes(tid);
+        long t0 = System.nanoTime();
+        for (int i = 0; i < iterations; i++) size = op.get().length;
+        long elapsed = System.nanoTime() - t0;
+        long alloc = mx.getThreadAllocatedBytes(tid) - alloc0;
+
+        System.out.printf("%-16s %12d %10.2f %14d%n", label, size,
+                elapsed / 1_000_000.0 / iterations, alloc / 1024 / iterations);
+    }
+
+    /** 변경 전 AnalyticsReportService 의 행 Map 구성 */
+    private static Map<String, Object> legacyPayload(PdfCriteria c, List<OrderDailyRowDto> rows) {
+        Map<String, Object> criteria = new LinkedHashMap<>();
+        criteria.put("storeId", c.storeId());
+        criteria.put("storeName", c.storeName());
+        criteria.put("startDate", c.startDate());
+        criteria.put("endDate", c.endDate());
+        criteria.put("viewBy", c.viewBy());
+
+        List<Map<String, Object>> data = new ArrayList<>(rows.size());
+        for (OrderDailyRowDto r : rows) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("date", r.orderDate());
+            m.put("orderId", r.orderId());
+            m.put("orderType", r.orderType());
+            m.put("orderCount", 1);
+            m.put("totalPrice", (double) r.totalPrice());
+            m.put("menuCount", (int) r.menuCount());
+            m.put("paymentType", r.paymentType());
+            m.put("channelMemo", r.channelMemo());
+            data.add(m);
+        }
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("criteria", criteria);
+        payload.put("data", data);
+        return payload;
+    }
+
+    private static List<OrderDailyRowDto> sampleRows(int n) {
+        String[] types = {"VISIT", "TAKEOUT", "DELIVERY"};
+        String[] payments = {"CARD", "CASH", "VOUCHER", "EXTERNAL"};
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        List<OrderDailyRowDto> rows = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            rows.add(new OrderDailyRowDto(
+                    start.plusDays(i % 365).toString(),
+                    100_000L + i,
+                    "ORD-" + (100_000 + i),
+                    types[i % types.length],
+                    4_500L + (i * 37L) % 60_000,
+                    1 + i % 6,
+                    payments[i % payments.length],
+                    i % 5 == 0 ? "포크 빼주세요" : null));
+        }
+        return rows;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        try {
+            ByteArrayOutputStream buf = new ByteArrayOutputStream(bytes.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(buf, 8 * 1024)) {
+                out.write(bytes);
+            }
+            return buf.toByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.boot.ict05_final_user.domain.analytics.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TabularExportWriterTest {
+
+    private static final String SPECIAL = "A&B <태그> \"따옴표\" 'x', 줄\n바꿈";
+
+    @Test
+    @DisplayName("XLSX: 압축을 풀어 시트 XML 의 셀 참조, 특수문자 이스케이프, 숫자/빈 칸을 확인")
+    void xlsxRoundTrip() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TabularExportWriter w = TabularExportWriter.xlsx(out);
+        w.header("이름", "값", "비고");
+        w.row(SPECIAL, 12_500L, null);
+        w.row("ctrl\u0001char", 3.5, "=SUM(A1)");
+        Object[] wide = new Object[28];
+        wide[27] = "끝";
+        w.row(wide);
+        w.finish();
+
+        Map<String, byte[]> entries = unzip(out.toByteArray());
+        assertThat(entries).containsOnlyKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        // inline string 만 쓰므로 sharedStrings 파트가 없고 Content_Types 에도 등록하지 않는다
+        Document types = parse(entries.get("[Content_Types].xml"));
+        List<String> parts = new ArrayList<>();
+        NodeList overrides = types.getElementsByTagName("Override");
+        for (int i = 0; i < overrides.getLength(); i++) {
+            parts.add(((Element) overrides.item(i)).getAttribute("PartName"));
+        }
+        assertThat(parts).containsExactly("/xl/workbook.xml", "/xl/worksheets/sheet1.xml");
+
+        Document sheet = parse(entries.get("xl/worksheets/sheet1.xml"));
+        NodeList rows = sheet.getElementsByTagName("row");
+        assertThat(rows.getLength()).isEqualTo(4);
+        for (int i = 0; i < rows.getLength(); i++) {
+            assertThat(((Element) rows.item(i)).getAttribute("r")).isEqualTo(String.valueOf(i + 1));
+        }
+
+        Map<String, Element> cells = new LinkedHashMap<>();
+        NodeList cs = sheet.getElementsByTagName("c");
+        for (int i = 0; i < cs.getLength(); i++) {
+            Element c = (Element) cs.item(i);
+            cells.put(c.getAttribute("r"), c);
+        }
+        assertThat(cells).containsKeys("A1", "B1", "C1", "A2", "B2", "C2", "A3", "B3", "C3", "Z4", "AA4", "AB4");
+
+        assertThat(cells.get("A1").getAttribute("t")).isEqualTo("inlineStr");
+        assertThat(cells.get("A1").getTextContent()).isEqualTo("이름");
+        assertThat(cells.get("A2").getTextContent()).isEqualTo(SPECIAL);
+        assertThat(cells.get("B2").getAttribute("t")).isEmpty();
+        assertThat(cells.get("B2").getTextContent()).isEqualTo("12500");
+        assertThat(cells.get("C2").hasChildNodes()).isFalse();
+        assertThat(cells.get("A3").getTextContent()).isEqualTo("ctrlchar");
+        assertThat(cells.get("B3").getTextContent()).isEqualTo("3.5");
+        assertThat(cells.get("C3").getTextContent()).isEqualTo("=SUM(A1)");
+        assertThat(cells.get("AB4").getTextContent()).isEqualTo("끝");
+
+        String raw = new String(entries.get("xl/worksheets/sheet1.xml"), StandardCharsets.UTF_8);
+        assertThat(raw).contains("A&amp;B &lt;태그&gt; &quot;따옴표&quot;");
+    }
+
+    @Test
+    @DisplayName("CSV: BOM, CRLF, 따옴표/쉼표/줄바꿈 인용, 수식 주입 방지")
+    void csvQuoting() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TabularExportWriter w = TabularExportWriter.csv(out);
+        w.header("이름", "값", "비고");
+        w.row("a\"b", 1_000L, null);
+        w.row("x,y", -5, "줄\n바꿈");
+        w.row("=HYPERLINK(\"u\")", 2.5, "plain");
+        w.finish();
+
+        byte[] bytes = out.toByteArray();
+        assertThat(bytes).startsWith((byte) 0xEF, (byte) 0xBB, (byte) 0xBF);
+        String body = new String(bytes, 3, bytes.length - 3, StandardCharsets.UTF_8);
+        assertThat(body).isEqualTo(
+                "이름,값,비고\r\n"
+                        + "\"a\"\"b\",1000,\r\n"
+                        + "\"x,y\",-5,\"줄\n바꿈\"\r\n"
+                        + "\"'=HYPERLINK(\"\"u\"\")\",2.5,plain\r\n");
+    }
+
+    private static Map<String, byte[]> unzip(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip), StandardCharsets.UTF_8)) {
+            for (ZipEntry e = in.getNextEntry(); e != null; e = in.getNextEntry()) {
+                entries.put(e.getName(), in.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private static Document parse(byte[] xml) throws Exception {
+        DocumentBuilderFactory f = DocumentBuilderFactory.newInstance();
+        f.setNamespaceAware(true);
+        return f.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+    }
+}
@@ -0,0 +1,50 @@
+package com.boot.ict05_final_user.domain.fcm.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FcmPreferenceTest {
+
+    @Test
+    @DisplayName("같은 날 구간: 시작 포함, 종료 제외")
+    void sameDayWindow() {
+        FcmPreference p = quiet("13:00", "15:00");
+
+        assertThat(p.isQuietAt(LocalTime.parse("12:59"))).isFalse();
+        assertThat(p.isQuietAt(LocalTime.parse("13:00"))).isTrue();
+        assertThat(p.isQuietAt(LocalTime.parse("14:30"))).isTrue();
+        assertThat(p.isQuietAt(LocalTime.parse("15:00"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 구간: 시작 이후 또는 종료 이전이면 방해 금지")
+    void windowCrossingMidnight() {
+        FcmPreference p = quiet("22:00", "07:00");
+
+        assertThat(p.isQuietAt(LocalTime.parse("21:59"))).isFalse();
+        assertThat(p.isQuietAt(LocalTime.parse("22:00"))).isTrue();
+        assertThat(p.isQuietAt(LocalTime.MIDNIGHT)).isTrue();
+        assertThat(p.isQuietAt(LocalTime.parse("06:59"))).isTrue();
+        assertThat(p.isQuietAt(LocalTime.parse("07:00"))).isFalse();
+        assertThat(p.isQuietAt(LocalTime.NOON)).isFalse();
+    }
+
+    @Test
+    @DisplayName("구간 미설정 또는 시작=종료면 방해 금지 아님")
+    void unsetOrEmptyWindow() {
+        assertThat(quiet(null, "07:00").isQuietAt(LocalTime.parse("03:00"))).isFalse();
+        assertThat(quiet("22:00", null).isQuietAt(LocalTime.parse("23:00"))).isFalse();
+        assertThat(quiet("09:00", "09:00").isQuietAt(LocalTime.parse("09:00"))).isFalse();
+    }
+
+    private static FcmPreference quiet(String start, String end) {
+        return FcmPreference.builder()
+                .quietStart(start == null ? null : LocalTime.parse(start))
+                .quietEnd(end == null ? null : LocalTime.parse(end))
+                .build();
+    }
+}
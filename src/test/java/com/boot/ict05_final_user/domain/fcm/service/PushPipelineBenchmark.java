@@ -0,0 +1,269 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import com.boot.ict05_final_user.domain.fcm.config.FcmProperties;
+import com.boot.ict05_final_user.domain.fcm.dto.FcmTestSendRequest;
+import com.boot.ict05_final_user.domain.fcm.entity.FcmDeviceToken;
+import com.boot.ict05_final_user.domain.fcm.entity.FcmPreference;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmDeviceTokenRepository;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmPreferenceRepository;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmStoreSendLogRepository;
+import com.boot.ict05_final_user.domain.fcm.repository.InventoryAlertQueryRepository;
+import com.boot.ict05_final_user.domain.notice.entity.Notice;
+import com.boot.ict05_final_user.domain.notice.repository.NoticeRepository;
+import com.boot.ict05_final_user.domain.store.entity.Store;
+import com.boot.ict05_final_user.domain.store.repository.StoreRepository;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+
+/**
+ * 푸시 발송 파이프라인 부하 벤치마크 ({@link FakePushGateway} 사용).
+ *
+ * <p>실제 서비스 클래스({@link NoticeAlertService}, {@link InventoryAlertService}, {@link FcmService})를
+ * 매장·토큰 수천 개 규모로 돌리고 시나리오별 처리량, 메시지당 소요 시간 p50/p99, 메시지당 DB 문장 수를 출력한다.
+ * 알림 시나리오는 {@link StoreAlertCoalescer} 병합을 끈 경우와 켠 경우(매장 10% 방해 금지)를 함께 돌린다.
+ * 스프링 컨텍스트 없이 {@code main} 으로 실행한다 (JUnit 테스트 아님).</p>
+ *
+ * <p>리포지토리는 호출 횟수를 세는 동적 프록시로 대체하며, 호출 1회를 DB 문장 1개로 보고
+ * {@code dbLatencyMs} 만큼 대기한다(JPA 변경 감지로 나가는 UPDATE 는 세지 않는다). 메시지당 소요 시간은 연속된 발송 완료 시각의 간격(이전 메시지의 로그 저장 포함)이다.</p>
+ *
+ * <pre>
+ * 인자: [매장 수=3000] [토큰 수=10000] [FCM 지연 ms=1] [지연 꼬리 ms=0.5] [DB 문장 지연 ms=0.2]
+ * </pre>
+ */
+public class PushPipelineBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int storeCount = args.length > 0 ? Integer.parseInt(args[0]) : 3_000;
+        int tokenCount = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        double latencyMs = args.length > 2 ? Double.parseDouble(args[2]) : 1.0;
+        double jitterMs = args.length > 3 ? Double.parseDouble(args[3]) : 0.5;
+        double dbLatencyMs = args.length > 4 ? Double.parseDouble(args[4]) : 0.2;
+
+        // 발송마다 찍히는 INFO/WARN 로그는 측정에서 제외
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.boot"))
+                .setLevel(ch.qos.logback.classic.Level.ERROR);
+
+        System.out.printf("stores=%d tokens=%d fcmLatencyMs=%.2f jitterMs=%.2f dbLatencyMs=%.2f%n",
+                storeCount, tokenCount, latencyMs, jitterMs, dbLatencyMs);
+        System.out.printf("%-30s %8s %8s %7s %8s %10s %8s %8s %8s %9s  %s%n",
+                "scenario", "events", "messages", "failed", "logRows", "elapsedMs", "msg/s", "p50 ms", "p99 ms",
+                "stmt/msg", "statements");
+
+        List<Long> storeIds = new ArrayList<>(storeCount);
+        for (long i = 1; i <= storeCount; i++) storeIds.add(i);
+
+        for (boolean coalesce : new boolean[]{false, true}) {
+            String suffix = coalesce ? "+coalesce" : "";
+
+            Fixture notice = new Fixture(storeIds, latencyMs, jitterMs, dbLatencyMs, coalesce);
+            notice.run("notice-broadcast" + suffix, () -> {
+                int n = notice.notice.broadcastToAllStores(1L, "NOTICE_CREATED", "[공지] 새 공지 등록");
+                return n + notice.flush();
+            });
+
+            // 등록 직후 수정 (HQ 에서 연달아 호출되는 경우)
+            Fixture noticeTwice = new Fixture(storeIds, latencyMs, jitterMs, dbLatencyMs, coalesce);
+            noticeTwice.run("notice-create+update" + suffix, () -> {
+                int n = noticeTwice.notice.sendNoticeCreatedBroadcast(1L);
+                n += noticeTwice.notice.sendNoticeUpdatedBroadcast(1L);
+                return n + noticeTwice.flush();
+            });
+
+            Fixture low = new Fixture(storeIds, latencyMs, jitterMs, dbLatencyMs, coalesce);
+            low.run("inv-low-scan" + suffix, () -> {
+                int n = low.inventory.scanAndNotifyLowStock(1);
+                return n + low.flush();
+            });
+
+            // 20분 주기 스캔 3회 (같은 매장이 계속 부족 상태)
+            Fixture lowRepeat = new Fixture(storeIds, latencyMs, jitterMs, dbLatencyMs, coalesce);
+            lowRepeat.run("inv-low-scan x3" + suffix, () -> {
+                int n = 0;
+                for (int i = 0; i < 3; i++) {
+                    n += lowRepeat.inventory.scanAndNotifyLowStock(1);
+                    lowRepeat.flush();
+                }
+                return n;
+            });
+
+            Fixture expire = new Fixture(storeIds, latencyMs, jitterMs, dbLatencyMs, coalesce);
+            expire.run("expire-soon-scan" + suffix, () -> {
+                int n = expire.inventory.scanAndNotifyExpireSoon(LocalDate.now(), 3);
+                return n + expire.flush();
+            });
+        }
+
+        Fixture direct = new Fixture(storeIds, latencyMs, jitterMs, dbLatencyMs, false);
+        direct.run("token-direct", () -> {
+            int ok = 0;
+            for (int i = 0; i < tokenCount; i++) {
+                try {
+                    direct.fcm.sendTest(new FcmTestSendRequest("bench-token-" + i, false, "테스트", "부하 테스트", null));
+                    ok++;
+                } catch (PushGateway.SendException ignored) {
+                    // 실패/UNREGISTERED 는 집계만
+                }
+            }
+            return ok;
+        });
+    }
+
+    /** 시나리오 1회분 구성 (카운터 초기화를 위해 시나리오마다 새로 만든다) */
+    private static final class Fixture {
+
+        final Map<String, Integer> statements = new TreeMap<>();
+        final long dbLatencyNanos;
+        final TimedGateway gateway;
+        final FcmService fcm;
+        final StoreAlertCoalescer coalescer;
+        final NoticeAlertService notice;
+        final InventoryAlertService inventory;
+
+        Fixture(List<Long> storeIds, double latencyMs, double jitterMs, double dbLatencyMs, boolean coalesce) {
+            this.dbLatencyNanos = (long) (dbLatencyMs * 1_000_000);
+            this.gateway = new TimedGateway(new FakePushGateway(latencyMs, jitterMs, 0.002, 0.03, 42L));
+
+            FcmProperties props = new FcmProperties();
+            props.getWebpush().setDefaultLink("/user");
+            props.getCoalesce().setEnabled(coalesce);
+            props.getCoalesce().setWindowSeconds(0); // 시나리오 끝에서 바로 flush
+
+            List<Store> stores = storeIds.stream().map(id -> Store.builder().id(id).build()).toList();
+            Notice n = Notice.builder().id(1L).title("신규 메뉴 출시 안내")
+                    .body("이번 주부터 신규 시즌 메뉴가 전 매장에 적용됩니다. 레시피와 재료 입고 일정을 확인해 주세요.")
+                    .build();
+
+            FcmDeviceTokenRepository tokenRepo = counting(FcmDeviceTokenRepository.class, (m, a) ->
+                    m.equals("findByToken")
+                            ? Optional.of(FcmDeviceToken.builder().token((String) a[0]).isActive(true).build())
+                            : null);
+            FcmStoreSendLogRepository logRepo = counting(FcmStoreSendLogRepository.class, (m, a) -> null);
+            StoreRepository storeRepo = counting(StoreRepository.class, (m, a) -> m.equals("findAll") ? stores : null);
+            NoticeRepository noticeRepo = counting(NoticeRepository.class, (m, a) -> m.equals("findById") ? Optional.of(n) : null);
+            InventoryAlertQueryRepository invRepo = counting(InventoryAlertQueryRepository.class, (m, a) -> storeIds);
+            // 10% 매장은 지금 방해 금지 시간대
+            LocalTime now = LocalTime.now();
+            List<FcmPreference> prefs = storeIds.stream()
+                    .filter(id -> id % 10 == 0)
+                    .map(id -> FcmPreference.builder().storeIdFk(id)
+                            .quietStart(now.minusHours(1)).quietEnd(now.plusHours(1)).build())
+                    .toList();
+            FcmPreferenceRepository prefRepo = counting(FcmPreferenceRepository.class,
+                    (m, a) -> m.equals("findByAppTypeAndStoreIdFkIn") ? prefs : null);
+
+            FcmTokenHeartbeatBuffer heartbeat = new FcmTokenHeartbeatBuffer(props, tokenRepo);
+            this.fcm = new FcmService(gateway, tokenRepo, props, logRepo, heartbeat);
+            this.coalescer = new StoreAlertCoalescer(fcm, prefRepo, props);
+            this.notice = new NoticeAlertService(noticeRepo, coalescer, storeRepo);
+            this.inventory = new InventoryAlertService(invRepo, coalescer);
+        }
+
+        /** 기한 지난 병합 버킷 발송 (병합 꺼짐이면 0) */
+        int flush() {
+            coalescer.flushDue();
+            return 0;
+        }
+
+        void run(String label, IntSupplier scenario) {
+            long t0 = System.nanoTime();
+            gateway.start(t0);
+            int events = scenario.getAsInt();
+            long elapsed = System.nanoTime() - t0;
+
+            int messages = gateway.samples.size();
+            long[] s = gateway.samples.stream().mapToLong(Long::longValue).sorted().toArray();
+            int total = statements.values().stream().mapToInt(Integer::intValue).sum();
+            System.out.printf("%-30s %8d %8d %7d %8d %10.1f %8.0f %8.3f %8.3f %9.2f  %s%n",
+                    label, events, messages, gateway.failures, statements.getOrDefault("FcmStoreSendLog.save", 0),
+                    elapsed / 1e6, messages / (elapsed / 1e9),
+                    pct(s, 0.50) / 1e6, pct(s, 0.99) / 1e6,
+                    messages == 0 ? 0.0 : (double) total / messages, statements);
+        }
+
+        /** 메서드 호출을 DB 문장 1개로 세는 리포지토리 프록시 */
+        @SuppressWarnings("unchecked")
+        <T> T counting(Class<T> type, Answer answer) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (method.getDeclaringClass() == Object.class) {
+                    return switch (name) {
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "equals" -> proxy == args[0];
+                        default -> type.getSimpleName() + "Proxy";
+                    };
+                }
+                statements.merge(type.getSimpleName().replace("Repository", "") + "." + name, 1, Integer::sum);
+                if (dbLatencyNanos > 0) LockSupport.parkNanos(dbLatencyNanos);
+
+                Object v = answer.answer(name, args);
+                if (v != null) return v;
+                Class<?> rt = method.getReturnType();
+                if (name.startsWith("save") && args != null && args.length == 1) return args[0];
+                if (rt == Optional.class) return Optional.empty();
+                if (List.class.isAssignableFrom(rt)) return List.of();
+                if (rt == int.class || rt == long.class) return rt == int.class ? 0 : 0L;
+                if (rt == boolean.class) return false;
+                return null;
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(String method, Object[] args);
+    }
+
+    /** 발송 완료 간격을 기록하는 게이트웨이 래퍼 (단일 스레드 시나리오 전용) */
+    private static final class TimedGateway implements PushGateway {
+
+        final PushGateway delegate;
+        final List<Long> samples = new ArrayList<>();
+        long last;
+        int failures;
+
+        TimedGateway(PushGateway delegate) {
+            this.delegate = delegate;
+        }
+
+        void start(long t0) {
+            samples.clear();
+            failures = 0;
+            last = t0;
+        }
+
+        @Override
+        public String send(PushMessage message) throws SendException {
+            try {
+                return delegate.send(message);
+            } catch (SendException e) {
+                failures++;
+                throw e;
+            } finally {
+                long now = System.nanoTime();
+                samples.add(now - last);
+                last = now;
+            }
+        }
+
+        @Override
+        public TopicResult subscribe(List<String> tokens, String topic) throws SendException {
+            return delegate.subscribe(tokens, topic);
+        }
+
+        @Override
+        public TopicResult unsubscribe(List<String> tokens, String topic) throws SendException {
+            return delegate.unsubscribe(tokens, topic);
+        }
+    }
+
+    private static long pct(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,148 @@
+package com.boot.ict05_final_user.domain.fcm.service;
+
+import com.boot.ict05_final_user.domain.fcm.config.FcmProperties;
+import com.boot.ict05_final_user.domain.fcm.dto.StoreTopic;
+import com.boot.ict05_final_user.domain.fcm.entity.AppType;
+import com.boot.ict05_final_user.domain.fcm.entity.FcmPreference;
+import com.boot.ict05_final_user.domain.fcm.repository.FcmPreferenceRepository;
+import com.boot.ict05_final_user.domain.fcm.service.StoreAlertCoalescer.Alert;
+import com.boot.ict05_final_user.domain.fcm.service.StoreAlertCoalescer.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoreAlertCoalescerTest {
+
+    private static final long STORE = 5L;
+
+    private final FcmService fcmService = mock(FcmService.class);
+    private final FcmPreferenceRepository prefRepo = mock(FcmPreferenceRepository.class);
+    private final FcmProperties props = new FcmProperties();
+    private StoreAlertCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        props.getCoalesce().setWindowSeconds(0);
+        props.getCoalesce().setResendAfterMinutes(180);
+        when(prefRepo.findByAppTypeAndStoreIdFkIn(eq(AppType.STORE), any())).thenReturn(List.of());
+        when(fcmService.sendCommonWithLog(anyString(), anyBoolean(), any(), any(), any(), any(), any()))
+                .thenReturn("msg-1");
+        coalescer = new StoreAlertCoalescer(fcmService, prefRepo, props);
+    }
+
+    @Test
+    @DisplayName("같은 참조는 1항목으로 합치고 서로 다른 항목은 요약 1건으로 발송")
+    void mergesIntoDigest() throws Exception {
+        assertThat(coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"))).isEqualTo(Outcome.QUEUED);
+        assertThat(coalescer.submit(Alert.notice(STORE, 1L, "공지A(수정)", "본문", "/notice/1"))).isEqualTo(Outcome.MERGED);
+        assertThat(coalescer.submit(Alert.notice(STORE, 2L, "공지B", "본문", "/notice/2"))).isEqualTo(Outcome.QUEUED);
+
+        assertThat(coalescer.flushDue()).isEqualTo(1);
+        assertThat(coalescer.flushDue()).isZero();
+
+        Map<String, String> data = captureData("[공지 요약] 2건");
+        assertThat(data).containsEntry("digest", "true").containsEntry("items", "2").containsEntry("count", "3");
+    }
+
+    @Test
+    @DisplayName("항목 1개면 최신 내용 그대로, 여러 번이면 횟수만 데이터로")
+    void singleEntryKeepsLatest() throws Exception {
+        coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"));
+        coalescer.submit(Alert.notice(STORE, 1L, "공지A(수정)", "본문", "/notice/1"));
+
+        assertThat(coalescer.flushDue()).isEqualTo(1);
+        assertThat(captureData("공지A(수정)")).containsEntry("count", "2").doesNotContainKey("digest");
+    }
+
+    @Test
+    @DisplayName("스캔형 알림은 재발송 간격 안에서 다시 보내지 않음 (공지는 제외)")
+    void suppressesResend() throws Exception {
+        coalescer.submit(Alert.inventoryLow(STORE, "재고 부족", "본문", "/inventory"));
+        assertThat(coalescer.flushDue()).isEqualTo(1);
+
+        assertThat(coalescer.submit(Alert.inventoryLow(STORE, "재고 부족", "본문", "/inventory")))
+                .isEqualTo(Outcome.SUPPRESSED);
+        assertThat(coalescer.flushDue()).isZero();
+
+        coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"));
+        assertThat(coalescer.flushDue()).isEqualTo(1);
+        assertThat(coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"))).isEqualTo(Outcome.QUEUED);
+    }
+
+    @Test
+    @DisplayName("발송 실패한 버킷은 다시 넣어 재시도하고 그 사이 들어온 알림과 합침")
+    void requeuesFailedBucket() throws Exception {
+        when(fcmService.sendCommonWithLog(anyString(), anyBoolean(), any(), any(), any(), any(), any()))
+                .thenThrow(new PushGateway.SendException(PushGateway.ErrorCode.UNAVAILABLE, "down", null))
+                .thenReturn("msg-1");
+
+        coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"));
+        assertThat(coalescer.flushDue()).isZero();
+
+        assertThat(coalescer.submit(Alert.notice(STORE, 2L, "공지B", "본문", "/notice/2"))).isEqualTo(Outcome.QUEUED);
+        assertThat(coalescer.flushDue()).isEqualTo(1);
+
+        assertThat(captureData("[공지 요약] 2건")).containsEntry("items", "2");
+    }
+
+    @Test
+    @DisplayName("발송 실패가 최대 시도 횟수에 닿으면 버킷을 버림")
+    void dropsAfterMaxAttempts() throws Exception {
+        when(fcmService.sendCommonWithLog(anyString(), anyBoolean(), any(), any(), any(), any(), any()))
+                .thenThrow(new PushGateway.SendException(PushGateway.ErrorCode.UNAVAILABLE, "down", null));
+
+        coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"));
+        for (int i = 0; i < StoreAlertCoalescer.MAX_SEND_ATTEMPTS + 2; i++) {
+            coalescer.flushDue();
+        }
+
+        verify(fcmService, times(StoreAlertCoalescer.MAX_SEND_ATTEMPTS))
+                .sendCommonWithLog(anyString(), anyBoolean(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("방해 금지 시간대는 KST 기준으로 판단해 보류")
+    void defersDuringQuietHoursInKst() throws Exception {
+        LocalTime nowKst = LocalTime.now(ZoneId.of("Asia/Seoul"));
+        FcmPreference pref = FcmPreference.builder()
+                .storeIdFk(STORE)
+                .quietStart(nowKst.minusHours(1))
+                .quietEnd(nowKst.plusHours(1))
+                .build();
+        when(prefRepo.findByAppTypeAndStoreIdFkIn(eq(AppType.STORE), any())).thenReturn(List.of(pref));
+
+        coalescer.submit(Alert.notice(STORE, 1L, "공지A", "본문", "/notice/1"));
+
+        assertThat(coalescer.flushDue()).isZero();
+        verify(fcmService, never()).sendCommonWithLog(anyString(), anyBoolean(), any(), any(), any(), any(), any());
+    }
+
+    /** 마지막 발송 메시지의 제목을 확인하고 데이터를 돌려준다 */
+    @SuppressWarnings("unchecked")
+    private Map<String, String> captureData(String expectedTitle) throws Exception {
+        ArgumentCaptor<String> title = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Map<String, String>> data = ArgumentCaptor.forClass(Map.class);
+        verify(fcmService, atLeastOnce()).sendCommonWithLog(eq(StoreTopic.store(STORE)), eq(true),
+                title.capture(), any(), any(), data.capture(), any());
+        assertThat(title.getValue()).isEqualTo(expectedTitle);
+        return data.getValue();
+    }
+}
@@ -0,0 +1,150 @@
+package com.boot.ict05_final_user.domain.home.service;
+
+import com.boot.ict05_final_user.domain.home.config.HomeRankingProperties;
+import com.boot.ict05_final_user.domain.home.repository.HomeRepositoryCustom;
+import com.boot.ict05_final_user.domain.home.repository.HomeRepositoryCustom.TopMenuAgg;
+import com.boot.ict05_final_user.domain.menu.entity.Menu;
+import com.boot.ict05_final_user.domain.order.entity.CustomerOrderDetail;
+import com.boot.ict05_final_user.domain.order.entity.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TodayMenuRankingTrackerTest {
+
+    private static final Long STORE = 7L;
+
+    private final HomeRepositoryCustom repo = mock(HomeRepositoryCustom.class);
+    private final List<TopMenuAgg> dbRows = new ArrayList<>();
+    private TodayMenuRankingTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        when(repo.findMenuSales(any(), any(), eq(STORE), any())).thenAnswer(inv -> List.copyOf(dbRows));
+        tracker = new TodayMenuRankingTracker(repo, new HomeRankingProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("상위 K개: 수량 desc → 매출 desc → 메뉴 ID asc")
+    void topKOrdering() {
+        dbRows.add(new TopMenuAgg(1L, "A", null, 5, 5_000));
+        dbRows.add(new TopMenuAgg(2L, "B", null, 9, 9_000));
+        dbRows.add(new TopMenuAgg(3L, "C", null, 5, 7_000));
+        dbRows.add(new TopMenuAgg(4L, "D", null, 5, 7_000));
+        dbRows.add(new TopMenuAgg(5L, "E", null, 1, 1_000));
+
+        assertThat(tracker.top(STORE, 3)).extracting(TopMenuAgg::menuId).containsExactly(2L, 3L, 4L);
+        assertThat(tracker.top(STORE, 10)).extracting(TopMenuAgg::menuId).containsExactly(2L, 3L, 4L, 1L, 5L);
+        assertThat(tracker.top(STORE, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("완료 전이는 커밋 후에만 가산, 완료 해제 전이는 차감, 완료끼리 전이는 무시")
+    void appliesAfterCommit() {
+        assertThat(tracker.top(STORE, 5)).isEmpty(); // 시드
+
+        inTransaction(() -> tracker.onStatusChanged(STORE, now(), OrderStatus.READY,
+                OrderStatus.COMPLETED, List.of(line(1L, 2, 3_000))), true);
+        assertThat(tracker.top(STORE, 5)).containsExactly(new TopMenuAgg(1L, "메뉴1", null, 2, 6_000));
+
+        tracker.onStatusChanged(STORE, now(), OrderStatus.PAID, OrderStatus.COMPLETED,
+                List.of(line(1L, 2, 3_000)));
+        assertThat(tracker.top(STORE, 5)).extracting(TopMenuAgg::qty).containsExactly(2L);
+
+        tracker.onStatusChanged(STORE, now(), OrderStatus.COMPLETED, OrderStatus.REFUNDED,
+                List.of(line(1L, 2, 3_000)));
+        assertThat(tracker.top(STORE, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백된 전이는 집계를 바꾸지 않음")
+    void rollbackLeavesCountsUnchanged() {
+        dbRows.add(new TopMenuAgg(1L, "메뉴1", null, 4, 12_000));
+        List<TopMenuAgg> before = tracker.top(STORE, 5);
+
+        List<TransactionSynchronization> pending = inTransaction(() -> tracker.onStatusChanged(STORE,
+                now(), OrderStatus.PREPARING, OrderStatus.PAID, List.of(line(1L, 3, 3_000))), false);
+
+        assertThat(pending).hasSize(1);
+        assertThat(tracker.top(STORE, 5)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("미시드 가맹점·오늘이 아닌 주문은 반영하지 않음")
+    void ignoresUnseededAndPastOrders() {
+        tracker.onStatusChanged(STORE, now(), OrderStatus.READY, OrderStatus.COMPLETED,
+                List.of(line(1L, 1, 1_000)));
+        assertThat(tracker.top(STORE, 5)).isEmpty(); // 시드는 DB(빈 결과) 기준
+
+        tracker.onStatusChanged(STORE, now().minusDays(1), OrderStatus.READY, OrderStatus.COMPLETED,
+                List.of(line(1L, 1, 1_000)));
+        assertThat(tracker.top(STORE, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("reconcile: DB 와 다르면 DB 값으로 교체")
+    void reconcileReplacesDrift() {
+        dbRows.add(new TopMenuAgg(1L, "메뉴1", null, 1, 1_000));
+        tracker.top(STORE, 5);
+        assertThat(tracker.reconcile()).isZero();
+
+        dbRows.clear();
+        dbRows.add(new TopMenuAgg(2L, "메뉴2", null, 3, 9_000));
+        assertThat(tracker.reconcile()).isEqualTo(1);
+        assertThat(tracker.top(STORE, 5)).containsExactly(new TopMenuAgg(2L, "메뉴2", null, 3, 9_000));
+    }
+
+    /** 트랜잭션 동기화 안에서 실행하고 커밋 또는 롤백을 흉내 낸다 (등록된 동기화 반환) */
+    private static List<TransactionSynchronization> inTransaction(Runnable body, boolean commit) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            body.run();
+            List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+            for (TransactionSynchronization s : syncs) {
+                if (commit) s.afterCommit();
+                s.afterCompletion(commit ? TransactionSynchronization.STATUS_COMMITTED
+                        : TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+            return syncs;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /** 집계 기준이 KST 날짜이므로 주문 일시도 KST 로 만든다 */
+    private static LocalDateTime now() {
+        return LocalDateTime.now(ZoneId.of("Asia/Seoul"));
+    }
+
+    private static CustomerOrderDetail line(Long menuId, int qty, long unitPrice) {
+        Menu menu = Menu.builder().menuId(menuId).menuName("메뉴" + menuId).build();
+        return CustomerOrderDetail.builder()
+                .menuIdFk(menu)
+                .quantity(qty)
+                .unitPrice(BigDecimal.valueOf(unitPrice))
+                .lineTotal(BigDecimal.valueOf(unitPrice * qty))
+                .build();
+    }
+}
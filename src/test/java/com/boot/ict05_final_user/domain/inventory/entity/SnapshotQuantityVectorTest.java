@@ -0,0 +1,69 @@
+package com.boot.ict05_final_user.domain.inventory.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotQuantityVectorTest {
+
+    @Test
+    @DisplayName("음수·소수 3자리·큰 ID 증분을 포함해 인코딩 후 그대로 복원")
+    void roundTrip() {
+        Map<Long, BigDecimal> src = new HashMap<>();
+        src.put(3L, new BigDecimal("12.345"));
+        src.put(1L, new BigDecimal("-0.001"));
+        src.put(2L, new BigDecimal("-987654.321"));
+        src.put(4L, new BigDecimal("0.5"));
+        src.put(1_000_000_007L, new BigDecimal("1"));
+        src.put(Long.MAX_VALUE, new BigDecimal("-1.000"));
+
+        SnapshotQuantityVector decoded = SnapshotQuantityVector.decode(SnapshotQuantityVector.of(src).encode());
+
+        Map<Long, BigDecimal> expected = new LinkedHashMap<>();
+        expected.put(1L, new BigDecimal("-0.001"));
+        expected.put(2L, new BigDecimal("-987654.321"));
+        expected.put(3L, new BigDecimal("12.345"));
+        expected.put(4L, new BigDecimal("0.500"));
+        expected.put(1_000_000_007L, new BigDecimal("1.000"));
+        expected.put(Long.MAX_VALUE, new BigDecimal("-1.000"));
+        assertThat(decoded.toMap()).containsExactlyEntriesOf(expected);
+        assertThat(decoded.size()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("수량은 소수 3자리로 반올림하고 0(반올림 결과 포함)은 제외")
+    void scaleAndZeros() {
+        Map<Long, BigDecimal> src = Map.of(
+                10L, new BigDecimal("1.23456"),
+                11L, new BigDecimal("-2.0005"),
+                12L, BigDecimal.ZERO,
+                13L, new BigDecimal("0.0004"));
+
+        SnapshotQuantityVector decoded = SnapshotQuantityVector.decode(SnapshotQuantityVector.of(src).encode());
+
+        assertThat(decoded.get(10L)).isEqualTo(new BigDecimal("1.235"));
+        assertThat(decoded.get(11L)).isEqualTo(new BigDecimal("-2.001"));
+        assertThat(decoded.get(12L)).isEqualTo(new BigDecimal("0.000"));
+        assertThat(decoded.get(99L)).isEqualTo(new BigDecimal("0.000"));
+        assertThat(decoded.get(null)).isEqualTo(new BigDecimal("0.000"));
+        assertThat(decoded.get(13L)).isEqualTo(new BigDecimal("0.000"));
+        assertThat(decoded.toMap()).containsOnlyKeys(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("빈 맵은 1바이트로 인코딩되고 빈 벡터로 복원, null/빈 바이트도 빈 벡터")
+    void empty() {
+        byte[] bytes = SnapshotQuantityVector.of(Map.of()).encode();
+
+        assertThat(bytes).containsExactly(0);
+        assertThat(SnapshotQuantityVector.decode(bytes).toMap()).isEmpty();
+        assertThat(SnapshotQuantityVector.decode(new byte[0]).size()).isZero();
+        assertThat(SnapshotQuantityVector.decode(null).size()).isZero();
+    }
+}
@@ -0,0 +1,116 @@
+package com.boot.ict05_final_user.domain.inventory.service;
+
+import com.boot.ict05_final_user.domain.inventory.config.InventoryConcurrencyProperties;
+import com.boot.ict05_final_user.domain.inventory.dto.StoreInventoryContentionDTO;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InventoryMutationExecutorTest {
+
+    private static final Long STORE = 1L;
+
+    private final TransactionTemplate tx = mock(TransactionTemplate.class);
+    private final InventoryConcurrencyProperties props = new InventoryConcurrencyProperties();
+    private InventoryMutationExecutor executor;
+
+    /** 커밋 시점 충돌을 낼 남은 횟수 */
+    private final AtomicInteger commitConflicts = new AtomicInteger();
+    /** 트랜잭션(시도) 수 */
+    private final AtomicInteger transactions = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        props.setMaxAttempts(3);
+        props.setInitialBackoffMs(0);
+        props.setMaxBackoffMs(0);
+        // 트랜잭션 = 작업 실행 후 커밋. 커밋 시 버전 비교에 실패하면 작업 밖에서 충돌 예외가 난다.
+        when(tx.execute(any())).thenAnswer(inv -> {
+            transactions.incrementAndGet();
+            Object result = ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null);
+            if (commitConflicts.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                throw new ObjectOptimisticLockingFailureException(StoreInventory.class, 10L);
+            }
+            return result;
+        });
+        executor = new InventoryMutationExecutor(tx, props);
+    }
+
+    @Test
+    @DisplayName("상위 경계: 커밋 시점 충돌이면 전이 전체를 재시도하고 안쪽 재료 통계에 집계")
+    void boundaryRetriesCommitConflict() {
+        commitConflicts.set(1);
+        AtomicInteger bodyRuns = new AtomicInteger();
+        AtomicInteger innerRuns = new AtomicInteger();
+
+        String result = executor.executeBoundary(() -> {
+            bodyRuns.incrementAndGet();
+            // 주문 상태 전이 안의 재고 차감 (재시도 없이 실행, 통계 키만 넘김)
+            executor.execute(STORE, List.of(10L, 11L), innerRuns::incrementAndGet);
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(transactions).hasValue(2);
+        assertThat(bodyRuns).hasValue(2);
+        assertThat(innerRuns).hasValue(2);
+
+        List<StoreInventoryContentionDTO> stats = executor.contention(STORE);
+        assertThat(stats).extracting(StoreInventoryContentionDTO::getStoreMaterialId).containsExactlyInAnyOrder(10L, 11L);
+        assertThat(stats).allSatisfy(s -> {
+            assertThat(s.getCommitted()).isEqualTo(1);
+            assertThat(s.getConflicts()).isEqualTo(1);
+            assertThat(s.getRetries()).isEqualTo(1);
+            assertThat(s.getExhausted()).isZero();
+            assertThat(s.getLastConflictAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("재시도 소진 시 충돌 예외를 던지고 소진 통계 기록")
+    void exhaustsRetries() {
+        commitConflicts.set(Integer.MAX_VALUE);
+
+        assertThatThrownBy(() -> executor.execute(STORE, List.of(10L), () -> "x"))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        assertThat(transactions).hasValue(3);
+        StoreInventoryContentionDTO s = executor.contention(STORE).get(0);
+        assertThat(s.getCommitted()).isZero();
+        assertThat(s.getExhausted()).isEqualTo(1);
+        assertThat(s.getConflicts()).isEqualTo(3);
+        assertThat(s.getRetries()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("작업 중 충돌도 재시도, 충돌 아닌 예외는 재시도하지 않음")
+    void retriesOnlyConflicts() {
+        AtomicInteger runs = new AtomicInteger();
+        Integer v = executor.execute(STORE, List.of(20L), () -> {
+            if (runs.incrementAndGet() == 1) throw new ObjectOptimisticLockingFailureException(StoreInventory.class, 20L);
+            return 7;
+        });
+        assertThat(v).isEqualTo(7);
+        assertThat(runs).hasValue(2);
+
+        transactions.set(0);
+        assertThatThrownBy(() -> executor.execute(STORE, List.of(21L), () -> {
+            throw new IllegalArgumentException("bad");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(transactions).hasValue(1);
+    }
+}
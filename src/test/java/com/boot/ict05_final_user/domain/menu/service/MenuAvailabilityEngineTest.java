@@ -0,0 +1,140 @@
+package com.boot.ict05_final_user.domain.menu.service;
+
+import com.boot.ict05_final_user.domain.inventory.entity.StoreInventory;
+import com.boot.ict05_final_user.domain.inventory.entity.StoreMaterial;
+import com.boot.ict05_final_user.domain.menu.config.MenuAvailabilityProperties;
+import com.boot.ict05_final_user.domain.menu.dto.MenuAvailabilityDTO;
+import com.boot.ict05_final_user.domain.menu.entity.StoreMenuSoldout;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.RecipeRow;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.SoldOutRow;
+import com.boot.ict05_final_user.domain.menu.repository.MenuAvailabilityJdbcRepository.StockRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MenuAvailabilityEngineTest {
+
+    private static final Long STORE = 3L;
+
+    /** 메뉴 100 = 재료1 ×2 + 재료2 ×1, 메뉴 200 = 재료1 ×1, 메뉴 300 = 재료9 ×1 (가맹점 미취급) */
+    private static final List<RecipeRow> RECIPE = List.of(
+            new RecipeRow(100L, 1L, new BigDecimal("2")),
+            new RecipeRow(100L, 2L, new BigDecimal("1")),
+            new RecipeRow(200L, 1L, new BigDecimal("1")),
+            new RecipeRow(300L, 9L, new BigDecimal("1")));
+
+    private final MenuAvailabilityJdbcRepository repo = mock(MenuAvailabilityJdbcRepository.class);
+    private final MenuCatalogCache catalogCache = mock(MenuCatalogCache.class);
+    private final MenuAvailabilityProperties props = new MenuAvailabilityProperties();
+    private final List<StockRow> stock = new ArrayList<>();
+    private final List<SoldOutRow> soldOut = new ArrayList<>();
+    private MenuAvailabilityEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(repo.recipeFingerprint()).thenReturn("fp");
+        when(repo.findRecipeRows()).thenReturn(RECIPE);
+        when(repo.findStoreStock(STORE)).thenAnswer(inv -> List.copyOf(stock));
+        when(repo.findSoldOutStates(STORE)).thenAnswer(inv -> List.copyOf(soldOut));
+        engine = new MenuAvailabilityEngine(repo, props, catalogCache, mock(PlatformTransactionManager.class));
+
+        stock.add(new StockRow(11L, 1L, new BigDecimal("4"), 1L));
+        stock.add(new StockRow(12L, 2L, new BigDecimal("3"), 1L));
+        stock.add(new StockRow(13L, null, new BigDecimal("5"), 1L)); // 가맹점 자체 재료
+    }
+
+    @Test
+    @DisplayName("적재: 재료별 floor(재고 ÷ 사용량)의 최솟값, 미취급 재료 메뉴는 0 이지만 자동 품절하지 않음")
+    void seed() {
+        assertThat(engine.servings(STORE)).containsEntry(100L, 2L).containsEntry(200L, 4L).containsEntry(300L, 0L);
+
+        verify(repo, never()).markAutoSoldOut(eq(STORE), anyCollection());
+        assertThat(status(300L).getStoreMenuSoldout()).isEqualTo(StoreMenuSoldout.ON_SALE);
+    }
+
+    @Test
+    @DisplayName("적재 시점에 이미 0 인 판매 중 메뉴는 자동 품절 (수동 품절 메뉴는 그대로)")
+    void seedAppliesThreshold() {
+        stock.set(1, new StockRow(12L, 2L, BigDecimal.ZERO, 1L));
+        soldOut.add(new SoldOutRow(200L, StoreMenuSoldout.SOLD_OUT, false));
+
+        assertThat(engine.servings(STORE)).containsEntry(100L, 0L);
+
+        verify(repo).markAutoSoldOut(STORE, List.of(100L));
+        assertThat(status(100L).getStoreMenuSoldout()).isEqualTo(StoreMenuSoldout.SOLD_OUT);
+        assertThat(status(100L).isAutoSoldOut()).isTrue();
+        assertThat(status(200L).isAutoSoldOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고가 0 으로 떨어지면 자동 품절, 다시 들어오면 자동 해제, 오래된 버전은 무시")
+    void decrementToZeroThenRestock() {
+        engine.servings(STORE);
+
+        engine.onStockChanged(STORE, List.of(inventory(12L, "0", 2L)));
+        assertThat(engine.servings(STORE)).containsEntry(100L, 0L).containsEntry(200L, 4L);
+        verify(repo).markAutoSoldOut(STORE, List.of(100L));
+        assertThat(status(100L).getStoreMenuSoldout()).isEqualTo(StoreMenuSoldout.SOLD_OUT);
+
+        engine.onStockChanged(STORE, List.of(inventory(12L, "5", 1L))); // 커밋 순서 역전
+        assertThat(engine.servings(STORE)).containsEntry(100L, 0L);
+
+        engine.onStockChanged(STORE, List.of(inventory(12L, "5", 3L)));
+        assertThat(engine.servings(STORE)).containsEntry(100L, 2L);
+        verify(repo).clearAutoSoldOut(STORE, List.of(100L));
+        assertThat(status(100L).getStoreMenuSoldout()).isEqualTo(StoreMenuSoldout.ON_SALE);
+        assertThat(status(100L).isAutoSoldOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("HQ 매핑 없는 자체 재료 변경은 건너뛰고 같은 묶음의 다른 재료는 반영 (상태 유지)")
+    void unmappedMaterialIsSkipped() {
+        engine.servings(STORE);
+
+        engine.onStockChanged(STORE, List.of(inventory(13L, "0", 2L), inventory(12L, "0", 2L)));
+
+        assertThat(engine.servings(STORE)).containsEntry(100L, 0L);
+        verify(repo).markAutoSoldOut(STORE, List.of(100L));
+        verify(repo, times(1)).findStoreStock(STORE);
+    }
+
+    @Test
+    @DisplayName("적재 이후 생긴 알 수 없는 가맹점 재료면 상태를 비우고 다음 조회 때 재적재")
+    void unknownMaterialEvicts() {
+        engine.servings(STORE);
+
+        engine.onStockChanged(STORE, List.of(inventory(99L, "1", 1L)));
+        engine.servings(STORE);
+
+        verify(repo, times(2)).findStoreStock(STORE);
+    }
+
+    private MenuAvailabilityDTO status(Long menuId) {
+        return engine.availability(STORE).stream()
+                .filter(d -> d.getMenuId().equals(menuId))
+                .findFirst().orElseThrow();
+    }
+
+    private static StoreInventory inventory(Long storeMaterialId, String qty, Long version) {
+        return StoreInventory.builder()
+                .storeMaterial(StoreMaterial.builder().id(storeMaterialId).build())
+                .quantity(new BigDecimal(qty))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.boot.ict05_final_user.domain.partition.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArchiveAwareStatementInspectorTest {
+
+    private static final String ORDER_UNION =
+            "(SELECT a FROM customer_order UNION ALL SELECT a FROM customer_order_archive)";
+    private static final String OUT_UNION =
+            "(SELECT b FROM store_inventory_out UNION ALL SELECT b FROM store_inventory_out_archive)";
+
+    private static final Map<String, String> RULES = Map.of(
+            "customer_order", ORDER_UNION,
+            "store_inventory_out", OUT_UNION);
+
+    private final ArchiveAwareStatementInspector inspector = new ArchiveAwareStatementInspector();
+
+    private String inspect(String sql) {
+        return ArchiveReadContext.with(RULES, () -> inspector.inspect(sql));
+    }
+
+    @Test
+    @DisplayName("FROM/JOIN 뒤 테이블 참조만 치환하고 별칭은 유지")
+    void rewritesFromAndJoin() {
+        String sql = "select co1_0.customer_order_id from customer_order co1_0 "
+                + "join store_inventory_out o1_0 on o1_0.customer_order_id_fk = co1_0.customer_order_id";
+
+        assertThat(inspect(sql)).isEqualTo(
+                "select co1_0.customer_order_id from " + ORDER_UNION + " co1_0 "
+                        + "join " + OUT_UNION + " o1_0 on o1_0.customer_order_id_fk = co1_0.customer_order_id");
+    }
+
+    @Test
+    @DisplayName("별칭·컬럼 접두어·문자열 리터럴·유사 테이블명은 치환하지 않음")
+    void ignoresNonTableOccurrences() {
+        String sql = "select customer_order.customer_order_id, 'from customer_order' as customer_order "
+                + "from customer_order_detail d left join customer_order_archive a on a.id = d.id "
+                + "where d.memo = \"join store_inventory_out\"";
+
+        assertThat(inspect(sql)).isEqualTo(sql);
+    }
+
+    @Test
+    @DisplayName("별칭이 없으면 원래 테이블명을 별칭으로 붙임")
+    void addsAliasWhenMissing() {
+        assertThat(inspect("select customer_order.id from customer_order where customer_order.id = 1"))
+                .isEqualTo("select customer_order.id from " + ORDER_UNION + " customer_order where customer_order.id = 1");
+        assertThat(inspect("select count(*) from (select 1 from `customer_order`) t"))
+                .isEqualTo("select count(*) from (select 1 from " + ORDER_UNION + " customer_order) t");
+        assertThat(inspect("SELECT x FROM customer_order AS co"))
+                .isEqualTo("SELECT x FROM " + ORDER_UNION + " AS co");
+    }
+
+    @Test
+    @DisplayName("치환 결과 안의 테이블명은 다시 치환하지 않음")
+    void singlePass() {
+        String out = inspect("select 1 from customer_order co");
+
+        assertThat(out).isEqualTo("select 1 from " + ORDER_UNION + " co");
+    }
+
+    @Test
+    @DisplayName("컨텍스트가 없거나 SELECT 가 아니면 그대로 반환")
+    void passThrough() {
+        String select = "select 1 from customer_order co";
+        String update = "update customer_order set status = 'DONE' where id in (select id from customer_order)";
+
+        assertThat(inspector.inspect(select)).isEqualTo(select);
+        assertThat(inspect(update)).isEqualTo(update);
+    }
+}